@@ -11,8 +11,12 @@
  */
 package org.locationtech.jts.algorithm;
 
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
 
 /**
  * Functions for computing area.
@@ -22,6 +26,11 @@ import org.locationtech.jts.geom.CoordinateSequence;
  */
 public class Area {
 
+  /**
+   * The number of vertices copied at a time from a sequence.
+   */
+  private static final int CHUNK_SIZE = 256;
+
   /**
    * Computes the area for a ring. 
    * 
@@ -93,23 +102,64 @@ public class Area {
      * Based on the Shoelace formula.
      * http://en.wikipedia.org/wiki/Shoelace_formula
      */
-    Coordinate p0 = ring.createCoordinate();
-    Coordinate p1 = ring.createCoordinate();
-    Coordinate p2 = ring.createCoordinate();
-    ring.getCoordinate(0, p1);
-    ring.getCoordinate(1, p2);
-    double x0 = p1.x;
-    p2.x -= x0;
+    double[] ords = ring.getOrdinateArray();
+    if (ords != null) {
+      return sumShoelace(ords, ring.getDimension(), n, ords[0]) / 2.0;
+    }
+    //-- process the ring in chunks, overlapping by the 2 vertices each term needs
+    double[] xy = new double[2 * Math.min(n, CHUNK_SIZE + 2)];
+    double x0 = ring.getX(0);
     double sum = 0.0;
-    for (int i = 1; i < n - 1; i++) {
-      p0.y = p1.y;
-      p1.x = p2.x;
-      p1.y = p2.y;
-      ring.getCoordinate(i + 1, p2);
-      p2.x -= x0;
-      sum += p1.x * (p0.y - p2.y);
+    for (int start = 0; start < n - 2; start += CHUNK_SIZE) {
+      int count = Math.min(CHUNK_SIZE + 2, n - start);
+      ring.copyXY(start, xy, 0, count);
+      sum += sumShoelace(xy, 2, count, x0);
     }
     return sum / 2.0;
   }
 
+  private static double sumShoelace(double[] ords, int stride, int n, double x0)
+  {
+    double sum = 0.0;
+    for (int i = stride; i < (n - 1) * stride; i += stride) {
+      double x = ords[i] - x0;
+      double y1 = ords[i + stride + 1];
+      double y2 = ords[i - stride + 1];
+      sum += x * (y2 - y1);
+    }
+    return sum;
+  }
+
+
+
+  /**
+   * Computes the area of a geometry,
+   * processing the components of collections in parallel.
+   * The areas of ranges of components are summed in component order,
+   * so the result is deterministic.
+   * It may differ in the last digits from {@link Geometry#getArea()},
+   * due to the different order of summation.
+   *
+   * @param geom the geometry
+   * @param executor the executor to run the computation
+   * @return the area of the geometry
+   */
+  public static double of(Geometry geom, ExecutorService executor)
+  {
+    List<Double> partials = ParallelComponents.compute(geom,
+        new ParallelComponents.RangeFunction<Double>() {
+          public Double compute(Geometry g, int start, int end) {
+            double area = 0.0;
+            for (int i = start; i < end; i++) {
+              area += g.getGeometryN(i).getArea();
+            }
+            return area;
+          }
+        }, executor);
+    double area = 0.0;
+    for (double partial : partials) {
+      area += partial;
+    }
+    return area;
+  }
 }
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm;
+
+/**
+ * Computes orientation indexes and segment intersection tests
+ * for batches of points and segments stored in primitive arrays.
+ * The results are identical to those of
+ * {@link Orientation#index(org.locationtech.jts.geom.Coordinate, org.locationtech.jts.geom.Coordinate, org.locationtech.jts.geom.Coordinate)}
+ * and {@link RobustLineIntersector#hasIntersection()}.
+ * <p>
+ * Each batch is evaluated in two passes.
+ * The first pass applies a fast floating-point filter to every lane,
+ * using simple loops without calls or data-dependent control flow
+ * which HotSpot is able to compile to vector instructions.
+ * The second pass uses the robust extended-precision computation
+ * of {@link CGAlgorithmsDD} only for the (usually very few) lanes
+ * where the filter cannot determine the result.
+ * <p>
+ * Point arrays are either "structure-of-arrays" (with separate X and Y arrays),
+ * or interleaved XY arrays as provided by
+ * {@link org.locationtech.jts.geom.CoordinateSequence#copyXY(int, double[], int, int)}.
+ *
+ * @author Martin Davis
+ *
+ * @see Orientation
+ * @see CGAlgorithmsDD
+ */
+public class BatchOrientation {
+
+  /**
+   * A value which is safely greater than the
+   * relative round-off error in double-precision numbers.
+   * This is the same value as used in {@link CGAlgorithmsDD}.
+   */
+  private static final double DP_SAFE_EPSILON = 1e-15;
+
+  /**
+   * Lane value indicating that the filter was unable to determine the result.
+   */
+  private static final int UNCERTAIN = 2;
+
+  private BatchOrientation() {}
+
+  /**
+   * Computes the orientation index of the points C[i]
+   * relative to the vectors A[i]-B[i]
+   * for each index i in a range.
+   *
+   * @param ax the X ordinates of the vector origin points
+   * @param ay the Y ordinates of the vector origin points
+   * @param bx the X ordinates of the vector final points
+   * @param by the Y ordinates of the vector final points
+   * @param cx the X ordinates of the query points
+   * @param cy the Y ordinates of the query points
+   * @param count the number of lanes to compute
+   * @param result the array to receive the orientation indexes
+   *
+   * @see Orientation#index(org.locationtech.jts.geom.Coordinate, org.locationtech.jts.geom.Coordinate, org.locationtech.jts.geom.Coordinate)
+   */
+  public static void index(double[] ax, double[] ay,
+      double[] bx, double[] by,
+      double[] cx, double[] cy,
+      int count, int[] result)
+  {
+    for (int i = 0; i < count; i++) {
+      result[i] = filter(ax[i], ay[i], bx[i], by[i], cx[i], cy[i]);
+    }
+    for (int i = 0; i < count; i++) {
+      if (result[i] == UNCERTAIN) {
+        result[i] = CGAlgorithmsDD.orientationIndex(ax[i], ay[i], bx[i], by[i], cx[i], cy[i]);
+      }
+    }
+  }
+
+  /**
+   * Computes the orientation index of a set of points
+   * relative to a single vector P1-P2.
+   * The points are provided as an interleaved XY array.
+   *
+   * @param p1x the X ordinate of the vector origin point
+   * @param p1y the Y ordinate of the vector origin point
+   * @param p2x the X ordinate of the vector final point
+   * @param p2y the Y ordinate of the vector final point
+   * @param xy the interleaved XY ordinates of the query points
+   * @param offset the index in the array of the X ordinate of the first point
+   * @param count the number of points to compute
+   * @param result the array to receive the orientation indexes
+   */
+  public static void index(double p1x, double p1y, double p2x, double p2y,
+      double[] xy, int offset, int count, int[] result)
+  {
+    for (int i = 0; i < count; i++) {
+      int j = offset + 2 * i;
+      result[i] = filter(p1x, p1y, p2x, p2y, xy[j], xy[j + 1]);
+    }
+    for (int i = 0; i < count; i++) {
+      if (result[i] == UNCERTAIN) {
+        int j = offset + 2 * i;
+        result[i] = CGAlgorithmsDD.orientationIndex(p1x, p1y, p2x, p2y, xy[j], xy[j + 1]);
+      }
+    }
+  }
+
+  /**
+   * Tests whether a segment P1-P2 intersects
+   * each of the segments of a line.
+   * The line is provided as an interleaved XY array,
+   * and segment i has the endpoints at point indexes i and i+1.
+   *
+   * @param p1x the X ordinate of the segment start point
+   * @param p1y the Y ordinate of the segment start point
+   * @param p2x the X ordinate of the segment end point
+   * @param p2y the Y ordinate of the segment end point
+   * @param xy the interleaved XY ordinates of the line points
+   * @param offset the index in the array of the X ordinate of the first point
+   * @param numSegments the number of line segments to test
+   * @param result the array to receive the test results
+   * @return the number of segments which intersect P1-P2
+   */
+  public static int intersects(double p1x, double p1y, double p2x, double p2y,
+      double[] xy, int offset, int numSegments, boolean[] result)
+  {
+    double pMinX = Math.min(p1x, p2x);
+    double pMaxX = Math.max(p1x, p2x);
+    double pMinY = Math.min(p1y, p2y);
+    double pMaxY = Math.max(p1y, p2y);
+
+    //-- lane state is 1 (intersects), 0 (disjoint) or UNCERTAIN
+    int[] laneState = new int[numSegments];
+    for (int i = 0; i < numSegments; i++) {
+      int j = offset + 2 * i;
+      double q1x = xy[j];
+      double q1y = xy[j + 1];
+      double q2x = xy[j + 2];
+      double q2y = xy[j + 3];
+
+      boolean isEnvInt = ! (Math.min(q1x, q2x) > pMaxX || Math.max(q1x, q2x) < pMinX
+          || Math.min(q1y, q2y) > pMaxY || Math.max(q1y, q2y) < pMinY);
+
+      int pq1 = filter(p1x, p1y, p2x, p2y, q1x, q1y);
+      int pq2 = filter(p1x, p1y, p2x, p2y, q2x, q2y);
+      int qp1 = filter(q1x, q1y, q2x, q2y, p1x, p1y);
+      int qp2 = filter(q1x, q1y, q2x, q2y, p2x, p2y);
+      boolean isUncertain = pq1 == UNCERTAIN || pq2 == UNCERTAIN
+          || qp1 == UNCERTAIN || qp2 == UNCERTAIN;
+      boolean isInt = pq1 * pq2 <= 0 && qp1 * qp2 <= 0;
+
+      laneState[i] = ! isEnvInt ? 0 : (isUncertain ? UNCERTAIN : (isInt ? 1 : 0));
+    }
+
+    int count = 0;
+    for (int i = 0; i < numSegments; i++) {
+      //-- only lanes which the filter could not determine are recomputed robustly
+      if (laneState[i] == UNCERTAIN) {
+        int j = offset + 2 * i;
+        result[i] = intersectsRobust(p1x, p1y, p2x, p2y,
+            xy[j], xy[j + 1], xy[j + 2], xy[j + 3]);
+      }
+      else {
+        result[i] = laneState[i] == 1;
+      }
+      if (result[i]) count++;
+    }
+    return count;
+  }
+
+  /**
+   * Tests whether two segments intersect,
+   * using the same logic as {@link RobustLineIntersector}.
+   */
+  private static boolean intersectsRobust(double p1x, double p1y, double p2x, double p2y,
+      double q1x, double q1y, double q2x, double q2y)
+  {
+    if (Math.min(q1x, q2x) > Math.max(p1x, p2x) || Math.max(q1x, q2x) < Math.min(p1x, p2x)
+        || Math.min(q1y, q2y) > Math.max(p1y, p2y) || Math.max(q1y, q2y) < Math.min(p1y, p2y))
+      return false;
+    int pq1 = CGAlgorithmsDD.orientationIndex(p1x, p1y, p2x, p2y, q1x, q1y);
+    int pq2 = CGAlgorithmsDD.orientationIndex(p1x, p1y, p2x, p2y, q2x, q2y);
+    if (pq1 * pq2 > 0) return false;
+    int qp1 = CGAlgorithmsDD.orientationIndex(q1x, q1y, q2x, q2y, p1x, p1y);
+    int qp2 = CGAlgorithmsDD.orientationIndex(q1x, q1y, q2x, q2y, p2x, p2y);
+    return qp1 * qp2 <= 0;
+  }
+
+  /**
+   * A filter for computing the orientation index of three points.
+   * This is equivalent to the filter in {@link CGAlgorithmsDD},
+   * but is written without branches on the sign of the
+   * determinant terms so that it can be vectorized.
+   * Since the error bound is zero only if both terms are zero,
+   * the determinant sign is returned whenever the terms have opposite sign.
+   *
+   * @return the orientation index, or {@link #UNCERTAIN}
+   * if it cannot be computed safely
+   */
+  private static int filter(double pax, double pay,
+      double pbx, double pby, double pcx, double pcy)
+  {
+    double detleft = (pax - pcx) * (pby - pcy);
+    double detright = (pay - pcy) * (pbx - pcx);
+    double det = detleft - detright;
+    double errbound = DP_SAFE_EPSILON * (Math.abs(detleft) + Math.abs(detright));
+    int sign = det > 0 ? 1 : (det < 0 ? -1 : 0);
+    return Math.abs(det) >= errbound ? sign : UNCERTAIN;
+  }
+}
@@ -137,7 +137,7 @@ public class CGAlgorithmsDD
    * @return the orientation index if it can be computed safely
    * @return i > 1 if the orientation index cannot be computed safely
    */
-  private static int orientationIndexFilter(double pax, double pay,
+  static int orientationIndexFilter(double pax, double pay,
       double pbx, double pby, double pcx, double pcy) 
   {
     double detsum;
@@ -11,6 +11,9 @@
  */
 package org.locationtech.jts.algorithm;
 
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
@@ -61,6 +64,37 @@ public class Centroid
     Centroid cent = new Centroid(geom);
     return cent.getCentroid();
   }
+
+  /**
+   * Computes the centroid point of a geometry,
+   * processing the components of collections in parallel.
+   * The partial sums for ranges of components are combined in component order,
+   * so the result is deterministic.
+   * It may differ in the last digits from the result of {@link #getCentroid(Geometry)},
+   * due to the different order of summation.
+   *
+   * @param geom the geometry to use
+   * @param executor the executor to run the computation
+   * @return the centroid point, or null if the geometry is empty
+   */
+  public static Coordinate getCentroid(Geometry geom, ExecutorService executor)
+  {
+    List<Centroid> partials = ParallelComponents.compute(geom,
+        new ParallelComponents.RangeFunction<Centroid>() {
+          public Centroid compute(Geometry g, int start, int end) {
+            Centroid cent = new Centroid();
+            for (int i = start; i < end; i++) {
+              cent.add(g.getGeometryN(i));
+            }
+            return cent;
+          }
+        }, executor);
+    Centroid cent = new Centroid();
+    for (Centroid partial : partials) {
+      cent.add(partial);
+    }
+    return cent.getCentroid();
+  }
   
   private Coordinate areaBasePt = null;// the point all triangles are based at
   private Coordinate triangleCent3 = new Coordinate();// temporary variable to hold centroid of triangle
@@ -83,6 +117,30 @@ public class Centroid
     add(geom);
   }
 
+  private Centroid()
+  {
+  }
+
+  /**
+   * Adds the partial sums of another centroid computation.
+   * The area base points do not need to match,
+   * since each polygon contributes a complete triangle decomposition.
+   *
+   * @param other the centroid computation to add
+   */
+  private void add(Centroid other)
+  {
+    areasum2 += other.areasum2;
+    cg3.x += other.cg3.x;
+    cg3.y += other.cg3.y;
+    lineCentSum.x += other.lineCentSum.x;
+    lineCentSum.y += other.lineCentSum.y;
+    totalLength += other.totalLength;
+    ptCount += other.ptCount;
+    ptCentSum.x += other.ptCentSum.x;
+    ptCentSum.y += other.ptCentSum.y;
+  }
+
   /**
    * Adds a Geometry to the centroid total.
    *
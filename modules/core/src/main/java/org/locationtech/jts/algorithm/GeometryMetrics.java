@@ -0,0 +1,435 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.math.MathUtil;
+
+/**
+ * Computes the envelope, area, length, centroid and number of vertices
+ * of geometries in a single traversal of their coordinates.
+ * This is faster than computing each metric separately,
+ * and avoids creating any objects per geometry.
+ * It is intended for computing statistics of large datasets.
+ * <p>
+ * The metrics are returned in primitive arrays,
+ * with the values for each geometry stored at the indexes
+ * given by the constants {@link #MIN_X} through {@link #NUM_POINTS}.
+ * The metrics for an array of geometries can be computed in parallel,
+ * using {@link #setParallel(boolean)}.
+ * <p>
+ * The metrics have the same semantics as
+ * {@link Geometry#getEnvelopeInternal()}, {@link Geometry#getArea()},
+ * {@link Geometry#getLength()}, {@link Centroid} and {@link Geometry#getNumPoints()}.
+ * Sums are computed with compensated (Kahan-Babuska) summation,
+ * and relative to a point of the geometry,
+ * so the area, length and centroid may differ in the last few bits
+ * from (and are usually more accurate than) the values computed
+ * by those methods.
+ * The envelope and centroid ordinates of empty geometries are NaN.
+ * <p>
+ * Instances of this class are not thread-safe.
+ *
+ * @author Martin Davis
+ *
+ * @see Centroid
+ * @see Area
+ * @see Length
+ */
+public class GeometryMetrics {
+
+  /**
+   * The index of the minimum X ordinate of the envelope.
+   */
+  public static final int MIN_X = 0;
+
+  /**
+   * The index of the minimum Y ordinate of the envelope.
+   */
+  public static final int MIN_Y = 1;
+
+  /**
+   * The index of the maximum X ordinate of the envelope.
+   */
+  public static final int MAX_X = 2;
+
+  /**
+   * The index of the maximum Y ordinate of the envelope.
+   */
+  public static final int MAX_Y = 3;
+
+  /**
+   * The index of the area.
+   */
+  public static final int AREA = 4;
+
+  /**
+   * The index of the length.
+   */
+  public static final int LENGTH = 5;
+
+  /**
+   * The index of the X ordinate of the centroid.
+   */
+  public static final int CENTROID_X = 6;
+
+  /**
+   * The index of the Y ordinate of the centroid.
+   */
+  public static final int CENTROID_Y = 7;
+
+  /**
+   * The index of the number of vertices.
+   */
+  public static final int NUM_POINTS = 8;
+
+  /**
+   * The number of metric values computed for each geometry.
+   */
+  public static final int NUM_METRICS = 9;
+
+  private static final int PARALLEL_RANGE_MIN = 256;
+
+  private boolean isParallel = false;
+
+  private double minX;
+  private double minY;
+  private double maxX;
+  private double maxY;
+  private int numPoints;
+
+  //-- the origin for the centroid sums, to reduce round-off
+  private boolean hasBase;
+  private double baseX;
+  private double baseY;
+
+  private final Sum area = new Sum();
+  private final Sum length = new Sum();
+  private final Sum areaSum2 = new Sum();
+  private final Sum areaCentX = new Sum();
+  private final Sum areaCentY = new Sum();
+  private final Sum lineCentX = new Sum();
+  private final Sum lineCentY = new Sum();
+  private final Sum ptCentX = new Sum();
+  private final Sum ptCentY = new Sum();
+  private int ptCount;
+
+  private final Sum ringArea2 = new Sum();
+  private final Sum ringCentX = new Sum();
+  private final Sum ringCentY = new Sum();
+
+  /**
+   * Creates a new metrics computer.
+   */
+  public GeometryMetrics() {
+  }
+
+  /**
+   * Sets whether the metrics of an array of geometries
+   * are computed in parallel.
+   * The default is to compute sequentially.
+   *
+   * @param isParallel true if metrics are computed in parallel
+   */
+  public void setParallel(boolean isParallel) {
+    this.isParallel = isParallel;
+  }
+
+  /**
+   * Computes the metrics of a geometry.
+   *
+   * @param geom the geometry
+   * @return an array of the metric values
+   */
+  public double[] compute(Geometry geom) {
+    double[] values = new double[NUM_METRICS];
+    compute(geom, values, 0);
+    return values;
+  }
+
+  /**
+   * Computes the metrics of a geometry into an array.
+   *
+   * @param geom the geometry
+   * @param values the array to receive the metric values
+   * @param offset the index in the array of the first metric value
+   */
+  public void compute(Geometry geom, double[] values, int offset) {
+    init();
+    add(geom);
+    values[offset + MIN_X] = numPoints > 0 ? minX : Double.NaN;
+    values[offset + MIN_Y] = numPoints > 0 ? minY : Double.NaN;
+    values[offset + MAX_X] = numPoints > 0 ? maxX : Double.NaN;
+    values[offset + MAX_Y] = numPoints > 0 ? maxY : Double.NaN;
+    values[offset + AREA] = area.value();
+    values[offset + LENGTH] = length.value();
+    computeCentroid(values, offset);
+    values[offset + NUM_POINTS] = numPoints;
+  }
+
+  /**
+   * Computes the metrics of an array of geometries.
+   * The metrics for geometry i are stored starting at
+   * index <code>i * NUM_METRICS</code> of the values array.
+   *
+   * @param geoms the geometries
+   * @param values the array to receive the metric values
+   */
+  public void compute(Geometry[] geoms, double[] values) {
+    if (values.length < geoms.length * NUM_METRICS)
+      throw new IllegalArgumentException("Values array is too small");
+    if (isParallel && geoms.length > PARALLEL_RANGE_MIN) {
+      ForkJoinPool.commonPool().invoke(new ComputeRangeTask(geoms, values, 0, geoms.length));
+      return;
+    }
+    computeRange(geoms, values, 0, geoms.length);
+  }
+
+  private void computeRange(Geometry[] geoms, double[] values, int start, int end) {
+    for (int i = start; i < end; i++) {
+      compute(geoms[i], values, i * NUM_METRICS);
+    }
+  }
+
+  private void init() {
+    minX = Double.POSITIVE_INFINITY;
+    minY = Double.POSITIVE_INFINITY;
+    maxX = Double.NEGATIVE_INFINITY;
+    maxY = Double.NEGATIVE_INFINITY;
+    numPoints = 0;
+    hasBase = false;
+    area.reset();
+    length.reset();
+    areaSum2.reset();
+    areaCentX.reset();
+    areaCentY.reset();
+    lineCentX.reset();
+    lineCentY.reset();
+    ptCentX.reset();
+    ptCentY.reset();
+    ptCount = 0;
+  }
+
+  private void computeCentroid(double[] values, int offset) {
+    double cx = Double.NaN;
+    double cy = Double.NaN;
+    double a2 = areaSum2.value();
+    double len = length.value();
+    if (Math.abs(a2) > 0.0) {
+      cx = baseX + areaCentX.value() / 3 / a2;
+      cy = baseY + areaCentY.value() / 3 / a2;
+    }
+    else if (len > 0.0) {
+      cx = baseX + lineCentX.value() / len;
+      cy = baseY + lineCentY.value() / len;
+    }
+    else if (ptCount > 0) {
+      cx = baseX + ptCentX.value() / ptCount;
+      cy = baseY + ptCentY.value() / ptCount;
+    }
+    values[offset + CENTROID_X] = cx;
+    values[offset + CENTROID_Y] = cy;
+  }
+
+  private void add(Geometry geom) {
+    if (geom.isEmpty())
+      return;
+    if (geom instanceof Point) {
+      CoordinateSequence seq = ((Point) geom).getCoordinateSequence();
+      double x = seq.getX(0);
+      double y = seq.getY(0);
+      addVertex(x, y);
+      addPoint(x, y);
+    }
+    else if (geom instanceof LineString) {
+      addLine(((LineString) geom).getCoordinateSequence());
+    }
+    else if (geom instanceof Polygon) {
+      Polygon poly = (Polygon) geom;
+      addRing(poly.getExteriorRing().getCoordinateSequence(), true);
+      for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+        addRing(poly.getInteriorRingN(i).getCoordinateSequence(), false);
+      }
+    }
+    else if (geom instanceof GeometryCollection) {
+      for (int i = 0; i < geom.getNumGeometries(); i++) {
+        add(geom.getGeometryN(i));
+      }
+    }
+  }
+
+  private void addVertex(double x, double y) {
+    if (! hasBase) {
+      baseX = x;
+      baseY = y;
+      hasBase = true;
+    }
+    if (x < minX) minX = x;
+    if (x > maxX) maxX = x;
+    if (y < minY) minY = y;
+    if (y > maxY) maxY = y;
+    numPoints++;
+  }
+
+  private void addPoint(double x, double y) {
+    ptCount++;
+    ptCentX.add(x - baseX);
+    ptCentY.add(y - baseY);
+  }
+
+  private void addLine(CoordinateSequence seq) {
+    int n = seq.size();
+    double x0 = seq.getX(0);
+    double y0 = seq.getY(0);
+    addVertex(x0, y0);
+    double lineLen = 0.0;
+    double prevX = x0;
+    double prevY = y0;
+    for (int i = 1; i < n; i++) {
+      double x = seq.getX(i);
+      double y = seq.getY(i);
+      addVertex(x, y);
+      lineLen += addSegment(prevX, prevY, x, y);
+      prevX = x;
+      prevY = y;
+    }
+    if (lineLen == 0.0)
+      addPoint(x0, y0);
+  }
+
+  /**
+   * Adds a polygon ring.
+   * The signed area and area centroid sums of the ring are computed
+   * relative to its first vertex, and then added to the totals
+   * with the sign determined by the ring orientation.
+   */
+  private void addRing(CoordinateSequence seq, boolean isShell) {
+    int n = seq.size();
+    if (n == 0) return;
+    double x0 = seq.getX(0);
+    double y0 = seq.getY(0);
+    addVertex(x0, y0);
+    ringArea2.reset();
+    ringCentX.reset();
+    ringCentY.reset();
+    double lineLen = 0.0;
+    double prevX = x0;
+    double prevY = y0;
+    for (int i = 1; i < n; i++) {
+      double x = seq.getX(i);
+      double y = seq.getY(i);
+      addVertex(x, y);
+      lineLen += addSegment(prevX, prevY, x, y);
+
+      //-- add the triangle formed by the first vertex and the segment
+      double dx0 = prevX - x0;
+      double dy0 = prevY - y0;
+      double dx1 = x - x0;
+      double dy1 = y - y0;
+      double triArea2 = dx0 * dy1 - dx1 * dy0;
+      ringArea2.add(triArea2);
+      ringCentX.add(triArea2 * (dx0 + dx1));
+      ringCentY.add(triArea2 * (dy0 + dy1));
+
+      prevX = x;
+      prevY = y;
+    }
+    if (lineLen == 0.0)
+      addPoint(x0, y0);
+
+    double a2 = ringArea2.value();
+    double ringArea = Math.abs(a2) / 2;
+    area.add(isShell ? ringArea : -ringArea);
+
+    //-- shells contribute positive area, holes negative
+    boolean isPositive = (a2 >= 0) == isShell;
+    double sign = isPositive ? 1.0 : -1.0;
+    areaSum2.add(sign * a2);
+    areaCentX.add(sign * (ringCentX.value() + 3 * (x0 - baseX) * a2));
+    areaCentY.add(sign * (ringCentY.value() + 3 * (y0 - baseY) * a2));
+  }
+
+  private double addSegment(double x0, double y0, double x1, double y1) {
+    double segLen = MathUtil.hypot(x1 - x0, y1 - y0);
+    if (segLen == 0.0)
+      return 0.0;
+    length.add(segLen);
+    lineCentX.add(segLen * ((x0 + x1) / 2 - baseX));
+    lineCentY.add(segLen * ((y0 + y1) / 2 - baseY));
+    return segLen;
+  }
+
+  /**
+   * A sum computed with compensated (Kahan-Babuska) summation.
+   */
+  private static final class Sum {
+    private double sum = 0.0;
+    private double comp = 0.0;
+
+    void reset() {
+      sum = 0.0;
+      comp = 0.0;
+    }
+
+    void add(double v) {
+      double t = sum + v;
+      if (Math.abs(sum) >= Math.abs(v))
+        comp += (sum - t) + v;
+      else
+        comp += (v - t) + sum;
+      sum = t;
+    }
+
+    double value() {
+      return sum + comp;
+    }
+  }
+
+  /**
+   * Computes the metrics for a range of geometries,
+   * using a single metrics computer for each subrange.
+   */
+  private static class ComputeRangeTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final Geometry[] geoms;
+    private final double[] values;
+    private final int start;
+    private final int end;
+
+    ComputeRangeTask(Geometry[] geoms, double[] values, int start, int end) {
+      this.geoms = geoms;
+      this.values = values;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= PARALLEL_RANGE_MIN) {
+        new GeometryMetrics().computeRange(geoms, values, start, end);
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new ComputeRangeTask(geoms, values, start, mid),
+          new ComputeRangeTask(geoms, values, mid, end));
+    }
+  }
+}
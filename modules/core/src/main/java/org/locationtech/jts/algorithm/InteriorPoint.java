@@ -11,6 +11,8 @@
  */
 package org.locationtech.jts.algorithm;
 
+import java.util.concurrent.ExecutorService;
+
 import org.locationtech.jts.algorithm.construct.LargestEmptyCircle;
 import org.locationtech.jts.algorithm.construct.MaximumInscribedCircle;
 import org.locationtech.jts.geom.Coordinate;
@@ -76,6 +78,28 @@ public class InteriorPoint {
     return interiorPt;
   }
 
+  /**
+   * Computes a location of an interior point in a {@link Geometry},
+   * processing the components of areal collections in parallel.
+   * The result is the same as for {@link #getInteriorPoint(Geometry)}.
+   * 
+   * @param geom a geometry in which to find an interior point
+   * @param executor the executor to run the computation
+   * @return the location of an interior point, 
+   *  or <code>null</code> if the input is empty
+   *  
+   * @see InteriorPointArea#getInteriorPoint(Geometry, ExecutorService)
+   */
+  public static Coordinate getInteriorPoint(Geometry geom, ExecutorService executor) {
+    if (geom.isEmpty()) 
+      return null;
+    if (dimensionNonEmpty(geom) == 2) {
+      return InteriorPointArea.getInteriorPoint(geom, executor);
+    }
+    //-- only the areal computation is parallelized
+    return getInteriorPoint(geom);
+  }
+
   private static int dimensionNonEmpty(Geometry geom) {
     DimensionNonEmptyFilter dimFilter = new DimensionNonEmptyFilter();
     geom.apply(dimFilter);
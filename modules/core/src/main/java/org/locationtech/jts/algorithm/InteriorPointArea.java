@@ -13,6 +13,7 @@ package org.locationtech.jts.algorithm;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateSequence;
@@ -83,6 +84,40 @@ public class InteriorPointArea {
     InteriorPointArea intPt = new InteriorPointArea(geom);
     return intPt.getInteriorPoint();
   }
+
+  /**
+   * Computes an interior point for the
+   * polygonal components of a Geometry,
+   * processing the components of collections in parallel.
+   * The candidate points for ranges of components are combined in component order,
+   * so the result is the same as for {@link #getInteriorPoint(Geometry)}.
+   *
+   * @param geom the geometry to compute
+   * @param executor the executor to run the computation
+   * @return the computed interior point,
+   * or <code>null</code> if the geometry has no polygonal components
+   */
+  public static Coordinate getInteriorPoint(Geometry geom, ExecutorService executor) {
+    List<InteriorPointArea> partials = ParallelComponents.compute(geom,
+        new ParallelComponents.RangeFunction<InteriorPointArea>() {
+          public InteriorPointArea compute(Geometry g, int start, int end) {
+            InteriorPointArea intPt = new InteriorPointArea();
+            for (int i = start; i < end; i++) {
+              intPt.process(g.getGeometryN(i));
+            }
+            return intPt;
+          }
+        }, executor);
+    InteriorPointArea intPt = new InteriorPointArea();
+    for (InteriorPointArea partial : partials) {
+      //-- the first of equally wide sections is kept, as in the serial computation
+      if (partial.maxWidth > intPt.maxWidth) {
+        intPt.maxWidth = partial.maxWidth;
+        intPt.interiorPoint = partial.interiorPoint;
+      }
+    }
+    return intPt.getInteriorPoint();
+  }
   
   private static double avg(double a, double b) {
     return (a + b) / 2.0;
@@ -100,6 +135,9 @@ public class InteriorPointArea {
     process(g);
   }
 
+  private InteriorPointArea() {
+  }
+
   /**
    * Gets the computed interior point.
    * 
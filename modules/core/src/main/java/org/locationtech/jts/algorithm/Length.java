@@ -11,7 +11,6 @@
  */
 package org.locationtech.jts.algorithm;
 
-import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.math.MathUtil;
 
@@ -23,6 +22,11 @@ import org.locationtech.jts.math.MathUtil;
  */
 public class Length {
 
+  /**
+   * The number of vertices copied at a time from a sequence.
+   */
+  private static final int CHUNK_SIZE = 256;
+
   /**
    * Computes the length of a linestring specified by a sequence of points.
    * 
@@ -35,27 +39,36 @@ public class Length {
     int n = pts.size();
     if (n <= 1)
       return 0.0;
-  
+
+    double[] ords = pts.getOrdinateArray();
+    if (ords != null) {
+      return sumLength(ords, pts.getDimension(), n);
+    }
+    //-- process the line in chunks, overlapping by one vertex
+    double[] xy = new double[2 * Math.min(n, CHUNK_SIZE + 1)];
+    double len = 0.0;
+    for (int start = 0; start < n - 1; start += CHUNK_SIZE) {
+      int count = Math.min(CHUNK_SIZE + 1, n - start);
+      pts.copyXY(start, xy, 0, count);
+      len += sumLength(xy, 2, count);
+    }
+    return len;
+  }
+
+  private static double sumLength(double[] ords, int stride, int n)
+  {
     double len = 0.0;
-  
-    Coordinate p = pts.createCoordinate();
-    pts.getCoordinate(0, p);
-    double x0 = p.x;
-    double y0 = p.y;
-  
-    for (int i = 1; i < n; i++) {
-      pts.getCoordinate(i, p);
-      double x1 = p.x;
-      double y1 = p.y;
-      double dx = x1 - x0;
-      double dy = y1 - y0;
-  
-      len += MathUtil.hypot(dx, dy);
-  
+    double x0 = ords[0];
+    double y0 = ords[1];
+    for (int i = stride; i < n * stride; i += stride) {
+      double x1 = ords[i];
+      double y1 = ords[i + 1];
+      len += MathUtil.hypot(x1 - x0, y1 - y0);
       x0 = x1;
       y0 = y1;
     }
     return len;
   }
 
+
 }
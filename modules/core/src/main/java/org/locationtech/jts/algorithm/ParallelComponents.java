@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Computes partial results over ranges of the components of a geometry
+ * using an {@link ExecutorService}.
+ * The components are split into contiguous ranges
+ * whose size depends only on the number of components,
+ * and the partial results are returned in component order.
+ * This allows callers to combine them deterministically,
+ * so that results do not depend on the number of threads
+ * or the order in which tasks complete.
+ *
+ * @author Martin Davis
+ *
+ */
+class ParallelComponents {
+
+  /**
+   * The minimum number of components in a range,
+   * to amortize the cost of a task.
+   */
+  static final int MIN_RANGE_SIZE = 256;
+
+  /**
+   * The maximum number of ranges.
+   */
+  static final int MAX_NUM_RANGES = 256;
+
+  /**
+   * Computes a partial result for a range of components of a geometry.
+   */
+  interface RangeFunction<T> {
+    /**
+     * Computes the result for the components with indexes in [start, end).
+     *
+     * @param geom the geometry
+     * @param start the index of the first component
+     * @param end the index after the last component
+     * @return the partial result
+     */
+    T compute(Geometry geom, int start, int end);
+  }
+
+  /**
+   * Computes the partial results for the components of a geometry.
+   * If the geometry has only one range of components
+   * it is computed on the calling thread.
+   *
+   * @param geom the geometry
+   * @param fn the function to compute a partial result
+   * @param executor the executor to run the tasks
+   * @return the partial results, in component order
+   */
+  static <T> List<T> compute(final Geometry geom, final RangeFunction<T> fn, ExecutorService executor) {
+    int n = geom.getNumGeometries();
+    int rangeSize = rangeSize(n);
+    List<T> results = new ArrayList<T>();
+    if (n <= rangeSize) {
+      if (n > 0)
+        results.add(fn.compute(geom, 0, n));
+      return results;
+    }
+    List<Future<T>> futures = new ArrayList<Future<T>>();
+    for (int start = 0; start < n; start += rangeSize) {
+      final int rangeStart = start;
+      final int rangeEnd = Math.min(n, start + rangeSize);
+      futures.add(executor.submit(new Callable<T>() {
+        public T call() {
+          return fn.compute(geom, rangeStart, rangeEnd);
+        }
+      }));
+    }
+    try {
+      for (Future<T> future : futures) {
+        results.add(getResult(future));
+      }
+    }
+    finally {
+      //-- do not leave tasks running if a task failed
+      for (Future<T> future : futures) {
+        future.cancel(true);
+      }
+    }
+    return results;
+  }
+
+  static int rangeSize(int numComponents) {
+    return Math.max(MIN_RANGE_SIZE, (numComponents + MAX_NUM_RANGES - 1) / MAX_NUM_RANGES);
+  }
+
+  private static <T> T getResult(Future<T> future) {
+    try {
+      return future.get();
+    }
+    catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(ex);
+    }
+    catch (ExecutionException ex) {
+      Throwable cause = ex.getCause();
+      if (cause instanceof RuntimeException)
+        throw (RuntimeException) cause;
+      if (cause instanceof Error)
+        throw (Error) cause;
+      throw new RuntimeException(cause);
+    }
+  }
+}
@@ -0,0 +1,410 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm;
+
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.math.DD;
+import org.locationtech.jts.math.MathUtil;
+
+/**
+ * Computes the intersection of two line segments
+ * given as primitive XY ordinates,
+ * without allocating any objects.
+ * The results are the same as the XY values computed by
+ * {@link RobustLineIntersector}, and are available via
+ * {@link #getIntersectionX(int)} and {@link #getIntersectionY(int)}.
+ * <p>
+ * Intersection points and orientation indexes which require
+ * extended-precision arithmetic are computed using a
+ * set of mutable {@link DD} values owned by the intersector.
+ * This makes it suitable for use in inner loops of noding and
+ * relate computations where many segment pairs are tested.
+ * <p>
+ * Instances are not thread-safe.
+ * Z and M values are not computed.
+ *
+ * @author Martin Davis
+ *
+ * @see RobustLineIntersector
+ */
+public class PrimitiveLineIntersector {
+
+  private int result = LineIntersector.NO_INTERSECTION;
+  private boolean isProper = false;
+  private final double[] inputX = new double[4];
+  private final double[] inputY = new double[4];
+  private final double[] intX = new double[2];
+  private final double[] intY = new double[2];
+  private PrecisionModel precisionModel = null;
+
+  //-- DD workspace values, reused for every computation
+  private final DD px = new DD();
+  private final DD py = new DD();
+  private final DD pw = new DD();
+  private final DD qx = new DD();
+  private final DD qy = new DD();
+  private final DD qw = new DD();
+  private final DD x = new DD();
+  private final DD y = new DD();
+  private final DD w = new DD();
+  private final DD t = new DD();
+
+  /**
+   * Creates a new intersector.
+   */
+  public PrimitiveLineIntersector() {
+  }
+
+  /**
+   * Forces computed intersection points to be precise
+   * with respect to the given {@link PrecisionModel}.
+   *
+   * @param precisionModel the precision model to use, or null
+   */
+  public void setPrecisionModel(PrecisionModel precisionModel) {
+    this.precisionModel = precisionModel;
+  }
+
+  /**
+   * Computes the intersection of the segments P1-P2 and Q1-Q2.
+   *
+   * @param p1x the X ordinate of the start of segment P
+   * @param p1y the Y ordinate of the start of segment P
+   * @param p2x the X ordinate of the end of segment P
+   * @param p2y the Y ordinate of the end of segment P
+   * @param q1x the X ordinate of the start of segment Q
+   * @param q1y the Y ordinate of the start of segment Q
+   * @param q2x the X ordinate of the end of segment Q
+   * @param q2y the Y ordinate of the end of segment Q
+   * @return the number of intersection points
+   * (one of the intersection constants of {@link LineIntersector})
+   */
+  public int computeIntersection(double p1x, double p1y, double p2x, double p2y,
+      double q1x, double q1y, double q2x, double q2y)
+  {
+    inputX[0] = p1x; inputY[0] = p1y;
+    inputX[1] = p2x; inputY[1] = p2y;
+    inputX[2] = q1x; inputY[2] = q1y;
+    inputX[3] = q2x; inputY[3] = q2y;
+    result = computeIntersect(p1x, p1y, p2x, p2y, q1x, q1y, q2x, q2y);
+    return result;
+  }
+
+  /**
+   * Tests whether the segments intersect.
+   *
+   * @return true if the segments intersect
+   */
+  public boolean hasIntersection() {
+    return result != LineIntersector.NO_INTERSECTION;
+  }
+
+  /**
+   * Gets the number of intersection points found.
+   *
+   * @return the number of intersection points (0, 1, or 2)
+   */
+  public int getIntersectionNum() {
+    return result;
+  }
+
+  /**
+   * Tests whether the segments are collinear and overlap.
+   *
+   * @return true if the intersection is a line segment
+   */
+  public boolean isCollinear() {
+    return result == LineIntersector.COLLINEAR_INTERSECTION;
+  }
+
+  /**
+   * Tests whether the intersection is proper
+   * (a single point in the interior of both segments).
+   *
+   * @return true if the intersection is proper
+   */
+  public boolean isProper() {
+    return hasIntersection() && isProper;
+  }
+
+  /**
+   * Gets the X ordinate of an intersection point.
+   *
+   * @param intIndex 0 or 1
+   * @return the X ordinate of the intersection point
+   */
+  public double getIntersectionX(int intIndex) {
+    return intX[intIndex];
+  }
+
+  /**
+   * Gets the Y ordinate of an intersection point.
+   *
+   * @param intIndex 0 or 1
+   * @return the Y ordinate of the intersection point
+   */
+  public double getIntersectionY(int intIndex) {
+    return intY[intIndex];
+  }
+
+  /**
+   * Tests whether either intersection point is an interior point of one of the input segments.
+   *
+   * @return true if either intersection point is in the interior of one of the input segments
+   */
+  public boolean isInteriorIntersection() {
+    return isInteriorIntersection(0) || isInteriorIntersection(1);
+  }
+
+  /**
+   * Tests whether either intersection point is an interior point of the specified input segment.
+   *
+   * @param inputLineIndex 0 for segment P, 1 for segment Q
+   * @return true if either intersection point is in the interior of the input segment
+   */
+  public boolean isInteriorIntersection(int inputLineIndex) {
+    int i0 = 2 * inputLineIndex;
+    for (int i = 0; i < result; i++) {
+      boolean isEndpoint = (intX[i] == inputX[i0] && intY[i] == inputY[i0])
+          || (intX[i] == inputX[i0 + 1] && intY[i] == inputY[i0 + 1]);
+      if (! isEndpoint) return true;
+    }
+    return false;
+  }
+
+  private int computeIntersect(double p1x, double p1y, double p2x, double p2y,
+      double q1x, double q1y, double q2x, double q2y)
+  {
+    isProper = false;
+
+    if (! envelopesIntersect(p1x, p1y, p2x, p2y, q1x, q1y, q2x, q2y))
+      return LineIntersector.NO_INTERSECTION;
+
+    int pq1 = orientationIndex(p1x, p1y, p2x, p2y, q1x, q1y);
+    int pq2 = orientationIndex(p1x, p1y, p2x, p2y, q2x, q2y);
+    if ((pq1 > 0 && pq2 > 0) || (pq1 < 0 && pq2 < 0)) {
+      return LineIntersector.NO_INTERSECTION;
+    }
+    int qp1 = orientationIndex(q1x, q1y, q2x, q2y, p1x, p1y);
+    int qp2 = orientationIndex(q1x, q1y, q2x, q2y, p2x, p2y);
+    if ((qp1 > 0 && qp2 > 0) || (qp1 < 0 && qp2 < 0)) {
+      return LineIntersector.NO_INTERSECTION;
+    }
+
+    boolean isCollinear = pq1 == 0 && pq2 == 0 && qp1 == 0 && qp2 == 0;
+    if (isCollinear) {
+      return computeCollinearIntersection(p1x, p1y, p2x, p2y, q1x, q1y, q2x, q2y);
+    }
+
+    if (pq1 == 0 || pq2 == 0 || qp1 == 0 || qp2 == 0) {
+      if (p1x == q1x && p1y == q1y) setIntersection(0, p1x, p1y);
+      else if (p1x == q2x && p1y == q2y) setIntersection(0, p1x, p1y);
+      else if (p2x == q1x && p2y == q1y) setIntersection(0, p2x, p2y);
+      else if (p2x == q2x && p2y == q2y) setIntersection(0, p2x, p2y);
+      else if (pq1 == 0) setIntersection(0, q1x, q1y);
+      else if (pq2 == 0) setIntersection(0, q2x, q2y);
+      else if (qp1 == 0) setIntersection(0, p1x, p1y);
+      else setIntersection(0, p2x, p2y);
+    }
+    else {
+      isProper = true;
+      computeProperIntersection(p1x, p1y, p2x, p2y, q1x, q1y, q2x, q2y);
+    }
+    return LineIntersector.POINT_INTERSECTION;
+  }
+
+  private int computeCollinearIntersection(double p1x, double p1y, double p2x, double p2y,
+      double q1x, double q1y, double q2x, double q2y)
+  {
+    boolean q1inP = envelopeIntersects(p1x, p1y, p2x, p2y, q1x, q1y);
+    boolean q2inP = envelopeIntersects(p1x, p1y, p2x, p2y, q2x, q2y);
+    boolean p1inQ = envelopeIntersects(q1x, q1y, q2x, q2y, p1x, p1y);
+    boolean p2inQ = envelopeIntersects(q1x, q1y, q2x, q2y, p2x, p2y);
+
+    if (q1inP && q2inP) {
+      setIntersection(0, q1x, q1y);
+      setIntersection(1, q2x, q2y);
+      return LineIntersector.COLLINEAR_INTERSECTION;
+    }
+    if (p1inQ && p2inQ) {
+      setIntersection(0, p1x, p1y);
+      setIntersection(1, p2x, p2y);
+      return LineIntersector.COLLINEAR_INTERSECTION;
+    }
+    if (q1inP && p1inQ) {
+      setIntersection(0, q1x, q1y);
+      setIntersection(1, p1x, p1y);
+      return q1x == p1x && q1y == p1y && ! q2inP && ! p2inQ
+          ? LineIntersector.POINT_INTERSECTION : LineIntersector.COLLINEAR_INTERSECTION;
+    }
+    if (q1inP && p2inQ) {
+      setIntersection(0, q1x, q1y);
+      setIntersection(1, p2x, p2y);
+      return q1x == p2x && q1y == p2y && ! q2inP && ! p1inQ
+          ? LineIntersector.POINT_INTERSECTION : LineIntersector.COLLINEAR_INTERSECTION;
+    }
+    if (q2inP && p1inQ) {
+      setIntersection(0, q2x, q2y);
+      setIntersection(1, p1x, p1y);
+      return q2x == p1x && q2y == p1y && ! q1inP && ! p2inQ
+          ? LineIntersector.POINT_INTERSECTION : LineIntersector.COLLINEAR_INTERSECTION;
+    }
+    if (q2inP && p2inQ) {
+      setIntersection(0, q2x, q2y);
+      setIntersection(1, p2x, p2y);
+      return q2x == p2x && q2y == p2y && ! q1inP && ! p1inQ
+          ? LineIntersector.POINT_INTERSECTION : LineIntersector.COLLINEAR_INTERSECTION;
+    }
+    return LineIntersector.NO_INTERSECTION;
+  }
+
+  /**
+   * Computes the proper intersection point,
+   * using the nearest endpoint if the computed point is not
+   * in the envelopes of both segments.
+   */
+  private void computeProperIntersection(double p1x, double p1y, double p2x, double p2y,
+      double q1x, double q1y, double q2x, double q2y)
+  {
+    boolean isFound = computeLineIntersection(p1x, p1y, p2x, p2y, q1x, q1y, q2x, q2y);
+    if (! isFound
+        || ! envelopeIntersects(p1x, p1y, p2x, p2y, intX[0], intY[0])
+        || ! envelopeIntersects(q1x, q1y, q2x, q2y, intX[0], intY[0])) {
+      setNearestEndpoint(p1x, p1y, p2x, p2y, q1x, q1y, q2x, q2y);
+    }
+    if (precisionModel != null) {
+      intX[0] = precisionModel.makePrecise(intX[0]);
+      intY[0] = precisionModel.makePrecise(intY[0]);
+    }
+  }
+
+  /**
+   * Computes the intersection point of two lines using DD arithmetic,
+   * in the same way as {@link CGAlgorithmsDD#intersection(org.locationtech.jts.geom.Coordinate, org.locationtech.jts.geom.Coordinate, org.locationtech.jts.geom.Coordinate, org.locationtech.jts.geom.Coordinate)}.
+   * The point is stored as intersection point 0.
+   *
+   * @return false if the lines are parallel
+   */
+  boolean computeLineIntersection(double p1x, double p1y, double p2x, double p2y,
+      double q1x, double q1y, double q2x, double q2y)
+  {
+    px.setValue(p1y).selfSubtract(p2y);
+    py.setValue(p2x).selfSubtract(p1x);
+    pw.setValue(p1x).selfMultiply(p2y).selfSubtract(t.setValue(p2x).selfMultiply(p1y));
+
+    qx.setValue(q1y).selfSubtract(q2y);
+    qy.setValue(q2x).selfSubtract(q1x);
+    qw.setValue(q1x).selfMultiply(q2y).selfSubtract(t.setValue(q2x).selfMultiply(q1y));
+
+    x.setValue(py).selfMultiply(qw).selfSubtract(t.setValue(qy).selfMultiply(pw));
+    y.setValue(qx).selfMultiply(pw).selfSubtract(t.setValue(px).selfMultiply(qw));
+    w.setValue(px).selfMultiply(qy).selfSubtract(t.setValue(qx).selfMultiply(py));
+
+    double xInt = x.selfDivide(w).doubleValue();
+    double yInt = y.selfDivide(w).doubleValue();
+
+    if (Double.isNaN(xInt) || Double.isInfinite(xInt)
+        || Double.isNaN(yInt) || Double.isInfinite(yInt)) {
+      return false;
+    }
+    setIntersection(0, xInt, yInt);
+    return true;
+  }
+
+  /**
+   * Computes the orientation index in the same way as
+   * {@link CGAlgorithmsDD#orientationIndex(double, double, double, double, double, double)},
+   * using the DD workspace values for the robust computation.
+   */
+  private int orientationIndex(double p1x, double p1y,
+      double p2x, double p2y, double qx, double qy)
+  {
+    int index = CGAlgorithmsDD.orientationIndexFilter(p1x, p1y, p2x, p2y, qx, qy);
+    if (index <= 1) return index;
+
+    DD dx1 = x.setValue(p2x).selfAdd(-p1x);
+    DD dy1 = y.setValue(p2y).selfAdd(-p1y);
+    DD dx2 = w.setValue(qx).selfAdd(-p2x);
+    DD dy2 = t.setValue(qy).selfAdd(-p2y);
+    return dx1.selfMultiply(dy2).selfSubtract(dy1.selfMultiply(dx2)).signum();
+  }
+
+  private void setNearestEndpoint(double p1x, double p1y, double p2x, double p2y,
+      double q1x, double q1y, double q2x, double q2y)
+  {
+    double nearX = p1x;
+    double nearY = p1y;
+    double minDist = pointToSegment(p1x, p1y, q1x, q1y, q2x, q2y);
+
+    double dist = pointToSegment(p2x, p2y, q1x, q1y, q2x, q2y);
+    if (dist < minDist) {
+      minDist = dist;
+      nearX = p2x;
+      nearY = p2y;
+    }
+    dist = pointToSegment(q1x, q1y, p1x, p1y, p2x, p2y);
+    if (dist < minDist) {
+      minDist = dist;
+      nearX = q1x;
+      nearY = q1y;
+    }
+    dist = pointToSegment(q2x, q2y, p1x, p1y, p2x, p2y);
+    if (dist < minDist) {
+      nearX = q2x;
+      nearY = q2y;
+    }
+    setIntersection(0, nearX, nearY);
+  }
+
+  private void setIntersection(int i, double x, double y) {
+    intX[i] = x;
+    intY[i] = y;
+  }
+
+  /**
+   * Computes the distance from a point to a segment
+   * in the same way as {@link Distance#pointToSegment(org.locationtech.jts.geom.Coordinate, org.locationtech.jts.geom.Coordinate, org.locationtech.jts.geom.Coordinate)}.
+   */
+  private static double pointToSegment(double px, double py,
+      double ax, double ay, double bx, double by)
+  {
+    if (ax == bx && ay == by)
+      return MathUtil.hypot(px - ax, py - ay);
+
+    double len2 = (bx - ax) * (bx - ax) + (by - ay) * (by - ay);
+    double r = ((px - ax) * (bx - ax) + (py - ay) * (by - ay)) / len2;
+    if (r <= 0.0)
+      return MathUtil.hypot(px - ax, py - ay);
+    if (r >= 1.0)
+      return MathUtil.hypot(px - bx, py - by);
+
+    double s = ((ay - py) * (bx - ax) - (ax - px) * (by - ay)) / len2;
+    return Math.abs(s) * Math.sqrt(len2);
+  }
+
+  private static boolean envelopesIntersect(double p1x, double p1y, double p2x, double p2y,
+      double q1x, double q1y, double q2x, double q2y)
+  {
+    if (Math.min(p1x, p2x) > Math.max(q1x, q2x)) return false;
+    if (Math.max(p1x, p2x) < Math.min(q1x, q2x)) return false;
+    if (Math.min(p1y, p2y) > Math.max(q1y, q2y)) return false;
+    if (Math.max(p1y, p2y) < Math.min(q1y, q2y)) return false;
+    return true;
+  }
+
+  private static boolean envelopeIntersects(double p1x, double p1y, double p2x, double p2y,
+      double qx, double qy)
+  {
+    return qx >= (p1x < p2x ? p1x : p2x) && qx <= (p1x > p2x ? p1x : p2x)
+        && qy >= (p1y < p2y ? p1y : p2y) && qy <= (p1y > p2y ? p1y : p2y);
+  }
+}
@@ -82,22 +82,29 @@ public class RayCrossingCounter
   public static int locatePointInRing(Coordinate p, CoordinateSequence ring) {
     RayCrossingCounter counter = new RayCrossingCounter(p);
 
-    Coordinate p1 = new Coordinate();
-    Coordinate p2 = new Coordinate();
-    for (int i = 1; i < ring.size(); i++) {
-      //ring.getCoordinate(i, p1); // throws exception if ring contains M ordinate
-      p1.x = ring.getOrdinate(i, CoordinateSequence.X);
-      p1.y = ring.getOrdinate(i, CoordinateSequence.Y);
-      //ring.getCoordinate(i - 1, p2); // throws exception if ring contains M ordinate
-      p2.x = ring.getOrdinate(i - 1, CoordinateSequence.X);
-      p2.y = ring.getOrdinate(i - 1, CoordinateSequence.Y);
-      counter.countSegment(p1, p2);
+    int n = ring.size();
+    double[] ords = ring.getOrdinateArray();
+    if (ords != null) {
+      counter.countSegments(ords, ring.getDimension(), n);
+      return counter.getLocation();
+    }
+    //-- process the ring in chunks, overlapping by one vertex
+    double[] xy = new double[2 * Math.min(n, CHUNK_SIZE + 1)];
+    for (int start = 0; start < n - 1; start += CHUNK_SIZE) {
+      int count = Math.min(CHUNK_SIZE + 1, n - start);
+      ring.copyXY(start, xy, 0, count);
+      counter.countSegments(xy, 2, count);
       if (counter.isOnSegment())
-        return counter.getLocation();
+        break;
     }
     return counter.getLocation();
   }
 
+  /**
+   * The number of vertices copied at a time from a sequence.
+   */
+  private static final int CHUNK_SIZE = 256;
+
 	private Coordinate p;
 	private int crossingCount = 0;
 	// true if the test point lies on an input segment
@@ -115,17 +122,29 @@ public class RayCrossingCounter
 	 * @param p2 another endpoint of the segment
 	 */
 	public void countSegment(Coordinate p1, Coordinate p2) {
+	  countSegment(p1.x, p1.y, p2.x, p2.y);
+	}
+	
+	/**
+	 * Counts a segment given by the ordinates of its endpoints.
+	 * 
+	 * @param p1x the x-ordinate of an endpoint of the segment
+	 * @param p1y the y-ordinate of an endpoint of the segment
+	 * @param p2x the x-ordinate of another endpoint of the segment
+	 * @param p2y the y-ordinate of another endpoint of the segment
+	 */
+	public void countSegment(double p1x, double p1y, double p2x, double p2y) {
 		/**
 		 * For each segment, check if it crosses 
 		 * a horizontal ray running from the test point in the positive x direction.
 		 */
 		
 		// check if the segment is strictly to the left of the test point
-		if (p1.x < p.x && p2.x < p.x)
+		if (p1x < p.x && p2x < p.x)
 			return;
 		
 		// check if the point is equal to the current ring vertex
-		if (p.x == p2.x && p.y == p2.y) {
+		if (p.x == p2x && p.y == p2y) {
 			isPointOnSegment = true;
 			return;
 		}
@@ -133,12 +152,12 @@ public class RayCrossingCounter
 		 * For horizontal segments, check if the point is on the segment.
 		 * Otherwise, horizontal segments are not counted.
 		 */
-		if (p1.y == p.y && p2.y == p.y) {
-			double minx = p1.x;
-			double maxx = p2.x;
+		if (p1y == p.y && p2y == p.y) {
+			double minx = p1x;
+			double maxx = p2x;
 			if (minx > maxx) {
-				minx = p2.x;
-				maxx = p1.x;
+				minx = p2x;
+				maxx = p1x;
 			}
 			if (p.x >= minx && p.x <= maxx) {
 				isPointOnSegment = true;
@@ -156,15 +175,15 @@ public class RayCrossingCounter
 		 * final endpoint
 		 * </ul>
 		 */
-		if (((p1.y > p.y) && (p2.y <= p.y)) 
-				|| ((p2.y > p.y) && (p1.y <= p.y))) {
-      int orient = Orientation.index(p1, p2, p);
+		if (((p1y > p.y) && (p2y <= p.y)) 
+				|| ((p2y > p.y) && (p1y <= p.y))) {
+      int orient = CGAlgorithmsDD.orientationIndex(p1x, p1y, p2x, p2y, p.x, p.y);
       if (orient == Orientation.COLLINEAR) {
         isPointOnSegment = true;
         return;
       }
       // Re-orient the result if needed to ensure effective segment direction is upwards
-      if (p2.y < p1.y) {
+      if (p2y < p1y) {
         orient = -orient;
       }
       // The upward segment crosses the ray if the test point lies to the left (CCW) of the segment.
@@ -174,6 +193,19 @@ public class RayCrossingCounter
 		}
 	}
 	
+	/**
+	 * Counts the segments of a sequence of vertices
+	 * given as a packed ordinate array,
+	 * stopping if the point is found to lie on a segment.
+	 */
+	private void countSegments(double[] ords, int stride, int n) {
+	  for (int i = stride; i < n * stride; i += stride) {
+	    countSegment(ords[i], ords[i + 1], ords[i - stride], ords[i - stride + 1]);
+	    if (isPointOnSegment)
+	      return;
+	  }
+	}
+	
 	/**
 	 * Gets the count of crossings.
 	 * 
@@ -30,6 +30,12 @@ public class RobustLineIntersector
     extends LineIntersector
 {
 
+  /**
+   * Computes proper intersection points without allocating DD values.
+   * Created lazily, since many intersectors never compute a proper intersection.
+   */
+  private PrimitiveLineIntersector ddIntersector = null;
+
   public RobustLineIntersector() {
   }
 
@@ -158,8 +164,14 @@ public class RobustLineIntersector
     }
     else {
       isProper = true;
+      //-- the computed point is a new coordinate, so it does not need to be copied
       p = intersection(p1, p2, q1, q2);
       z = zInterpolate(p, p1, p2, q1, q2);
+      if (! Double.isNaN(z) && Coordinates.hasZ(p)) {
+        p.setZ(z);
+      }
+      intPt[0] = p;
+      return POINT_INTERSECTION;
     }
     intPt[0] = copyWithZ(p, z);
     return POINT_INTERSECTION;
@@ -278,9 +290,15 @@ public class RobustLineIntersector
    */
   private Coordinate intersectionSafe(Coordinate p1, Coordinate p2, Coordinate q1, Coordinate q2)
   {
-    Coordinate intPt = Intersection.intersection(p1, p2, q1, q2);
-    if (intPt == null)
-      intPt = nearestEndpoint(p1, p2, q1, q2);
+    //-- equivalent to Intersection.intersection, but avoids allocating DD values
+    if (ddIntersector == null) {
+      ddIntersector = new PrimitiveLineIntersector();
+    }
+    Coordinate intPt;
+    if (ddIntersector.computeLineIntersection(p1.x, p1.y, p2.x, p2.y, q1.x, q1.y, q2.x, q2.y))
+      intPt = new Coordinate(ddIntersector.getIntersectionX(0), ddIntersector.getIntersectionY(0));
+    else
+      intPt = copy(nearestEndpoint(p1, p2, q1, q2));
  //     System.out.println("Snapped to " + intPt);
     return intPt;
   }
@@ -296,9 +314,8 @@ public class RobustLineIntersector
    */
   private boolean isInSegmentEnvelopes(Coordinate intPt)
   {
-    Envelope env0 = new Envelope(inputLines[0][0], inputLines[0][1]);
-    Envelope env1 = new Envelope(inputLines[1][0], inputLines[1][1]);
-    return env0.contains(intPt) && env1.contains(intPt);
+    return Envelope.intersects(inputLines[0][0], inputLines[0][1], intPt)
+        && Envelope.intersects(inputLines[1][0], inputLines[1][1], intPt);
   }
 
   /**
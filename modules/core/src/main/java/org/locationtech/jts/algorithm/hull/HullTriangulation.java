@@ -19,14 +19,10 @@ import org.locationtech.jts.geom.CoordinateList;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Polygon;
-import org.locationtech.jts.geom.Triangle;
 import org.locationtech.jts.operation.overlayng.CoverageUnion;
-import org.locationtech.jts.triangulate.DelaunayTriangulationBuilder;
-import org.locationtech.jts.triangulate.quadedge.QuadEdge;
-import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
-import org.locationtech.jts.triangulate.quadedge.TriangleVisitor;
+import org.locationtech.jts.triangulate.CompactDelaunayTriangulator;
+import org.locationtech.jts.triangulate.tri.CompactTriangulation;
 import org.locationtech.jts.triangulate.tri.Tri;
-import org.locationtech.jts.triangulate.tri.TriangulationBuilder;
 import org.locationtech.jts.util.Assert;
 
 /**
@@ -38,46 +34,24 @@ import org.locationtech.jts.util.Assert;
  */
 class HullTriangulation 
 {
-  public static List<HullTri> createDelaunayTriangulation(Geometry geom) {
-    //TODO: implement a DT on Tris directly?
-    DelaunayTriangulationBuilder dt = new DelaunayTriangulationBuilder();
-    dt.setSites(geom);
-    QuadEdgeSubdivision subdiv = dt.getSubdivision();
-    List<HullTri> triList = toTris(subdiv);
-    return triList;
-  }
-  
-  private static List<HullTri> toTris(QuadEdgeSubdivision subdiv) {
-    HullTriVisitor visitor = new HullTriVisitor();
-    subdiv.visitTriangles(visitor, false);
-    List<HullTri> triList = visitor.getTriangles();
-    TriangulationBuilder.build(triList);
-    return triList;
-  }
-  
-  private static class HullTriVisitor implements TriangleVisitor {
-    private List<HullTri> triList = new ArrayList<HullTri>();
-
-    public HullTriVisitor() {
+  private static final CompactTriangulation.TriFactory<HullTri> HULL_TRI_FACTORY
+      = new CompactTriangulation.TriFactory<HullTri>() {
+    public HullTri create(Coordinate p0, Coordinate p1, Coordinate p2) {
+      return new HullTri(p0, p1, p2);
     }
+  };
 
-    public void visit(QuadEdge[] triEdges) {
-      Coordinate p0 = triEdges[0].orig().getCoordinate();
-      Coordinate p1 = triEdges[1].orig().getCoordinate();
-      Coordinate p2 = triEdges[2].orig().getCoordinate();
-      HullTri tri;
-      if (Triangle.isCCW(p0, p1, p2)) {
-        tri = new HullTri(p0, p2, p1);
-      }
-      else {
-        tri = new HullTri(p0, p1, p2);
-      }
-      triList.add(tri);
-    }
-    
-    public List<HullTri> getTriangles() {
-      return triList;
-    }
+  /**
+   * Creates a Delaunay triangulation of the vertices of a geometry.
+   * The triangulation is computed in a compact form,
+   * and then linked Tris are created directly from it.
+   * 
+   * @param geom the geometry to triangulate
+   * @return the list of linked triangles
+   */
+  public static List<HullTri> createDelaunayTriangulation(Geometry geom) {
+    CompactTriangulation tri = CompactDelaunayTriangulator.triangulate(geom.getCoordinates());
+    return tri.toTris(HULL_TRI_FACTORY);
   }
 
   /**
@@ -341,6 +341,16 @@ class CoverageRingEdges {
     return result;
   }
 
+  /**
+   * Recreates a single element of the polygon coverage from the current edge values.
+   * 
+   * @param index the index of the element in the coverage
+   * @return the polygonal geometry for the element
+   */
+  public Geometry buildPolygonal(int index) {
+    return buildPolygonal(coverage[index]);
+  }
+
   private Geometry buildPolygonal(Geometry geom) {
     if (geom instanceof MultiPolygon) {
       return buildMultiPolygon((MultiPolygon) geom);
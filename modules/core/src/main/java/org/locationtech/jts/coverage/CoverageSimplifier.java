@@ -57,6 +57,10 @@ import org.locationtech.jts.geom.Geometry;
  * <p>
  * The input coverage should be valid according to {@link CoverageValidator}.
  * Invalid coverages may be simplified, but the result will likely still be invalid.
+ * <p>
+ * Simplification of large coverages can be run in parallel
+ * using {@link #setParallel(boolean)}.
+ * The result is identical to that of sequential simplification.
  * 
  * <h3>FUTURE WORK</h3>
  * 
@@ -126,6 +130,7 @@ public class CoverageSimplifier {
   private Geometry[] coverage;
   private double smoothWeight = CornerArea.DEFAULT_SMOOTH_WEIGHT;
   private double removableSizeFactor = 1.0;
+  private boolean isParallel = false;
   
   /**
    * Create a new coverage simplifier instance.
@@ -164,6 +169,18 @@ public class CoverageSimplifier {
     this.smoothWeight  = smoothWeight;
   }
   
+  /**
+   * Sets whether coverage edges are simplified in parallel.
+   * Parallel simplification uses the common {@link java.util.concurrent.ForkJoinPool}.
+   * Edges are simplified concurrently only if they are not near each other,
+   * so the result is identical to sequential simplification.
+   * 
+   * @param isParallel true if simplification should be performed in parallel
+   */
+  public void setParallel(boolean isParallel) {
+    this.isParallel = isParallel;
+  }
+  
   /**
    * Computes the simplified coverage using a single distance tolerance, 
    * preserving the coverage topology.
@@ -243,7 +260,7 @@ public class CoverageSimplifier {
 
   private Geometry[] simplify(CoverageRingEdges covRings, List<CoverageEdge> covEdges, TPVWSimplifier.Edge[] edges) {
     CornerArea cornerArea = new CornerArea(smoothWeight);
-    TPVWSimplifier.simplify(edges, cornerArea, removableSizeFactor);
+    TPVWSimplifier.simplify(edges, cornerArea, removableSizeFactor, isParallel);
     setCoordinates(covEdges, edges);
     Geometry[] result = covRings.buildCoverage();
     return result;
@@ -11,19 +11,45 @@
  */
 package org.locationtech.jts.coverage;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.index.hprtree.HilbertEncoder;
 
 /**
  * Unions a polygonal coverage in an efficient way.
  * <p>
  * Valid polygonal coverage topology allows merging polygons in a very efficient way.
+ * <p>
+ * Large coverages can be unioned in parallel.
+ * The coverage is ordered along a Hilbert curve 
+ * and split recursively into spatially compact partitions,
+ * which are unioned concurrently.
+ * The partition unions are themselves a valid coverage,
+ * so they are merged by a coverage union, 
+ * which only needs to process their boundary edges.
+ * <p>
+ * To repeatedly union subsets of a coverage
+ * see {@link IncrementalCoverageUnion}.
  * 
  * @author Martin Davis
  *
  */
 public class CoverageUnion {
+  
+  /**
+   * The number of polygons below which a partition is unioned sequentially.
+   */
+  private static final int PARALLEL_PARTITION_MIN = 1000;
+  
+  private static final int HILBERT_LEVEL = 12;
+  
   /**
    * Unions a polygonal coverage.
    * 
@@ -39,4 +65,87 @@ public class CoverageUnion {
     GeometryCollection geoms = geomFact.createGeometryCollection(coverage);
     return org.locationtech.jts.operation.overlayng.CoverageUnion.union(geoms);
   }
+  
+  /**
+   * Unions a polygonal coverage, optionally in parallel.
+   * Parallel union uses the common {@link ForkJoinPool}.
+   * 
+   * @param coverage the polygons in the coverage
+   * @param isParallel true if the union should be computed in parallel
+   * @return the union of the coverage polygons
+   */
+  public static Geometry union(Geometry[] coverage, boolean isParallel) {
+    if (! isParallel || coverage.length <= PARALLEL_PARTITION_MIN)
+      return union(coverage);
+    
+    Geometry[] sorted = sortSpatially(coverage);
+    return ForkJoinPool.commonPool().invoke(new UnionTask(sorted, 0, sorted.length));
+  }
+
+  /**
+   * Sorts the coverage polygons along a Hilbert curve, 
+   * so that contiguous ranges are spatially compact.
+   * Empty polygons are placed at the end.
+   */
+  private static Geometry[] sortSpatially(Geometry[] coverage) {
+    Envelope extent = new Envelope();
+    for (Geometry geom : coverage) {
+      extent.expandToInclude(geom.getEnvelopeInternal());
+    }
+    //-- avoid a zero stride for degenerate extents
+    if (extent.getWidth() == 0 || extent.getHeight() == 0)
+      extent.expandBy(1);
+    final HilbertEncoder encoder = new HilbertEncoder(HILBERT_LEVEL, extent);
+    
+    final int[] code = new int[coverage.length];
+    Integer[] order = new Integer[coverage.length];
+    for (int i = 0; i < coverage.length; i++) {
+      Envelope env = coverage[i].getEnvelopeInternal();
+      code[i] = env.isNull() ? Integer.MAX_VALUE : encoder.encode(env);
+      order[i] = i;
+    }
+    Arrays.sort(order, new Comparator<Integer>() {
+      public int compare(Integer i1, Integer i2) {
+        return Integer.compare(code[i1], code[i2]);
+      }
+    });
+    Geometry[] sorted = new Geometry[coverage.length];
+    for (int i = 0; i < coverage.length; i++) {
+      sorted[i] = coverage[order[i]];
+    }
+    return sorted;
+  }
+  
+  /**
+   * Unions a range of a spatially-sorted coverage,
+   * by recursively unioning the halves of the range 
+   * and merging their unions.
+   */
+  private static class UnionTask extends RecursiveTask<Geometry> {
+    private static final long serialVersionUID = 1L;
+    
+    private final Geometry[] coverage;
+    private final int start;
+    private final int end;
+
+    UnionTask(Geometry[] coverage, int start, int end) {
+      this.coverage = coverage;
+      this.start = start;
+      this.end = end;
+    }
+    
+    @Override
+    protected Geometry compute() {
+      if (end - start <= PARALLEL_PARTITION_MIN) {
+        return union(Arrays.copyOfRange(coverage, start, end));
+      }
+      int mid = (start + end) >>> 1;
+      UnionTask task0 = new UnionTask(coverage, start, mid);
+      UnionTask task1 = new UnionTask(coverage, mid, end);
+      task1.fork();
+      Geometry union0 = task0.compute();
+      Geometry union1 = task1.join();
+      return union(new Geometry[] { union0, union1 });
+    }
+  }
 }
@@ -12,6 +12,8 @@
 package org.locationtech.jts.coverage;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
@@ -47,6 +49,11 @@ import org.locationtech.jts.index.strtree.STRtree;
  * (linework identified as part of a gap which is actually wider).
  * See {@link CoverageGapFinder} for an alternate way to detect gaps which may be more accurate.
  * 
+ * <p>
+ * The validation of each polygon against its neighbours is independent,
+ * so for large coverages validation can be run in parallel
+ * using {@link #setParallel(boolean)}.
+ * 
  * <h3>Known Bugs</h3>
  * If the specified gap width is large, some narrow gaps may not be identified.
  * 
@@ -122,8 +129,15 @@ public class CoverageValidator {
     return v.validate();
   }
   
+  /**
+   * The number of polygons below which a range is validated sequentially
+   * when running in parallel.
+   */
+  private static final int PARALLEL_RANGE_MIN = 256;
+  
   private Geometry[] coverage;
   private double gapWidth;
+  private boolean isParallel = false;
 
   /**
    * Creates a new coverage validator
@@ -143,6 +157,17 @@ public class CoverageValidator {
     this.gapWidth = gapWidth;
   }
   
+  /**
+   * Sets whether the polygons are validated in parallel.
+   * Parallel validation uses the common {@link ForkJoinPool}.
+   * The result is identical to sequential validation.
+   * 
+   * @param isParallel true if validation should be performed in parallel
+   */
+  public void setParallel(boolean isParallel) {
+    this.isParallel = isParallel;
+  }
+  
   /**
    * Validates the polygonal coverage.
    * The result is an array of the same size as the input coverage.
@@ -159,11 +184,23 @@ public class CoverageValidator {
       index.insert(geom.getEnvelopeInternal(), geom);
     }
     Geometry[] invalidLines = new Geometry[coverage.length];
-    for (int i = 0; i < coverage.length; i++) {
+    if (isParallel) {
+      //-- build index before sharing it, since queries are then read-only
+      index.build();
+      ForkJoinPool.commonPool().invoke(
+          new ValidateRangeTask(index, invalidLines, 0, coverage.length));
+    }
+    else {
+      validate(index, invalidLines, 0, coverage.length);
+    }
+    return invalidLines;
+  }
+
+  private void validate(STRtree index, Geometry[] invalidLines, int start, int end) {
+    for (int i = start; i < end; i++) {
       Geometry geom = coverage[i];
       invalidLines[i] = validate(geom, index);
     }
-    return invalidLines;
   }
 
   private Geometry validate(Geometry targetGeom, STRtree index) {
@@ -177,4 +214,36 @@ public class CoverageValidator {
     Geometry result = CoveragePolygonValidator.validate(targetGeom, nearGeoms, gapWidth);
     return result.isEmpty() ? null : result;
   }
+  
+  /**
+   * Validates a range of the coverage polygons,
+   * splitting the range in half until it is small enough to validate sequentially.
+   * Each task writes only the result entries for its own range.
+   */
+  private class ValidateRangeTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    
+    private final STRtree index;
+    private final Geometry[] invalidLines;
+    private final int start;
+    private final int end;
+
+    ValidateRangeTask(STRtree index, Geometry[] invalidLines, int start, int end) {
+      this.index = index;
+      this.invalidLines = invalidLines;
+      this.start = start;
+      this.end = end;
+    }
+    
+    @Override
+    protected void compute() {
+      if (end - start <= PARALLEL_RANGE_MIN) {
+        validate(index, invalidLines, start, end);
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new ValidateRangeTask(index, invalidLines, start, mid),
+          new ValidateRangeTask(index, invalidLines, mid, end));
+    }
+  }
 }
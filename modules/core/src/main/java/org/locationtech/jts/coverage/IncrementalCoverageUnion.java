@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.coverage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineSegment;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.TopologyException;
+import org.locationtech.jts.operation.polygonize.Polygonizer;
+
+/**
+ * Maintains the union of a changing set of polygons
+ * from a polygonal coverage.
+ * Polygons can be added to or removed from the union
+ * in time proportional to their size,
+ * without recomputing the union of the other polygons.
+ * This supports efficiently dissolving
+ * many overlapping subsets of the same coverage.
+ * <p>
+ * The union is represented by its directed boundary segments,
+ * oriented with the union interior on the right.
+ * Since the polygons form a valid coverage,
+ * a segment shared by two polygons occurs in opposite directions in each.
+ * Adding a polygon cancels the reversed segments which it shares
+ * with the current union, and adds the rest.
+ * Removing a polygon does the inverse.
+ * A previously computed union can be used as the starting point,
+ * since it is itself a coverage polygon.
+ * <p>
+ * The union geometry is built from the boundary segments on demand,
+ * and is cached until the union is modified.
+ * <p>
+ * The polygons added and removed must form a valid coverage
+ * with the polygons in the union
+ * (or, for removal, be contained in the union and vector-clean with it).
+ * Some invalid situations are detected
+ * and cause a {@link TopologyException} to be thrown.
+ * Otherwise, the result may be invalid.
+ * <p>
+ * Note that where the union touches itself at a vertex
+ * the ring structure of the result may differ from
+ * that produced by {@link CoverageUnion},
+ * but it is topologically equal.
+ *
+ * @author Martin Davis
+ *
+ * @see CoverageUnion
+ *
+ */
+public class IncrementalCoverageUnion {
+
+  private GeometryFactory geomFactory;
+  private Set<LineSegment> boundarySegs = new HashSet<LineSegment>();
+  private Geometry result = null;
+
+  /**
+   * Creates a new empty union.
+   *
+   * @param geomFactory the factory to use for the result
+   */
+  public IncrementalCoverageUnion(GeometryFactory geomFactory) {
+    this.geomFactory = geomFactory;
+  }
+
+  /**
+   * Creates a new union, initialized with a previously computed union.
+   *
+   * @param union a polygonal geometry which is the union of coverage polygons
+   */
+  public IncrementalCoverageUnion(Geometry union) {
+    this(union.getFactory());
+    add(union);
+  }
+
+  /**
+   * Adds a polygonal geometry to the union.
+   *
+   * @param geom a polygonal geometry
+   *
+   * @throws TopologyException if the geometry overlaps a segment of the union
+   */
+  public void add(Geometry geom) {
+    update(geom, true);
+  }
+
+  /**
+   * Adds the polygonal geometries in a coverage to the union.
+   *
+   * @param coverage an array of polygonal geometries
+   */
+  public void add(Geometry[] coverage) {
+    for (Geometry geom : coverage) {
+      add(geom);
+    }
+  }
+
+  /**
+   * Removes a polygonal geometry from the union.
+   * The geometry must be a part of the union.
+   *
+   * @param geom a polygonal geometry
+   *
+   * @throws TopologyException if the geometry is not contained in the union
+   */
+  public void remove(Geometry geom) {
+    update(geom, false);
+  }
+
+  /**
+   * Tests whether the union is empty.
+   *
+   * @return true if the union is empty
+   */
+  public boolean isEmpty() {
+    return boundarySegs.isEmpty();
+  }
+
+  /**
+   * Gets the number of boundary segments in the union.
+   *
+   * @return the number of boundary segments
+   */
+  public int getNumBoundarySegments() {
+    return boundarySegs.size();
+  }
+
+  /**
+   * Gets the current union.
+   *
+   * @return the polygonal union geometry
+   */
+  public Geometry getResult() {
+    if (result == null) {
+      result = buildResult();
+    }
+    return result;
+  }
+
+  private void update(Geometry geom, boolean isAdd) {
+    result = null;
+    for (int i = 0; i < geom.getNumGeometries(); i++) {
+      Geometry elem = geom.getGeometryN(i);
+      if (! (elem instanceof Polygon))
+        throw new IllegalArgumentException("Input must be polygonal");
+      Polygon poly = (Polygon) elem;
+      if (poly.isEmpty())
+        continue;
+      updateRing(poly.getExteriorRing(), true, isAdd);
+      for (int j = 0; j < poly.getNumInteriorRing(); j++) {
+        updateRing(poly.getInteriorRingN(j), false, isAdd);
+      }
+    }
+  }
+
+  /**
+   * Updates the boundary with the segments of a ring.
+   * Segments are oriented to have the polygon interior on the right,
+   * so shells are traversed clockwise and holes counter-clockwise.
+   *
+   * @param ring the ring
+   * @param isShell true if the ring is a shell
+   * @param isAdd true if the ring is being added
+   */
+  private void updateRing(LinearRing ring, boolean isShell, boolean isAdd) {
+    if (ring.isEmpty())
+      return;
+    CoordinateSequence seq = ring.getCoordinateSequence();
+    boolean isCCW = Orientation.isCCW(seq);
+    boolean isForward = isShell != isCCW;
+    int n = seq.size();
+    for (int i = 0; i < n - 1; i++) {
+      Coordinate p0 = seq.getCoordinate(i);
+      Coordinate p1 = seq.getCoordinate(i + 1);
+      if (p0.equals2D(p1))
+        continue;
+      LineSegment seg = isForward ? new LineSegment(p0, p1) : new LineSegment(p1, p0);
+      if (isAdd)
+        addSegment(seg);
+      else
+        removeSegment(seg);
+    }
+  }
+
+  private void addSegment(LineSegment seg) {
+    LineSegment rev = new LineSegment(seg.p1, seg.p0);
+    //-- a shared segment is no longer on the boundary
+    if (boundarySegs.remove(rev))
+      return;
+    if (! boundarySegs.add(seg))
+      throw new TopologyException("Added polygon overlaps union at segment", seg.p0);
+  }
+
+  private void removeSegment(LineSegment seg) {
+    //-- a boundary segment of the removed polygon is no longer in the union
+    if (boundarySegs.remove(seg))
+      return;
+    //-- an interior segment becomes a boundary segment of the remaining union
+    LineSegment rev = new LineSegment(seg.p1, seg.p0);
+    if (! boundarySegs.add(rev))
+      throw new TopologyException("Removed polygon is not contained in union at segment", seg.p0);
+  }
+
+  /**
+   * Builds the union polygons by polygonizing the boundary segments,
+   * and keeping the faces which lie to the right of the boundary.
+   *
+   * @return the union geometry
+   */
+  private Geometry buildResult() {
+    if (boundarySegs.isEmpty())
+      return geomFactory.createPolygon();
+
+    List<LineString> lines = new ArrayList<LineString>(boundarySegs.size());
+    for (LineSegment seg : boundarySegs) {
+      lines.add(seg.toGeometry(geomFactory));
+    }
+    Polygonizer polygonizer = new Polygonizer();
+    polygonizer.add(lines);
+    @SuppressWarnings("unchecked")
+    Collection<Polygon> faces = polygonizer.getPolygons();
+
+    List<Polygon> polys = new ArrayList<Polygon>();
+    for (Polygon face : faces) {
+      if (isInterior(face)) {
+        polys.add(face);
+      }
+    }
+    if (polys.isEmpty())
+      return geomFactory.createPolygon();
+    return geomFactory.buildGeometry(polys);
+  }
+
+  /**
+   * Tests if a face lies inside the union,
+   * by checking the orientation of a segment of its shell.
+   *
+   * @param face a polygonized face
+   * @return true if the face is in the union
+   */
+  private boolean isInterior(Polygon face) {
+    CoordinateSequence seq = face.getExteriorRing().getCoordinateSequence();
+    Coordinate p0 = seq.getCoordinate(0);
+    Coordinate p1 = seq.getCoordinate(1);
+    boolean isCW = ! Orientation.isCCW(seq);
+    LineSegment seg = isCW ? new LineSegment(p0, p1) : new LineSegment(p1, p0);
+    return boundarySegs.contains(seg);
+  }
+}
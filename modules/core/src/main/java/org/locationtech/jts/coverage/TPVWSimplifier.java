@@ -13,6 +13,9 @@ package org.locationtech.jts.coverage;
 
 import java.util.List;
 import java.util.PriorityQueue;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 import org.locationtech.jts.algorithm.Area;
 import org.locationtech.jts.geom.Coordinate;
@@ -21,6 +24,7 @@ import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.index.VertexSequencePackedRtree;
 import org.locationtech.jts.index.strtree.STRtree;
 import org.locationtech.jts.simplify.LinkedLine;
+import org.locationtech.jts.util.IntArrayList;
 
 /**
  * Computes a Topology-Preserving Visvalingam-Whyatt simplification
@@ -38,6 +42,14 @@ import org.locationtech.jts.simplify.LinkedLine;
  * in the Visvalingam-Whyatt algorithm.
  * This equates roughly to the maximum
  * distance by which a simplified line can change from the original.
+ * <p>
+ * Edges are simplified in order, and each edge is checked against
+ * the current state of the edges near it.
+ * In parallel mode edges are simplified concurrently,
+ * but an edge is only simplified after all preceding edges
+ * whose envelopes intersect it have been simplified.
+ * Since an edge only inspects edges whose envelopes intersect it,
+ * this gives the same result as sequential simplification.
  * 
  * @author mdavis
  *
@@ -60,14 +72,32 @@ class TPVWSimplifier {
   public static void simplify(Edge[] edges, 
       CornerArea cornerArea,
       double removableSizeFactor) {
+    simplify(edges, cornerArea, removableSizeFactor, false);
+  }
+ 
+  /**
+   * Simplifies a set of edges, optionally in parallel.
+   * The result is the same in both modes.
+   * 
+   * @param edges the edges to simplify
+   * @param cornerArea the corner area computer
+   * @param removableSizeFactor the factor determining the size of removable rings
+   * @param isParallel true if edges should be simplified in parallel
+   */
+  public static void simplify(Edge[] edges, 
+      CornerArea cornerArea,
+      double removableSizeFactor,
+      boolean isParallel) {
     TPVWSimplifier simp = new TPVWSimplifier(edges);
     simp.setCornerArea(cornerArea);
     simp.setRemovableRingSizeFactor(removableSizeFactor);
+    simp.setParallel(isParallel);
     simp.simplify();
   }
  
   private CornerArea cornerArea;
   private double removableSizeFactor = 1.0;
+  private boolean isParallel = false;
   private Edge[] edges;
   
   public TPVWSimplifier(Edge[] edges) {
@@ -82,16 +112,39 @@ class TPVWSimplifier {
     this.cornerArea = cornerArea;
   }
  
+  public void setParallel(boolean isParallel) {
+    this.isParallel = isParallel;
+  }
+ 
   private void simplify() {
     EdgeIndex edgeIndex = new EdgeIndex();
     add(edges, edgeIndex);
 
+    if (isParallel) {
+      simplifyParallel(edgeIndex);
+      return;
+    }
     for (int i = 0 ; i < edges.length; i++) {
       Edge edge = edges[i];
       edge.simplify(cornerArea, edgeIndex);
     }
   }
 
+  private void simplifyParallel(EdgeIndex edgeIndex) {
+    edgeIndex.build();
+    /**
+     * Edges which are not simplified are only read,
+     * so their lazily-built vertex indexes must be created
+     * before they are shared between threads.
+     */
+    for (Edge edge : edges) {
+      if (! edge.isRemoved())
+        edge.initIndex();
+    }
+    EdgeDependencies deps = new EdgeDependencies(edges, edgeIndex);
+    ForkJoinPool.commonPool().invoke(new SimplifyRootTask(deps, edgeIndex));
+  }
+
   private void add(Edge[] edges, EdgeIndex edgeIndex) {
     for (Edge edge : edges) {
       //-- don't include removed edges in index
@@ -117,6 +170,7 @@ class TPVWSimplifier {
     private boolean isRemoved = false;
     private boolean isRemovable;
     private double distanceTolerance = 0.0;
+    private int order;
 
     /**
      * Creates a new edge.
@@ -158,6 +212,15 @@ class TPVWSimplifier {
       return isRemoved;
     }
     
+    /**
+     * Tests whether this edge is modified by simplification.
+     * 
+     * @return true if the edge is simplified
+     */
+    boolean isSimplified() {
+      return ! isRemoved && distanceTolerance > 0.0;
+    }
+    
     private Coordinate getCoordinate(int index) {
       return pts[index];
     }
@@ -278,6 +341,8 @@ class TPVWSimplifier {
     }
 
     private void initIndex() {
+      if (vertexIndex != null)
+        return;
       vertexIndex = new VertexSequencePackedRtree(pts);
       //-- remove ring duplicate final vertex
       if (CoordinateArrays.isRing(pts)) {
@@ -328,9 +393,131 @@ class TPVWSimplifier {
       index.insert(edge.getEnvelope(), edge);
     }
     
+    public void build() {
+      index.build();
+    }
+    
     public List<Edge> query(Envelope queryEnv) {
       return index.query(queryEnv);
     }
   }
   
+  /**
+   * Records the order dependencies between the edges which are simplified.
+   * An edge depends on every preceding simplified edge 
+   * whose envelope intersects it.
+   */
+  private static class EdgeDependencies {
+    private final Edge[] edges;
+    private final AtomicIntegerArray numPending;
+    private final int[][] successors;
+    
+    EdgeDependencies(Edge[] edges, EdgeIndex edgeIndex) {
+      this.edges = edges;
+      int n = edges.length;
+      for (int i = 0; i < n; i++) {
+        edges[i].order = i;
+      }
+      IntArrayList[] succ = new IntArrayList[n];
+      numPending = new AtomicIntegerArray(n);
+      for (int i = 0; i < n; i++) {
+        if (! edges[i].isSimplified())
+          continue;
+        for (Edge other : edgeIndex.query(edges[i].getEnvelope())) {
+          int j = other.order;
+          if (j >= i || ! other.isSimplified())
+            continue;
+          if (succ[j] == null)
+            succ[j] = new IntArrayList();
+          succ[j].add(i);
+          numPending.incrementAndGet(i);
+        }
+      }
+      successors = new int[n][];
+      for (int i = 0; i < n; i++) {
+        successors[i] = succ[i] == null ? null : succ[i].toArray();
+      }
+    }
+    
+    /**
+     * Gets the edges which have no dependencies.
+     * These must be determined before any edges are simplified,
+     * since simplified edges release their dependents.
+     * 
+     * @return the indexes of the edges which can be simplified first
+     */
+    int[] getInitial() {
+      IntArrayList initial = new IntArrayList();
+      for (int i = 0; i < edges.length; i++) {
+        if (edges[i].isSimplified() && numPending.get(i) == 0)
+          initial.add(i);
+      }
+      return initial.toArray();
+    }
+    
+    /**
+     * Records that a preceding edge has been simplified.
+     * 
+     * @param i the index of the dependent edge
+     * @return true if the edge is now ready to be simplified
+     */
+    boolean release(int i) {
+      return numPending.decrementAndGet(i) == 0;
+    }
+    
+    int[] getSuccessors(int i) {
+      return successors[i];
+    }
+  }
+  
+  private class SimplifyRootTask extends CountedCompleter<Void> {
+    private static final long serialVersionUID = 1L;
+    
+    private final EdgeDependencies deps;
+    private final EdgeIndex edgeIndex;
+
+    SimplifyRootTask(EdgeDependencies deps, EdgeIndex edgeIndex) {
+      this.deps = deps;
+      this.edgeIndex = edgeIndex;
+    }
+    
+    @Override
+    public void compute() {
+      int[] initial = deps.getInitial();
+      for (int i : initial) {
+        addToPendingCount(1);
+        new SimplifyEdgeTask(this, i).fork();
+      }
+      tryComplete();
+    }
+  }
+  
+  private class SimplifyEdgeTask extends CountedCompleter<Void> {
+    private static final long serialVersionUID = 1L;
+    
+    private final SimplifyRootTask root;
+    private final int index;
+
+    SimplifyEdgeTask(SimplifyRootTask root, int index) {
+      super(root);
+      this.root = root;
+      this.index = index;
+    }
+    
+    @Override
+    public void compute() {
+      edges[index].simplify(cornerArea, root.edgeIndex);
+      int[] succ = root.deps.getSuccessors(index);
+      if (succ != null) {
+        for (int s : succ) {
+          if (root.deps.release(s)) {
+            root.addToPendingCount(1);
+            new SimplifyEdgeTask(root, s).fork();
+          }
+        }
+      }
+      tryComplete();
+    }
+  }
+  
 }
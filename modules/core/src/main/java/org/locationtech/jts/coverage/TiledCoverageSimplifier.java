@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.coverage;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.index.SpatialIndex;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * Simplifies a polygonal coverage tile by tile,
+ * preserving the coverage topology.
+ * This allows simplifying coverages which are too large
+ * to be simplified in a single pass by {@link CoverageSimplifier}.
+ * The coverage polygons are read from a {@link SpatialIndex},
+ * which may be backed by external storage,
+ * and the simplified polygons are passed to a {@link ResultHandler}
+ * as each tile is completed.
+ * The working memory required is proportional to the size of a tile.
+ * <p>
+ * Each coverage polygon is owned by the tile containing the centre of its envelope.
+ * A tile is simplified along with the <i>context</i> polygons
+ * adjacent to the polygons it owns,
+ * so that coverage nodes and edges are determined in the same way as
+ * for the entire coverage.
+ * Edges which are shared with a polygon owned by a different tile
+ * are pinned (left unchanged).
+ * This ensures shared edges are identical in adjacent tiles,
+ * so the result is a valid coverage if the input is.
+ * Other edges are simplified in the same way as by {@link CoverageSimplifier}.
+ * The result is thus less simplified than a single-pass simplification
+ * along the boundaries between tiles.
+ * Larger tiles reduce this effect, at the cost of more memory.
+ * <p>
+ * Empty coverage elements are not reported,
+ * since they do not have a location.
+ *
+ * @author Martin Davis
+ *
+ * @see CoverageSimplifier
+ */
+public class TiledCoverageSimplifier {
+
+  /**
+   * Receives the simplified coverage polygons as they are computed.
+   */
+  public interface ResultHandler {
+    /**
+     * Accepts a simplified coverage polygon.
+     *
+     * @param input the input coverage polygon
+     * @param result the simplified polygon
+     */
+    void simplified(Geometry input, Geometry result);
+  }
+
+  /**
+   * Simplifies the boundaries of a set of polygonal geometries forming a coverage,
+   * processing the coverage in tiles of a given size.
+   * This is intended mainly for testing,
+   * since it holds the entire coverage in memory.
+   *
+   * @param coverage a set of polygonal geometries forming a coverage
+   * @param tileSize the width and height of the tiles
+   * @param tolerance the simplification tolerance
+   * @return the simplified coverage polygons
+   */
+  public static Geometry[] simplify(Geometry[] coverage, double tileSize, double tolerance) {
+    final Map<Geometry, Integer> indexMap = new IdentityHashMap<Geometry, Integer>();
+    STRtree index = new STRtree();
+    Envelope extent = new Envelope();
+    for (int i = 0; i < coverage.length; i++) {
+      Geometry geom = coverage[i];
+      indexMap.put(geom, i);
+      Envelope env = geom.getEnvelopeInternal();
+      index.insert(env, geom);
+      extent.expandToInclude(env);
+    }
+    final Geometry[] result = new Geometry[coverage.length];
+    TiledCoverageSimplifier simplifier = new TiledCoverageSimplifier(index, extent, tileSize);
+    simplifier.simplify(tolerance, tolerance, new ResultHandler() {
+      public void simplified(Geometry input, Geometry simp) {
+        result[indexMap.get(input)] = simp;
+      }
+    });
+    //-- empty elements are not reported, so copy them
+    for (int i = 0; i < coverage.length; i++) {
+      if (result[i] == null)
+        result[i] = coverage[i].copy();
+    }
+    return result;
+  }
+
+  private SpatialIndex coverageIndex;
+  private Envelope extent;
+  private double tileSize;
+  private int numTilesX;
+  private int numTilesY;
+  private double smoothWeight = CornerArea.DEFAULT_SMOOTH_WEIGHT;
+  private double removableSizeFactor = 1.0;
+
+  /**
+   * Creates a new tiled coverage simplifier.
+   * The coverage index must contain the coverage polygons as items.
+   * The tile extent must cover all the coverage polygons.
+   *
+   * @param coverageIndex a spatial index containing the polygons of a coverage
+   * @param extent the extent of the coverage
+   * @param tileSize the width and height of the tiles
+   */
+  public TiledCoverageSimplifier(SpatialIndex coverageIndex, Envelope extent, double tileSize) {
+    if (tileSize <= 0)
+      throw new IllegalArgumentException("Tile size must be positive");
+    this.coverageIndex = coverageIndex;
+    this.extent = extent;
+    this.tileSize = tileSize;
+    numTilesX = numTiles(extent.getWidth(), tileSize);
+    numTilesY = numTiles(extent.getHeight(), tileSize);
+  }
+
+  private static int numTiles(double extentSize, double tileSize) {
+    return Math.max(1, (int) Math.ceil(extentSize / tileSize));
+  }
+
+  /**
+   * Sets the factor applied to the area tolerance to determine
+   * if small rings should be removed.
+   *
+   * @param removableSizeFactor the factor to determine ring size to remove
+   *
+   * @see CoverageSimplifier#setRemovableRingSizeFactor(double)
+   */
+  public void setRemovableRingSizeFactor(double removableSizeFactor) {
+    double factor = removableSizeFactor;
+    if (factor < 0.0)
+      factor = 0.0;
+    this.removableSizeFactor = factor;
+  }
+
+  /**
+   * Sets the weight influencing how smooth the simplification should be.
+   *
+   * @param smoothWeight a value between 0 and 1
+   *
+   * @see CoverageSimplifier#setSmoothWeight(double)
+   */
+  public void setSmoothWeight(double smoothWeight) {
+    if (smoothWeight < 0.0 || smoothWeight > 1.0)
+      throw new IllegalArgumentException("smoothWeight must be in range [0 - 1]");
+    this.smoothWeight = smoothWeight;
+  }
+
+  /**
+   * Gets the number of tiles used to process the coverage.
+   *
+   * @return the number of tiles
+   */
+  public int getNumTiles() {
+    return numTilesX * numTilesY;
+  }
+
+  /**
+   * Simplifies the coverage tile by tile,
+   * using separate distance tolerances for inner and outer edges.
+   *
+   * @param toleranceInner the distance tolerance for inner edges
+   * @param toleranceOuter the distance tolerance for outer edges
+   * @param handler the handler which receives the simplified polygons
+   */
+  public void simplify(double toleranceInner, double toleranceOuter, ResultHandler handler) {
+    for (int iy = 0; iy < numTilesY; iy++) {
+      for (int ix = 0; ix < numTilesX; ix++) {
+        simplifyTile(ix, iy, toleranceInner, toleranceOuter, handler);
+      }
+    }
+  }
+
+  private void simplifyTile(int ix, int iy,
+      double toleranceInner, double toleranceOuter, ResultHandler handler) {
+    List<Geometry> owned = findOwned(ix, iy);
+    if (owned.isEmpty())
+      return;
+    int numOwned = owned.size();
+    Geometry[] tileCoverage = addContext(owned);
+
+    CoverageRingEdges covRings = CoverageRingEdges.create(tileCoverage);
+    List<CoverageEdge> covEdges = covRings.getEdges();
+    TPVWSimplifier.Edge[] edges = createEdges(covEdges, numOwned, toleranceInner, toleranceOuter);
+    TPVWSimplifier.simplify(edges, new CornerArea(smoothWeight), removableSizeFactor);
+    for (int i = 0; i < covEdges.size(); i++) {
+      TPVWSimplifier.Edge edge = edges[i];
+      if (edge.getTolerance() > 0) {
+        covEdges.get(i).setCoordinates(edge.getCoordinates());
+      }
+    }
+    for (int i = 0; i < numOwned; i++) {
+      handler.simplified(tileCoverage[i], covRings.buildPolygonal(i));
+    }
+  }
+
+  private List<Geometry> findOwned(int ix, int iy) {
+    Envelope tileEnv = new Envelope(
+        extent.getMinX() + ix * tileSize, extent.getMinX() + (ix + 1) * tileSize,
+        extent.getMinY() + iy * tileSize, extent.getMinY() + (iy + 1) * tileSize);
+    List<Geometry> owned = new ArrayList<Geometry>();
+    for (Object item : coverageIndex.query(tileEnv)) {
+      Geometry geom = (Geometry) item;
+      if (geom.isEmpty())
+        continue;
+      if (isOwned(geom, ix, iy))
+        owned.add(geom);
+    }
+    return owned;
+  }
+
+  /**
+   * Creates the coverage for a tile, consisting of the owned polygons
+   * followed by the context polygons which are not owned by the tile.
+   * The context contains all polygons which may be adjacent to an owned polygon.
+   *
+   * @param owned the polygons owned by a tile
+   * @return the tile coverage
+   */
+  private Geometry[] addContext(List<Geometry> owned) {
+    Envelope ownedEnv = new Envelope();
+    for (Geometry geom : owned) {
+      ownedEnv.expandToInclude(geom.getEnvelopeInternal());
+    }
+    List<Geometry> tileCoverage = new ArrayList<Geometry>(owned);
+    Map<Geometry, Geometry> ownedSet = new IdentityHashMap<Geometry, Geometry>();
+    for (Geometry geom : owned) {
+      ownedSet.put(geom, geom);
+    }
+    for (Object item : coverageIndex.query(ownedEnv)) {
+      Geometry geom = (Geometry) item;
+      if (ownedSet.containsKey(geom)
+          || geom.isEmpty()
+          || ! ownedEnv.intersects(geom.getEnvelopeInternal()))
+        continue;
+      tileCoverage.add(geom);
+    }
+    return GeometryFactory.toGeometryArray(tileCoverage);
+  }
+
+  private boolean isOwned(Geometry geom, int ix, int iy) {
+    Envelope env = geom.getEnvelopeInternal();
+    return ix == tileIndex(env.centre().getX(), extent.getMinX(), numTilesX)
+        && iy == tileIndex(env.centre().getY(), extent.getMinY(), numTilesY);
+  }
+
+  private int tileIndex(double ord, double min, int numTiles) {
+    int index = (int) Math.floor((ord - min) / tileSize);
+    if (index < 0) return 0;
+    if (index >= numTiles) return numTiles - 1;
+    return index;
+  }
+
+  /**
+   * Creates the edges to simplify.
+   * Edges adjacent to a context polygon are pinned by giving them a zero tolerance.
+   */
+  private static TPVWSimplifier.Edge[] createEdges(List<CoverageEdge> covEdges, int numOwned,
+      double toleranceInner, double toleranceOuter) {
+    TPVWSimplifier.Edge[] edges = new TPVWSimplifier.Edge[covEdges.size()];
+    for (int i = 0; i < covEdges.size(); i++) {
+      CoverageEdge covEdge = covEdges.get(i);
+      double tol = 0.0;
+      if (! isContextEdge(covEdge, numOwned)) {
+        tol = covEdge.isInner() ? toleranceInner : toleranceOuter;
+      }
+      edges[i] = new TPVWSimplifier.Edge(covEdge.getCoordinates(), tol,
+          covEdge.isFreeRing(), covEdge.isRemovableRing());
+    }
+    return edges;
+  }
+
+  private static boolean isContextEdge(CoverageEdge covEdge, int numOwned) {
+    if (covEdge.getAdjacentIndex(0) >= numOwned)
+      return true;
+    return covEdge.hasAdjacentIndex(1)
+        && covEdge.getAdjacentIndex(1) >= numOwned;
+  }
+}
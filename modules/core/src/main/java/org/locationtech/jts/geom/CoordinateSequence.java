@@ -254,6 +254,42 @@ public interface CoordinateSequence
    */
   Coordinate[] toCoordinateArray();
 
+  /**
+   * Copies the X and Y ordinates of a range of coordinates in this sequence
+   * into an array, as consecutive X,Y pairs.
+   * This allows algorithms to process coordinates in bulk,
+   * without a method call or a {@link Coordinate} per vertex.
+   *
+   * @param from the index of the first coordinate to copy
+   * @param dest the array to receive the ordinates
+   * @param destOffset the index in the array at which to store the first X ordinate
+   * @param count the number of coordinates to copy
+   */
+  default void copyXY(int from, double[] dest, int destOffset, int count)
+  {
+    int j = destOffset;
+    for (int i = from; i < from + count; i++) {
+      dest[j++] = getX(i);
+      dest[j++] = getY(i);
+    }
+  }
+
+  /**
+   * Gets the array of ordinate values backing this sequence, if there is one.
+   * The ordinates of the coordinate at index <code>i</code>
+   * are stored starting at array index <code>i * getDimension()</code>,
+   * in the same order as for {@link #getOrdinate(int, int)}.
+   * The array is not copied, and must not be modified.
+   * Sequences which do not store their ordinates in
+   * a <code>double</code> array return null.
+   *
+   * @return the ordinate array, or null if not available
+   */
+  default double[] getOrdinateArray()
+  {
+    return null;
+  }
+
   /**
    * Expands the given {@link Envelope} to include the coordinates in the sequence.
    * Allows implementing classes to optimize access to coordinate values.
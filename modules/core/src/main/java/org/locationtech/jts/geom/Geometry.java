@@ -18,6 +18,8 @@ import java.util.Iterator;
 import org.locationtech.jts.algorithm.Centroid;
 import org.locationtech.jts.algorithm.ConvexHull;
 import org.locationtech.jts.algorithm.InteriorPoint;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
 import org.locationtech.jts.io.WKTWriter;
 import org.locationtech.jts.operation.buffer.BufferOp;
 import org.locationtech.jts.operation.buffer.BufferParameters;
@@ -198,6 +200,11 @@ public abstract class Geometry
    */
   private Object userData = null;
 
+  /**
+   * The cache of derived values, if the geometry is immutable.
+   */
+  private transient volatile GeometryCache cache;
+
   /**
    * Creates a new <code>Geometry</code> via the specified GeometryFactory.
    *
@@ -412,6 +419,9 @@ public abstract class Geometry
    */
   public boolean isSimple()
   {
+    GeometryCache cache = getCache();
+    if (cache != null)
+      return cache.isSimple(this);
     IsSimpleOp op = new IsSimpleOp(this);
     return op.isSimple();
   }
@@ -428,6 +438,9 @@ public abstract class Geometry
    */
   public boolean isValid()
   {
+    GeometryCache cache = getCache();
+    if (cache != null)
+      return cache.isValid(this);
   	return IsValidOp.isValid(this);
   }
 
@@ -491,6 +504,20 @@ public abstract class Geometry
    *@return the area of the Geometry
    */
   public double getArea()
+  {
+    GeometryCache cache = getCache();
+    if (cache != null)
+      return cache.getArea(this);
+    return computeArea();
+  }
+
+  /**
+   * Computes the area of this geometry.
+   * Areal geometries override this to compute their area.
+   *
+   * @return the area of the geometry
+   */
+  double computeArea()
   {
     return 0.0;
   }
@@ -505,6 +532,20 @@ public abstract class Geometry
    *@return the length of the Geometry
    */
   public double getLength()
+  {
+    GeometryCache cache = getCache();
+    if (cache != null)
+      return cache.getLength(this);
+    return computeLength();
+  }
+
+  /**
+   * Computes the length of this geometry.
+   * Linear and areal geometries override this to compute their length.
+   *
+   * @return the length of the geometry
+   */
+  double computeLength()
   {
     return 0.0;
   }
@@ -637,12 +678,52 @@ public abstract class Geometry
    *@return an empty Envelope if this Geometry is empty
    */
   public Envelope getEnvelopeInternal() {
+    GeometryCache cache = getCache();
+    if (cache != null)
+      return new Envelope(cache.getEnvelope(this));
     if (envelope == null) {
       envelope = computeEnvelopeInternal();
     }
     return new Envelope(envelope);
   }
 
+  /**
+   * Gets a {@link PreparedGeometry} for this geometry,
+   * which optimizes repeated evaluation of spatial predicates.
+   * If the geometry was created by an immutable {@link GeometryFactory}
+   * the prepared geometry is created once and cached;
+   * otherwise a new one is created on each call.
+   *
+   * @return a prepared form of this geometry
+   *
+   * @see GeometryFactory#isImmutable()
+   */
+  public PreparedGeometry getPrepared() {
+    GeometryCache cache = getCache();
+    if (cache != null)
+      return cache.getPrepared(this);
+    return PreparedGeometryFactory.prepare(this);
+  }
+
+  /**
+   * Gets the cache of derived values for this geometry,
+   * if it was created by an immutable factory.
+   * A race to create the cache is benign,
+   * since caches contain only values which can be recomputed.
+   *
+   * @return the cache, or null if the geometry is not immutable
+   */
+  private GeometryCache getCache() {
+    if (! factory.isImmutable())
+      return null;
+    GeometryCache c = cache;
+    if (c == null) {
+      c = new GeometryCache();
+      cache = c;
+    }
+    return c;
+  }
+
   /**
    * Notifies this geometry that its coordinates have been changed by an external
    * party (for example, via a {@link CoordinateFilter}).
@@ -663,6 +744,7 @@ public abstract class Geometry
    */
   protected void geometryChangedAction() {
     envelope = null;
+    cache = null;
   }
 
   /**
@@ -1550,6 +1632,8 @@ public abstract class Geometry
     try {
       Geometry clone = (Geometry) super.clone();
       if (clone.envelope != null) { clone.envelope = new Envelope(clone.envelope); }
+      //-- cached values refer to this geometry
+      clone.cache = null;
       return clone;
     }
     catch (CloneNotSupportedException e) {
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom;
+
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.operation.valid.IsSimpleOp;
+import org.locationtech.jts.operation.valid.IsValidOp;
+
+/**
+ * Caches values derived from an immutable {@link Geometry}.
+ * Values are computed lazily and published safely,
+ * so the cache can be used by concurrent threads.
+ * If threads request a value concurrently it may be computed more than once,
+ * but all threads see a fully-computed value.
+ * <p>
+ * Values are stored as immutable objects in volatile fields.
+ *
+ * @author Martin Davis
+ *
+ * @see GeometryFactory#isImmutable()
+ */
+final class GeometryCache
+{
+  private volatile Envelope envelope;
+  private volatile Double area;
+  private volatile Double length;
+  private volatile Boolean isValid;
+  private volatile Boolean isSimple;
+  private volatile PreparedGeometry prepared;
+
+  /**
+   * Gets the envelope of the geometry.
+   * The envelope must not be modified.
+   *
+   * @param geom the geometry the cache is for
+   * @return the envelope of the geometry
+   */
+  Envelope getEnvelope(Geometry geom) {
+    Envelope env = envelope;
+    if (env == null) {
+      env = geom.computeEnvelopeInternal();
+      envelope = env;
+    }
+    return env;
+  }
+
+  double getArea(Geometry geom) {
+    Double val = area;
+    if (val == null) {
+      val = geom.computeArea();
+      area = val;
+    }
+    return val;
+  }
+
+  double getLength(Geometry geom) {
+    Double val = length;
+    if (val == null) {
+      val = geom.computeLength();
+      length = val;
+    }
+    return val;
+  }
+
+  boolean isValid(Geometry geom) {
+    Boolean val = isValid;
+    if (val == null) {
+      val = IsValidOp.isValid(geom);
+      isValid = val;
+    }
+    return val;
+  }
+
+  boolean isSimple(Geometry geom) {
+    Boolean val = isSimple;
+    if (val == null) {
+      val = IsSimpleOp.isSimple(geom);
+      isSimple = val;
+    }
+    return val;
+  }
+
+  PreparedGeometry getPrepared(Geometry geom) {
+    PreparedGeometry prep = prepared;
+    if (prep == null) {
+      prep = PreparedGeometryFactory.prepare(geom);
+      prepared = prep;
+    }
+    return prep;
+  }
+}
@@ -157,9 +157,9 @@ public class GeometryCollection extends Geometry {
   /**
    *  Returns the area of this <code>GeometryCollection</code>
    *
-   * @return the area of the polygon
+   * @return the area of the collection
    */
-  public double getArea()
+  double computeArea()
   {
     double area = 0.0;
     for (int i = 0; i < geometries.length; i++) {
@@ -168,7 +168,7 @@ public class GeometryCollection extends Geometry {
     return area;
   }
 
-  public double getLength()
+  double computeLength()
   {
     double sum = 0.0;
     for (int i = 0; i < geometries.length; i++) {
@@ -27,6 +27,15 @@ import org.locationtech.jts.util.Assert;
  * In particular, they are not rounded to the supplied <tt>PrecisionModel</tt>.
  * It is assumed that input Coordinates meet the given precision.
  * <p>
+ * A factory can be created in <b>immutable</b> mode.
+ * Geometries created by an immutable factory must not be modified.
+ * In return they lazily compute and cache derived values
+ * (envelope, area, length, validity, simplicity and the prepared form),
+ * and publish them safely so they can be reused by concurrent threads.
+ * This avoids repeated expensive computations in read-heavy services.
+ * If a geometry is modified regardless, {@link Geometry#geometryChanged()}
+ * must be called to clear the cached values.
+ * <p>
  * Instances of this class are thread-safe.
  *
  * @version 1.7
@@ -39,6 +48,7 @@ public class GeometryFactory
 
   private CoordinateSequenceFactory coordinateSequenceFactory;
 
+  private boolean isImmutable = false;
 
   public static Point createPointFromInternalCoord(Coordinate coord, Geometry exemplar)
   {
@@ -57,6 +67,24 @@ public class GeometryFactory
       this.SRID = SRID;
   }
 
+  /**
+   * Constructs a GeometryFactory that generates Geometries having the given
+   * PrecisionModel, spatial-reference ID, and CoordinateSequence implementation,
+   * and which are optionally immutable.
+   *
+   * @param precisionModel the PrecisionModel to use
+   * @param SRID the SRID to use
+   * @param coordinateSequenceFactory the CoordinateSequenceFactory to use
+   * @param isImmutable true if created geometries are immutable and cache derived values
+   *
+   * @see #isImmutable()
+   */
+  public GeometryFactory(PrecisionModel precisionModel, int SRID,
+                         CoordinateSequenceFactory coordinateSequenceFactory, boolean isImmutable) {
+    this(precisionModel, SRID, coordinateSequenceFactory);
+    this.isImmutable = isImmutable;
+  }
+
   /**
    * Constructs a GeometryFactory that generates Geometries having the given
    * CoordinateSequence implementation, a double-precision floating PrecisionModel and a
@@ -683,6 +711,16 @@ public class GeometryFactory
 
   private int SRID;
 
+  /**
+   * Tests whether this factory creates immutable geometries,
+   * which cache derived values for safe concurrent reuse.
+   *
+   * @return true if created geometries are immutable
+   */
+  public boolean isImmutable() {
+    return isImmutable;
+  }
+
   public CoordinateSequenceFactory getCoordinateSequenceFactory() {
     return coordinateSequenceFactory;
   }
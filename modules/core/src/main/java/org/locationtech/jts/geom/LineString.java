@@ -162,11 +162,11 @@ public class LineString
   }
 
   /**
-   *  Returns the length of this <code>LineString</code>
+   *  Computes the length of this <code>LineString</code>
    *
    *@return the length of the linestring
    */
-  public double getLength()
+  double computeLength()
   {
    return Length.ofLine(points);
   }
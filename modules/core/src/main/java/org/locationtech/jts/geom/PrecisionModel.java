@@ -438,6 +438,51 @@ public class PrecisionModel implements Serializable, Comparable
   	return val;
   }
 
+  /**
+   * Computes the index of the grid point nearest to a value
+   * for a fixed precision model.
+   * The value of the grid point is given by {@link #gridValue(long)},
+   * so that <code>gridValue(gridIndex(val)) == makePrecise(val)</code>.
+   * This allows values to be stored compactly as integers.
+   * <p>
+   * The value must not be NaN.
+   *
+   * @param val the value to round
+   * @return the index of the nearest grid point
+   * @throws IllegalStateException if the precision model is not fixed
+   */
+  public long gridIndex(double val)
+  {
+    checkFixed();
+    if (gridSize > 0) {
+      return Math.round(val / gridSize);
+    }
+    return Math.round(val * scale);
+  }
+
+  /**
+   * Computes the value of a grid point of a fixed precision model.
+   *
+   * @param index the index of the grid point
+   * @return the value of the grid point
+   * @throws IllegalStateException if the precision model is not fixed
+   * @see #gridIndex(double)
+   */
+  public double gridValue(long index)
+  {
+    checkFixed();
+    if (gridSize > 0) {
+      return index * gridSize;
+    }
+    return index / scale;
+  }
+
+  private void checkFixed()
+  {
+    if (modelType != FIXED)
+      throw new IllegalStateException("Precision model is not fixed");
+  }
+
   /**
    * Rounds a Coordinate to the PrecisionModel grid.
    */
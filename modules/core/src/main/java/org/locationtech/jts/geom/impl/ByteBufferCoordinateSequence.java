@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.impl;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.nio.DoubleBuffer;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequences;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * A {@link CoordinateSequence} whose ordinates are stored in a {@link DoubleBuffer},
+ * which is usually a view of a direct or memory-mapped
+ * {@link java.nio.ByteBuffer}.
+ * The ordinates are packed in the same layout as {@link PackedCoordinateSequence.Double},
+ * starting at an offset in the buffer.
+ * Many sequences can share a single buffer.
+ * <p>
+ * Sequences are created by a {@link ByteBufferCoordinateSequenceFactory}.
+ * {@link Coordinate}s returned by the accessors are copies of the stored values;
+ * to change the values use {@link #setOrdinate(int, int, double)}.
+ * <p>
+ * Sequences are serialized as a {@link PackedCoordinateSequence.Double}.
+ *
+ * @author Martin Davis
+ *
+ * @see ByteBufferCoordinateSequenceFactory
+ */
+public class ByteBufferCoordinateSequence
+    implements CoordinateSequence, Serializable
+{
+  private static final long serialVersionUID = 3017526937108564317L;
+
+  private final transient ByteBufferCoordinateSequenceFactory factory;
+  private final transient DoubleBuffer buffer;
+  private final int offset;
+  private final int size;
+  private final int dimension;
+  private final int measures;
+
+  ByteBufferCoordinateSequence(ByteBufferCoordinateSequenceFactory factory,
+      DoubleBuffer buffer, int offset, int size, int dimension, int measures) {
+    if (dimension - measures < 2) {
+      throw new IllegalArgumentException("Must have at least 2 spatial dimensions");
+    }
+    this.factory = factory;
+    this.buffer = buffer;
+    this.offset = offset;
+    this.size = size;
+    this.dimension = dimension;
+    this.measures = measures;
+  }
+
+  /**
+   * Gets the buffer holding the ordinates of this sequence.
+   *
+   * @return the ordinate buffer
+   */
+  public DoubleBuffer getBuffer() {
+    return buffer;
+  }
+
+  /**
+   * Gets the index in the buffer of the first ordinate of this sequence.
+   * This can be recorded to recreate the sequence from the buffer
+   * using {@link ByteBufferCoordinateSequenceFactory#createView(int, int, int, int)}.
+   *
+   * @return the offset of the sequence in the buffer
+   */
+  public int getOffset() {
+    return offset;
+  }
+
+  public int getDimension() {
+    return dimension;
+  }
+
+  public int getMeasures() {
+    return measures;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public Coordinate getCoordinate(int i) {
+    return getCoordinateCopy(i);
+  }
+
+  public Coordinate getCoordinateCopy(int i) {
+    Coordinate coord = createCoordinate();
+    getCoordinate(i, coord);
+    return coord;
+  }
+
+  public void getCoordinate(int i, Coordinate coord) {
+    int base = offset + i * dimension;
+    coord.x = buffer.get(base);
+    coord.y = buffer.get(base + 1);
+    if (hasZ()) {
+      coord.setZ(buffer.get(base + 2));
+    }
+    if (hasM()) {
+      coord.setM(buffer.get(base + dimension - measures));
+    }
+  }
+
+  public double getX(int index) {
+    return buffer.get(offset + index * dimension);
+  }
+
+  public double getY(int index) {
+    return buffer.get(offset + index * dimension + 1);
+  }
+
+  public double getOrdinate(int index, int ordinateIndex) {
+    return buffer.get(offset + index * dimension + ordinateIndex);
+  }
+
+  /**
+   * Sets an ordinate value.
+   *
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+   */
+  public void setOrdinate(int index, int ordinateIndex, double value) {
+    buffer.put(offset + index * dimension + ordinateIndex, value);
+  }
+
+  public void copyXY(int from, double[] dest, int destOffset, int count) {
+    if (dimension == 2) {
+      //-- use a duplicate to avoid changing the position of the shared buffer
+      DoubleBuffer dup = buffer.duplicate();
+      dup.position(offset + 2 * from);
+      dup.get(dest, destOffset, 2 * count);
+      return;
+    }
+    int j = destOffset;
+    int end = offset + (from + count) * dimension;
+    for (int i = offset + from * dimension; i < end; i += dimension) {
+      dest[j++] = buffer.get(i);
+      dest[j++] = buffer.get(i + 1);
+    }
+  }
+
+  public Coordinate[] toCoordinateArray() {
+    Coordinate[] coords = new Coordinate[size];
+    for (int i = 0; i < size; i++) {
+      coords[i] = getCoordinateCopy(i);
+    }
+    return coords;
+  }
+
+  public Envelope expandEnvelope(Envelope env) {
+    int end = offset + size * dimension;
+    for (int i = offset; i < end; i += dimension) {
+      env.expandToInclude(buffer.get(i), buffer.get(i + 1));
+    }
+    return env;
+  }
+
+  /**
+   * @deprecated
+   */
+  public Object clone() {
+    return copy();
+  }
+
+  /**
+   * Creates a copy of this sequence in the buffer of the factory which created it.
+   *
+   * @return a copy of the sequence
+   */
+  public ByteBufferCoordinateSequence copy() {
+    return factory.create(this);
+  }
+
+  public String toString() {
+    return CoordinateSequences.toString(this);
+  }
+
+  private Object writeReplace() throws ObjectStreamException {
+    double[] ords = new double[size * dimension];
+    DoubleBuffer dup = buffer.duplicate();
+    dup.position(offset);
+    dup.get(ords);
+    return new PackedCoordinateSequence.Double(ords, dimension, measures);
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.impl;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.Coordinates;
+
+/**
+ * Builds {@link ByteBufferCoordinateSequence}s,
+ * which store their ordinates outside the Java heap.
+ * Sequences are allocated consecutively from a shared arena buffer,
+ * so that many geometries occupy a single large block of memory
+ * and do not create {@link Coordinate} objects.
+ * When the arena is full a new direct buffer is allocated
+ * (of the chunk size given when the factory is created).
+ * The memory of a buffer is released when
+ * all sequences allocated from it are garbage-collected.
+ * <p>
+ * The arena can be provided by the caller,
+ * for instance as a {@link java.nio.MappedByteBuffer} for a file.
+ * Sequences stored in the buffer can then be accessed without copying
+ * by using {@link #createView(int, int, int, int)},
+ * and a mapped buffer can be shared between processes.
+ * The offset of a sequence in the buffer is given by
+ * {@link ByteBufferCoordinateSequence#getOffset()}.
+ * <p>
+ * Sequence allocation is thread-safe.
+ * <p>
+ * The factory is serialized as a {@link PackedCoordinateSequenceFactory},
+ * matching the serialized form of the sequences.
+ *
+ * @author Martin Davis
+ *
+ * @see ByteBufferCoordinateSequence
+ */
+public class ByteBufferCoordinateSequenceFactory
+    implements CoordinateSequenceFactory, Serializable
+{
+  private static final long serialVersionUID = -6253012846391234519L;
+
+  /**
+   * The default number of ordinates in each allocated buffer.
+   */
+  public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+  private static final int DEFAULT_MEASURES = 0;
+
+  private static final int DEFAULT_DIMENSION = 3;
+
+  private final int chunkSize;
+  private final transient DoubleBuffer viewBuffer;
+  private transient DoubleBuffer arena = null;
+  private int arenaPos = 0;
+
+  /**
+   * Creates a factory which allocates direct buffers of the default chunk size.
+   */
+  public ByteBufferCoordinateSequenceFactory() {
+    this(DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Creates a factory which allocates direct buffers of a given size.
+   *
+   * @param chunkSize the number of ordinates in each allocated buffer
+   */
+  public ByteBufferCoordinateSequenceFactory(int chunkSize) {
+    this.chunkSize = chunkSize;
+    this.viewBuffer = null;
+  }
+
+  /**
+   * Creates a factory using a given buffer as the arena.
+   * The ordinates are accessed in the byte order of the buffer.
+   * Index 0 in the arena is the first byte of the buffer.
+   * New sequences are allocated starting at the current position of the buffer,
+   * and further direct buffers of the default chunk size are allocated
+   * when the buffer is full.
+   * If the buffer is read-only, all new sequences are allocated in direct buffers.
+   * The position of the buffer is not changed.
+   *
+   * @param buffer the buffer to use as the arena
+   */
+  public ByteBufferCoordinateSequenceFactory(ByteBuffer buffer) {
+    this.chunkSize = DEFAULT_CHUNK_SIZE;
+    ByteBuffer dup = buffer.duplicate();
+    dup.order(buffer.order());
+    dup.position(0);
+    viewBuffer = dup.asDoubleBuffer();
+    arena = viewBuffer.isReadOnly() ? null : viewBuffer;
+    arenaPos = (buffer.position() + Double.BYTES - 1) / Double.BYTES;
+  }
+
+  /**
+   * Creates a sequence which is a view of ordinates already stored in the arena,
+   * without copying them.
+   * This allows reading geometries from a buffer created by a factory
+   * with {@link #ByteBufferCoordinateSequenceFactory(ByteBuffer)}.
+   *
+   * @param offset the index in the buffer of the first ordinate
+   * @param size the number of coordinates in the sequence
+   * @param dimension the dimension of the coordinates
+   * @param measures the number of measures of the coordinates
+   * @return a sequence viewing the stored ordinates
+   * @throws IllegalStateException if the factory was not created with a buffer
+   * @throws IndexOutOfBoundsException if the sequence does not fit in the buffer
+   */
+  public ByteBufferCoordinateSequence createView(int offset, int size, int dimension, int measures) {
+    if (viewBuffer == null)
+      throw new IllegalStateException("Factory has no arena buffer");
+    if (offset < 0 || offset + size * dimension > viewBuffer.limit())
+      throw new IndexOutOfBoundsException("Sequence does not fit in arena");
+    return new ByteBufferCoordinateSequence(this, viewBuffer, offset, size, dimension, measures);
+  }
+
+  /**
+   * @see CoordinateSequenceFactory#create(Coordinate[])
+   */
+  public ByteBufferCoordinateSequence create(Coordinate[] coordinates) {
+    int dimension = DEFAULT_DIMENSION;
+    int measures = DEFAULT_MEASURES;
+    if (coordinates == null)
+      coordinates = new Coordinate[0];
+    if (coordinates.length > 0 && coordinates[0] != null) {
+      Coordinate first = coordinates[0];
+      dimension = Coordinates.dimension(first);
+      measures = Coordinates.measures(first);
+    }
+    ByteBufferCoordinateSequence seq = create(coordinates.length, dimension, measures);
+    for (int i = 0; i < coordinates.length; i++) {
+      seq.setOrdinate(i, 0, coordinates[i].x);
+      seq.setOrdinate(i, 1, coordinates[i].y);
+      if (dimension >= 3)
+        seq.setOrdinate(i, 2, coordinates[i].getOrdinate(2)); // Z or M
+      if (dimension >= 4)
+        seq.setOrdinate(i, 3, coordinates[i].getOrdinate(3)); // M
+    }
+    return seq;
+  }
+
+  /**
+   * @see CoordinateSequenceFactory#create(CoordinateSequence)
+   */
+  public ByteBufferCoordinateSequence create(CoordinateSequence coordSeq) {
+    if (coordSeq == null)
+      return create(0, DEFAULT_DIMENSION, DEFAULT_MEASURES);
+    int size = coordSeq.size();
+    int dimension = coordSeq.getDimension();
+    ByteBufferCoordinateSequence seq = create(size, dimension, coordSeq.getMeasures());
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < dimension; j++) {
+        seq.setOrdinate(i, j, coordSeq.getOrdinate(i, j));
+      }
+    }
+    return seq;
+  }
+
+  /**
+   * @see CoordinateSequenceFactory#create(int, int)
+   */
+  public ByteBufferCoordinateSequence create(int size, int dimension) {
+    return create(size, dimension, Math.max(DEFAULT_MEASURES, dimension - 3));
+  }
+
+  /**
+   * @see CoordinateSequenceFactory#create(int, int, int)
+   */
+  public synchronized ByteBufferCoordinateSequence create(int size, int dimension, int measures) {
+    int len = size * dimension;
+    if (arena == null || arenaPos + len > arena.limit()) {
+      arena = allocate(Math.max(chunkSize, len));
+      arenaPos = 0;
+    }
+    ByteBufferCoordinateSequence seq = new ByteBufferCoordinateSequence(this, arena, arenaPos, size, dimension, measures);
+    arenaPos += len;
+    return seq;
+  }
+
+  private Object writeReplace() throws ObjectStreamException {
+    return new PackedCoordinateSequenceFactory(PackedCoordinateSequenceFactory.DOUBLE);
+  }
+
+  private static DoubleBuffer allocate(int numOrdinates) {
+    return ByteBuffer.allocateDirect(numOrdinates * Double.BYTES)
+        .order(ByteOrder.nativeOrder())
+        .asDoubleBuffer();
+  }
+}
@@ -319,6 +319,19 @@ public class CoordinateArraySequence
     return coordinates;
   }
 
+  /**
+   * @see org.locationtech.jts.geom.CoordinateSequence#copyXY(int, double[], int, int)
+   */
+  public void copyXY(int from, double[] dest, int destOffset, int count)
+  {
+    int j = destOffset;
+    for (int i = from; i < from + count; i++) {
+      Coordinate p = coordinates[i];
+      dest[j++] = p.x;
+      dest[j++] = p.y;
+    }
+  }
+
   public Envelope expandEnvelope(Envelope env)
   {
     for (int i = 0; i < coordinates.length; i++ ) {
@@ -366,6 +366,31 @@ public abstract class PackedCoordinateSequence
       return coords;
     }
     
+    /**
+     * @see CoordinateSequence#getOrdinateArray()
+     */
+    public double[] getOrdinateArray()
+    {
+      return coords;
+    }
+
+    /**
+     * @see CoordinateSequence#copyXY(int, double[], int, int)
+     */
+    public void copyXY(int from, double[] dest, int destOffset, int count)
+    {
+      if (dimension == 2) {
+        System.arraycopy(coords, 2 * from, dest, destOffset, 2 * count);
+        return;
+      }
+      int j = destOffset;
+      int end = (from + count) * dimension;
+      for (int i = from * dimension; i < end; i += dimension) {
+        dest[j++] = coords[i];
+        dest[j++] = coords[i + 1];
+      }
+    }
+    
     /**
      * @see CoordinateSequence#size()
      */
@@ -546,6 +571,19 @@ public abstract class PackedCoordinateSequence
       return coords;
     }
     
+    /**
+     * @see CoordinateSequence#copyXY(int, double[], int, int)
+     */
+    public void copyXY(int from, double[] dest, int destOffset, int count)
+    {
+      int j = destOffset;
+      int end = (from + count) * dimension;
+      for (int i = from * dimension; i < end; i += dimension) {
+        dest[j++] = coords[i];
+        dest[j++] = coords[i + 1];
+      }
+    }
+    
     /**
      * @see CoordinateSequence#size()
      */
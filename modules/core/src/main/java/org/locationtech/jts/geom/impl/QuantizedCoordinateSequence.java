@@ -0,0 +1,480 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.impl;
+
+import java.io.Serializable;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequences;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.PrecisionModel;
+
+/**
+ * A {@link CoordinateSequence} which stores the X and Y ordinates
+ * as integer indexes of the grid of a fixed {@link PrecisionModel}.
+ * The indexes are delta-encoded as variable-length integers,
+ * which for typical data uses 2 to 6 bytes per coordinate
+ * instead of 16 bytes for a packed sequence
+ * and 40 or more bytes for a {@link Coordinate}.
+ * Ordinates are decoded on access,
+ * and are equal to the values rounded by {@link PrecisionModel#makePrecise(double)}.
+ * Z and M ordinates are stored without compression.
+ * <p>
+ * To provide fast random access the coordinates are encoded
+ * in blocks of 16, each starting with an absolute value.
+ * Bulk access using {@link #copyXY(int, double[], int, int)}
+ * or {@link #expandEnvelope(Envelope)} decodes the coordinates in a single pass.
+ * <p>
+ * Setting an X or Y ordinate rounds the value to the grid,
+ * and decodes the sequence so that further changes are efficient.
+ * {@link #copy()} creates a compressed sequence.
+ * <p>
+ * Sequences are created by a {@link QuantizedCoordinateSequenceFactory}.
+ *
+ * @author Martin Davis
+ *
+ * @see QuantizedCoordinateSequenceFactory
+ */
+public class QuantizedCoordinateSequence
+    implements CoordinateSequence, Serializable
+{
+  private static final long serialVersionUID = -1785734502377268113L;
+
+  private static final int BLOCK_SHIFT = 4;
+  private static final int BLOCK_MASK = (1 << BLOCK_SHIFT) - 1;
+
+  /**
+   * The grid index representing NaN.
+   */
+  private static final long NAN_INDEX = Long.MIN_VALUE;
+
+  private final PrecisionModel precisionModel;
+  private final int size;
+  private final int dimension;
+  private final int measures;
+
+  /**
+   * The encoded grid indexes, or null if the sequence is decoded
+   */
+  private byte[] data;
+  /**
+   * The index in the data of the start of each block
+   */
+  private int[] blockStart;
+  /**
+   * The X and Y ordinates, if the sequence is decoded
+   */
+  private double[] xy;
+  /**
+   * The ordinates after X and Y, or null if the dimension is 2
+   */
+  private final double[] extra;
+
+  /**
+   * Creates a compressed sequence containing the coordinates of a sequence.
+   *
+   * @param precisionModel the fixed precision model to use
+   * @param seq the sequence to copy
+   */
+  QuantizedCoordinateSequence(PrecisionModel precisionModel, CoordinateSequence seq) {
+    this(precisionModel, seq.size(), seq.getDimension(), seq.getMeasures());
+    int numExtra = dimension - 2;
+    if (numExtra > 0) {
+      for (int i = 0; i < size; i++) {
+        for (int j = 0; j < numExtra; j++) {
+          extra[i * numExtra + j] = seq.getOrdinate(i, j + 2);
+        }
+      }
+    }
+    encode(seq);
+  }
+
+  /**
+   * Creates a decoded sequence with all ordinates set to 0.
+   *
+   * @param precisionModel the fixed precision model to use
+   * @param size the number of coordinates
+   * @param dimension the dimension of the coordinates
+   * @param measures the number of measures of the coordinates
+   */
+  QuantizedCoordinateSequence(PrecisionModel precisionModel, int size, int dimension, int measures) {
+    if (dimension - measures < 2) {
+      throw new IllegalArgumentException("Must have at least 2 spatial dimensions");
+    }
+    this.precisionModel = precisionModel;
+    this.size = size;
+    this.dimension = dimension;
+    this.measures = measures;
+    this.xy = new double[2 * size];
+    this.extra = dimension > 2 ? new double[size * (dimension - 2)] : null;
+  }
+
+  /**
+   * Gets the precision model defining the grid of the ordinates.
+   *
+   * @return the precision model
+   */
+  public PrecisionModel getPrecisionModel() {
+    return precisionModel;
+  }
+
+  /**
+   * Tests whether the X and Y ordinates are stored in compressed form.
+   *
+   * @return true if the sequence is compressed
+   */
+  public boolean isCompressed() {
+    return data != null;
+  }
+
+  /**
+   * Gets the number of bytes used to store the X and Y ordinates.
+   *
+   * @return the storage size in bytes
+   */
+  public int getStorageSize() {
+    if (data == null)
+      return xy.length * Double.BYTES;
+    return data.length + blockStart.length * Integer.BYTES;
+  }
+
+  public int getDimension() {
+    return dimension;
+  }
+
+  public int getMeasures() {
+    return measures;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public Coordinate getCoordinate(int i) {
+    return getCoordinateCopy(i);
+  }
+
+  public Coordinate getCoordinateCopy(int i) {
+    Coordinate coord = createCoordinate();
+    getCoordinate(i, coord);
+    return coord;
+  }
+
+  public void getCoordinate(int i, Coordinate coord) {
+    if (data == null) {
+      coord.x = xy[2 * i];
+      coord.y = xy[2 * i + 1];
+    }
+    else {
+      decodeXY(i, coord);
+    }
+    if (hasZ()) {
+      coord.setZ(getOrdinate(i, 2));
+    }
+    if (hasM()) {
+      coord.setM(getOrdinate(i, dimension - measures));
+    }
+  }
+
+  public double getX(int index) {
+    return getOrdinate(index, X);
+  }
+
+  public double getY(int index) {
+    return getOrdinate(index, Y);
+  }
+
+  public double getOrdinate(int index, int ordinateIndex) {
+    if (ordinateIndex >= 2)
+      return extra[index * (dimension - 2) + ordinateIndex - 2];
+    if (data == null)
+      return xy[2 * index + ordinateIndex];
+    return toValue(decode(index, ordinateIndex));
+  }
+
+  /**
+   * Sets an ordinate value.
+   * X and Y values are rounded to the grid of the precision model.
+   * If the sequence is compressed it is decoded.
+   */
+  public void setOrdinate(int index, int ordinateIndex, double value) {
+    if (ordinateIndex >= 2) {
+      extra[index * (dimension - 2) + ordinateIndex - 2] = value;
+      return;
+    }
+    if (data != null) {
+      decodeAll();
+    }
+    xy[2 * index + ordinateIndex] = precisionModel.makePrecise(value);
+  }
+
+  public void copyXY(int from, double[] dest, int destOffset, int count) {
+    if (data == null) {
+      System.arraycopy(xy, 2 * from, dest, destOffset, 2 * count);
+      return;
+    }
+    if (count <= 0)
+      return;
+    int i = from & ~BLOCK_MASK;
+    int pos = blockStart[i >> BLOCK_SHIFT];
+    int end = from + count;
+    int j = destOffset;
+    long x = 0;
+    long y = 0;
+    for (; i < end; i++) {
+      if ((i & BLOCK_MASK) == 0) {
+        x = 0;
+        y = 0;
+      }
+      //-- inline variable-length decoding of X and Y
+      long v = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = data[pos++];
+        v |= (long) (b & 0x7f) << shift;
+        shift += 7;
+      } while (b < 0);
+      x += (v >>> 1) ^ -(v & 1);
+      v = 0;
+      shift = 0;
+      do {
+        b = data[pos++];
+        v |= (long) (b & 0x7f) << shift;
+        shift += 7;
+      } while (b < 0);
+      y += (v >>> 1) ^ -(v & 1);
+      if (i >= from) {
+        dest[j++] = toValue(x);
+        dest[j++] = toValue(y);
+      }
+    }
+  }
+
+  public Coordinate[] toCoordinateArray() {
+    Coordinate[] coords = new Coordinate[size];
+    double[] ords = new double[2 * size];
+    copyXY(0, ords, 0, size);
+    for (int i = 0; i < size; i++) {
+      Coordinate coord = createCoordinate();
+      coord.x = ords[2 * i];
+      coord.y = ords[2 * i + 1];
+      if (hasZ()) {
+        coord.setZ(getOrdinate(i, 2));
+      }
+      if (hasM()) {
+        coord.setM(getOrdinate(i, dimension - measures));
+      }
+      coords[i] = coord;
+    }
+    return coords;
+  }
+
+  public Envelope expandEnvelope(Envelope env) {
+    if (data == null) {
+      for (int i = 0; i < xy.length; i += 2) {
+        env.expandToInclude(xy[i], xy[i + 1]);
+      }
+      return env;
+    }
+    //-- the value of a grid index is monotonic, so the extent of the indexes can be used
+    long minX = Long.MAX_VALUE;
+    long maxX = Long.MIN_VALUE;
+    long minY = Long.MAX_VALUE;
+    long maxY = Long.MIN_VALUE;
+    boolean isEmpty = true;
+    int pos = 0;
+    long x = 0;
+    long y = 0;
+    for (int i = 0; i < size; i++) {
+      if ((i & BLOCK_MASK) == 0) {
+        x = 0;
+        y = 0;
+      }
+      long v = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = data[pos++];
+        v |= (long) (b & 0x7f) << shift;
+        shift += 7;
+      } while (b < 0);
+      x += (v >>> 1) ^ -(v & 1);
+      v = 0;
+      shift = 0;
+      do {
+        b = data[pos++];
+        v |= (long) (b & 0x7f) << shift;
+        shift += 7;
+      } while (b < 0);
+      y += (v >>> 1) ^ -(v & 1);
+      //-- match Envelope, which ignores coordinates with a NaN ordinate
+      if (x == NAN_INDEX || y == NAN_INDEX)
+        continue;
+      isEmpty = false;
+      if (x < minX) minX = x;
+      if (x > maxX) maxX = x;
+      if (y < minY) minY = y;
+      if (y > maxY) maxY = y;
+    }
+    if (! isEmpty) {
+      env.expandToInclude(toValue(minX), toValue(minY));
+      env.expandToInclude(toValue(maxX), toValue(maxY));
+    }
+    return env;
+  }
+
+  /**
+   * @deprecated
+   */
+  public Object clone() {
+    return copy();
+  }
+
+  /**
+   * Creates a compressed copy of this sequence.
+   *
+   * @return a copy of the sequence
+   */
+  public QuantizedCoordinateSequence copy() {
+    return new QuantizedCoordinateSequence(precisionModel, this);
+  }
+
+  public String toString() {
+    return CoordinateSequences.toString(this);
+  }
+
+  private double toValue(long index) {
+    if (index == NAN_INDEX)
+      return Double.NaN;
+    return precisionModel.gridValue(index);
+  }
+
+  private long toIndex(double value) {
+    if (Double.isNaN(value))
+      return NAN_INDEX;
+    return precisionModel.gridIndex(value);
+  }
+
+  /**
+   * Decodes the grid index of an ordinate,
+   * by summing the deltas from the start of its block.
+   */
+  private long decode(int index, int ordinateIndex) {
+    int pos = blockStart[index >> BLOCK_SHIFT];
+    int numOrds = 2 * (index & BLOCK_MASK) + ordinateIndex + 1;
+    long q = 0;
+    for (int k = 0; k < numOrds; k++) {
+      long v = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = data[pos++];
+        v |= (long) (b & 0x7f) << shift;
+        shift += 7;
+      } while (b < 0);
+      //-- only deltas of the required ordinate are summed
+      if ((k & 1) == ordinateIndex) {
+        q += (v >>> 1) ^ -(v & 1);
+      }
+    }
+    return q;
+  }
+
+  /**
+   * Decodes both ordinates of a coordinate in a single pass.
+   */
+  private void decodeXY(int index, Coordinate coord) {
+    int pos = blockStart[index >> BLOCK_SHIFT];
+    int numOrds = 2 * (index & BLOCK_MASK) + 2;
+    long x = 0;
+    long y = 0;
+    for (int k = 0; k < numOrds; k++) {
+      long v = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = data[pos++];
+        v |= (long) (b & 0x7f) << shift;
+        shift += 7;
+      } while (b < 0);
+      long delta = (v >>> 1) ^ -(v & 1);
+      if ((k & 1) == 0)
+        x += delta;
+      else
+        y += delta;
+    }
+    coord.x = toValue(x);
+    coord.y = toValue(y);
+  }
+
+  private void decodeAll() {
+    double[] ords = new double[2 * size];
+    copyXY(0, ords, 0, size);
+    xy = ords;
+    data = null;
+    blockStart = null;
+  }
+
+  private void encode(CoordinateSequence seq) {
+    //-- most deltas fit in 2 bytes
+    byte[] buf = new byte[Math.max(16, 4 * size)];
+    int[] starts = new int[(size + BLOCK_MASK) >> BLOCK_SHIFT];
+    //-- read the ordinates a block at a time, to use bulk access
+    double[] blockXY = new double[2 << BLOCK_SHIFT];
+    int pos = 0;
+    long prevX = 0;
+    long prevY = 0;
+    for (int i = 0; i < size; i++) {
+      if ((i & BLOCK_MASK) == 0) {
+        starts[i >> BLOCK_SHIFT] = pos;
+        prevX = 0;
+        prevY = 0;
+        seq.copyXY(i, blockXY, 0, Math.min(BLOCK_MASK + 1, size - i));
+      }
+      //-- ensure space for two maximum-length values
+      if (pos + 20 > buf.length) {
+        byte[] newBuf = new byte[2 * buf.length];
+        System.arraycopy(buf, 0, newBuf, 0, pos);
+        buf = newBuf;
+      }
+      int k = 2 * (i & BLOCK_MASK);
+      long x = toIndex(blockXY[k]);
+      long y = toIndex(blockXY[k + 1]);
+      pos = writeDelta(x - prevX, buf, pos);
+      pos = writeDelta(y - prevY, buf, pos);
+      prevX = x;
+      prevY = y;
+    }
+    byte[] encoded = new byte[pos];
+    System.arraycopy(buf, 0, encoded, 0, pos);
+    data = encoded;
+    blockStart = starts;
+    xy = null;
+  }
+
+  /**
+   * Writes a delta as a zig-zag encoded variable-length integer.
+   * Deltas which overflow are decoded correctly,
+   * since the arithmetic wraps around.
+   */
+  private static int writeDelta(long delta, byte[] buf, int pos) {
+    long v = (delta << 1) ^ (delta >> 63);
+    while ((v & ~0x7fL) != 0) {
+      buf[pos++] = (byte) ((v & 0x7f) | 0x80);
+      v >>>= 7;
+    }
+    buf[pos++] = (byte) v;
+    return pos;
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.impl;
+
+import java.io.Serializable;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.Coordinates;
+import org.locationtech.jts.geom.PrecisionModel;
+
+/**
+ * Builds {@link QuantizedCoordinateSequence}s,
+ * which store X and Y ordinates compactly as integer indexes
+ * of the grid of a fixed {@link PrecisionModel}.
+ * This is intended for use with a {@link org.locationtech.jts.geom.GeometryFactory}
+ * having the same precision model,
+ * so that the coordinates of geometries are already on the grid.
+ * <p>
+ * Sequences created from coordinates are compressed.
+ * Sequences created with a given size are uncompressed,
+ * since they are usually populated by setting ordinates.
+ * They can be compressed by using {@link QuantizedCoordinateSequence#copy()}.
+ *
+ * @author Martin Davis
+ *
+ * @see QuantizedCoordinateSequence
+ */
+public class QuantizedCoordinateSequenceFactory
+    implements CoordinateSequenceFactory, Serializable
+{
+  private static final long serialVersionUID = 6204723018563212870L;
+
+  private static final int DEFAULT_MEASURES = 0;
+
+  private static final int DEFAULT_DIMENSION = 3;
+
+  private final PrecisionModel precisionModel;
+
+  /**
+   * Creates a factory for a fixed precision model.
+   *
+   * @param precisionModel the fixed precision model defining the grid
+   * @throws IllegalArgumentException if the precision model is not fixed
+   */
+  public QuantizedCoordinateSequenceFactory(PrecisionModel precisionModel) {
+    if (precisionModel.getType() != PrecisionModel.FIXED)
+      throw new IllegalArgumentException("Precision model must be fixed");
+    this.precisionModel = precisionModel;
+  }
+
+  /**
+   * Gets the precision model defining the grid of the ordinates.
+   *
+   * @return the precision model
+   */
+  public PrecisionModel getPrecisionModel() {
+    return precisionModel;
+  }
+
+  /**
+   * @see CoordinateSequenceFactory#create(Coordinate[])
+   */
+  public QuantizedCoordinateSequence create(Coordinate[] coordinates) {
+    int dimension = DEFAULT_DIMENSION;
+    int measures = DEFAULT_MEASURES;
+    if (coordinates == null)
+      coordinates = new Coordinate[0];
+    if (coordinates.length > 0 && coordinates[0] != null) {
+      Coordinate first = coordinates[0];
+      dimension = Coordinates.dimension(first);
+      measures = Coordinates.measures(first);
+    }
+    return new QuantizedCoordinateSequence(precisionModel,
+        new CoordinateArraySequence(coordinates, dimension, measures));
+  }
+
+  /**
+   * @see CoordinateSequenceFactory#create(CoordinateSequence)
+   */
+  public QuantizedCoordinateSequence create(CoordinateSequence coordSeq) {
+    if (coordSeq == null)
+      return create(0, DEFAULT_DIMENSION, DEFAULT_MEASURES);
+    return new QuantizedCoordinateSequence(precisionModel, coordSeq);
+  }
+
+  /**
+   * @see CoordinateSequenceFactory#create(int, int)
+   */
+  public QuantizedCoordinateSequence create(int size, int dimension) {
+    return create(size, dimension, Math.max(DEFAULT_MEASURES, dimension - 3));
+  }
+
+  /**
+   * @see CoordinateSequenceFactory#create(int, int, int)
+   */
+  public QuantizedCoordinateSequence create(int size, int dimension, int measures) {
+    return new QuantizedCoordinateSequence(precisionModel, size, dimension, measures);
+  }
+}
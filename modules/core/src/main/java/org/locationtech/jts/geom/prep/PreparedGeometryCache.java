@@ -0,0 +1,431 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.prep;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.distance.IndexedFacetDistance;
+import org.locationtech.jts.operation.relateng.RelateNG;
+
+/**
+ * A bounded cache of prepared and indexed artifacts for geometries
+ * which are used repeatedly as the target of spatial operations.
+ * The artifacts which can be cached are:
+ * <ul>
+ * <li>{@link PreparedGeometry} (via {@link PreparedGeometryFactory})
+ * <li>{@link IndexedFacetDistance}
+ * <li>{@link IndexedPointInAreaLocator}
+ * <li>{@link RelateNG} in prepared mode
+ * </ul>
+ * Entries are keyed by geometry <b>identity</b>
+ * (not by {@link Geometry#equals(Object)}),
+ * since geometries may be mutated and
+ * computing value equality is expensive.
+ * A geometry must not be modified while it has an entry in the cache
+ * (or it must be removed via {@link #remove(Geometry)} after modification).
+ * <p>
+ * The cache is bounded both by the number of entries
+ * and by the total weight of the entries,
+ * where the weight of an entry is the number of vertices of its geometry.
+ * When either bound is exceeded the least-recently used entries are evicted.
+ * An entry whose weight alone exceeds the weight bound is not retained.
+ * <p>
+ * Optionally geometry keys can be held by weak references.
+ * Since every artifact references its source geometry,
+ * in this mode artifacts are held by soft references
+ * (otherwise the artifacts would keep the keys reachable).
+ * Entries are purged once their geometry has been garbage-collected.
+ * <p>
+ * Statistics for hits, misses and evictions are maintained
+ * to allow the cache bounds to be tuned.
+ * A request for an artifact is a <i>hit</i> if the artifact is already present,
+ * and a <i>miss</i> if it has to be created.
+ * <p>
+ * Instances of this class are thread-safe.
+ * Artifacts are created at most once per entry,
+ * and creation of artifacts for different geometries proceeds concurrently.
+ * Returned artifacts may be shared between threads,
+ * so they should only be used concurrently if their class supports this
+ * ({@link RelateNG} instances are not thread-safe).
+ *
+ * @author Martin Davis
+ *
+ */
+public class PreparedGeometryCache
+{
+  /**
+   * The default maximum number of entries in a cache.
+   */
+  public static final int DEFAULT_MAX_SIZE = 1000;
+
+  private static final int PREPARED = 0;
+  private static final int FACET_DISTANCE = 1;
+  private static final int POINT_IN_AREA = 2;
+  private static final int RELATE = 3;
+  private static final int NUM_ARTIFACTS = 4;
+
+  private final int maxSize;
+  private final long maxWeight;
+  private final boolean isWeakKeys;
+  private final ReferenceQueue<Geometry> keyQueue = new ReferenceQueue<Geometry>();
+  private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true);
+  private long weight = 0;
+  private long hitCount = 0;
+  private long missCount = 0;
+  private long evictionCount = 0;
+
+  /**
+   * Creates a cache with the default maximum size
+   * and no weight bound.
+   */
+  public PreparedGeometryCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * Creates a cache with a given maximum size
+   * and no weight bound.
+   *
+   * @param maxSize the maximum number of entries
+   */
+  public PreparedGeometryCache(int maxSize) {
+    this(maxSize, Long.MAX_VALUE, false);
+  }
+
+  /**
+   * Creates a cache with a given maximum size and maximum weight.
+   *
+   * @param maxSize the maximum number of entries
+   * @param maxWeight the maximum total number of vertices of the cached geometries
+   * @param isWeakKeys true if geometries should be weakly referenced
+   */
+  public PreparedGeometryCache(int maxSize, long maxWeight, boolean isWeakKeys) {
+    if (maxSize <= 0)
+      throw new IllegalArgumentException("Maximum size must be positive");
+    if (maxWeight <= 0)
+      throw new IllegalArgumentException("Maximum weight must be positive");
+    this.maxSize = maxSize;
+    this.maxWeight = maxWeight;
+    this.isWeakKeys = isWeakKeys;
+  }
+
+  /**
+   * Gets a shared {@link PreparedGeometry} for a geometry.
+   *
+   * @param geom the geometry
+   * @return the prepared geometry
+   */
+  public PreparedGeometry getPrepared(Geometry geom) {
+    return (PreparedGeometry) getArtifact(geom, PREPARED);
+  }
+
+  /**
+   * Gets a shared {@link IndexedFacetDistance} for a geometry.
+   *
+   * @param geom the geometry
+   * @return the indexed facet distance
+   */
+  public IndexedFacetDistance getFacetDistance(Geometry geom) {
+    return (IndexedFacetDistance) getArtifact(geom, FACET_DISTANCE);
+  }
+
+  /**
+   * Gets a shared {@link IndexedPointInAreaLocator} for a geometry.
+   *
+   * @param geom the geometry
+   * @return the point-in-area locator
+   */
+  public IndexedPointInAreaLocator getPointInAreaLocator(Geometry geom) {
+    return (IndexedPointInAreaLocator) getArtifact(geom, POINT_IN_AREA);
+  }
+
+  /**
+   * Gets a shared prepared {@link RelateNG} for a geometry.
+   * RelateNG is not thread-safe, so the returned instance
+   * must not be used concurrently.
+   *
+   * @param geom the geometry
+   * @return the prepared RelateNG
+   */
+  public RelateNG getRelate(Geometry geom) {
+    return (RelateNG) getArtifact(geom, RELATE);
+  }
+
+  /**
+   * Removes the entry for a geometry, if present.
+   * Removal is not counted as an eviction.
+   *
+   * @param geom the geometry
+   * @return true if an entry was removed
+   */
+  public synchronized boolean remove(Geometry geom) {
+    Entry entry = entries.remove(new Key(geom));
+    if (entry == null) return false;
+    weight -= entry.weight;
+    return true;
+  }
+
+  /**
+   * Removes all entries from the cache.
+   * The statistics are not reset.
+   */
+  public synchronized void clear() {
+    entries.clear();
+    weight = 0;
+  }
+
+  /**
+   * Gets the number of entries in the cache.
+   *
+   * @return the number of entries
+   */
+  public synchronized int size() {
+    purge();
+    return entries.size();
+  }
+
+  /**
+   * Gets the total weight (number of vertices) of the cached geometries.
+   *
+   * @return the total weight
+   */
+  public synchronized long getWeight() {
+    purge();
+    return weight;
+  }
+
+  /**
+   * Gets the number of artifact requests which were satisfied from the cache.
+   *
+   * @return the number of hits
+   */
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Gets the number of artifact requests which required an artifact to be created.
+   *
+   * @return the number of misses
+   */
+  public synchronized long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Gets the number of entries evicted to satisfy the cache bounds.
+   *
+   * @return the number of evictions
+   */
+  public synchronized long getEvictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * Gets the ratio of hits to total requests.
+   *
+   * @return the hit rate, or 0 if there have been no requests
+   */
+  public synchronized double getHitRate() {
+    long total = hitCount + missCount;
+    if (total == 0) return 0;
+    return hitCount / (double) total;
+  }
+
+  /**
+   * Resets the hit, miss and eviction counts.
+   */
+  public synchronized void resetStatistics() {
+    hitCount = 0;
+    missCount = 0;
+    evictionCount = 0;
+  }
+
+  public String toString() {
+    synchronized (this) {
+      return "PreparedGeometryCache[size=" + entries.size()
+        + ", weight=" + weight
+        + ", hits=" + hitCount
+        + ", misses=" + missCount
+        + ", evictions=" + evictionCount + "]";
+    }
+  }
+
+  private Object getArtifact(Geometry geom, int type) {
+    Entry entry = getEntry(geom);
+    /**
+     * Artifacts are created while holding the entry lock only,
+     * so that slow preparation does not block access to other entries.
+     */
+    boolean isHit = true;
+    Object artifact;
+    synchronized (entry) {
+      artifact = entry.get(type);
+      if (artifact == null) {
+        isHit = false;
+        artifact = create(geom, type);
+        entry.set(type, artifact);
+      }
+    }
+    synchronized (this) {
+      if (isHit)
+        hitCount++;
+      else
+        missCount++;
+    }
+    return artifact;
+  }
+
+  private synchronized Entry getEntry(Geometry geom) {
+    purge();
+    Key lookupKey = new Key(geom);
+    Entry entry = entries.get(lookupKey);
+    if (entry != null)
+      return entry;
+
+    entry = new Entry(geom.getNumPoints());
+    //-- do not evict other entries for an entry which cannot be retained
+    if (entry.weight > maxWeight)
+      return entry;
+    Key key = isWeakKeys ? new WeakKey(geom, keyQueue) : lookupKey;
+    entries.put(key, entry);
+    weight += entry.weight;
+    evict();
+    return entry;
+  }
+
+  private void evict() {
+    Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+    while (it.hasNext() && (entries.size() > maxSize || weight > maxWeight)) {
+      Entry entry = it.next().getValue();
+      it.remove();
+      weight -= entry.weight;
+      evictionCount++;
+    }
+  }
+
+  /**
+   * Removes entries whose geometry has been garbage-collected.
+   */
+  private void purge() {
+    Reference<? extends Geometry> ref;
+    while ((ref = keyQueue.poll()) != null) {
+      Entry entry = entries.remove(((WeakKeyReference) ref).key);
+      if (entry != null)
+        weight -= entry.weight;
+    }
+  }
+
+  private static Object create(Geometry geom, int type) {
+    switch (type) {
+    case PREPARED: return PreparedGeometryFactory.prepare(geom);
+    case FACET_DISTANCE: return new IndexedFacetDistance(geom);
+    case POINT_IN_AREA: return new IndexedPointInAreaLocator(geom);
+    case RELATE: return RelateNG.prepare(geom);
+    }
+    throw new IllegalArgumentException("Unknown artifact type: " + type);
+  }
+
+  /**
+   * A key which compares geometries by identity.
+   */
+  private static class Key {
+    private final Geometry geom;
+    private final int hash;
+
+    Key(Geometry geom) {
+      this.geom = geom;
+      this.hash = System.identityHashCode(geom);
+    }
+
+    Key(int hash) {
+      this.geom = null;
+      this.hash = hash;
+    }
+
+    Geometry getGeometry() {
+      return geom;
+    }
+
+    public int hashCode() {
+      return hash;
+    }
+
+    public boolean equals(Object o) {
+      if (o == this) return true;
+      if (! (o instanceof Key)) return false;
+      Key other = (Key) o;
+      if (hash != other.hash) return false;
+      Geometry g = getGeometry();
+      return g != null && g == other.getGeometry();
+    }
+  }
+
+  /**
+   * A key which holds its geometry by a weak reference.
+   * Once the geometry is collected the key is only equal to itself,
+   * and is enqueued so that the entry can be purged.
+   */
+  private static class WeakKey extends Key {
+    private final WeakReference<Geometry> ref;
+
+    WeakKey(Geometry geom, ReferenceQueue<Geometry> queue) {
+      super(System.identityHashCode(geom));
+      ref = new WeakKeyReference(geom, queue, this);
+    }
+
+    Geometry getGeometry() {
+      return ref.get();
+    }
+  }
+
+  private static class WeakKeyReference extends WeakReference<Geometry> {
+    private final WeakKey key;
+
+    WeakKeyReference(Geometry geom, ReferenceQueue<Geometry> queue, WeakKey key) {
+      super(geom, queue);
+      this.key = key;
+    }
+  }
+
+  /**
+   * Holds the artifacts for a geometry.
+   * If keys are weak the artifacts are held by soft references.
+   */
+  private class Entry {
+    final int weight;
+    private final Object[] artifacts = new Object[NUM_ARTIFACTS];
+
+    Entry(int weight) {
+      this.weight = weight;
+    }
+
+    Object get(int type) {
+      Object artifact = artifacts[type];
+      if (artifact instanceof SoftReference)
+        return ((SoftReference<?>) artifact).get();
+      return artifact;
+    }
+
+    void set(int type, Object artifact) {
+      artifacts[type] = isWeakKeys ? new SoftReference<Object>(artifact) : artifact;
+    }
+  }
+}
@@ -11,8 +11,18 @@
  */
 package org.locationtech.jts.geom.util;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateArrays;
@@ -69,6 +79,15 @@ import org.locationtech.jts.operation.overlayng.OverlayNGRobust;
  * </ul>
  * </li>
  * </ol>
+ * <p>
+ * Geometries with many elements (such as MultiPolygons with many parts,
+ * or polygons with many holes) can be fixed in parallel,
+ * using {@link #setParallel(boolean)}.
+ * The elements are fixed concurrently,
+ * and merged by a parallel spatially-partitioned union.
+ * The result is the same as when fixing sequentially.
+ * A stream of geometries can be fixed using a bounded number of threads
+ * with {@link #fix(Iterator, boolean, int, ResultHandler)}.
  *
  * @author Martin Davis
  *
@@ -77,6 +96,21 @@ import org.locationtech.jts.operation.overlayng.OverlayNGRobust;
 public class GeometryFixer {
 
   private static final boolean DEFAULT_KEEP_MULTI = true;
+  private static final int PARALLEL_RANGE_MIN = 4;
+
+  /**
+   * Receives the fixed geometries from a stream of geometries.
+   */
+  public interface ResultHandler {
+    /**
+     * Accepts a fixed geometry.
+     *
+     * @param index the index of the geometry in the input
+     * @param geom the input geometry
+     * @param fix the fixed geometry
+     */
+    void fixed(long index, Geometry geom, Geometry fix);
+  }
 
   /**
    * Fixes a geometry to be valid.
@@ -104,10 +138,74 @@ public class GeometryFixer {
     return fix.getResult();
   }
 
+  /**
+   * Fixes a stream of geometries, using a given number of worker threads.
+   * The fixed geometries are passed to the handler in input order,
+   * on the calling thread.
+   * The number of geometries being fixed at any time is bounded,
+   * so the input can be of unbounded size.
+   *
+   * @param geoms an iterator over the geometries to be fixed
+   * @param isKeepMulti a flag indicating if {@code MULTI} geometries should not be converted to single instance types
+   *                    if they consist of only one item.
+   * @param numThreads the number of worker threads to use
+   * @param handler the handler which receives the fixed geometries
+   */
+  public static void fix(Iterator<? extends Geometry> geoms, final boolean isKeepMulti,
+      int numThreads, ResultHandler handler) {
+    if (numThreads <= 0)
+      throw new IllegalArgumentException("Number of threads must be positive");
+    int maxPending = 2 * numThreads;
+    Deque<Geometry> pendingGeoms = new ArrayDeque<Geometry>();
+    Deque<Future<Geometry>> pendingFixes = new ArrayDeque<Future<Geometry>>();
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    try {
+      long index = 0;
+      while (geoms.hasNext()) {
+        final Geometry geom = geoms.next();
+        pendingGeoms.addLast(geom);
+        pendingFixes.addLast(executor.submit(new Callable<Geometry>() {
+          public Geometry call() {
+            return fix(geom, isKeepMulti);
+          }
+        }));
+        //-- wait for the oldest fix to complete if the pending limit is reached
+        if (pendingFixes.size() >= maxPending) {
+          handler.fixed(index++, pendingGeoms.removeFirst(), getFix(pendingFixes.removeFirst()));
+        }
+      }
+      while (! pendingFixes.isEmpty()) {
+        handler.fixed(index++, pendingGeoms.removeFirst(), getFix(pendingFixes.removeFirst()));
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static Geometry getFix(Future<Geometry> fix) {
+    try {
+      return fix.get();
+    }
+    catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(ex);
+    }
+    catch (ExecutionException ex) {
+      Throwable cause = ex.getCause();
+      if (cause instanceof RuntimeException)
+        throw (RuntimeException) cause;
+      if (cause instanceof Error)
+        throw (Error) cause;
+      throw new RuntimeException(cause);
+    }
+  }
+
   private Geometry geom;
   private GeometryFactory factory;
   private boolean isKeepCollapsed = false;
   private boolean isKeepMulti = DEFAULT_KEEP_MULTI;
+  private boolean isParallel = false;
 
   /**
    * Creates a new instance to fix a given geometry.
@@ -143,6 +241,17 @@ public class GeometryFixer {
     this.isKeepMulti  = isKeepMulti;
   }
 
+  /**
+   * Sets whether the elements of a geometry are fixed in parallel.
+   * This can improve performance for geometries with many elements.
+   * The default is to fix sequentially.
+   *
+   * @param isParallel true if the geometry elements are fixed in parallel
+   */
+  public void setParallel(boolean isParallel) {
+    this.isParallel = isParallel;
+  }
+
   /**
    * Gets the fixed geometry.
    *
@@ -335,9 +444,17 @@ public class GeometryFixer {
   }
 
   private List<Geometry> fixHoles(Polygon geom) {
-    List<Geometry> holes = new ArrayList<Geometry>();
+    Geometry[] holeRings = new Geometry[geom.getNumInteriorRing()];
     for (int i = 0; i < geom.getNumInteriorRing(); i++) {
-      Geometry holeRep = fixRing(geom.getInteriorRingN(i));
+      holeRings[i] = geom.getInteriorRingN(i);
+    }
+    Geometry[] holesFixed = fixElements(holeRings, new ElementFix() {
+      public Geometry fix(Geometry ring) {
+        return fixRing((LinearRing) ring);
+      }
+    });
+    List<Geometry> holes = new ArrayList<Geometry>();
+    for (Geometry holeRep : holesFixed) {
       if (holeRep != null) {
         holes.add(holeRep);
       }
@@ -385,7 +502,7 @@ public class GeometryFixer {
       return polys.get(0);
     }
     // TODO: replace with holes.union() once OverlayNG is the default
-    return OverlayNGRobust.union(polys);
+    return OverlayNGRobust.union(polys, isParallel);
   }
 
   private Geometry fixRing(LinearRing ring) {
@@ -396,10 +513,13 @@ public class GeometryFixer {
   }
 
   private Geometry fixMultiPolygon(MultiPolygon geom) {
+    Geometry[] polysFixed = fixElements(toElementArray(geom), new ElementFix() {
+      public Geometry fix(Geometry poly) {
+        return fixPolygonElement((Polygon) poly);
+      }
+    });
     List<Geometry> polys = new ArrayList<Geometry>();
-    for (int i = 0; i < geom.getNumGeometries(); i++) {
-      Polygon poly = (Polygon) geom.getGeometryN(i);
-      Geometry polyFix = fixPolygonElement(poly);
+    for (Geometry polyFix : polysFixed) {
       if (polyFix != null && ! polyFix.isEmpty()) {
         polys.add(polyFix);
       }
@@ -417,17 +537,84 @@ public class GeometryFixer {
   }
 
   private Geometry fixCollection(GeometryCollection geom) {
-    Geometry[] geomRep = new Geometry[geom.getNumGeometries()];
-    for (int i = 0; i < geom.getNumGeometries(); i++) {
-      geomRep[i] = fix(geom.getGeometryN(i), this.isKeepCollapsed, this.isKeepMulti);
-    }
+    Geometry[] geomRep = fixElements(toElementArray(geom), new ElementFix() {
+      public Geometry fix(Geometry elem) {
+        return GeometryFixer.fix(elem, isKeepCollapsed, isKeepMulti, isParallel);
+      }
+    });
     return factory.createGeometryCollection(geomRep);
   }
 
-  private static Geometry fix(Geometry geom, boolean isKeepCollapsed, boolean isKeepMulti) {
+  private static Geometry fix(Geometry geom, boolean isKeepCollapsed, boolean isKeepMulti, boolean isParallel) {
     GeometryFixer fix = new GeometryFixer(geom);
     fix.setKeepCollapsed(isKeepCollapsed);
     fix.setKeepMulti(isKeepMulti);
+    fix.setParallel(isParallel);
     return fix.getResult();
   }
+
+  private static Geometry[] toElementArray(GeometryCollection geom) {
+    Geometry[] elems = new Geometry[geom.getNumGeometries()];
+    for (int i = 0; i < geom.getNumGeometries(); i++) {
+      elems[i] = geom.getGeometryN(i);
+    }
+    return elems;
+  }
+
+  /**
+   * Fixes an element of a geometry.
+   */
+  private interface ElementFix {
+    Geometry fix(Geometry elem);
+  }
+
+  /**
+   * Fixes an array of elements, in parallel if required.
+   *
+   * @param elems the elements to fix
+   * @param elemFix the function to fix an element
+   * @return an array of the fixed elements
+   */
+  private Geometry[] fixElements(Geometry[] elems, ElementFix elemFix) {
+    Geometry[] fixed = new Geometry[elems.length];
+    if (isParallel && elems.length > PARALLEL_RANGE_MIN) {
+      ForkJoinPool.commonPool().invoke(new FixElementsTask(elems, elemFix, fixed, 0, elems.length));
+      return fixed;
+    }
+    for (int i = 0; i < elems.length; i++) {
+      fixed[i] = elemFix.fix(elems[i]);
+    }
+    return fixed;
+  }
+
+  private static class FixElementsTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final Geometry[] elems;
+    private final ElementFix elemFix;
+    private final Geometry[] fixed;
+    private final int start;
+    private final int end;
+
+    FixElementsTask(Geometry[] elems, ElementFix elemFix, Geometry[] fixed, int start, int end) {
+      this.elems = elems;
+      this.elemFix = elemFix;
+      this.fixed = fixed;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= PARALLEL_RANGE_MIN) {
+        for (int i = start; i < end; i++) {
+          fixed[i] = elemFix.fix(elems[i]);
+        }
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new FixElementsTask(elems, elemFix, fixed, start, mid),
+          new FixElementsTask(elems, elemFix, fixed, mid, end));
+    }
+  }
 }
@@ -80,26 +80,39 @@ public class ByteOrderValues
   }
 
   public static void putLong(long longValue, byte[] buf, int byteOrder)
+  {
+    putLong(longValue, buf, 0, byteOrder);
+  }
+
+  /**
+   * Writes a long value into a buffer at a given offset.
+   * 
+   * @param longValue the value to write
+   * @param buf the buffer to write into
+   * @param offset the index in the buffer of the first byte to write
+   * @param byteOrder the byte order to use
+   */
+  public static void putLong(long longValue, byte[] buf, int offset, int byteOrder)
   {
     if (byteOrder == BIG_ENDIAN) {
-      buf[0] = (byte)(longValue >> 56);
-      buf[1] = (byte)(longValue >> 48);
-      buf[2] = (byte)(longValue >> 40);
-      buf[3] = (byte)(longValue >> 32);
-      buf[4] = (byte)(longValue >> 24);
-      buf[5] = (byte)(longValue >> 16);
-      buf[6] = (byte)(longValue >> 8);
-      buf[7] = (byte) longValue;
+      buf[offset]     = (byte)(longValue >> 56);
+      buf[offset + 1] = (byte)(longValue >> 48);
+      buf[offset + 2] = (byte)(longValue >> 40);
+      buf[offset + 3] = (byte)(longValue >> 32);
+      buf[offset + 4] = (byte)(longValue >> 24);
+      buf[offset + 5] = (byte)(longValue >> 16);
+      buf[offset + 6] = (byte)(longValue >> 8);
+      buf[offset + 7] = (byte) longValue;
     }
     else {  // LITTLE_ENDIAN
-      buf[0] = (byte) longValue;
-      buf[1] = (byte)(longValue >> 8);
-      buf[2] = (byte)(longValue >> 16);
-      buf[3] = (byte)(longValue >> 24);
-      buf[4] = (byte)(longValue >> 32);
-      buf[5] = (byte)(longValue >> 40);
-      buf[6] = (byte)(longValue >> 48);
-      buf[7] = (byte)(longValue >> 56);
+      buf[offset]     = (byte) longValue;
+      buf[offset + 1] = (byte)(longValue >> 8);
+      buf[offset + 2] = (byte)(longValue >> 16);
+      buf[offset + 3] = (byte)(longValue >> 24);
+      buf[offset + 4] = (byte)(longValue >> 32);
+      buf[offset + 5] = (byte)(longValue >> 40);
+      buf[offset + 6] = (byte)(longValue >> 48);
+      buf[offset + 7] = (byte)(longValue >> 56);
     }
   }
 
@@ -115,4 +128,18 @@ public class ByteOrderValues
     putLong(longVal, buf, byteOrder);
   }
 
+  /**
+   * Writes a double value into a buffer at a given offset.
+   * 
+   * @param doubleValue the value to write
+   * @param buf the buffer to write into
+   * @param offset the index in the buffer of the first byte to write
+   * @param byteOrder the byte order to use
+   */
+  public static void putDouble(double doubleValue, byte[] buf, int offset, int byteOrder)
+  {
+    long longVal = Double.doubleToLongBits(doubleValue);
+    putLong(longVal, buf, offset, byteOrder);
+  }
+
 }
@@ -220,6 +220,8 @@ public class WKBWriter
   private OutStream byteArrayOutStream = new OutputStreamOutStream(byteArrayOS);
   // holds output data values
   private byte[] buf = new byte[8];
+  private double[] xyBuf = null;
+  private byte[] xyBytes = null;
 
   /**
    * Creates a writer that writes {@link Geometry}s with
@@ -498,11 +500,42 @@ public class WKBWriter
     if (writeSize)
       writeInt(seq.size(), os);
 
+    if (outputDimension == 2) {
+      writeCoordinatesXY(seq, os);
+      return;
+    }
     for (int i = 0; i < seq.size(); i++) {
       writeCoordinate(seq, i, os);
     }
   }
 
+  /**
+   * The number of coordinates written at a time for XY output.
+   */
+  private static final int XY_CHUNK_SIZE = 256;
+
+  /**
+   * Writes the XY ordinates of a sequence in chunks,
+   * using bulk ordinate access and a single write per chunk.
+   */
+  private void writeCoordinatesXY(CoordinateSequence seq, OutStream os)
+      throws IOException
+  {
+    if (xyBuf == null) {
+      xyBuf = new double[2 * XY_CHUNK_SIZE];
+      xyBytes = new byte[16 * XY_CHUNK_SIZE];
+    }
+    int n = seq.size();
+    for (int start = 0; start < n; start += XY_CHUNK_SIZE) {
+      int count = Math.min(XY_CHUNK_SIZE, n - start);
+      seq.copyXY(start, xyBuf, 0, count);
+      for (int i = 0; i < 2 * count; i++) {
+        ByteOrderValues.putDouble(xyBuf[i], xyBytes, 8 * i, byteOrder);
+      }
+      os.write(xyBytes, 16 * count);
+    }
+  }
+
   private void writeCoordinate(CoordinateSequence seq, int index, OutStream os)
   throws IOException
   {
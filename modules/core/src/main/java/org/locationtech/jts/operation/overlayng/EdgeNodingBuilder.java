@@ -12,6 +12,7 @@
 package org.locationtech.jts.operation.overlayng;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -20,6 +21,7 @@ import org.locationtech.jts.algorithm.Orientation;
 import org.locationtech.jts.algorithm.RobustLineIntersector;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateArrays;
+import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
@@ -29,6 +31,7 @@ import org.locationtech.jts.geom.MultiLineString;
 import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.CoordinateArraySequence;
 import org.locationtech.jts.noding.IntersectionAdder;
 import org.locationtech.jts.noding.MCIndexNoder;
 import org.locationtech.jts.noding.NodedSegmentString;
@@ -314,7 +317,6 @@ class EdgeNodingBuilder {
    * @return the points in the clipped line
    */
   private Coordinate[] clip(LinearRing ring) {
-    Coordinate[] pts = ring.getCoordinates();
     Envelope env = ring.getEnvelopeInternal();
     
     /**
@@ -325,7 +327,7 @@ class EdgeNodingBuilder {
       return removeRepeatedPoints(ring);
     }
 
-    return clipper.clip(pts);
+    return clipper.clip(getPoints(ring, false));
   }
   
   /**
@@ -336,8 +338,43 @@ class EdgeNodingBuilder {
    * @return the points of the line with repeated points removed
    */
   private static Coordinate[] removeRepeatedPoints(LineString line) {
-    Coordinate[] pts = line.getCoordinates();
-    return CoordinateArrays.removeRepeatedPoints(pts);
+    return getPoints(line, true);
+  }
+  
+  /**
+   * Gets the points of a linear component, optionally removing repeated points.
+   * The coordinates of a {@link CoordinateArraySequence} are used directly.
+   * Other sequence types (such as packed or off-heap sequences)
+   * are read in a single pass, which creates only the coordinates 
+   * which are used and avoids materializing (and possibly caching)
+   * a full coordinate array for the sequence.
+   * 
+   * @param line the line to process
+   * @param isRemoveRepeated whether to remove repeated points
+   * @return the points of the line
+   */
+  private static Coordinate[] getPoints(LineString line, boolean isRemoveRepeated) {
+    CoordinateSequence seq = line.getCoordinateSequence();
+    if (seq instanceof CoordinateArraySequence) {
+      Coordinate[] pts = seq.toCoordinateArray();
+      if (isRemoveRepeated)
+        return CoordinateArrays.removeRepeatedPoints(pts);
+      return pts;
+    }
+    int size = seq.size();
+    Coordinate[] pts = new Coordinate[size];
+    int n = 0;
+    for (int i = 0; i < size; i++) {
+      if (isRemoveRepeated && n > 0 
+          && seq.getX(i) == pts[n - 1].x && seq.getY(i) == pts[n - 1].y)
+        continue;
+      Coordinate p = seq.createCoordinate();
+      seq.getCoordinate(i, p);
+      pts[n++] = p;
+    }
+    if (n < size)
+      return Arrays.copyOf(pts, n);
+    return pts;
   }
   
   private static int computeDepthDelta(LinearRing ring, boolean isHole) {
@@ -424,8 +461,7 @@ class EdgeNodingBuilder {
    * @return true if the line should be limited
    */
   private boolean isToBeLimited(LineString line) {
-    Coordinate[] pts = line.getCoordinates();
-    if (limiter == null || pts.length <= MIN_LIMIT_PTS) {
+    if (limiter == null || line.getNumPoints() <= MIN_LIMIT_PTS) {
       return false;
     }
     Envelope env = line.getEnvelopeInternal();
@@ -446,7 +482,7 @@ class EdgeNodingBuilder {
    * @return the point sections in the clipped line
    */
   private List<Coordinate[]> limit(LineString line) {
-    Coordinate[] pts = line.getCoordinates();
+    Coordinate[] pts = getPoints(line, false);
     return limiter.limit(pts);
   }
 
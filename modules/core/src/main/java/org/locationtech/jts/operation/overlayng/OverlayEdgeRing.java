@@ -119,7 +119,8 @@ class OverlayEdgeRing {
   private void computeRing(Coordinate[] ringPts, GeometryFactory geometryFactory) {
     if (ring != null) return;   // don't compute more than once
     ring = geometryFactory.createLinearRing(ringPts);
-    isHole = Orientation.isCCW(ring.getCoordinates());
+    //-- use the ring sequence, to avoid copying coordinates from non-array sequences
+    isHole = Orientation.isCCW(ring.getCoordinateSequence());
   }
 
   /**
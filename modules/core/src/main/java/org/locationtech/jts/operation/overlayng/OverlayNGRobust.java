@@ -84,6 +84,23 @@ public class OverlayNGRobust
     return op.union();
   }
   
+  /**
+   * Computes the unary union of a collection of geometries using robust computation,
+   * optionally unioning polygons in parallel.
+   * 
+   * @param geoms the collection of geometries to union
+   * @param isParallel true if polygons are unioned in parallel
+   * @return the union result
+   * 
+   * @see UnaryUnionOp#setParallel(boolean)
+   */
+  public static Geometry union(Collection<Geometry> geoms, boolean isParallel) {
+    UnaryUnionOp op = new UnaryUnionOp(geoms);
+    op.setUnionFunction(OVERLAY_UNION);
+    op.setParallel(isParallel);
+    return op.union();
+  }
+  
   /**
    * Computes the unary union of a collection of geometries using robust computation.
    * 
@@ -15,6 +15,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
@@ -43,6 +46,10 @@ import org.locationtech.jts.util.Debug;
  * This algorithm is faster and more robust than
  * the simple iterated approach of
  * repeatedly unioning each polygon to a result geometry.
+ * <p>
+ * The subtrees of the index can be unioned in parallel,
+ * using {@link #setParallel(boolean)}.
+ * The union strategy must be thread-safe in this case.
  *
  * @author Martin Davis
  *
@@ -94,11 +101,32 @@ public class CascadedPolygonUnion
     return op.union();
   }
 
+  /**
+   * Computes the union of
+   * a collection of {@link Polygonal} {@link Geometry}s,
+   * optionally unioning in parallel.
+   *
+   * @param polys a collection of {@link Polygonal} {@link Geometry}s
+   * @param unionFun the union strategy to use
+   * @param isParallel true if the union is computed in parallel
+   */
+  public static Geometry union(Collection polys, UnionStrategy unionFun, boolean isParallel)
+  {
+    CascadedPolygonUnion op = new CascadedPolygonUnion(polys, unionFun);
+    op.setParallel(isParallel);
+    return op.union();
+  }
+
 	private Collection inputPolys;
 	private GeometryFactory geomFactory = null;
   private UnionStrategy unionFun;
 
-  private int countRemainder = 0;
+  private boolean isParallel = false;
+
+  /**
+   * Updated by concurrent union tasks in parallel mode
+   */
+  private AtomicInteger countRemainder = new AtomicInteger();
   private int countInput = 0;
 
   /**
@@ -126,7 +154,19 @@ public class CascadedPolygonUnion
     if (inputPolys == null)
       inputPolys = new ArrayList();
     this.countInput = inputPolys.size();
-    this.countRemainder = countInput;
+    this.countRemainder.set(countInput);
+  }
+
+  /**
+   * Sets whether the subtrees of the spatial index are unioned in parallel.
+   * This can improve performance for large inputs.
+   * The default is to union sequentially.
+   *
+   * @param isParallel true if the union is computed in parallel
+   */
+  public void setParallel(boolean isParallel)
+  {
+    this.isParallel = isParallel;
   }
   /**
    * The effectiveness of the index is somewhat sensitive
@@ -176,6 +216,9 @@ public class CascadedPolygonUnion
 
     List itemTree = index.itemsTree();
 //    printItemEnvelopes(itemTree);
+    if (isParallel) {
+      return ForkJoinPool.commonPool().invoke(new UnionTreeTask(itemTree));
+    }
     Geometry unionAll = unionTree(itemTree);
     return unionAll;
 	}
@@ -312,9 +355,9 @@ public class CascadedPolygonUnion
   	if (g1 == null)
   		return g0.copy();
 
-  	countRemainder--;
+  	int remainder = countRemainder.decrementAndGet();
   	if (Debug.isDebugging()) {
-  	  Debug.println("Remainder: " + countRemainder + " out of " + countInput);
+  	  Debug.println("Remainder: " + remainder + " out of " + countInput);
       Debug.print("Union: A: " + g0.getNumPoints() + " / B: " + g1.getNumPoints() + "  ---  "  );
   	}
 
@@ -363,4 +406,46 @@ public class CascadedPolygonUnion
       return (Polygon) polygons.get(0);
     return g.getFactory().createMultiPolygon(GeometryFactory.toPolygonArray(polygons));
   }
+
+  /**
+   * Unions a subtree of the index,
+   * unioning its child subtrees in parallel.
+   */
+  private class UnionTreeTask extends RecursiveTask<Geometry>
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final List geomTree;
+
+    UnionTreeTask(List geomTree)
+    {
+      this.geomTree = geomTree;
+    }
+
+    @Override
+    protected Geometry compute()
+    {
+      List<UnionTreeTask> subtasks = new ArrayList<UnionTreeTask>();
+      for (Object o : geomTree) {
+        if (o instanceof List) {
+          subtasks.add(new UnionTreeTask((List) o));
+        }
+      }
+      invokeAll(subtasks);
+
+      List<Geometry> geoms = new ArrayList<Geometry>();
+      int subtaskIndex = 0;
+      for (Object o : geomTree) {
+        Geometry geom = null;
+        if (o instanceof List) {
+          geom = subtasks.get(subtaskIndex++).join();
+        }
+        else if (o instanceof Geometry) {
+          geom = (Geometry) o;
+        }
+        geoms.add(geom);
+      }
+      return binaryUnion(geoms);
+    }
+  }
 }
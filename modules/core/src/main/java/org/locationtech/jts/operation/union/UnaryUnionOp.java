@@ -111,6 +111,7 @@ public class UnaryUnionOp
 
   private InputExtracter extracter;
   private UnionStrategy unionFunction = CascadedPolygonUnion.CLASSIC_UNION;
+  private boolean isParallel = false;
 
 	/**
 	 * Constructs a unary union operation for a {@link Collection} 
@@ -151,6 +152,18 @@ public class UnaryUnionOp
 	  this.unionFunction = unionFun;
 	}
 	
+	/**
+	 * Sets whether polygonal inputs are unioned in parallel.
+	 * The union strategy must be thread-safe in this case.
+	 * 
+	 * @param isParallel true if polygons are unioned in parallel
+	 * 
+	 * @see CascadedPolygonUnion#setParallel(boolean)
+	 */
+	public void setParallel(boolean isParallel) {
+	  this.isParallel = isParallel;
+	}
+	
 	private void extract(Collection geoms)
 	{
 	  extracter = InputExtracter.extract(geoms);
@@ -216,7 +229,7 @@ public class UnaryUnionOp
 		
 		Geometry unionPolygons = null;
 		if (polygons.size() > 0) {
-			unionPolygons = CascadedPolygonUnion.union(polygons, unionFunction);
+			unionPolygons = CascadedPolygonUnion.union(polygons, unionFunction, isParallel);
 		}
 		
     /**
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.valid;
+
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Validates a sequence of geometries,
+ * reporting the validation error for each invalid geometry
+ * along with its index in the sequence.
+ * This is intended for validating large numbers of small geometries.
+ * The working structures used for validation are reused between geometries,
+ * which reduces allocation.
+ * <p>
+ * Geometries can be validated in parallel, using {@link #setParallel(boolean)}.
+ * In this case the geometries are read from the input in batches,
+ * and each batch is validated concurrently.
+ * Errors are always reported in order of geometry index,
+ * on the calling thread.
+ * <p>
+ * Validation follows the same semantics as {@link IsValidOp}.
+ * If a geometry has several errors, 
+ * the one reported may differ from that reported by {@link IsValidOp}.
+ * Instances of this class are not thread-safe.
+ *
+ * @author Martin Davis
+ *
+ * @see IsValidOp
+ */
+public class BatchValidator {
+
+  /**
+   * Receives the validation errors for invalid geometries.
+   */
+  public interface ErrorHandler {
+    /**
+     * Accepts the validation error for an invalid geometry.
+     *
+     * @param index the index of the geometry in the input
+     * @param geom the invalid geometry
+     * @param err the validation error
+     */
+    void invalid(long index, Geometry geom, TopologyValidationError err);
+  }
+
+  private static final int DEFAULT_BATCH_SIZE = 10_000;
+  private static final int PARALLEL_RANGE_MIN = 256;
+
+  private boolean isInvertedRingValid = false;
+  private boolean isParallel = false;
+  private int batchSize = DEFAULT_BATCH_SIZE;
+  private IsValidOp validOp = null;
+
+  /**
+   * Creates a new validator.
+   */
+  public BatchValidator() {
+  }
+
+  /**
+   * Sets whether polygons using <b>Self-Touching Rings</b> to form
+   * holes are reported as valid.
+   *
+   * @param isValid states whether geometry with this condition is valid
+   *
+   * @see IsValidOp#setSelfTouchingRingFormingHoleValid(boolean)
+   */
+  public void setSelfTouchingRingFormingHoleValid(boolean isValid) {
+    isInvertedRingValid = isValid;
+    validOp = null;
+  }
+
+  /**
+   * Sets whether geometries are validated in parallel.
+   * The default is to validate sequentially.
+   *
+   * @param isParallel true if geometries are validated in parallel
+   */
+  public void setParallel(boolean isParallel) {
+    this.isParallel = isParallel;
+  }
+
+  /**
+   * Sets the number of geometries which are read from the input
+   * and validated together in parallel mode.
+   *
+   * @param batchSize the number of geometries in a batch
+   */
+  public void setBatchSize(int batchSize) {
+    if (batchSize <= 0)
+      throw new IllegalArgumentException("Batch size must be positive");
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Validates a geometry.
+   *
+   * @param geom the geometry to validate
+   * @return the validation error, or null if the geometry is valid
+   */
+  public TopologyValidationError validate(Geometry geom) {
+    if (validOp == null) {
+      validOp = createValidOp();
+    }
+    return validOp.validate(geom);
+  }
+
+  /**
+   * Validates a sequence of geometries,
+   * passing the validation errors for invalid geometries to a handler.
+   *
+   * @param geoms an iterator over the geometries to validate
+   * @param handler the handler for validation errors
+   * @return the number of invalid geometries
+   */
+  public long validate(Iterator<? extends Geometry> geoms, ErrorHandler handler) {
+    if (isParallel) {
+      return validateParallel(geoms, handler);
+    }
+    long numInvalid = 0;
+    long index = 0;
+    while (geoms.hasNext()) {
+      Geometry geom = geoms.next();
+      TopologyValidationError err = validate(geom);
+      if (err != null) {
+        handler.invalid(index, geom, err);
+        numInvalid++;
+      }
+      index++;
+    }
+    return numInvalid;
+  }
+
+  private long validateParallel(Iterator<? extends Geometry> geoms, ErrorHandler handler) {
+    Geometry[] batch = new Geometry[batchSize];
+    TopologyValidationError[] errs = new TopologyValidationError[batchSize];
+    long numInvalid = 0;
+    long batchStart = 0;
+    while (geoms.hasNext()) {
+      int n = 0;
+      while (n < batchSize && geoms.hasNext()) {
+        batch[n++] = geoms.next();
+      }
+      ForkJoinPool.commonPool().invoke(new ValidateRangeTask(batch, errs, 0, n));
+      for (int i = 0; i < n; i++) {
+        if (errs[i] != null) {
+          handler.invalid(batchStart + i, batch[i], errs[i]);
+          numInvalid++;
+        }
+      }
+      batchStart += n;
+    }
+    return numInvalid;
+  }
+
+  private IsValidOp createValidOp() {
+    IsValidOp op = new IsValidOp(null);
+    op.setSelfTouchingRingFormingHoleValid(isInvertedRingValid);
+    return op;
+  }
+
+  /**
+   * Validates a range of a batch,
+   * using a single validator for each subrange.
+   */
+  private class ValidateRangeTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final Geometry[] batch;
+    private final TopologyValidationError[] errs;
+    private final int start;
+    private final int end;
+
+    ValidateRangeTask(Geometry[] batch, TopologyValidationError[] errs, int start, int end) {
+      this.batch = batch;
+      this.errs = errs;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= PARALLEL_RANGE_MIN) {
+        IsValidOp op = createValidOp();
+        for (int i = start; i < end; i++) {
+          errs[i] = op.validate(batch[i]);
+        }
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new ValidateRangeTask(batch, errs, start, mid),
+          new ValidateRangeTask(batch, errs, mid, end));
+    }
+  }
+}
@@ -12,6 +12,7 @@
 package org.locationtech.jts.operation.valid;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
 import org.locationtech.jts.geom.Coordinate;
@@ -20,7 +21,6 @@ import org.locationtech.jts.geom.LinearRing;
 import org.locationtech.jts.geom.Location;
 import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Polygon;
-import org.locationtech.jts.index.SpatialIndex;
 import org.locationtech.jts.index.strtree.STRtree;
 
 /**
@@ -31,13 +31,19 @@ import org.locationtech.jts.index.strtree.STRtree;
  * The logic assumes that the polygons do not overlap and have no collinear segments.
  * So the polygon rings may touch at discrete points,
  * but they are properly nested, and there are no duplicate rings.
+ * <p>
+ * The polygons can optionally be tested in parallel.
+ * In this case the nested point reported is the same as for sequential testing.
  */
 class IndexedNestedPolygonTester
 {
+  private static final int PARALLEL_RANGE_MIN = 256;
+
   private MultiPolygon multiPoly;
-  private SpatialIndex index;
-  private IndexedPointInAreaLocator[] locators;
+  private STRtree index;
+  private AtomicReferenceArray<IndexedPointInAreaLocator> locators;
   private Coordinate nestedPt;
+  private boolean isParallel = false;
 
   public IndexedNestedPolygonTester(MultiPolygon multiPoly)
   {
@@ -45,6 +51,15 @@ class IndexedNestedPolygonTester
     loadIndex();
   }
 
+  /**
+   * Sets whether the polygons are tested in parallel.
+   *
+   * @param isParallel true if the polygons are tested in parallel
+   */
+  public void setParallel(boolean isParallel) {
+    this.isParallel = isParallel;
+  }
+
   private void loadIndex()
   {
     index = new STRtree();
@@ -54,16 +69,19 @@ class IndexedNestedPolygonTester
       Envelope env = poly.getEnvelopeInternal();
       index.insert(env, i);
     }
+    //-- build before querying concurrently
+    index.build();
+    locators = new AtomicReferenceArray<IndexedPointInAreaLocator>(multiPoly.getNumGeometries());
   }
 
   private IndexedPointInAreaLocator getLocator(int polyIndex) {
-    if (locators == null) {
-      locators = new IndexedPointInAreaLocator[multiPoly.getNumGeometries()];
-    }
-    IndexedPointInAreaLocator locator = locators[polyIndex];
+    IndexedPointInAreaLocator locator = locators.get(polyIndex);
     if (locator == null) {
       locator = new IndexedPointInAreaLocator(multiPoly.getGeometryN(polyIndex));
-      locators[polyIndex] = locator;
+      //-- in parallel mode another thread may have created the locator already
+      if (! locators.compareAndSet(polyIndex, null, locator)) {
+        locator = locators.get(polyIndex);
+      }
     }
     return locator;
   }
@@ -83,29 +101,61 @@ class IndexedNestedPolygonTester
    */
   public boolean isNested()
   {
+    if (isParallel) {
+      return isNestedParallel();
+    }
     for (int i = 0; i < multiPoly.getNumGeometries(); i++) {
-      Polygon poly = (Polygon) multiPoly.getGeometryN(i);
-      LinearRing shell = poly.getExteriorRing();
-      
-      List<Integer> results = index.query(poly.getEnvelopeInternal());
-      for (Integer polyIndex : results) {
-        Polygon possibleOuterPoly = (Polygon) multiPoly.getGeometryN(polyIndex);
-        
-        if (poly == possibleOuterPoly)
-          continue;
-        /**
-         * If polygon is not fully covered by candidate polygon it cannot be nested
-         */
-        if (! possibleOuterPoly.getEnvelopeInternal().covers( poly.getEnvelopeInternal()) )
-          continue;
-        
-        nestedPt = findNestedPoint(shell, possibleOuterPoly, getLocator(polyIndex));
-        if (nestedPt != null)
-          return true;
-      }
+      nestedPt = findNestedPoint(i);
+      if (nestedPt != null)
+        return true;
     }
     return false;
   }
+
+  private boolean isNestedParallel()
+  {
+    ParallelIndexSearch search = new ParallelIndexSearch(PARALLEL_RANGE_MIN) {
+      protected boolean isFound(int i) {
+        return findNestedPoint(i) != null;
+      }
+    };
+    int nestedIndex = search.find(multiPoly.getNumGeometries());
+    if (nestedIndex < 0)
+      return false;
+    nestedPt = findNestedPoint(nestedIndex);
+    return true;
+  }
+
+  /**
+   * Finds a point of a polygon which is improperly nested 
+   * within another polygon, if any.
+   * 
+   * @param i the index of the polygon to test
+   * @return a nested point, or null if the polygon is not nested
+   */
+  private Coordinate findNestedPoint(int i)
+  {
+    Polygon poly = (Polygon) multiPoly.getGeometryN(i);
+    LinearRing shell = poly.getExteriorRing();
+
+    List<Integer> results = index.query(poly.getEnvelopeInternal());
+    for (Integer polyIndex : results) {
+      Polygon possibleOuterPoly = (Polygon) multiPoly.getGeometryN(polyIndex);
+
+      if (poly == possibleOuterPoly)
+        continue;
+      /**
+       * If polygon is not fully covered by candidate polygon it cannot be nested
+       */
+      if (! possibleOuterPoly.getEnvelopeInternal().covers( poly.getEnvelopeInternal()) )
+        continue;
+
+      Coordinate pt = findNestedPoint(shell, possibleOuterPoly, getLocator(polyIndex));
+      if (pt != null)
+        return pt;
+    }
+    return null;
+  }
   
   /**
    * Finds an improperly nested point, if one exists.
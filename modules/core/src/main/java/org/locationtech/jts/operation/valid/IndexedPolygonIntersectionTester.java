@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.valid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateArrays;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.index.chain.MonotoneChain;
+import org.locationtech.jts.index.chain.MonotoneChainBuilder;
+import org.locationtech.jts.index.chain.MonotoneChainOverlapAction;
+import org.locationtech.jts.index.hprtree.HPRtree;
+import org.locationtech.jts.index.hprtree.HilbertEncoder;
+import org.locationtech.jts.noding.BasicSegmentString;
+import org.locationtech.jts.noding.SegmentString;
+
+/**
+ * Tests whether the rings of different element polygons of a {@link MultiPolygon}
+ * have an invalid intersection (i.e. they cross or overlap).
+ * Intersections between the rings of a single polygon are not checked.
+ * <p>
+ * The monotone chains of the rings are ordered along a Hilbert curve
+ * and indexed.
+ * The ordered chains are split into partitions,
+ * each of which covers a spatially compact area.
+ * The partitions are searched for intersections in parallel,
+ * terminating early once an invalid intersection is found.
+ * The intersection reported is the first one found in the lowest partition,
+ * so the result is deterministic.
+ */
+class IndexedPolygonIntersectionTester
+{
+  private static final int HILBERT_LEVEL = 12;
+  private static final int PARTITION_SIZE = 256;
+
+  private boolean isInvertedRingValid;
+  private MonotoneChain[] chains;
+  private int[] chainPolyIndex;
+  private HPRtree index;
+  private PolygonIntersectionAnalyzer invalidAnalyzer = null;
+
+  /**
+   * Creates a new tester for a MultiPolygon.
+   *
+   * @param multiPoly the MultiPolygon to test
+   * @param isInvertedRingValid a flag indicating whether inverted rings are allowed
+   */
+  public IndexedPolygonIntersectionTester(MultiPolygon multiPoly, boolean isInvertedRingValid)
+  {
+    this.isInvertedRingValid = isInvertedRingValid;
+    buildChains(multiPoly);
+  }
+
+  /**
+   * Tests whether rings of different polygons have an invalid intersection.
+   *
+   * @return true if an invalid intersection was found
+   */
+  public boolean hasInvalidIntersection() {
+    ParallelIndexSearch search = new ParallelIndexSearch(1) {
+      protected boolean isFound(int partition) {
+        return analyzePartition(partition, this).isInvalid();
+      }
+    };
+    int numPartitions = (chains.length + PARTITION_SIZE - 1) / PARTITION_SIZE;
+    int partition = search.find(numPartitions);
+    if (partition < 0)
+      return false;
+    //-- recompute to obtain the intersection details
+    invalidAnalyzer = analyzePartition(partition, null);
+    return true;
+  }
+
+  public int getInvalidCode() {
+    return invalidAnalyzer.getInvalidCode();
+  }
+
+  public Coordinate getInvalidLocation() {
+    return invalidAnalyzer.getInvalidLocation();
+  }
+
+  private PolygonIntersectionAnalyzer analyzePartition(int partition, ParallelIndexSearch search) {
+    PolygonIntersectionAnalyzer analyzer = new PolygonIntersectionAnalyzer(isInvertedRingValid);
+    MonotoneChainOverlapAction overlapAction = new SegmentOverlapAction(analyzer);
+    int start = partition * PARTITION_SIZE;
+    int end = Math.min(start + PARTITION_SIZE, chains.length);
+    for (int i = start; i < end; i++) {
+      //-- short-circuit if a lower partition has an invalid intersection
+      if (search != null && search.isSuperseded(partition))
+        return analyzer;
+      MonotoneChain queryChain = chains[i];
+      @SuppressWarnings("unchecked")
+      List<MonotoneChain> overlapChains = index.query(queryChain.getEnvelope());
+      for (MonotoneChain testChain : overlapChains) {
+        /**
+         * Compare each pair of chains only once,
+         * and only for chains in different polygons
+         */
+        if (testChain.getId() <= queryChain.getId()
+            || chainPolyIndex[testChain.getId()] == chainPolyIndex[queryChain.getId()])
+          continue;
+        queryChain.computeOverlaps(testChain, overlapAction);
+        if (analyzer.isDone())
+          return analyzer;
+      }
+    }
+    return analyzer;
+  }
+
+  private void buildChains(MultiPolygon multiPoly) {
+    List<MonotoneChain> chainList = new ArrayList<MonotoneChain>();
+    List<Integer> polyIndexList = new ArrayList<Integer>();
+    for (int i = 0; i < multiPoly.getNumGeometries(); i++) {
+      Polygon poly = (Polygon) multiPoly.getGeometryN(i);
+      if (poly.isEmpty()) continue;
+      addChains(poly.getExteriorRing(), i, chainList, polyIndexList);
+      for (int j = 0; j < poly.getNumInteriorRing(); j++) {
+        addChains(poly.getInteriorRingN(j), i, chainList, polyIndexList);
+      }
+    }
+    sortSpatially(chainList, polyIndexList);
+
+    index = new HPRtree();
+    for (int i = 0; i < chains.length; i++) {
+      chains[i].setId(i);
+      index.insert(chains[i].getEnvelope(), chains[i]);
+    }
+    //-- build before searching concurrently
+    index.build();
+  }
+
+  private static void addChains(LinearRing ring, int polyIndex,
+      List<MonotoneChain> chainList, List<Integer> polyIndexList) {
+    if (ring.isEmpty()) return;
+    Coordinate[] pts = ring.getCoordinates();
+    //--- repeated points must be removed for accurate intersection detection
+    if (CoordinateArrays.hasRepeatedPoints(pts)) {
+      pts = CoordinateArrays.removeRepeatedPoints(pts);
+    }
+    SegmentString ss = new BasicSegmentString(pts, null);
+    @SuppressWarnings("unchecked")
+    List<MonotoneChain> ringChains = MonotoneChainBuilder.getChains(pts, ss);
+    for (MonotoneChain mc : ringChains) {
+      chainList.add(mc);
+      polyIndexList.add(polyIndex);
+    }
+  }
+
+  /**
+   * Orders the chains along a Hilbert curve,
+   * so that contiguous partitions are spatially compact.
+   */
+  private void sortSpatially(List<MonotoneChain> chainList, List<Integer> polyIndexList) {
+    int n = chainList.size();
+    Envelope extent = new Envelope();
+    for (MonotoneChain mc : chainList) {
+      extent.expandToInclude(mc.getEnvelope());
+    }
+    //-- avoid a zero stride for degenerate extents
+    if (extent.getWidth() == 0 || extent.getHeight() == 0)
+      extent.expandBy(1);
+    HilbertEncoder encoder = new HilbertEncoder(HILBERT_LEVEL, extent);
+
+    final int[] code = new int[n];
+    Integer[] order = new Integer[n];
+    for (int i = 0; i < n; i++) {
+      code[i] = encoder.encode(chainList.get(i).getEnvelope());
+      order[i] = i;
+    }
+    Arrays.sort(order, new Comparator<Integer>() {
+      public int compare(Integer i1, Integer i2) {
+        return Integer.compare(code[i1], code[i2]);
+      }
+    });
+    chains = new MonotoneChain[n];
+    chainPolyIndex = new int[n];
+    for (int i = 0; i < n; i++) {
+      chains[i] = chainList.get(order[i]);
+      chainPolyIndex[i] = polyIndexList.get(order[i]);
+    }
+  }
+
+  private static class SegmentOverlapAction extends MonotoneChainOverlapAction
+  {
+    private PolygonIntersectionAnalyzer analyzer;
+
+    SegmentOverlapAction(PolygonIntersectionAnalyzer analyzer)
+    {
+      this.analyzer = analyzer;
+    }
+
+    public void overlap(MonotoneChain mc1, int start1, MonotoneChain mc2, int start2)
+    {
+      SegmentString ss1 = (SegmentString) mc1.getContext();
+      SegmentString ss2 = (SegmentString) mc2.getContext();
+      analyzer.processIntersections(ss1, start1, ss2, start2);
+    }
+  }
+}
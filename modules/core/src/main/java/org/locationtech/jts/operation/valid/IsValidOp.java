@@ -25,6 +25,17 @@ import org.locationtech.jts.geom.Polygon;
  * Implements the algorithms required to compute the <code>isValid()</code> method
  * for {@link Geometry}s.
  * See the documentation for the various geometry types for a specification of validity.
+ * <p>
+ * Validation of {@link MultiPolygon}s with many elements
+ * can be performed in parallel, using {@link #setParallel(boolean)}.
+ * In parallel mode the element polygons are validated concurrently,
+ * and the search for invalid intersections between different elements
+ * is partitioned spatially.
+ * Validation terminates early once an error is found.
+ * The validity result is the same as for sequential mode,
+ * and the error reported is deterministic.
+ * However, if the geometry has several errors 
+ * the one reported may be different to that found in sequential mode.
  *
  * @version 1.7
  */
@@ -32,6 +43,7 @@ public class IsValidOp
 {
   private static final int MIN_SIZE_LINESTRING = 2;
   private static final int MIN_SIZE_RING = 4;
+  private static final int PARALLEL_RANGE_MIN = 16;
 
   /**
    * Tests whether a {@link Geometry} is valid.
@@ -71,6 +83,13 @@ public class IsValidOp
    */
   private boolean isInvertedRingValid = false;
   
+  private boolean isParallel = false;
+  
+  /**
+   * An intersection finder which is reused across geometries, if set
+   */
+  private PolygonIntersectionAnalyzer reusedIntFinder = null;
+  
   private TopologyValidationError validErr;
 
   /**
@@ -117,6 +136,18 @@ public class IsValidOp
     isInvertedRingValid = isValid;
   }
 
+  /**
+   * Sets whether the elements of MultiPolygons are validated in parallel.
+   * This can improve performance for MultiPolygons with many elements.
+   * The default is to validate sequentially.
+   *
+   * @param isParallel true if MultiPolygons are validated in parallel
+   */
+  public void setParallel(boolean isParallel)
+  {
+    this.isParallel = isParallel;
+  }
+
   /**
    * Tests the validity of the input geometry.
    * 
@@ -141,6 +172,31 @@ public class IsValidOp
     return validErr;
   }
   
+  /**
+   * Validates a geometry, reusing the working structures of this validator.
+   * The inverted ring setting must not be changed once this has been called.
+   * This reduces allocation when validating many geometries.
+   * 
+   * @param geom the geometry to validate
+   * @return the validation error, or null if the geometry is valid
+   * 
+   * @see BatchValidator
+   */
+  TopologyValidationError validate(Geometry geom)
+  {
+    if (reusedIntFinder == null) {
+      reusedIntFinder = new PolygonIntersectionAnalyzer(isInvertedRingValid);
+    }
+    isValidGeometry(geom);
+    return validErr;
+  }
+  
+  private PolygonTopologyAnalyzer createTopologyAnalyzer(Geometry g) {
+    if (reusedIntFinder != null)
+      return new PolygonTopologyAnalyzer(g, isInvertedRingValid, reusedIntFinder);
+    return new PolygonTopologyAnalyzer(g, isInvertedRingValid);
+  }
+  
   private void logInvalid(int code, Coordinate pt) {
     validErr = new TopologyValidationError(code, pt);   
   }
@@ -235,7 +291,7 @@ public class IsValidOp
     checkRingsPointSize(g);
     if (hasInvalidError()) return false;
 
-    PolygonTopologyAnalyzer areaAnalyzer = new PolygonTopologyAnalyzer(g, isInvertedRingValid);
+    PolygonTopologyAnalyzer areaAnalyzer = createTopologyAnalyzer(g);
 
     checkAreaIntersections(areaAnalyzer);
     if (hasInvalidError()) return false;
@@ -260,6 +316,9 @@ public class IsValidOp
    */
   private boolean isValid(MultiPolygon g)
   {
+    if (isParallel && g.getNumGeometries() > 1)
+      return isValidParallel(g);
+    
     for (int i = 0; i < g.getNumGeometries(); i++) {
       Polygon p = (Polygon) g.getGeometryN(i);
       checkCoordinatesValid(p);
@@ -271,7 +330,7 @@ public class IsValidOp
       if (hasInvalidError()) return false;
     }
 
-    PolygonTopologyAnalyzer areaAnalyzer = new PolygonTopologyAnalyzer(g, isInvertedRingValid);
+    PolygonTopologyAnalyzer areaAnalyzer = createTopologyAnalyzer(g);
     
     checkAreaIntersections(areaAnalyzer);
     if (hasInvalidError()) return false;
@@ -295,6 +354,46 @@ public class IsValidOp
     return true;
   }
 
+  /**
+   * Tests validity of a MultiPolygon by validating the element polygons in parallel,
+   * and then checking their intersections and nesting.
+   * This is equivalent to sequential validation,
+   * since touches are only significant between rings of the same polygon.
+   * 
+   * @param g
+   * @return
+   */
+  private boolean isValidParallel(final MultiPolygon g)
+  {
+    ParallelIndexSearch search = new ParallelIndexSearch(PARALLEL_RANGE_MIN) {
+      protected boolean isFound(int i) {
+        return ! createElementOp(g, i).isValid();
+      }
+    };
+    int invalidIndex = search.find(g.getNumGeometries());
+    if (invalidIndex >= 0) {
+      validErr = createElementOp(g, invalidIndex).getValidationError();
+      return false;
+    }
+    
+    IndexedPolygonIntersectionTester intTester = new IndexedPolygonIntersectionTester(g, isInvertedRingValid);
+    if (intTester.hasInvalidIntersection()) {
+      logInvalid(intTester.getInvalidCode(), intTester.getInvalidLocation());
+      return false;
+    }
+    
+    checkShellsNotNested(g);
+    if (hasInvalidError()) return false;
+    
+    return true;
+  }
+  
+  private IsValidOp createElementOp(MultiPolygon g, int i) {
+    IsValidOp op = new IsValidOp(g.getGeometryN(i));
+    op.setSelfTouchingRingFormingHoleValid(isInvertedRingValid);
+    return op;
+  }
+
   /**
    * Tests validity of a GeometryCollection.
    * 
@@ -520,6 +619,7 @@ public class IsValidOp
     if (mp.getNumGeometries() <= 1) return;
     
     IndexedNestedPolygonTester nestedTester = new IndexedNestedPolygonTester(mp);
+    nestedTester.setParallel(isParallel);
     if ( nestedTester.isNested() ) {
       logInvalid(TopologyValidationError.NESTED_SHELLS,
                             nestedTester.getNestedPoint());
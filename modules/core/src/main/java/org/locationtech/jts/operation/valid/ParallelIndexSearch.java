@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.valid;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Finds the lowest index in a range which satisfies a test,
+ * by testing subranges of the indices in parallel.
+ * Once an index is found, indices above it are skipped,
+ * so that the search terminates early.
+ * Indices below it continue to be tested,
+ * so the result is the same as for a sequential search.
+ * <p>
+ * The test must be safe to run concurrently for different indices.
+ *
+ * @author Martin Davis
+ */
+abstract class ParallelIndexSearch {
+
+  private static final int NOT_FOUND = Integer.MAX_VALUE;
+
+  private final int rangeMin;
+  private final AtomicInteger foundIndex = new AtomicInteger(NOT_FOUND);
+
+  /**
+   * Creates a new search.
+   *
+   * @param rangeMin the size of the subranges which are tested sequentially
+   */
+  ParallelIndexSearch(int rangeMin) {
+    this.rangeMin = rangeMin;
+  }
+
+  /**
+   * Tests whether an index satisfies the search condition.
+   *
+   * @param i the index to test
+   * @return true if the index is found
+   */
+  protected abstract boolean isFound(int i);
+
+  /**
+   * Tests whether a lower index than a given one has already been found.
+   * This allows long-running tests to terminate early.
+   *
+   * @param i an index being tested
+   * @return true if the test of the index is no longer required
+   */
+  protected boolean isSuperseded(int i) {
+    return foundIndex.get() < i;
+  }
+
+  /**
+   * Finds the lowest index in the range [0, size) which satisfies the test.
+   *
+   * @param size the size of the index range
+   * @return the lowest index found, or -1 if none was found
+   */
+  public int find(int size) {
+    ForkJoinPool.commonPool().invoke(new SearchTask(0, size));
+    int index = foundIndex.get();
+    return index == NOT_FOUND ? -1 : index;
+  }
+
+  private void search(int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (foundIndex.get() < i)
+        return;
+      if (isFound(i)) {
+        foundIndex.accumulateAndGet(i, Math::min);
+        return;
+      }
+    }
+  }
+
+  private class SearchTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final int start;
+    private final int end;
+
+    SearchTask(int start, int end) {
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (foundIndex.get() < start)
+        return;
+      if (end - start <= rangeMin) {
+        search(start, end);
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new SearchTask(start, mid), new SearchTask(mid, end));
+    }
+  }
+}
@@ -52,6 +52,16 @@ implements SegmentIntersector
     this.isInvertedRingValid = isInvertedRingValid;
   }
   
+  /**
+   * Resets the finder so that it can be reused to analyze another geometry.
+   */
+  void reset() {
+    invalidCode = NO_INVALID_INTERSECTION;
+    invalidLocation = null;
+    hasDoubleTouch = false;
+    doubleTouchLocation = null;
+  }
+  
   @Override
   public boolean isDone() {
     return isInvalid() || hasDoubleTouch;
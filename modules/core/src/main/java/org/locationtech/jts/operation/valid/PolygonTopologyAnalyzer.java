@@ -209,9 +209,15 @@ class PolygonTopologyAnalyzer {
     return null;
   }
   
+  /**
+   * The maximum number of segments for which 
+   * all segment pairs are tested, if the intersection finder is reused
+   */
+  private static final int MAX_ALL_PAIRS_SEGMENTS = 12;
+  
   private boolean isInvertedRingValid;
   
-  private PolygonIntersectionAnalyzer intFinder;
+  private PolygonIntersectionAnalyzer intFinder = null;
   private List<PolygonRing> polyRings = null;
   private Coordinate disconnectionPt = null;
 
@@ -226,6 +232,23 @@ class PolygonTopologyAnalyzer {
     analyze(geom);
   }
 
+  /**
+   * Creates a new analyzer which reuses an intersection finder.
+   * Small geometries are analyzed by testing all segment pairs,
+   * which avoids the cost of creating an index.
+   * This is used to reduce allocation when validating many geometries.
+   * 
+   * @param geom a Polygon or MultiPolygon
+   * @param isInvertedRingValid a flag indicating whether inverted rings are allowed
+   * @param intFinder the intersection finder to reuse
+   */
+  PolygonTopologyAnalyzer(Geometry geom, boolean isInvertedRingValid, PolygonIntersectionAnalyzer intFinder) {
+    this.isInvertedRingValid = isInvertedRingValid;
+    this.intFinder = intFinder;
+    intFinder.reset();
+    analyze(geom);
+  }
+
   public boolean hasInvalidIntersection() {
     return intFinder.isInvalid();
   }
@@ -327,13 +350,49 @@ class PolygonTopologyAnalyzer {
   
   private PolygonIntersectionAnalyzer analyzeIntersections(List<SegmentString> segStrings)
   {
-    PolygonIntersectionAnalyzer segInt = new PolygonIntersectionAnalyzer(isInvertedRingValid);
+    //-- a supplied finder is reused
+    if (intFinder != null
+        && numSegments(segStrings) <= MAX_ALL_PAIRS_SEGMENTS) {
+      analyzeAllPairs(segStrings, intFinder);
+      return intFinder;
+    }
+    PolygonIntersectionAnalyzer segInt = intFinder != null ? intFinder
+        : new PolygonIntersectionAnalyzer(isInvertedRingValid);
     MCIndexNoder noder = new MCIndexNoder();
     noder.setSegmentIntersector(segInt);
     noder.computeNodes(segStrings);
     return segInt;
   }
 
+  private static int numSegments(List<SegmentString> segStrings) {
+    int n = 0;
+    for (SegmentString ss : segStrings) {
+      n += ss.size() - 1;
+    }
+    return n;
+  }
+
+  /**
+   * Tests each pair of segments once.
+   * This is faster than indexing for small geometries.
+   */
+  private static void analyzeAllPairs(List<SegmentString> segStrings, PolygonIntersectionAnalyzer segInt) {
+    for (int i = 0; i < segStrings.size(); i++) {
+      SegmentString ss0 = segStrings.get(i);
+      for (int j = i; j < segStrings.size(); j++) {
+        SegmentString ss1 = segStrings.get(j);
+        for (int seg0 = 0; seg0 < ss0.size() - 1; seg0++) {
+          int seg1Start = (i == j) ? seg0 + 1 : 0;
+          for (int seg1 = seg1Start; seg1 < ss1.size() - 1; seg1++) {
+            segInt.processIntersections(ss0, seg0, ss1, seg1);
+            if (segInt.isDone())
+              return;
+          }
+        }
+      }
+    }
+  }
+
   private static List<SegmentString> createSegmentStrings(Geometry geom, boolean isInvertedRingValid) {
     List<SegmentString> segStrings = new ArrayList<SegmentString>();
     if (geom instanceof LinearRing) {
@@ -0,0 +1,451 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.simplify;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.CoordinateSequences;
+import org.locationtech.jts.math.MathUtil;
+
+/**
+ * Simplifies a {@link CoordinateSequence} representing a line
+ * using the Douglas-Peucker or Visvalingam-Whyatt algorithms.
+ * The sequence ordinates are accessed directly,
+ * and working storage uses primitive arrays,
+ * so very large sequences (such as a {@link org.locationtech.jts.geom.impl.PackedCoordinateSequence})
+ * can be simplified efficiently.
+ * The Douglas-Peucker algorithm is implemented without recursion,
+ * and the Visvalingam-Whyatt algorithm uses a heap
+ * to find the vertex with the smallest area.
+ * <p>
+ * The simplified vertices are the same as those produced by
+ * {@link DouglasPeuckerSimplifier} and {@link VWSimplifier} for a line.
+ * The endpoints are always preserved,
+ * and the topology of the result is not checked.
+ *
+ * @author Martin Davis
+ *
+ * @see StreamingLineSimplifier
+ */
+public class CoordinateSequenceSimplifier {
+
+  private CoordinateSequenceSimplifier() {
+  }
+
+  /**
+   * Simplifies a sequence using the Douglas-Peucker algorithm.
+   *
+   * @param seq the sequence to simplify
+   * @param distanceTolerance the simplification distance tolerance
+   * @param factory the factory for the result sequence
+   * @return the simplified sequence
+   */
+  public static CoordinateSequence douglasPeucker(CoordinateSequence seq, double distanceTolerance,
+      CoordinateSequenceFactory factory) {
+    return extract(seq, douglasPeuckerKept(seq, distanceTolerance), factory);
+  }
+
+  /**
+   * Simplifies a sequence using the Visvalingam-Whyatt algorithm.
+   *
+   * @param seq the sequence to simplify
+   * @param distanceTolerance the simplification distance tolerance
+   * @param factory the factory for the result sequence
+   * @return the simplified sequence
+   */
+  public static CoordinateSequence visvalingamWhyatt(CoordinateSequence seq, double distanceTolerance,
+      CoordinateSequenceFactory factory) {
+    return extract(seq, visvalingamWhyattKept(seq, distanceTolerance), factory);
+  }
+
+  /**
+   * Determines the vertices of a sequence which are kept by
+   * Douglas-Peucker simplification.
+   *
+   * @param seq the sequence to simplify
+   * @param distanceTolerance the simplification distance tolerance
+   * @return an array of flags indicating the vertices which are kept
+   */
+  public static boolean[] douglasPeuckerKept(CoordinateSequence seq, double distanceTolerance) {
+    boolean[] isKept = new boolean[seq.size()];
+    if (seq.size() > 0) {
+      douglasPeucker(seq, 0, seq.size() - 1, distanceTolerance, isKept);
+    }
+    return isKept;
+  }
+
+  /**
+   * Determines the vertices of a sequence which are kept by
+   * Visvalingam-Whyatt simplification.
+   *
+   * @param seq the sequence to simplify
+   * @param distanceTolerance the simplification distance tolerance
+   * @return an array of flags indicating the vertices which are kept
+   */
+  public static boolean[] visvalingamWhyattKept(CoordinateSequence seq, double distanceTolerance) {
+    return new VWHeap(seq).simplify(distanceTolerance * distanceTolerance);
+  }
+
+  /**
+   * Computes the significance of each vertex of a sequence
+   * for Douglas-Peucker simplification.
+   * A vertex is kept by simplification with a given distance tolerance
+   * if and only if its significance is <b>greater than</b> the tolerance.
+   * The endpoints have infinite significance.
+   *
+   * @param seq the sequence to analyze
+   * @return the significance of each vertex
+   */
+  public static double[] douglasPeuckerSignificance(CoordinateSequence seq) {
+    int n = seq.size();
+    double[] significance = new double[n];
+    if (n == 0)
+      return significance;
+    significance[0] = Double.POSITIVE_INFINITY;
+    significance[n - 1] = Double.POSITIVE_INFINITY;
+    /**
+     * A section is processed at a tolerance only if all enclosing sections
+     * were split, so the significance of a split vertex is the 
+     * minimum of the section and enclosing section distances
+     */
+    int[] stack = new int[64];
+    double[] stackLimit = new double[32];
+    int top = 0;
+    stack[top++] = 0;
+    stack[top++] = n - 1;
+    stackLimit[0] = Double.POSITIVE_INFINITY;
+    while (top > 0) {
+      double limit = stackLimit[(top - 1) / 2];
+      int j = stack[--top];
+      int i = stack[--top];
+      if (i + 1 >= j)
+        continue;
+
+      int maxIndex = findFurthest(seq, i, j);
+      //-- section vertices are never kept
+      if (maxIndex == i)
+        continue;
+      double splitSig = Math.min(limit, sectionDistance(seq, maxIndex, i, j));
+      significance[maxIndex] = splitSig;
+      if (top + 4 > stack.length) {
+        int[] newStack = new int[2 * stack.length];
+        System.arraycopy(stack, 0, newStack, 0, top);
+        stack = newStack;
+        double[] newLimit = new double[stack.length / 2];
+        System.arraycopy(stackLimit, 0, newLimit, 0, top / 2);
+        stackLimit = newLimit;
+      }
+      stackLimit[top / 2] = splitSig;
+      stack[top++] = i;
+      stack[top++] = maxIndex;
+      stackLimit[top / 2] = splitSig;
+      stack[top++] = maxIndex;
+      stack[top++] = j;
+    }
+    return significance;
+  }
+
+  /**
+   * Computes the significance of each vertex of a sequence
+   * for Visvalingam-Whyatt simplification.
+   * The significance is the effective area of the vertex
+   * (the largest triangle area removed up to and including the vertex).
+   * A vertex is kept by simplification with a given distance tolerance
+   * if and only if its significance is <b>greater than or equal to</b> 
+   * the square of the tolerance.
+   * The endpoints have infinite significance.
+   *
+   * @param seq the sequence to analyze
+   * @return the significance of each vertex
+   */
+  public static double[] visvalingamWhyattSignificance(CoordinateSequence seq) {
+    return new VWHeap(seq).significance();
+  }
+
+  /**
+   * Flags the vertices in a section of a sequence
+   * which are kept by Douglas-Peucker simplification.
+   * The section endpoints are always kept.
+   * Sections still to be processed are held in an explicit stack,
+   * to avoid deep recursion for large inputs.
+   *
+   * @param seq the sequence to simplify
+   * @param start the index of the section start
+   * @param end the index of the section end
+   * @param distanceTolerance the simplification distance tolerance
+   * @param isKept the array of flags to update
+   */
+  static void douglasPeucker(CoordinateSequence seq, int start, int end,
+      double distanceTolerance, boolean[] isKept) {
+    isKept[start] = true;
+    isKept[end] = true;
+    int[] stack = new int[64];
+    int top = 0;
+    stack[top++] = start;
+    stack[top++] = end;
+    while (top > 0) {
+      int j = stack[--top];
+      int i = stack[--top];
+      if (i + 1 >= j)
+        continue;
+
+      int maxIndex = findFurthest(seq, i, j);
+      if (maxIndex == i || sectionDistance(seq, maxIndex, i, j) <= distanceTolerance)
+        continue;
+
+      isKept[maxIndex] = true;
+      if (top + 4 > stack.length) {
+        int[] newStack = new int[2 * stack.length];
+        System.arraycopy(stack, 0, newStack, 0, top);
+        stack = newStack;
+      }
+      stack[top++] = i;
+      stack[top++] = maxIndex;
+      stack[top++] = maxIndex;
+      stack[top++] = j;
+    }
+  }
+
+  /**
+   * Finds the vertex in a section furthest from the segment 
+   * between the section endpoints.
+   * The first furthest vertex is returned.
+   * If no distance can be computed (due to NaN ordinates)
+   * the section start index is returned.
+   */
+  private static int findFurthest(CoordinateSequence seq, int i, int j) {
+    double maxDistance = -1.0;
+    int maxIndex = i;
+    for (int k = i + 1; k < j; k++) {
+      double distance = sectionDistance(seq, k, i, j);
+      if (distance > maxDistance) {
+        maxDistance = distance;
+        maxIndex = k;
+      }
+    }
+    return maxIndex;
+  }
+
+  private static double sectionDistance(CoordinateSequence seq, int k, int i, int j) {
+    return segmentDistance(seq.getX(k), seq.getY(k),
+        seq.getX(i), seq.getY(i), seq.getX(j), seq.getY(j));
+  }
+
+  /**
+   * Computes the distance from a point to a line segment.
+   * This uses the same computation as
+   * {@link org.locationtech.jts.algorithm.Distance#pointToSegment(org.locationtech.jts.geom.Coordinate, org.locationtech.jts.geom.Coordinate, org.locationtech.jts.geom.Coordinate)}.
+   */
+  private static double segmentDistance(double px, double py,
+      double ax, double ay, double bx, double by) {
+    if (ax == bx && ay == by)
+      return MathUtil.hypot(px - ax, py - ay);
+
+    double len2 = (bx - ax) * (bx - ax) + (by - ay) * (by - ay);
+    double r = ((px - ax) * (bx - ax) + (py - ay) * (by - ay)) / len2;
+    if (r <= 0.0)
+      return MathUtil.hypot(px - ax, py - ay);
+    if (r >= 1.0)
+      return MathUtil.hypot(px - bx, py - by);
+
+    double s = ((ay - py) * (bx - ax) - (ax - px) * (by - ay)) / len2;
+    return Math.abs(s) * Math.sqrt(len2);
+  }
+
+  private static CoordinateSequence extract(CoordinateSequence seq, boolean[] isKept,
+      CoordinateSequenceFactory factory) {
+    int size = 0;
+    for (boolean kept : isKept) {
+      if (kept) size++;
+    }
+    CoordinateSequence result = factory.create(size, seq.getDimension(), seq.getMeasures());
+    int n = 0;
+    for (int i = 0; i < isKept.length; i++) {
+      if (isKept[i]) {
+        CoordinateSequences.copyCoord(seq, i, result, n++);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Simplifies a line using the Visvalingam-Whyatt algorithm.
+   * The live vertices are held in a linked list,
+   * and the interior vertices in an indexed binary heap
+   * ordered by their triangle area.
+   * Vertices with equal area are ordered by index,
+   * which matches the removal order of {@link VWLineSimplifier}.
+   */
+  private static class VWHeap {
+    private CoordinateSequence seq;
+    private int[] prev;
+    private int[] next;
+    private double[] area;
+    private int[] heap;
+    private int[] heapPos;
+    private int heapSize = 0;
+
+    VWHeap(CoordinateSequence seq) {
+      this.seq = seq;
+    }
+
+    boolean[] simplify(double areaTolerance) {
+      int n = seq.size();
+      boolean[] isKept = new boolean[n];
+      for (int i = 0; i < n; i++) {
+        isKept[i] = true;
+      }
+      if (n < 3)
+        return isKept;
+
+      init(n);
+      while (heapSize > 0 && area[heap[0]] < areaTolerance) {
+        isKept[removeVertex()] = false;
+      }
+      return isKept;
+    }
+
+    double[] significance() {
+      int n = seq.size();
+      double[] significance = new double[n];
+      for (int i = 0; i < n; i++) {
+        significance[i] = Double.POSITIVE_INFINITY;
+      }
+      if (n < 3)
+        return significance;
+      init(n);
+      //-- removal order does not depend on tolerance, so remove all interior vertices
+      double maxArea = 0.0;
+      while (heapSize > 0) {
+        double area = this.area[heap[0]];
+        int v = removeVertex();
+        maxArea = Math.max(maxArea, area);
+        significance[v] = maxArea;
+      }
+      return significance;
+    }
+
+    private void init(int n) {
+      prev = new int[n];
+      next = new int[n];
+      area = new double[n];
+      heap = new int[n];
+      heapPos = new int[n];
+      for (int i = 0; i < n; i++) {
+        prev[i] = i - 1;
+        next[i] = i + 1;
+      }
+      //-- the endpoints are never removed, so they are not in the heap
+      for (int i = 1; i < n - 1; i++) {
+        area[i] = triangleArea(i);
+        heap[heapSize] = i;
+        heapPos[i] = heapSize;
+        heapSize++;
+      }
+      for (int i = heapSize / 2 - 1; i >= 0; i--) {
+        siftDown(i);
+      }
+    }
+
+    /**
+     * Removes the vertex with minimum area, 
+     * and updates the areas of its neighbours.
+     * 
+     * @return the removed vertex
+     */
+    private int removeVertex() {
+      int v = removeMin();
+      int p = prev[v];
+      int nx = next[v];
+      next[p] = nx;
+      prev[nx] = p;
+      updateArea(p);
+      updateArea(nx);
+      return v;
+    }
+
+    private double triangleArea(int i) {
+      int a = prev[i];
+      int c = next[i];
+      double ax = seq.getX(a);
+      double ay = seq.getY(a);
+      double bx = seq.getX(i);
+      double by = seq.getY(i);
+      double cx = seq.getX(c);
+      double cy = seq.getY(c);
+      double area = Math.abs(((cx - ax) * (by - ay) - (bx - ax) * (cy - ay)) / 2);
+      //-- vertices with undefined area are never removed
+      if (Double.isNaN(area))
+        return Double.POSITIVE_INFINITY;
+      return area;
+    }
+
+    private void updateArea(int i) {
+      //-- endpoints are not in the heap
+      if (prev[i] < 0 || next[i] >= prev.length)
+        return;
+      area[i] = triangleArea(i);
+      int pos = heapPos[i];
+      siftUp(pos);
+      siftDown(heapPos[i]);
+    }
+
+    private int removeMin() {
+      int min = heap[0];
+      heapSize--;
+      if (heapSize > 0) {
+        move(heap[heapSize], 0);
+        siftDown(0);
+      }
+      return min;
+    }
+
+    private boolean isLess(int v1, int v2) {
+      if (area[v1] < area[v2]) return true;
+      if (area[v1] > area[v2]) return false;
+      return v1 < v2;
+    }
+
+    private void move(int v, int pos) {
+      heap[pos] = v;
+      heapPos[v] = pos;
+    }
+
+    private void siftUp(int pos) {
+      int v = heap[pos];
+      while (pos > 0) {
+        int parent = (pos - 1) / 2;
+        if (! isLess(v, heap[parent]))
+          break;
+        move(heap[parent], pos);
+        pos = parent;
+      }
+      move(v, pos);
+    }
+
+    private void siftDown(int pos) {
+      int v = heap[pos];
+      while (true) {
+        int child = 2 * pos + 1;
+        if (child >= heapSize)
+          break;
+        if (child + 1 < heapSize && isLess(heap[child + 1], heap[child]))
+          child++;
+        if (! isLess(heap[child], v))
+          break;
+        move(heap[child], pos);
+        pos = child;
+      }
+      move(v, pos);
+    }
+  }
+}
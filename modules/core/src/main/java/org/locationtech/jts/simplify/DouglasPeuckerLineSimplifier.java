@@ -16,6 +16,7 @@ import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateArrays;
 import org.locationtech.jts.geom.CoordinateList;
 import org.locationtech.jts.geom.LineSegment;
+import org.locationtech.jts.geom.impl.CoordinateArraySequence;
 
 /**
  * Simplifies a linestring (sequence of points) using
@@ -34,7 +35,6 @@ class DouglasPeuckerLineSimplifier
   }
 
   private Coordinate[] pts;
-  private boolean[] usePt;
   private double distanceTolerance;
   private boolean isPreserveEndpoint = false;
 
@@ -59,11 +59,11 @@ class DouglasPeuckerLineSimplifier
   
   public Coordinate[] simplify()
   {
-    usePt = new boolean[pts.length];
-    for (int i = 0; i < pts.length; i++) {
-      usePt[i] = true;
+    boolean[] usePt = new boolean[pts.length];
+    if (pts.length > 0) {
+      CoordinateSequenceSimplifier.douglasPeucker(new CoordinateArraySequence(pts),
+          0, pts.length - 1, distanceTolerance, usePt);
     }
-    simplifySection(0, pts.length - 1);
     
     CoordinateList coordList = new CoordinateList();
     for (int i = 0; i < pts.length; i++) {
@@ -72,19 +72,26 @@ class DouglasPeuckerLineSimplifier
     }
     
     if (! isPreserveEndpoint && CoordinateArrays.isRing(pts)) {
-      simplifyRingEndpoint(coordList);
+      simplifyRingEndpoint(coordList, distanceTolerance);
     }
 
    return coordList.toCoordinateArray();
   }
 
-  private void simplifyRingEndpoint(CoordinateList pts) {
+  /**
+   * Removes the endpoint of a simplified ring 
+   * if it is within the distance tolerance of the segment
+   * between its neighbours.
+   * 
+   * @param pts the simplified ring points
+   * @param distanceTolerance the simplification distance tolerance
+   */
+  static void simplifyRingEndpoint(CoordinateList pts, double distanceTolerance) {
     //-- avoid collapsing triangles
     if (pts.size() < 4)
       return;
     //-- base segment for endpoint
-    seg.p0 = pts.get(1);
-    seg.p1 = pts.get(pts.size() - 2); 
+    LineSegment seg = new LineSegment(pts.get(1), pts.get(pts.size() - 2));
     double distance = seg.distance(pts.get(0));
     if (distance <= distanceTolerance) {
       pts.remove(0);
@@ -93,33 +100,4 @@ class DouglasPeuckerLineSimplifier
     }
   }
 
-  private LineSegment seg = new LineSegment();
-
-  private void simplifySection(int i, int j)
-  {
-    if((i+1) == j) {
-      return;
-    }
-    seg.p0 = pts[i];
-    seg.p1 = pts[j];
-    double maxDistance = -1.0;
-    int maxIndex = i;
-    for (int k = i + 1; k < j; k++) {
-      double distance = seg.distance(pts[k]);
-      if (distance > maxDistance) {
-        maxDistance = distance;
-        maxIndex = k;
-      }
-    }
-    if (maxDistance <= distanceTolerance) {
-      for(int k = i + 1; k < j; k++) {
-        usePt[k] = false;
-      }
-    }
-    else {
-      simplifySection(i, maxIndex);
-      simplifySection(maxIndex, j);
-    }
-  }
-
 }
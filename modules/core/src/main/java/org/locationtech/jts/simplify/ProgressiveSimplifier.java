@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.simplify;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateArrays;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryComponentFilter;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Point;
+
+/**
+ * Simplifies a geometry at many different distance tolerances,
+ * without repeating the simplification work for each tolerance.
+ * This is useful for generating multiple levels of detail
+ * (such as for vector map tiles at different zoom levels).
+ * <p>
+ * The significance of every vertex is computed once, when the simplifier is created.
+ * The significance is the tolerance at which a vertex is removed
+ * by either the Douglas-Peucker or Visvalingam-Whyatt algorithm.
+ * A simplified geometry for any tolerance can then be extracted
+ * in time proportional to the number of input vertices.
+ * <p>
+ * The result for a given tolerance is identical to that produced by
+ * {@link DouglasPeuckerSimplifier} or {@link VWSimplifier}.
+ * In particular, polygonal results are made valid
+ * (unless {@link #setEnsureValid(boolean)} is set to false).
+ * The topology of other geometry types is not preserved.
+ * <p>
+ * The input geometry must not be modified after the simplifier is created.
+ * Instances can be used concurrently by multiple threads.
+ *
+ * @author Martin Davis
+ *
+ * @see CoordinateSequenceSimplifier
+ */
+public class ProgressiveSimplifier {
+
+  /**
+   * Creates a simplifier which uses the Douglas-Peucker algorithm.
+   *
+   * @param geom the geometry to simplify
+   * @return the simplifier
+   */
+  public static ProgressiveSimplifier douglasPeucker(Geometry geom) {
+    return new ProgressiveSimplifier(geom, false);
+  }
+
+  /**
+   * Creates a simplifier which uses the Visvalingam-Whyatt algorithm.
+   *
+   * @param geom the geometry to simplify
+   * @return the simplifier
+   */
+  public static ProgressiveSimplifier visvalingamWhyatt(Geometry geom) {
+    return new ProgressiveSimplifier(geom, true);
+  }
+
+  private Geometry inputGeom;
+  private boolean isVW;
+  private boolean isEnsureValidTopology = true;
+  private Map<CoordinateSequence, double[]> significanceMap
+      = new IdentityHashMap<CoordinateSequence, double[]>();
+
+  private ProgressiveSimplifier(Geometry inputGeom, boolean isVW) {
+    this.inputGeom = inputGeom;
+    this.isVW = isVW;
+    computeSignificance();
+  }
+
+  /**
+   * Controls whether simplified polygons will be "fixed"
+   * to have valid topology.
+   * The default is to fix polygon topology.
+   *
+   * @param isEnsureValidTopology whether polygons are fixed
+   *
+   * @see DouglasPeuckerSimplifier#setEnsureValid(boolean)
+   */
+  public void setEnsureValid(boolean isEnsureValidTopology) {
+    this.isEnsureValidTopology = isEnsureValidTopology;
+  }
+
+  /**
+   * Gets the significance of the vertices of a linear or point component
+   * of the input geometry.
+   * For Douglas-Peucker a vertex is kept if its significance
+   * is greater than the distance tolerance.
+   * For Visvalingam-Whyatt the significance is an area,
+   * and a vertex is kept if it is greater than or equal to
+   * the square of the distance tolerance.
+   *
+   * @param component a component of the input geometry
+   * @return the vertex significances, or null if the geometry is not an input component
+   */
+  public double[] getSignificance(Geometry component) {
+    if (component instanceof LineString)
+      return significanceMap.get(((LineString) component).getCoordinateSequence());
+    if (component instanceof Point)
+      return significanceMap.get(((Point) component).getCoordinateSequence());
+    return null;
+  }
+
+  /**
+   * Gets the simplified geometry for a distance tolerance.
+   *
+   * @param distanceTolerance the simplification distance tolerance
+   * @return the simplified geometry
+   */
+  public Geometry getResultGeometry(double distanceTolerance) {
+    if (distanceTolerance < 0.0)
+      throw new IllegalArgumentException("Tolerance must be non-negative");
+    //-- empty input produces an empty result
+    if (inputGeom.isEmpty()) return inputGeom.copy();
+
+    if (isVW) {
+      return new VWSignificanceTransformer(isEnsureValidTopology, distanceTolerance)
+          .transform(inputGeom);
+    }
+    return new DPSignificanceTransformer(isEnsureValidTopology, distanceTolerance)
+        .transform(inputGeom);
+  }
+
+  private void computeSignificance() {
+    inputGeom.apply(new GeometryComponentFilter() {
+      public void filter(Geometry geom) {
+        CoordinateSequence seq = null;
+        if (geom instanceof LineString) {
+          seq = ((LineString) geom).getCoordinateSequence();
+        }
+        else if (geom instanceof Point) {
+          seq = ((Point) geom).getCoordinateSequence();
+        }
+        if (seq == null) return;
+        double[] significance = isVW
+            ? CoordinateSequenceSimplifier.visvalingamWhyattSignificance(seq)
+            : CoordinateSequenceSimplifier.douglasPeuckerSignificance(seq);
+        significanceMap.put(seq, significance);
+      }
+    });
+  }
+
+  /**
+   * Extracts the simplified coordinates of a line
+   * using the precomputed Douglas-Peucker significance.
+   * This matches {@link DouglasPeuckerLineSimplifier}.
+   */
+  private class DPSignificanceTransformer extends DouglasPeuckerSimplifier.DPTransformer {
+    private double distanceTolerance;
+
+    DPSignificanceTransformer(boolean isEnsureValidTopology, double distanceTolerance) {
+      super(isEnsureValidTopology, distanceTolerance);
+      this.distanceTolerance = distanceTolerance;
+    }
+
+    protected CoordinateSequence transformCoordinates(CoordinateSequence coords, Geometry parent) {
+      double[] significance = significanceMap.get(coords);
+      Coordinate[] pts = coords.toCoordinateArray();
+      CoordinateList coordList = new CoordinateList();
+      for (int i = 0; i < pts.length; i++) {
+        if (significance[i] > distanceTolerance)
+          coordList.add(pts[i].copy());
+      }
+      boolean isPreserveEndpoint = ! (parent instanceof LinearRing);
+      if (! isPreserveEndpoint && CoordinateArrays.isRing(pts)) {
+        DouglasPeuckerLineSimplifier.simplifyRingEndpoint(coordList, distanceTolerance);
+      }
+      return factory.getCoordinateSequenceFactory().create(coordList.toCoordinateArray());
+    }
+  }
+
+  /**
+   * Extracts the simplified coordinates of a line
+   * using the precomputed Visvalingam-Whyatt significance.
+   * This matches {@link VWLineSimplifier}.
+   */
+  private class VWSignificanceTransformer extends VWSimplifier.VWTransformer {
+    private double areaTolerance;
+
+    VWSignificanceTransformer(boolean isEnsureValidTopology, double distanceTolerance) {
+      super(isEnsureValidTopology, distanceTolerance);
+      this.areaTolerance = distanceTolerance * distanceTolerance;
+    }
+
+    protected CoordinateSequence transformCoordinates(CoordinateSequence coords, Geometry parent) {
+      double[] significance = significanceMap.get(coords);
+      Coordinate[] pts = coords.toCoordinateArray();
+      if (pts.length == 0) {
+        return factory.getCoordinateSequenceFactory().create(pts);
+      }
+      CoordinateList coordList = new CoordinateList();
+      for (int i = 0; i < pts.length; i++) {
+        if (significance[i] >= areaTolerance)
+          coordList.add(pts[i], false);
+      }
+      Coordinate[] simp = coordList.toCoordinateArray();
+      //-- ensure computed value is a valid line
+      if (simp.length < 2) {
+        simp = new Coordinate[] { simp[0], simp[0] };
+      }
+      return factory.getCoordinateSequenceFactory().create(CoordinateArrays.copyDeep(simp));
+    }
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.simplify;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequences;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+
+/**
+ * Simplifies a stream of line vertices using the Douglas-Peucker algorithm,
+ * with memory use bounded by a fixed window size.
+ * This allows simplifying lines which are too large to hold in memory
+ * (such as GPS tracks read from a file).
+ * <p>
+ * Vertices are added one at a time.
+ * When the window is full it is simplified,
+ * and the kept vertices are passed to a {@link PointHandler},
+ * apart from the last one, which starts the next window.
+ * Calling {@link #finish()} simplifies and emits the final window.
+ * <p>
+ * Every vertex of the input line is within the distance tolerance
+ * of the simplified line, and the line endpoints are always kept.
+ * Since each window is simplified independently,
+ * the result may contain more vertices than simplifying the entire line
+ * with {@link CoordinateSequenceSimplifier}.
+ * The window boundaries are always kept, so larger windows give better results.
+ *
+ * @author Martin Davis
+ *
+ * @see CoordinateSequenceSimplifier
+ */
+public class StreamingLineSimplifier {
+
+  /**
+   * Receives the vertices of a simplified line.
+   */
+  public interface PointHandler {
+    /**
+     * Accepts a vertex of the simplified line.
+     * The sequence is reused by the simplifier,
+     * so the vertex ordinates must be read (or copied) before returning.
+     *
+     * @param seq the sequence containing the vertex
+     * @param index the index of the vertex in the sequence
+     */
+    void point(CoordinateSequence seq, int index);
+  }
+
+  private double distanceTolerance;
+  private PointHandler handler;
+  private CoordinateSequence window;
+  private boolean[] isKept;
+  private int size = 0;
+
+  /**
+   * Creates a simplifier for XY vertices.
+   *
+   * @param distanceTolerance the simplification distance tolerance
+   * @param windowSize the maximum number of vertices to simplify together
+   * @param handler the handler for the simplified vertices
+   */
+  public StreamingLineSimplifier(double distanceTolerance, int windowSize, PointHandler handler) {
+    this(distanceTolerance, windowSize, 2, 0, handler);
+  }
+
+  /**
+   * Creates a simplifier for vertices with the given dimension and measures.
+   *
+   * @param distanceTolerance the simplification distance tolerance
+   * @param windowSize the maximum number of vertices to simplify together
+   * @param dimension the dimension of the vertices
+   * @param measures the number of measures of the vertices
+   * @param handler the handler for the simplified vertices
+   */
+  public StreamingLineSimplifier(double distanceTolerance, int windowSize,
+      int dimension, int measures, PointHandler handler) {
+    if (distanceTolerance < 0.0)
+      throw new IllegalArgumentException("Tolerance must be non-negative");
+    if (windowSize < 3)
+      throw new IllegalArgumentException("Window size must be at least 3");
+    this.distanceTolerance = distanceTolerance;
+    this.handler = handler;
+    window = new PackedCoordinateSequence.Double(windowSize, dimension, measures);
+    isKept = new boolean[windowSize];
+  }
+
+  /**
+   * Adds an XY vertex to the line.
+   * Any other ordinates are set to {@link Coordinate#NULL_ORDINATE}.
+   *
+   * @param x the X ordinate
+   * @param y the Y ordinate
+   */
+  public void add(double x, double y) {
+    window.setOrdinate(size, CoordinateSequence.X, x);
+    window.setOrdinate(size, CoordinateSequence.Y, y);
+    for (int i = 2; i < window.getDimension(); i++) {
+      window.setOrdinate(size, i, Coordinate.NULL_ORDINATE);
+    }
+    added();
+  }
+
+  /**
+   * Adds a vertex from a sequence to the line.
+   * The ordinates are copied up to the dimension of the simplifier.
+   *
+   * @param seq the sequence containing the vertex
+   * @param index the index of the vertex in the sequence
+   */
+  public void add(CoordinateSequence seq, int index) {
+    CoordinateSequences.copyCoord(seq, index, window, size);
+    added();
+  }
+
+  /**
+   * Simplifies and emits the remaining vertices of the line.
+   * The simplifier can then be used for another line.
+   */
+  public void finish() {
+    if (size > 0) {
+      emit(size);
+    }
+    size = 0;
+  }
+
+  private void added() {
+    size++;
+    if (size < window.size())
+      return;
+    emit(size - 1);
+    //-- the last vertex starts the next window
+    CoordinateSequences.copyCoord(window, size - 1, window, 0);
+    size = 1;
+  }
+
+  /**
+   * Simplifies the window and emits the kept vertices before an index.
+   *
+   * @param emitEnd the index of the first vertex not to emit
+   */
+  private void emit(int emitEnd) {
+    for (int i = 0; i < size; i++) {
+      isKept[i] = false;
+    }
+    CoordinateSequenceSimplifier.douglasPeucker(window, 0, size - 1, distanceTolerance, isKept);
+    for (int i = 0; i < emitEnd; i++) {
+      if (isKept[i])
+        handler.point(window, i);
+    }
+  }
+}
@@ -12,21 +12,40 @@
 
 package org.locationtech.jts.simplify;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.STRtree;
 
 /**
  * Simplifies a collection of TaggedLineStrings, preserving topology
  * (in the sense that no new intersections are introduced).
  * This class is essentially just a container for the common
  * indexes used by {@link TaggedLineStringSimplifier}.
+ * <p>
+ * In parallel mode the lines are partitioned into clusters
+ * of lines with transitively intersecting envelopes.
+ * Simplifying a line only queries segments lying within the line envelope,
+ * and only changes segments within it,
+ * so lines in different clusters do not affect each other.
+ * Each cluster is simplified with its own indexes,
+ * processing its lines in the same order as the serial mode,
+ * so the result is identical.
  */
 class TaggedLinesSimplifier
 {
+  private static final int PARALLEL_LINES_MIN = 64;
+
   private LineSegmentIndex inputIndex = new LineSegmentIndex();
   private LineSegmentIndex outputIndex = new LineSegmentIndex();
   
   private double distanceTolerance = 0.0;
+  private boolean isParallel = false;
 
   public TaggedLinesSimplifier()
   {
@@ -44,12 +63,25 @@ class TaggedLinesSimplifier
     this.distanceTolerance = distanceTolerance;
   }
 
+  /**
+   * Sets whether the lines are simplified in parallel.
+   *
+   * @param isParallel true if the lines are simplified in parallel
+   */
+  public void setParallel(boolean isParallel) {
+    this.isParallel = isParallel;
+  }
+
   /**
    * Simplify a collection of TaggedLineStrings
    *
    * @param taggedLines the collection of lines to simplify
    */
   public void simplify(Collection taggedLines) {
+    if (isParallel && taggedLines.size() >= PARALLEL_LINES_MIN) {
+      simplifyParallel(taggedLines);
+      return;
+    }
     ComponentJumpChecker jumpChecker = new ComponentJumpChecker(taggedLines);
     
     for (Iterator i = taggedLines.iterator(); i.hasNext(); ) {
@@ -62,4 +94,127 @@ class TaggedLinesSimplifier
     }
   }
 
+  private void simplifyParallel(Collection taggedLines) {
+    TaggedLineString[] lines = new TaggedLineString[taggedLines.size()];
+    int n = 0;
+    for (Iterator i = taggedLines.iterator(); i.hasNext(); ) {
+      lines[n++] = (TaggedLineString) i.next();
+    }
+    List<List<TaggedLineString>> clusters = cluster(lines);
+    ForkJoinPool.commonPool().invoke(
+        new SimplifyClustersTask(clusters, 0, clusters.size()));
+  }
+
+  /**
+   * Partitions lines into clusters with transitively intersecting envelopes.
+   * The lines in each cluster are in the same order as the input,
+   * and the clusters are ordered by their first line.
+   *
+   * @param lines the lines to partition
+   * @return the list of clusters
+   */
+  private static List<List<TaggedLineString>> cluster(TaggedLineString[] lines) {
+    STRtree index = new STRtree();
+    for (int i = 0; i < lines.length; i++) {
+      index.insert(lines[i].getParent().getEnvelopeInternal(), i);
+    }
+    int[] parent = new int[lines.length];
+    for (int i = 0; i < lines.length; i++) {
+      parent[i] = i;
+    }
+    for (int i = 0; i < lines.length; i++) {
+      Envelope env = lines[i].getParent().getEnvelopeInternal();
+      for (Object item : index.query(env)) {
+        union(parent, i, (Integer) item);
+      }
+    }
+    List<List<TaggedLineString>> clusters = new ArrayList<List<TaggedLineString>>();
+    int[] clusterIndex = new int[lines.length];
+    for (int i = 0; i < lines.length; i++) {
+      int root = find(parent, i);
+      if (root == i) {
+        clusterIndex[i] = clusters.size();
+        clusters.add(new ArrayList<TaggedLineString>());
+      }
+    }
+    for (int i = 0; i < lines.length; i++) {
+      clusters.get(clusterIndex[find(parent, i)]).add(lines[i]);
+    }
+    return clusters;
+  }
+
+  private static int find(int[] parent, int i) {
+    while (parent[i] != i) {
+      parent[i] = parent[parent[i]];
+      i = parent[i];
+    }
+    return i;
+  }
+
+  private static void union(int[] parent, int i, int j) {
+    int ri = find(parent, i);
+    int rj = find(parent, j);
+    //-- keep the lowest index as the root, so cluster order follows the input
+    if (ri < rj)
+      parent[rj] = ri;
+    else if (rj < ri)
+      parent[ri] = rj;
+  }
+
+  private void simplifyCluster(List<TaggedLineString> cluster) {
+    /**
+     * Only components in the cluster can lie within the envelope
+     * of a cluster line, so other components do not need to be checked
+     */
+    ComponentJumpChecker jumpChecker = new ComponentJumpChecker(cluster);
+    LineSegmentIndex clusterInputIndex = new LineSegmentIndex();
+    LineSegmentIndex clusterOutputIndex = new LineSegmentIndex();
+    for (TaggedLineString line : cluster) {
+      clusterInputIndex.add(line);
+    }
+    for (TaggedLineString line : cluster) {
+      TaggedLineStringSimplifier tlss
+          = new TaggedLineStringSimplifier(clusterInputIndex, clusterOutputIndex, jumpChecker);
+      tlss.simplify(line, distanceTolerance);
+    }
+  }
+
+  /**
+   * Simplifies a range of clusters,
+   * splitting ranges containing many lines.
+   */
+  private class SimplifyClustersTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final List<List<TaggedLineString>> clusters;
+    private final int start;
+    private final int end;
+
+    SimplifyClustersTask(List<List<TaggedLineString>> clusters, int start, int end) {
+      this.clusters = clusters;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= 1 || numLines() <= PARALLEL_LINES_MIN) {
+        for (int i = start; i < end; i++) {
+          simplifyCluster(clusters.get(i));
+        }
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new SimplifyClustersTask(clusters, start, mid),
+          new SimplifyClustersTask(clusters, mid, end));
+    }
+
+    private int numLines() {
+      int n = 0;
+      for (int i = start; i < end; i++) {
+        n += clusters.get(i).size();
+      }
+      return n;
+    }
+  }
 }
@@ -73,6 +73,25 @@ public class TopologyPreservingSimplifier
     return tss.getResultGeometry();
   }
 
+  /**
+   * Simplifies a geometry, optionally computing the simplification in parallel.
+   * The result is identical to that computed serially.
+   *
+   * @param geom the geometry to simplify
+   * @param distanceTolerance the simplification distance tolerance
+   * @param isParallel true if the simplification is computed in parallel
+   * @return the simplified geometry
+   * 
+   * @see #setParallel(boolean)
+   */
+  public static Geometry simplify(Geometry geom, double distanceTolerance, boolean isParallel)
+  {
+    TopologyPreservingSimplifier tss = new TopologyPreservingSimplifier(geom);
+    tss.setDistanceTolerance(distanceTolerance);
+    tss.setParallel(isParallel);
+    return tss.getResultGeometry();
+  }
+
   private Geometry inputGeom;
   private TaggedLinesSimplifier lineSimplifier = new TaggedLinesSimplifier();
   private Map<LineString, TaggedLineString> linestringMap;
@@ -97,6 +116,19 @@ public class TopologyPreservingSimplifier
     lineSimplifier.setDistanceTolerance(distanceTolerance);
   }
 
+  /**
+   * Sets whether the simplification is computed in parallel.
+   * Groups of lines whose envelopes are disjoint from 
+   * the lines in other groups are simplified concurrently.
+   * The result is identical to that computed serially.
+   * The default is to simplify serially.
+   *
+   * @param isParallel true if the simplification is computed in parallel
+   */
+  public void setParallel(boolean isParallel) {
+    lineSimplifier.setParallel(isParallel);
+  }
+
   public Geometry getResultGeometry() 
   {
     // empty input produces an empty result
@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.locationtech.jts.algorithm.CGAlgorithmsDD;
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateArrays;
+import org.locationtech.jts.triangulate.quadedge.QuadEdge;
+import org.locationtech.jts.triangulate.tri.CompactTriangulation;
+
+/**
+ * Computes a Delaunay Triangulation of a set of sites
+ * as a {@link CompactTriangulation}.
+ * The same divide-and-conquer algorithm as {@link DivideAndConquerDelaunayTriangulator}
+ * is used, but the quad-edge structure is held in <code>int</code> arrays
+ * rather than {@link QuadEdge} objects,
+ * and the sites in a <code>double</code> array.
+ * This greatly reduces the memory required to triangulate
+ * large numbers of sites.
+ * <p>
+ * Duplicate sites are ignored.
+ * If there are fewer than 3 distinct sites, or they are all collinear,
+ * the triangulation contains no triangles.
+ *
+ * @author Martin Davis
+ *
+ * @see DivideAndConquerDelaunayTriangulator
+ */
+public class CompactDelaunayTriangulator {
+
+  /**
+   * Computes the Delaunay Triangulation of a collection of sites.
+   *
+   * @param sites a collection of Coordinates
+   * @return the triangulation
+   */
+  public static CompactTriangulation triangulate(Collection<Coordinate> sites) {
+    return triangulate(CoordinateArrays.toCoordinateArray(sites));
+  }
+
+  /**
+   * Computes the Delaunay Triangulation of an array of sites.
+   * The array is not modified.
+   *
+   * @param sites an array of Coordinates
+   * @return the triangulation
+   */
+  public static CompactTriangulation triangulate(Coordinate[] sites) {
+    CompactDelaunayTriangulator triangulator = new CompactDelaunayTriangulator(sites);
+    return triangulator.getTriangulation();
+  }
+
+  private static final int NO_EDGE = -1;
+
+  private double[] xy;
+  private double[] z;
+  private int numSites;
+
+  /**
+   * The quad-edge structure.
+   * Quad q holds the edges 4q to 4q+3, with 4q being the primal edge
+   * and 4q+1 its rotation.
+   * next holds the onext link of each edge,
+   * and orig the origin site of the two primal edges 4q and 4q+2.
+   */
+  private int[] next;
+  private int[] orig;
+  private int numQuads = 0;
+  private int[] freeQuads;
+  private int numFree = 0;
+
+  private CompactDelaunayTriangulator(Coordinate[] sites) {
+    initSites(sites);
+  }
+
+  private void initSites(Coordinate[] sites) {
+    Coordinate[] pts = sites.clone();
+    Arrays.sort(pts);
+    int n = 0;
+    boolean hasZ = false;
+    for (int i = 0; i < pts.length; i++) {
+      if (n > 0 && pts[i].equals2D(pts[n - 1])) continue;
+      pts[n++] = pts[i];
+      if (! Double.isNaN(pts[i].getZ())) hasZ = true;
+    }
+    numSites = n;
+    xy = new double[2 * n];
+    z = hasZ ? new double[n] : null;
+    for (int i = 0; i < n; i++) {
+      xy[2 * i] = pts[i].x;
+      xy[2 * i + 1] = pts[i].y;
+      if (hasZ) z[i] = pts[i].getZ();
+    }
+  }
+
+  private CompactTriangulation getTriangulation() {
+    if (numSites >= 2) {
+      int capacity = 3 * numSites + 16;
+      next = new int[4 * capacity];
+      orig = new int[2 * capacity];
+      freeQuads = new int[16];
+      triangulate(0, numSites);
+    }
+    return extractTriangles();
+  }
+
+  //-------------  quad-edge operations  -------------------
+
+  private static int rot(int e) {
+    return (e & ~3) | ((e + 1) & 3);
+  }
+
+  private static int sym(int e) {
+    return e ^ 2;
+  }
+
+  private static int invRot(int e) {
+    return (e & ~3) | ((e + 3) & 3);
+  }
+
+  private int oNext(int e) {
+    return next[e];
+  }
+
+  private int oPrev(int e) {
+    return rot(next[rot(e)]);
+  }
+
+  private int lNext(int e) {
+    return rot(next[invRot(e)]);
+  }
+
+  private int rPrev(int e) {
+    return next[sym(e)];
+  }
+
+  private int orig(int e) {
+    return orig[e >> 1];
+  }
+
+  private int dest(int e) {
+    return orig[sym(e) >> 1];
+  }
+
+  private int makeEdge(int o, int d) {
+    int q;
+    if (numFree > 0) {
+      q = freeQuads[--numFree];
+    }
+    else {
+      if (4 * (numQuads + 1) > next.length) {
+        next = Arrays.copyOf(next, 2 * next.length);
+        orig = Arrays.copyOf(orig, 2 * orig.length);
+      }
+      q = numQuads++;
+    }
+    int e = 4 * q;
+    next[e] = e;
+    next[e + 1] = e + 3;
+    next[e + 2] = e + 2;
+    next[e + 3] = e + 1;
+    orig[2 * q] = o;
+    orig[2 * q + 1] = d;
+    return e;
+  }
+
+  private void splice(int a, int b) {
+    int alpha = rot(next[a]);
+    int beta = rot(next[b]);
+    int t1 = next[b];
+    int t2 = next[a];
+    int t3 = next[beta];
+    int t4 = next[alpha];
+    next[a] = t1;
+    next[b] = t2;
+    next[alpha] = t3;
+    next[beta] = t4;
+  }
+
+  private int connect(int a, int b) {
+    int e = makeEdge(dest(a), orig(b));
+    splice(e, lNext(a));
+    splice(sym(e), b);
+    return e;
+  }
+
+  private void deleteEdge(int e) {
+    splice(e, oPrev(e));
+    splice(sym(e), oPrev(sym(e)));
+    int q = e >> 2;
+    next[4 * q] = NO_EDGE;
+    if (numFree == freeQuads.length) {
+      freeQuads = Arrays.copyOf(freeQuads, 2 * freeQuads.length);
+    }
+    freeQuads[numFree++] = q;
+  }
+
+  //-------------  predicates  -------------------
+
+  private boolean isCCW(int a, int b, int c) {
+    return Orientation.COUNTERCLOCKWISE == CGAlgorithmsDD.orientationIndex(
+        xy[2 * a], xy[2 * a + 1], xy[2 * b], xy[2 * b + 1], xy[2 * c], xy[2 * c + 1]);
+  }
+
+  private boolean isInCircle(int a, int b, int c, int p) {
+    return DivideAndConquerDelaunayTriangulator.isInCircle(
+        xy[2 * a], xy[2 * a + 1], xy[2 * b], xy[2 * b + 1],
+        xy[2 * c], xy[2 * c + 1], xy[2 * p], xy[2 * p + 1]);
+  }
+
+  private boolean isRightOf(int v, int e) {
+    return isCCW(v, dest(e), orig(e));
+  }
+
+  private boolean isLeftOf(int v, int e) {
+    return isCCW(v, orig(e), dest(e));
+  }
+
+  private boolean isValid(int e, int basel) {
+    return isRightOf(dest(e), basel);
+  }
+
+  //-------------  divide-and-conquer  -------------------
+
+  /**
+   * Triangulates a range of the sorted sites.
+   * The range must contain at least 2 sites.
+   *
+   * @return the counter-clockwise hull edge out of the leftmost site
+   *   and the clockwise hull edge out of the rightmost site
+   */
+  private int[] triangulate(int start, int end) {
+    int n = end - start;
+    if (n == 2) {
+      int a = makeEdge(start, start + 1);
+      return new int[] { a, sym(a) };
+    }
+    if (n == 3) {
+      return triangulate3(start, start + 1, start + 2);
+    }
+    int mid = start + n / 2;
+    int[] left = triangulate(start, mid);
+    int[] right = triangulate(mid, end);
+    return merge(left, right);
+  }
+
+  private int[] triangulate3(int s1, int s2, int s3) {
+    int a = makeEdge(s1, s2);
+    int b = makeEdge(s2, s3);
+    splice(sym(a), b);
+    if (isCCW(s1, s2, s3)) {
+      connect(b, a);
+      return new int[] { a, sym(b) };
+    }
+    if (isCCW(s1, s3, s2)) {
+      int c = connect(b, a);
+      return new int[] { sym(c), c };
+    }
+    //-- sites are collinear
+    return new int[] { a, sym(b) };
+  }
+
+  private int[] merge(int[] left, int[] right) {
+    int ldo = left[0];
+    int ldi = left[1];
+    int rdi = right[0];
+    int rdo = right[1];
+
+    //-- find the lower common tangent of the halves
+    while (true) {
+      if (isLeftOf(orig(rdi), ldi)) {
+        ldi = lNext(ldi);
+      }
+      else if (isRightOf(orig(ldi), rdi)) {
+        rdi = rPrev(rdi);
+      }
+      else {
+        break;
+      }
+    }
+    int basel = connect(sym(rdi), ldi);
+    if (orig(ldi) == orig(ldo)) ldo = sym(basel);
+    if (orig(rdi) == orig(rdo)) rdo = basel;
+
+    //-- add cross edges from the bottom up, deleting edges which are no longer Delaunay
+    while (true) {
+      int lcand = oNext(sym(basel));
+      if (isValid(lcand, basel)) {
+        while (isInCircle(dest(basel), orig(basel), dest(lcand), dest(oNext(lcand)))) {
+          int t = oNext(lcand);
+          deleteEdge(lcand);
+          lcand = t;
+        }
+      }
+      int rcand = oPrev(basel);
+      if (isValid(rcand, basel)) {
+        while (isInCircle(dest(basel), orig(basel), dest(rcand), dest(oPrev(rcand)))) {
+          int t = oPrev(rcand);
+          deleteEdge(rcand);
+          rcand = t;
+        }
+      }
+      boolean isLeftValid = isValid(lcand, basel);
+      boolean isRightValid = isValid(rcand, basel);
+      //-- the upper common tangent has been reached
+      if (! isLeftValid && ! isRightValid) break;
+
+      if (! isLeftValid
+          || (isRightValid && isInCircle(dest(lcand), orig(lcand), orig(rcand), dest(rcand)))) {
+        basel = connect(rcand, sym(basel));
+      }
+      else {
+        basel = connect(sym(basel), sym(lcand));
+      }
+    }
+    return new int[] { ldo, rdo };
+  }
+
+  //-------------  result extraction  -------------------
+
+  /**
+   * Extracts the triangles from the quad-edge structure.
+   * Each triangle is the CCW left face of three edges.
+   * The outer face is CW (or degenerate), so it is not extracted.
+   */
+  private CompactTriangulation extractTriangles() {
+    //-- the half-edge index of each quad-edge primal edge, by edge >> 1
+    int numEdgeSlots = 2 * numQuads;
+    int[] halfEdgeOf = new int[numEdgeSlots];
+    Arrays.fill(halfEdgeOf, NO_EDGE);
+    int numLive = numQuads - numFree;
+    //-- Euler's formula bounds the number of triangles by the number of edges
+    int[] triangles = new int[3 * (2 * numLive / 3 + 1)];
+    int numTri = 0;
+    for (int q = 0; q < numQuads; q++) {
+      if (next[4 * q] == NO_EDGE) continue;
+      for (int e = 4 * q; e <= 4 * q + 2; e += 2) {
+        if (halfEdgeOf[e >> 1] != NO_EDGE) continue;
+        int e1 = lNext(e);
+        int e2 = lNext(e1);
+        if (lNext(e2) != e) continue;
+        int a = orig(e);
+        int b = orig(e1);
+        int c = orig(e2);
+        if (! isCCW(a, b, c)) continue;
+        //-- store CW, so the half-edges are c->a, b->c, a->b
+        int t = 3 * numTri++;
+        if (t + 3 > triangles.length) {
+          triangles = Arrays.copyOf(triangles, 2 * triangles.length);
+        }
+        triangles[t] = a;
+        triangles[t + 1] = c;
+        triangles[t + 2] = b;
+        halfEdgeOf[e2 >> 1] = t;
+        halfEdgeOf[e1 >> 1] = t + 1;
+        halfEdgeOf[e >> 1] = t + 2;
+      }
+    }
+    triangles = Arrays.copyOf(triangles, 3 * numTri);
+    int[] halfEdges = new int[3 * numTri];
+    Arrays.fill(halfEdges, NO_EDGE);
+    for (int slot = 0; slot < numEdgeSlots; slot++) {
+      int h = halfEdgeOf[slot];
+      if (h == NO_EDGE) continue;
+      //-- the slot of the sym edge differs in the lowest bit
+      halfEdges[h] = halfEdgeOf[slot ^ 1];
+    }
+    return new CompactTriangulation(xy, z, triangles, halfEdges);
+  }
+}
@@ -28,12 +28,18 @@ import org.locationtech.jts.geom.MultiLineString;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
 import org.locationtech.jts.triangulate.quadedge.Vertex;
+import org.locationtech.jts.triangulate.tri.CompactTriangulation;
 
 
 /**
  * A utility class which creates Delaunay Triangulations
  * from collections of points and extract the resulting 
  * triangulation edges or triangles as geometries. 
+ * <p>
+ * Large inputs (with no snapping tolerance) are triangulated
+ * into a {@link CompactTriangulation} when only the edges or triangles are required,
+ * since this uses much less memory than a {@link QuadEdgeSubdivision}.
+ * This is not done if parallel computation is requested.
  * 
  * @author Martin Davis
  *
@@ -104,9 +110,16 @@ public class DelaunayTriangulationBuilder
 		return env;
 	}
 	
+	/**
+	 * The number of sites above which a compact triangulation is used
+	 */
+	static final int COMPACT_MIN_SITES = 10000;
+	
 	private Collection siteCoords;
 	private double tolerance = 0.0;
+	private boolean isParallel = false;
 	private QuadEdgeSubdivision subdiv = null;
+	private CompactTriangulation compactTri = null;
 	
 	/**
 	 * Creates a new triangulation builder.
@@ -152,6 +165,19 @@ public class DelaunayTriangulationBuilder
 		this.tolerance = tolerance;
 	}
 	
+	/**
+	 * Sets whether the triangulation is computed in parallel.
+	 * The result is the same in either case.
+	 * 
+	 * @param isParallel true if the triangulation is computed in parallel
+	 * 
+	 * @see DivideAndConquerDelaunayTriangulator#setParallel(boolean)
+	 */
+	public void setParallel(boolean isParallel)
+	{
+		this.isParallel = isParallel;
+	}
+	
 	private void create()
 	{
 		if (subdiv != null) return;
@@ -159,7 +185,8 @@ public class DelaunayTriangulationBuilder
 		Envelope siteEnv = envelope(siteCoords);
 		List vertices = toVertices(siteCoords);
 		subdiv = new QuadEdgeSubdivision(siteEnv, tolerance);
-		IncrementalDelaunayTriangulator triangulator = new IncrementalDelaunayTriangulator(subdiv);
+		DivideAndConquerDelaunayTriangulator triangulator = new DivideAndConquerDelaunayTriangulator(subdiv);
+		triangulator.setParallel(isParallel);
 		triangulator.insertSites(vertices);
 	}
 	
@@ -174,6 +201,34 @@ public class DelaunayTriangulationBuilder
 		return subdiv;
 	}
 	
+	/**
+	 * Gets the computed triangulation as a {@link CompactTriangulation}.
+	 * If there is no snapping tolerance and the subdivision has not been created
+	 * this is computed directly, without creating a subdivision.
+	 * 
+	 * @return the compact triangulation
+	 */
+	public CompactTriangulation getCompactTriangulation()
+	{
+		if (compactTri == null) {
+			if (subdiv == null && tolerance == 0.0) {
+				compactTri = CompactDelaunayTriangulator.triangulate(
+						CoordinateArrays.toCoordinateArray(siteCoords));
+			}
+			else {
+				compactTri = CompactTriangulation.fromSubdivision(getSubdivision());
+			}
+		}
+		return compactTri;
+	}
+	
+	private boolean isCompact()
+	{
+		if (compactTri != null) return true;
+		return subdiv == null && tolerance == 0.0 && ! isParallel
+				&& siteCoords.size() >= COMPACT_MIN_SITES;
+	}
+	
 	/**
 	 * Gets the edges of the computed triangulation as a {@link MultiLineString}.
 	 * 
@@ -182,6 +237,9 @@ public class DelaunayTriangulationBuilder
 	 */
 	public Geometry getEdges(GeometryFactory geomFact)
 	{
+		if (isCompact()) {
+			return getCompactTriangulation().getEdges(geomFact);
+		}
 		create();
 		return subdiv.getEdges(geomFact);
 	}
@@ -195,6 +253,9 @@ public class DelaunayTriangulationBuilder
 	 */
 	public Geometry getTriangles(GeometryFactory geomFact)
 	{
+		if (isCompact()) {
+			return getCompactTriangulation().getTriangles(geomFact);
+		}
 		create();
 		return subdiv.getTriangles(geomFact);
 	}
@@ -0,0 +1,641 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.triangulate.quadedge.QuadEdge;
+import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
+import org.locationtech.jts.triangulate.quadedge.Vertex;
+
+/**
+ * Computes a Delaunay Triangulation of a set of {@link Vertex}es
+ * using the divide-and-conquer algorithm of Guibas and Stolfi (1985).
+ * The sites are sorted, split recursively into halves,
+ * and the triangulations of the halves are merged.
+ * This runs in O(n log n) time for all inputs,
+ * and is much faster than {@link IncrementalDelaunayTriangulator}
+ * for large numbers of sites.
+ * Optionally the halves can be triangulated in parallel.
+ * <p>
+ * The triangulation is built in a {@link QuadEdgeSubdivision}
+ * which must not yet contain any sites.
+ * The frame vertices of the subdivision are triangulated along with the sites,
+ * so the result can be used in the same way as one produced by
+ * incremental insertion (e.g. to extract a Voronoi diagram).
+ * If the boundary of the triangulation is forced to be convex
+ * (which is the default)
+ * the frame triangles are adjusted in the same way as
+ * {@link IncrementalDelaunayTriangulator#forceConvex(boolean)}.
+ * <p>
+ * For sites in general position the triangulation is the same as
+ * the one computed by incremental insertion.
+ * Where sites are cocircular the Delaunay triangulation is not unique,
+ * and the triangles may differ.
+ * <p>
+ * Duplicate sites are ignored.
+ * If the subdivision has a non-zero tolerance
+ * the sites are triangulated by incremental insertion,
+ * since that handles snapping sites to nearby vertices and edges.
+ *
+ * @author Martin Davis
+ *
+ * @see IncrementalDelaunayTriangulator
+ */
+public class DivideAndConquerDelaunayTriangulator
+{
+  /**
+   * The number of sites below which the halves
+   * are triangulated in the current thread.
+   */
+  private static final int PARALLEL_MIN_SITES = 20000;
+
+  /**
+   * The relative error bound for the floating-point in-circle determinant.
+   */
+  private static final double IN_CIRCLE_ERROR_BOUND = 1e-14;
+
+  private QuadEdgeSubdivision subdiv;
+  private boolean isForceConvex = true;
+  private boolean isParallel = false;
+  private Vertex[] frameVertex;
+  private Vertex[] sites;
+  private List<List<QuadEdge>> edgeLists;
+
+  /**
+   * Creates a new triangulator using the given {@link QuadEdgeSubdivision}.
+   *
+   * @param subdiv a subdivision containing no sites
+   */
+  public DivideAndConquerDelaunayTriangulator(QuadEdgeSubdivision subdiv) {
+    this.subdiv = subdiv;
+  }
+
+  /**
+   * Sets whether the triangulation is forced to have a convex boundary.
+   * The default is true.
+   *
+   * @param isForceConvex true if the triangulation boundary is forced to be convex
+   *
+   * @see IncrementalDelaunayTriangulator#forceConvex(boolean)
+   */
+  public void forceConvex(boolean isForceConvex) {
+    this.isForceConvex = isForceConvex;
+  }
+
+  /**
+   * Sets whether the halves of the site set
+   * are triangulated in parallel.
+   * The triangulation is the same in either case.
+   * The default is false.
+   *
+   * @param isParallel true if the triangulation is computed in parallel
+   */
+  public void setParallel(boolean isParallel) {
+    this.isParallel = isParallel;
+  }
+
+  /**
+   * Triangulates a collection of sites.
+   * This can only be called once for a subdivision.
+   *
+   * @param vertices a Collection of Vertex
+   *
+   * @throws IllegalStateException if the subdivision already contains sites
+   */
+  public void insertSites(Collection vertices) {
+    frameVertex = subdiv.getFrameVertices();
+    //-- a zero-size frame occurs if there is only one distinct site
+    boolean isFrameEmpty = frameVertex[1].equals(frameVertex[2]);
+    if (subdiv.getTolerance() > 0.0 || isFrameEmpty) {
+      IncrementalDelaunayTriangulator triangulator = new IncrementalDelaunayTriangulator(subdiv);
+      triangulator.forceConvex(isForceConvex);
+      triangulator.insertSites(vertices);
+      return;
+    }
+    sites = sortedUnique(vertices);
+    edgeLists = Collections.synchronizedList(new ArrayList<List<QuadEdge>>());
+
+    QuadEdge[] hull;
+    if (isParallel) {
+      hull = ForkJoinPool.commonPool().invoke(new TriangulateTask(0, sites.length));
+    }
+    else {
+      hull = triangulate(0, sites.length, createEdgeList());
+    }
+    QuadEdge frameEdge = findFrameEdge(hull[0]);
+    if (isForceConvex) {
+      forceConvexBoundary();
+    }
+    subdiv.setTriangulation(frameEdge, liveEdges());
+  }
+
+  private Vertex[] sortedUnique(Collection vertices) {
+    Vertex[] pts = new Vertex[vertices.size() + 3];
+    int n = 0;
+    for (Iterator i = vertices.iterator(); i.hasNext(); ) {
+      pts[n++] = (Vertex) i.next();
+    }
+    for (Vertex fv : frameVertex) {
+      pts[n++] = fv;
+    }
+    Comparator<Vertex> comp = new Comparator<Vertex>() {
+      public int compare(Vertex v1, Vertex v2) {
+        return v1.getCoordinate().compareTo(v2.getCoordinate());
+      }
+    };
+    if (isParallel) {
+      Arrays.parallelSort(pts, comp);
+    }
+    else {
+      Arrays.sort(pts, comp);
+    }
+    int nUnique = 1;
+    for (int i = 1; i < pts.length; i++) {
+      Coordinate prev = pts[nUnique - 1].getCoordinate();
+      if (! pts[i].getCoordinate().equals2D(prev)) {
+        pts[nUnique++] = pts[i];
+      }
+    }
+    return Arrays.copyOf(pts, nUnique);
+  }
+
+  private List<QuadEdge> createEdgeList() {
+    List<QuadEdge> edges = new ArrayList<QuadEdge>();
+    edgeLists.add(edges);
+    return edges;
+  }
+
+  private List<QuadEdge> liveEdges() {
+    List<QuadEdge> live = new ArrayList<QuadEdge>();
+    for (List<QuadEdge> edges : edgeLists) {
+      for (QuadEdge e : edges) {
+        if (e.isLive())
+          live.add(e);
+      }
+    }
+    return live;
+  }
+
+  /**
+   * Triangulates a range of the sorted sites.
+   * The range must contain at least 2 sites.
+   *
+   * @param start the index of the first site
+   * @param end the index after the last site
+   * @param edges the list to add created edges to
+   * @return the counter-clockwise hull edge out of the leftmost site
+   *   and the clockwise hull edge out of the rightmost site
+   */
+  private QuadEdge[] triangulate(int start, int end, List<QuadEdge> edges) {
+    int n = end - start;
+    if (n == 2) {
+      QuadEdge a = makeEdge(sites[start], sites[start + 1], edges);
+      return new QuadEdge[] { a, a.sym() };
+    }
+    if (n == 3) {
+      return triangulate3(sites[start], sites[start + 1], sites[start + 2], edges);
+    }
+    int mid = start + n / 2;
+    QuadEdge[] left = triangulate(start, mid, edges);
+    QuadEdge[] right = triangulate(mid, end, edges);
+    return merge(left, right, edges);
+  }
+
+  private static QuadEdge[] triangulate3(Vertex s1, Vertex s2, Vertex s3, List<QuadEdge> edges) {
+    QuadEdge a = makeEdge(s1, s2, edges);
+    QuadEdge b = makeEdge(s2, s3, edges);
+    QuadEdge.splice(a.sym(), b);
+    if (isCCW(s1, s2, s3)) {
+      connect(b, a, edges);
+      return new QuadEdge[] { a, b.sym() };
+    }
+    if (isCCW(s1, s3, s2)) {
+      QuadEdge c = connect(b, a, edges);
+      return new QuadEdge[] { c.sym(), c };
+    }
+    //-- sites are collinear
+    return new QuadEdge[] { a, b.sym() };
+  }
+
+  /**
+   * Merges the triangulations of two adjacent ranges of sites.
+   *
+   * @param left the hull edges of the left triangulation
+   * @param right the hull edges of the right triangulation
+   * @param edges the list to add created edges to
+   * @return the hull edges of the merged triangulation
+   */
+  private static QuadEdge[] merge(QuadEdge[] left, QuadEdge[] right, List<QuadEdge> edges) {
+    QuadEdge ldo = left[0];
+    QuadEdge ldi = left[1];
+    QuadEdge rdi = right[0];
+    QuadEdge rdo = right[1];
+
+    //-- find the lower common tangent of the halves
+    while (true) {
+      if (isLeftOf(rdi.orig(), ldi)) {
+        ldi = ldi.lNext();
+      }
+      else if (isRightOf(ldi.orig(), rdi)) {
+        rdi = rdi.rPrev();
+      }
+      else {
+        break;
+      }
+    }
+    QuadEdge basel = connect(rdi.sym(), ldi, edges);
+    if (ldi.orig() == ldo.orig()) ldo = basel.sym();
+    if (rdi.orig() == rdo.orig()) rdo = basel;
+
+    //-- add cross edges from the bottom up, deleting edges which are no longer Delaunay
+    while (true) {
+      QuadEdge lcand = basel.sym().oNext();
+      if (isValid(lcand, basel)) {
+        while (isInCircle(basel.dest(), basel.orig(), lcand.dest(), lcand.oNext().dest())) {
+          QuadEdge t = lcand.oNext();
+          deleteEdge(lcand);
+          lcand = t;
+        }
+      }
+      QuadEdge rcand = basel.oPrev();
+      if (isValid(rcand, basel)) {
+        while (isInCircle(basel.dest(), basel.orig(), rcand.dest(), rcand.oPrev().dest())) {
+          QuadEdge t = rcand.oPrev();
+          deleteEdge(rcand);
+          rcand = t;
+        }
+      }
+      boolean isLeftValid = isValid(lcand, basel);
+      boolean isRightValid = isValid(rcand, basel);
+      //-- the upper common tangent has been reached
+      if (! isLeftValid && ! isRightValid) break;
+
+      if (! isLeftValid
+          || (isRightValid && isInCircle(lcand.dest(), lcand.orig(), rcand.orig(), rcand.dest()))) {
+        basel = connect(rcand, basel.sym(), edges);
+      }
+      else {
+        basel = connect(basel.sym(), lcand.sym(), edges);
+      }
+    }
+    return new QuadEdge[] { ldo, rdo };
+  }
+
+  private static boolean isValid(QuadEdge e, QuadEdge basel) {
+    return isRightOf(e.dest(), basel);
+  }
+
+  private static boolean isCCW(Vertex a, Vertex b, Vertex c) {
+    return Orientation.COUNTERCLOCKWISE
+        == Orientation.index(a.getCoordinate(), b.getCoordinate(), c.getCoordinate());
+  }
+
+  /**
+   * Tests if a vertex is inside the circumcircle of a CCW triangle.
+   */
+  private static boolean isInCircle(Vertex a, Vertex b, Vertex c, Vertex p) {
+    return isInCircle(a.getX(), a.getY(), b.getX(), b.getY(),
+        c.getX(), c.getY(), p.getX(), p.getY());
+  }
+
+  /**
+   * Tests if a point is inside the circumcircle of a CCW triangle.
+   * The merge step requires consistent predicate results,
+   * so if the floating-point determinant is too small to be certain
+   * the test is recomputed using exact arithmetic.
+   */
+  static boolean isInCircle(double ax, double ay, double bx, double by,
+      double cx, double cy, double px, double py) {
+    double adx = ax - px;
+    double ady = ay - py;
+    double bdx = bx - px;
+    double bdy = by - py;
+    double cdx = cx - px;
+    double cdy = cy - py;
+
+    double bdxcdy = bdx * cdy;
+    double cdxbdy = cdx * bdy;
+    double cdxady = cdx * ady;
+    double adxcdy = adx * cdy;
+    double adxbdy = adx * bdy;
+    double bdxady = bdx * ady;
+    double alift = adx * adx + ady * ady;
+    double blift = bdx * bdx + bdy * bdy;
+    double clift = cdx * cdx + cdy * cdy;
+
+    double det = alift * (bdxcdy - cdxbdy)
+        + blift * (cdxady - adxcdy)
+        + clift * (adxbdy - bdxady);
+    double permanent = (Math.abs(bdxcdy) + Math.abs(cdxbdy)) * alift
+        + (Math.abs(cdxady) + Math.abs(adxcdy)) * blift
+        + (Math.abs(adxbdy) + Math.abs(bdxady)) * clift;
+    if (Math.abs(det) > IN_CIRCLE_ERROR_BOUND * permanent)
+      return det > 0;
+    return isInCircleExact(ax, ay, bx, by, cx, cy, px, py);
+  }
+
+  private static boolean isInCircleExact(double ax, double ay, double bx, double by,
+      double cx, double cy, double px, double py) {
+    BigDecimal pxe = new BigDecimal(px);
+    BigDecimal pye = new BigDecimal(py);
+    BigDecimal adx = new BigDecimal(ax).subtract(pxe);
+    BigDecimal ady = new BigDecimal(ay).subtract(pye);
+    BigDecimal bdx = new BigDecimal(bx).subtract(pxe);
+    BigDecimal bdy = new BigDecimal(by).subtract(pye);
+    BigDecimal cdx = new BigDecimal(cx).subtract(pxe);
+    BigDecimal cdy = new BigDecimal(cy).subtract(pye);
+
+    BigDecimal alift = adx.multiply(adx).add(ady.multiply(ady));
+    BigDecimal blift = bdx.multiply(bdx).add(bdy.multiply(bdy));
+    BigDecimal clift = cdx.multiply(cdx).add(cdy.multiply(cdy));
+    BigDecimal det = alift.multiply(bdx.multiply(cdy).subtract(cdx.multiply(bdy)))
+        .add(blift.multiply(cdx.multiply(ady).subtract(adx.multiply(cdy))))
+        .add(clift.multiply(adx.multiply(bdy).subtract(bdx.multiply(ady))));
+    return det.signum() > 0;
+  }
+
+  private static boolean isRightOf(Vertex v, QuadEdge e) {
+    return isCCW(v, e.dest(), e.orig());
+  }
+
+  private static boolean isLeftOf(Vertex v, QuadEdge e) {
+    return isCCW(v, e.orig(), e.dest());
+  }
+
+  private static QuadEdge makeEdge(Vertex o, Vertex d, List<QuadEdge> edges) {
+    QuadEdge e = QuadEdge.makeEdge(o, d);
+    edges.add(e);
+    return e;
+  }
+
+  private static QuadEdge connect(QuadEdge a, QuadEdge b, List<QuadEdge> edges) {
+    QuadEdge e = QuadEdge.connect(a, b);
+    edges.add(e);
+    return e;
+  }
+
+  private static void deleteEdge(QuadEdge e) {
+    QuadEdge.splice(e, e.oPrev());
+    QuadEdge.splice(e.sym(), e.sym().oPrev());
+    QuadEdge eSym = e.sym();
+    QuadEdge eRot = e.rot();
+    QuadEdge eRotSym = e.rot().sym();
+    e.delete();
+    eSym.delete();
+    eRot.delete();
+    eRotSym.delete();
+  }
+
+  /**
+   * Finds the edge from frame vertex 0 to frame vertex 1,
+   * which is the starting edge of the subdivision.
+   * Frame vertex 1 is the leftmost site.
+   *
+   * @param leftHullEdge the hull edge out of the leftmost site
+   * @return the starting frame edge
+   */
+  private QuadEdge findFrameEdge(QuadEdge leftHullEdge) {
+    return findEdgeTo(leftHullEdge, frameVertex[0]).sym();
+  }
+
+  private boolean isFrameVertex(Vertex v) {
+    return v == frameVertex[0] || v == frameVertex[1] || v == frameVertex[2];
+  }
+
+  /**
+   * Ensures that the edges of the convex hull of the sites
+   * are present in the triangulation.
+   * They may be missing because the frame is not infinitely far away,
+   * so that a frame vertex lies in the circumcircle of a hull triangle.
+   * Missing hull edges are inserted by flipping the edges which cross them,
+   * and the site triangles affected by the flips are then made Delaunay.
+   */
+  private void forceConvexBoundary() {
+    List<Vertex> hull = convexHull();
+    Map<Vertex, QuadEdge> hullVertexEdge = new IdentityHashMap<Vertex, QuadEdge>();
+    for (Vertex v : hull) {
+      hullVertexEdge.put(v, null);
+    }
+    Deque<QuadEdge> siteEdges = new ArrayDeque<QuadEdge>();
+    for (int i = 0; i < hull.size() - 1; i++) {
+      Vertex v0 = hull.get(i);
+      QuadEdge e = hullVertexEdge.get(v0);
+      if (e == null || ! e.isLive() || e.orig() != v0) {
+        findHullVertexEdges(hullVertexEdge);
+        e = hullVertexEdge.get(v0);
+      }
+      insertEdge(e, hull.get(i + 1), siteEdges);
+    }
+    while (! siteEdges.isEmpty()) {
+      QuadEdge e = siteEdges.pop();
+      if (! isSiteDelaunay(e)) {
+        QuadEdge.swap(e);
+        pushQuadrilateral(e, siteEdges);
+      }
+    }
+  }
+
+  /**
+   * Computes the convex hull of the sites, including collinear sites
+   * on the hull boundary, using the monotone chain algorithm.
+   *
+   * @return the hull vertices in counter-clockwise order, as a closed ring
+   */
+  private List<Vertex> convexHull() {
+    List<Vertex> hull = new ArrayList<Vertex>();
+    addHullChain(hull, true);
+    hull.remove(hull.size() - 1);
+    addHullChain(hull, false);
+    return hull;
+  }
+
+  private void addHullChain(List<Vertex> hull, boolean isLower) {
+    int chainStart = hull.size();
+    for (int k = 0; k < sites.length; k++) {
+      Vertex v = sites[isLower ? k : sites.length - 1 - k];
+      if (isFrameVertex(v))
+        continue;
+      while (hull.size() - chainStart >= 2
+          && Orientation.CLOCKWISE == Orientation.index(
+              hull.get(hull.size() - 2).getCoordinate(),
+              hull.get(hull.size() - 1).getCoordinate(),
+              v.getCoordinate())) {
+        hull.remove(hull.size() - 1);
+      }
+      hull.add(v);
+    }
+  }
+
+  private void findHullVertexEdges(Map<Vertex, QuadEdge> hullVertexEdge) {
+    for (List<QuadEdge> edges : edgeLists) {
+      for (QuadEdge e : edges) {
+        if (! e.isLive())
+          continue;
+        if (hullVertexEdge.containsKey(e.orig()))
+          hullVertexEdge.put(e.orig(), e);
+        if (hullVertexEdge.containsKey(e.dest()))
+          hullVertexEdge.put(e.dest(), e.sym());
+      }
+    }
+  }
+
+  /**
+   * Inserts an edge between two vertices by flipping the edges which cross it,
+   * if it is not already present.
+   * The line between the vertices must not contain any other vertex.
+   *
+   * @param start an edge with origin at the first vertex
+   * @param dest the second vertex
+   * @param flipped the list to add flipped edges to
+   */
+  private static void insertEdge(QuadEdge start, Vertex dest, Deque<QuadEdge> flipped) {
+    Vertex orig = start.orig();
+    //-- find the triangle at the origin which the line passes through
+    QuadEdge e = start;
+    while (true) {
+      if (e.dest() == dest)
+        return;
+      if (isCCW(orig, e.dest(), dest) && isCCW(orig, dest, e.oNext().dest()))
+        break;
+      e = e.oNext();
+      if (e == start)
+        throw new IllegalStateException("Edge location failed at " + orig);
+    }
+    /**
+     * Find the edges crossing the line.
+     * Each crossing edge is oriented with its origin to the right of the line.
+     */
+    Deque<QuadEdge> crossing = new ArrayDeque<QuadEdge>();
+    QuadEdge cross = e.lNext();
+    while (true) {
+      crossing.add(cross);
+      QuadEdge next = cross.sym();
+      Vertex apex = next.lNext().dest();
+      if (apex == dest)
+        break;
+      int orient = Orientation.index(orig.getCoordinate(), dest.getCoordinate(), apex.getCoordinate());
+      if (orient == Orientation.COLLINEAR)
+        throw new IllegalStateException("Vertex found on edge at " + apex);
+      cross = orient == Orientation.CLOCKWISE ? next.lPrev() : next.lNext();
+    }
+    //-- flip crossing edges until none remain
+    while (! crossing.isEmpty()) {
+      QuadEdge c = crossing.poll();
+      if (! isConvexQuadrilateral(c)) {
+        crossing.add(c);
+        continue;
+      }
+      QuadEdge.swap(c);
+      flipped.push(c);
+      if (isCrossing(c, orig, dest))
+        crossing.add(c);
+    }
+  }
+
+  private static boolean isCrossing(QuadEdge e, Vertex orig, Vertex dest) {
+    if (e.orig() == orig || e.orig() == dest || e.dest() == orig || e.dest() == dest)
+      return false;
+    int orient0 = Orientation.index(orig.getCoordinate(), dest.getCoordinate(), e.orig().getCoordinate());
+    int orient1 = Orientation.index(orig.getCoordinate(), dest.getCoordinate(), e.dest().getCoordinate());
+    return orient0 * orient1 < 0;
+  }
+
+  private static QuadEdge findEdgeTo(QuadEdge start, Vertex dest) {
+    QuadEdge e = start;
+    do {
+      if (e.dest() == dest)
+        return e;
+      e = e.oNext();
+    } while (e != start);
+    throw new IllegalStateException("Frame edge not found");
+  }
+
+  private static void pushQuadrilateral(QuadEdge e, Deque<QuadEdge> edges) {
+    edges.push(e.lNext());
+    edges.push(e.lPrev());
+    edges.push(e.sym().lNext());
+    edges.push(e.sym().lPrev());
+  }
+
+  private static boolean isConvexQuadrilateral(QuadEdge e) {
+    Coordinate p0 = e.oPrev().dest().getCoordinate();
+    Coordinate p1 = e.oNext().dest().getCoordinate();
+    int orientOrig = Orientation.index(p0, p1, e.orig().getCoordinate());
+    int orientDest = Orientation.index(p0, p1, e.dest().getCoordinate());
+    return orientOrig != Orientation.COLLINEAR
+        && orientDest != Orientation.COLLINEAR
+        && orientOrig != orientDest;
+  }
+
+  /**
+   * Tests if an edge between two sites is locally Delaunay
+   * with respect to the sites of its adjacent triangles.
+   * Edges adjacent to a frame triangle are not tested.
+   *
+   * @param e the edge to test
+   * @return false if the edge should be flipped
+   */
+  private boolean isSiteDelaunay(QuadEdge e) {
+    Vertex left = e.oNext().dest();
+    Vertex right = e.oPrev().dest();
+    if (isFrameVertex(e.orig()) || isFrameVertex(e.dest())
+        || isFrameVertex(left) || isFrameVertex(right))
+      return true;
+    return ! isInCircle(e.orig(), right, e.dest(), left);
+  }
+
+  /**
+   * Triangulates a range of the sorted sites,
+   * forking a task for the left half if the range is large.
+   */
+  private class TriangulateTask extends RecursiveTask<QuadEdge[]> {
+    private static final long serialVersionUID = 1L;
+    private int start;
+    private int end;
+
+    TriangulateTask(int start, int end) {
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected QuadEdge[] compute() {
+      List<QuadEdge> edges = createEdgeList();
+      int n = end - start;
+      if (n < PARALLEL_MIN_SITES) {
+        return triangulate(start, end, edges);
+      }
+      int mid = start + n / 2;
+      TriangulateTask leftTask = new TriangulateTask(start, mid);
+      leftTask.fork();
+      QuadEdge[] right = new TriangulateTask(mid, end).compute();
+      QuadEdge[] left = leftTask.join();
+      return merge(left, right, edges);
+    }
+  }
+}
@@ -13,6 +13,7 @@ package org.locationtech.jts.triangulate;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 
 import org.locationtech.jts.geom.Coordinate;
@@ -22,7 +23,11 @@ import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.triangulate.quadedge.QuadEdge;
 import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
+import org.locationtech.jts.triangulate.tri.CompactTriangulation;
 
 
 /**
@@ -38,6 +43,15 @@ import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
  * The <tt>userData</tt> attribute of each face <tt>Polygon</tt> is set to 
  * the <tt>Coordinate</tt>  of the corresponding input site.
  * This allows using a <tt>Map</tt> to link faces to data associated with sites.
+ * <p>
+ * The diagram for large inputs (with no snapping tolerance)
+ * is computed from a {@link CompactTriangulation},
+ * since this uses much less memory than a {@link QuadEdgeSubdivision}.
+ * This is not done if parallel computation is requested.
+ * <p>
+ * The faces can be processed one at a time using
+ * {@link #visitCells(GeometryFactory, VoronoiCellVisitor)},
+ * and can be clipped to a polygonal geometry as well as an envelope.
  * 
  * @author Martin Davis
  *
@@ -46,8 +60,10 @@ public class VoronoiDiagramBuilder
 {
 	private Collection siteCoords;
 	private double tolerance = 0.0;
+	private boolean isParallel = false;
 	private QuadEdgeSubdivision subdiv = null;
 	private Envelope clipEnv = null;
+	private Geometry clipPoly = null;
 	private Envelope diagramEnv = null; 
 	
 	/**
@@ -93,6 +109,25 @@ public class VoronoiDiagramBuilder
 	{
 		this.clipEnv = clipEnv;
 	}
+	
+	/**
+	 * Sets a polygonal geometry to clip the diagram to.
+	 * Each face is clipped to the polygon as it is computed,
+	 * using a {@link PreparedGeometry} to avoid clipping faces 
+	 * which lie wholly inside the polygon, 
+	 * and to discard faces which do not intersect it.
+	 * Faces which are clipped may become MultiPolygons.
+	 * <p>
+	 * If no clip envelope is set, 
+	 * the diagram is computed for a region which covers the polygon.
+	 * 
+	 * @param clipPoly the polygonal geometry to clip to
+	 */
+	public void setClipPolygon(Geometry clipPoly)
+	{
+		this.clipPoly = clipPoly;
+	}
+	
 	/**
 	 * Sets the snapping tolerance which will be used
 	 * to improved the robustness of the triangulation computation.
@@ -105,9 +140,22 @@ public class VoronoiDiagramBuilder
 		this.tolerance = tolerance;
 	}
 	
-	private void create()
+	/**
+	 * Sets whether the triangulation is computed in parallel.
+	 * The result is the same in either case.
+	 * 
+	 * @param isParallel true if the triangulation is computed in parallel
+	 * 
+	 * @see DivideAndConquerDelaunayTriangulator#setParallel(boolean)
+	 */
+	public void setParallel(boolean isParallel)
 	{
-		if (subdiv != null) return;
+		this.isParallel = isParallel;
+	}
+	
+	private void computeDiagramEnvelope()
+	{
+		if (diagramEnv != null) return;
 		
 		diagramEnv = clipEnv;
 		if (diagramEnv == null) {
@@ -120,11 +168,21 @@ public class VoronoiDiagramBuilder
   		// add a 50% buffer around the sites envelope
   		double expandBy = diagramEnv.getDiameter();
   		diagramEnv.expandBy(expandBy);
+  		if (clipPoly != null) {
+  		  diagramEnv.expandToInclude(clipPoly.getEnvelopeInternal());
+  		}
 		}
-
+	}
+	
+	private void create()
+	{
+		if (subdiv != null) return;
+		
+		computeDiagramEnvelope();
 		List vertices = DelaunayTriangulationBuilder.toVertices(siteCoords);
 		subdiv = new QuadEdgeSubdivision(diagramEnv, tolerance);
-		IncrementalDelaunayTriangulator triangulator = new IncrementalDelaunayTriangulator(subdiv);
+		DivideAndConquerDelaunayTriangulator triangulator = new DivideAndConquerDelaunayTriangulator(subdiv);
+		triangulator.setParallel(isParallel);
 		/**
 		 * Avoid creating very narrow triangles along triangulation boundary.
 		 * These otherwise can cause malformed Voronoi cells.
@@ -132,6 +190,12 @@ public class VoronoiDiagramBuilder
 		triangulator.forceConvex(false);
 		triangulator.insertSites(vertices);
 	}
+	
+	private boolean isCompact()
+	{
+		return subdiv == null && tolerance == 0.0 && ! isParallel
+				&& siteCoords.size() >= DelaunayTriangulationBuilder.COMPACT_MIN_SITES;
+	}
   
 	/**
 	 * Gets the {@link QuadEdgeSubdivision} which models the computed diagram.
@@ -154,45 +218,107 @@ public class VoronoiDiagramBuilder
 	 * 
 	 * @param geomFact the geometry factory to use to create the output
 	 * @return a <tt>GeometryCollection</tt> containing the face <tt>Polygon</tt>s of the diagram
+	 * 
+	 * @see #visitCells(GeometryFactory, VoronoiCellVisitor)
 	 */
 	public Geometry getDiagram(GeometryFactory geomFact)
 	{
+		final List<Geometry> cells = new ArrayList<Geometry>();
+		visitCells(geomFact, new VoronoiCellVisitor() {
+			public void visit(Coordinate site, Geometry cell) {
+				cells.add(cell);
+			}
+		});
+		return geomFact.createGeometryCollection(GeometryFactory.toGeometryArray(cells));
+	}
+	
+	/**
+	 * Visits the faces of the computed diagram one at a time, clipped as specified.
+	 * The faces are computed as they are visited,
+	 * so this requires much less memory than {@link #getDiagram(GeometryFactory)}
+	 * for large numbers of sites.
+	 * Faces which are empty after clipping are not visited.
+	 * <p>
+	 * The <tt>userData</tt> attribute of each face is set to 
+	 * the <tt>Coordinate</tt>  of the corresponding input site.
+	 * 
+	 * @param geomFact the geometry factory to use to create the faces
+	 * @param visitor the visitor to pass the faces to
+	 */
+	public void visitCells(GeometryFactory geomFact, VoronoiCellVisitor visitor)
+	{
+		computeDiagramEnvelope();
+		CellClipper clipper = new CellClipper(diagramEnv, clipPoly, geomFact);
+		if (isCompact()) {
+			CompactTriangulation tri = CompactDelaunayTriangulator.triangulate(
+					CoordinateArrays.toCoordinateArray(siteCoords));
+			//-- collinear sites have no triangles, so need the subdivision frame
+			if (tri.getNumTriangles() > 0) {
+				for (int v = 0; v < tri.getNumVertices(); v++) {
+					Polygon cell = tri.getVoronoiCellPolygon(v, diagramEnv, geomFact);
+					if (cell != null) {
+						clipper.visit(cell, visitor);
+					}
+				}
+				return;
+			}
+		}
 		create();
-		Geometry polys = subdiv.getVoronoiDiagram(geomFact);
-		
-		/*
-    System.out.println(polys);
-		Geometry tris = subdiv.getTriangles(true, geomFact);
-		System.out.println(tris);
-		if (! subdiv.isFrameDelaunay()) {
-		  throw new IllegalStateException("Triangulation frame is not Delaunay");
+		subdiv.computeVoronoiVertices();
+		List edges = subdiv.getVertexUniqueEdges(false);
+		for (Iterator i = edges.iterator(); i.hasNext(); ) {
+			QuadEdge qe = (QuadEdge) i.next();
+			clipper.visit(subdiv.getVoronoiCellPolygon(qe, geomFact), visitor);
 		}
-		//*/
-		
-		//-- clip polys to diagramEnv
-		return clipGeometryCollection(polys, diagramEnv);
 	}
-
-  private static Geometry clipGeometryCollection(Geometry geom, Envelope clipEnv)
+	
+	/**
+	 * Clips cells to the diagram envelope and the clip polygon (if any).
+	 */
+	private static class CellClipper
 	{
-		Geometry clipPoly = geom.getFactory().toGeometry(clipEnv);
-		List clipped = new ArrayList();
-		for (int i = 0; i < geom.getNumGeometries(); i++) {
-			Geometry g = geom.getGeometryN(i);
+		private Envelope clipEnv;
+		private Geometry clipEnvPoly;
+		private Geometry clipPoly;
+		private PreparedGeometry prepClipPoly = null;
+		
+		CellClipper(Envelope clipEnv, Geometry clipPoly, GeometryFactory geomFact)
+		{
+			this.clipEnv = clipEnv;
+			clipEnvPoly = geomFact.toGeometry(clipEnv);
+			this.clipPoly = clipPoly;
+			if (clipPoly != null) {
+				prepClipPoly = PreparedGeometryFactory.prepare(clipPoly);
+			}
+		}
+		
+		void visit(Polygon cell, VoronoiCellVisitor visitor)
+		{
+			Geometry result = clip(cell);
+			if (result == null || result.isEmpty())
+				return;
+			// keep vertex key info
+			result.setUserData(cell.getUserData());
+			visitor.visit((Coordinate) cell.getUserData(), result);
+		}
+		
+		private Geometry clip(Polygon cell)
+		{
 			Geometry result = null;
 			// don't clip unless necessary
-			if (clipEnv.contains(g.getEnvelopeInternal()))
-					result = g;
-			else if (clipEnv.intersects(g.getEnvelopeInternal())) {
-				result = clipPoly.intersection(g);
-				// keep vertex key info
-				result.setUserData(g.getUserData());
-			}
-
-			if (result != null && ! result.isEmpty()) {
-				clipped.add(result);
+			if (clipEnv.contains(cell.getEnvelopeInternal()))
+				result = cell;
+			else if (clipEnv.intersects(cell.getEnvelopeInternal())) {
+				result = clipEnvPoly.intersection(cell);
 			}
+			if (result == null || prepClipPoly == null)
+				return result;
+			
+			if (prepClipPoly.containsProperly(result))
+				return result;
+			if (! prepClipPoly.intersects(result))
+				return null;
+			return clipPoly.intersection(result);
 		}
-		return geom.getFactory().createGeometryCollection(GeometryFactory.toGeometryArray(clipped));
 	}
 }
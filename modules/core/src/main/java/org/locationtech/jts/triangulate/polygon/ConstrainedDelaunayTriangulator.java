@@ -30,6 +30,11 @@ import org.locationtech.jts.triangulate.tri.TriangulationBuilder;
  * of the polygon.
  * <p>
  * Holes are supported.
+ * Polygons with few holes are triangulated by joining the holes to the shell
+ * and ear-clipping the result.
+ * Polygons with many holes are triangulated by inserting their edges
+ * into the Delaunay Triangulation of their vertices,
+ * which avoids the cost of joining the holes.
  */
 public class ConstrainedDelaunayTriangulator {
   
@@ -44,9 +49,15 @@ public class ConstrainedDelaunayTriangulator {
     return cdt.getResult();
   }
   
+  /**
+   * The number of holes above which polygons are triangulated by edge insertion.
+   */
+  static final int EDGE_INSERTION_MIN_HOLES = 20;
+  
   private final GeometryFactory geomFact;
   private final Geometry inputGeom;
   private List<Tri> triList;
+  private boolean isHoleJoining = false;
 
   /**
    * Constructs a new Constrained Delaunay triangulator.
@@ -58,6 +69,19 @@ public class ConstrainedDelaunayTriangulator {
     this.inputGeom = inputGeom;
   }
 
+  /**
+   * Sets whether polygons with many holes are triangulated
+   * by joining the holes to the shell,
+   * rather than by inserting their edges into a Delaunay Triangulation.
+   * This is much slower for polygons with many holes.
+   * The default is <code>false</code>.
+   * 
+   * @param isHoleJoining true if holes are always joined to the shell
+   */
+  public void setHoleJoining(boolean isHoleJoining) {
+    this.isHoleJoining = isHoleJoining;
+  }
+  
   /**
    * Gets the triangulation as a {@link GeometryCollection} of triangular {@link Polygon}s.
    * 
@@ -97,6 +121,9 @@ public class ConstrainedDelaunayTriangulator {
    * @return list of Tris forming the triangulation
    */
   List<Tri> triangulatePolygon(Polygon poly) {
+    if (! isHoleJoining && poly.getNumInteriorRing() >= EDGE_INSERTION_MIN_HOLES) {
+      return EdgeInsertionTriangulator.triangulate(poly);
+    }
     Coordinate[] polyShell = PolygonHoleJoiner.join(poly);
     List<Tri> triList = PolygonEarClipper.triangulate(polyShell);
     
@@ -0,0 +1,479 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate.polygon;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.triangulate.CompactDelaunayTriangulator;
+import org.locationtech.jts.triangulate.quadedge.TrianglePredicate;
+import org.locationtech.jts.triangulate.tri.CompactTriangulation;
+import org.locationtech.jts.triangulate.tri.Tri;
+
+/**
+ * Computes the Constrained Delaunay Triangulation of a polygon
+ * by inserting the polygon edges into
+ * the Delaunay Triangulation of the polygon vertices.
+ * The triangulation is held in the array form used by {@link CompactTriangulation}.
+ * Each edge is recovered by flipping the edges which cross it
+ * (using the algorithm of Sloan, 1993),
+ * and the Delaunay property is then restored by flipping
+ * the edges which are not constrained.
+ * The triangles lying inside the polygon are found by a flood-fill
+ * which toggles between the interior and exterior at every constrained edge.
+ * <p>
+ * Unlike triangulating via {@link PolygonHoleJoiner} and {@link PolygonEarClipper},
+ * holes do not need to be joined to the shell,
+ * so the time taken is close to O(n log n) regardless of the number of holes.
+ * <p>
+ * The input polygon must be valid.
+ *
+ * @author Martin Davis
+ *
+ */
+class EdgeInsertionTriangulator {
+
+  /**
+   * Computes the Constrained Delaunay Triangulation of a polygon.
+   *
+   * @param poly a valid polygon
+   * @return the list of Tris in the triangulation
+   * @throws IllegalArgumentException if the polygon rings cross
+   */
+  public static List<Tri> triangulate(Polygon poly) {
+    EdgeInsertionTriangulator triangulator = new EdgeInsertionTriangulator(poly);
+    return triangulator.compute();
+  }
+
+  private final Polygon poly;
+  private Coordinate[] vertexPt;
+  private int[] triangles;
+  private int[] halfEdges;
+  private boolean[] isConstrained;
+  /**
+   * A half-edge starting at each vertex.
+   */
+  private int[] vertexEdge;
+
+  private EdgeInsertionTriangulator(Polygon poly) {
+    this.poly = poly;
+  }
+
+  private List<Tri> compute() {
+    if (poly.isEmpty())
+      return new ArrayList<Tri>();
+    Map<Coordinate, Integer> vertexIndex = init();
+    insertRing(poly.getExteriorRing(), vertexIndex);
+    for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+      insertRing(poly.getInteriorRingN(i), vertexIndex);
+    }
+    return createTris(findInterior());
+  }
+
+  private Map<Coordinate, Integer> init() {
+    Coordinate[] pts = poly.getCoordinates();
+    CompactTriangulation tri = CompactDelaunayTriangulator.triangulate(pts);
+    int numVertex = tri.getNumVertices();
+    Map<Coordinate, Integer> vertexIndex = new HashMap<Coordinate, Integer>(2 * numVertex);
+    for (int v = 0; v < numVertex; v++) {
+      vertexIndex.put(new Coordinate(tri.getX(v), tri.getY(v)), v);
+    }
+    //-- use the input coordinates, to preserve Z and M
+    vertexPt = new Coordinate[numVertex];
+    for (Coordinate p : pts) {
+      int v = vertexIndex.get(p);
+      if (vertexPt[v] == null) vertexPt[v] = p;
+    }
+    triangles = tri.getTriangleIndexes().clone();
+    halfEdges = tri.getHalfEdges().clone();
+    isConstrained = new boolean[triangles.length];
+    vertexEdge = new int[numVertex];
+    for (int e = 0; e < triangles.length; e++) {
+      vertexEdge[triangles[e]] = e;
+    }
+    return vertexIndex;
+  }
+
+  private void insertRing(LinearRing ring, Map<Coordinate, Integer> vertexIndex) {
+    Coordinate[] pts = ring.getCoordinates();
+    int prev = vertexIndex.get(pts[0]);
+    for (int i = 1; i < pts.length; i++) {
+      int v = vertexIndex.get(pts[i]);
+      if (v != prev) {
+        insertEdge(prev, v);
+      }
+      prev = v;
+    }
+  }
+
+  //-------------  edge insertion  -------------------
+
+  /**
+   * Inserts a constrained edge between two vertices.
+   * If the edge passes through other vertices
+   * it is inserted as a chain of edges.
+   *
+   * @param a the start vertex
+   * @param b the end vertex
+   */
+  private void insertEdge(int a, int b) {
+    while (a != b) {
+      int e = findStart(a, b);
+      int p = triangles[next(e)];
+      int q = triangles[prev(e)];
+      if (p == b || isCollinearAhead(a, b, p)) {
+        setConstrained(e);
+        a = p;
+      }
+      else if (q == b || isCollinearAhead(a, b, q)) {
+        setConstrained(prev(e));
+        a = q;
+      }
+      else {
+        a = recoverEdge(a, b, next(e));
+      }
+    }
+  }
+
+  /**
+   * Finds the triangle around a vertex <code>a</code>
+   * whose angle at <code>a</code> contains the direction to <code>b</code>.
+   *
+   * @param a the start vertex
+   * @param b the end vertex
+   * @return the half-edge of the triangle which starts at a
+   */
+  private int findStart(int a, int b) {
+    int start = vertexEdge[a];
+    int e = start;
+    boolean isReversed = false;
+    do {
+      if (isStart(e, a, b)) return e;
+      if (! isReversed) {
+        e = halfEdges[prev(e)];
+        if (e < 0) {
+          //-- reached the hull, so scan the other way
+          isReversed = true;
+          e = halfEdges[start];
+          if (e < 0) break;
+          e = next(e);
+        }
+      }
+      else {
+        e = halfEdges[e];
+        if (e < 0) break;
+        e = next(e);
+      }
+    } while (e != start);
+    throw new IllegalArgumentException("Unable to insert edge at " + vertexPt[a]);
+  }
+
+  private boolean isStart(int e, int a, int b) {
+    int p = triangles[next(e)];
+    int q = triangles[prev(e)];
+    if (p == b || q == b) return true;
+    int orientP = orientation(a, b, p);
+    int orientQ = orientation(a, b, q);
+    //-- the triangle is CW, so b lies between p and q if p is left and q is right
+    if (orientP == Orientation.LEFT && orientQ == Orientation.RIGHT) return true;
+    if (orientP == Orientation.COLLINEAR && isCollinearAhead(a, b, p)) return true;
+    if (orientQ == Orientation.COLLINEAR && isCollinearAhead(a, b, q)) return true;
+    return false;
+  }
+
+  /**
+   * Tests whether a vertex collinear with a segment lies in the direction of the segment.
+   */
+  private boolean isCollinearAhead(int a, int b, int p) {
+    Coordinate pa = vertexPt[a];
+    if (orientation(a, b, p) != Orientation.COLLINEAR) return false;
+    Coordinate pb = vertexPt[b];
+    Coordinate pp = vertexPt[p];
+    return (pp.x - pa.x) * (pb.x - pa.x) + (pp.y - pa.y) * (pb.y - pa.y) > 0;
+  }
+
+  /**
+   * Recovers the segment from <code>a</code> towards <code>b</code>
+   * as an edge of the triangulation,
+   * by flipping the edges which cross it,
+   * and then restores the Delaunay property around it.
+   * The recovered segment ends at <code>b</code>,
+   * or at the first vertex which lies on the segment.
+   *
+   * @param a the start vertex
+   * @param b the end vertex
+   * @param cross the first half-edge crossed by the segment
+   * @return the end vertex of the recovered edge
+   */
+  private int recoverEdge(int a, int b, int cross) {
+    Deque<int[]> crossing = new ArrayDeque<int[]>();
+    int end;
+    int h = cross;
+    while (true) {
+      if (isConstrained[h])
+        throw new IllegalArgumentException("Polygon edges cross at " + vertexPt[a]);
+      crossing.add(new int[] { triangles[h], triangles[next(h)] });
+      int adj = halfEdges[h];
+      int r = triangles[prev(adj)];
+      int orientR = orientation(a, b, r);
+      if (r == b || orientR == Orientation.COLLINEAR) {
+        end = r;
+        break;
+      }
+      //-- adj runs q -> p, so the next crossed edge is r-q if r is on the same side as p
+      if (orientR == orientation(a, b, triangles[h]))
+        h = prev(adj);
+      else
+        h = next(adj);
+    }
+
+    List<int[]> newEdges = new ArrayList<int[]>();
+    while (! crossing.isEmpty()) {
+      int[] edge = crossing.poll();
+      int e = findEdge(edge[0], edge[1]);
+      if (! isConvex(e)) {
+        crossing.add(edge);
+        continue;
+      }
+      flip(e);
+      int c = triangles[e];
+      int d = triangles[next(e)];
+      if (isCrossing(a, end, c, d)) {
+        crossing.add(new int[] { c, d });
+      }
+      else {
+        newEdges.add(new int[] { c, d });
+      }
+    }
+    setConstrained(findEdge(a, end));
+    restoreDelaunay(newEdges);
+    return end;
+  }
+
+  private boolean isCrossing(int a, int b, int c, int d) {
+    if (c == a || c == b || d == a || d == b) return false;
+    return orientation(a, b, c) * orientation(a, b, d) < 0;
+  }
+
+  /**
+   * Flips non-constrained edges which are not Delaunay,
+   * starting with a list of edges.
+   *
+   * @param edges the edges to check
+   */
+  private void restoreDelaunay(List<int[]> edges) {
+    Deque<int[]> stack = new ArrayDeque<int[]>(edges);
+    while (! stack.isEmpty()) {
+      int[] edge = stack.pop();
+      int e = findEdge(edge[0], edge[1]);
+      if (e < 0 || isConstrained[e] || halfEdges[e] < 0) continue;
+      int u = triangles[e];
+      int v = triangles[next(e)];
+      int c = triangles[prev(e)];
+      int d = triangles[prev(halfEdges[e])];
+      //-- the triangle is CW, so reverse it for the in-circle test
+      if (! TrianglePredicate.isInCircleRobust(vertexPt[u], vertexPt[c], vertexPt[v], vertexPt[d]))
+        continue;
+      if (! isConvex(e)) continue;
+      flip(e);
+      stack.push(new int[] { u, d });
+      stack.push(new int[] { d, v });
+      stack.push(new int[] { v, c });
+      stack.push(new int[] { c, u });
+    }
+  }
+
+  /**
+   * Tests whether the two triangles adjacent to an edge
+   * form a strictly convex quadrilateral, so that the edge can be flipped.
+   */
+  private boolean isConvex(int e) {
+    int adj = halfEdges[e];
+    if (adj < 0) return false;
+    int a = triangles[e];
+    int b = triangles[next(e)];
+    int c = triangles[prev(e)];
+    int d = triangles[prev(adj)];
+    int orientA = orientation(c, d, a);
+    int orientB = orientation(c, d, b);
+    return orientA != Orientation.COLLINEAR
+        && orientB != Orientation.COLLINEAR
+        && orientA != orientB;
+  }
+
+  /**
+   * Flips the edge shared by two triangles.
+   * The triangles (A, B, C) and (B, A, D) become (D, C, A) and (C, D, B),
+   * so that the half-edge e becomes the edge D-C.
+   *
+   * @param e the half-edge to flip
+   */
+  private void flip(int e) {
+    int e1 = next(e);
+    int e2 = prev(e);
+    int f = halfEdges[e];
+    int f1 = next(f);
+    int f2 = prev(f);
+
+    int a = triangles[e];
+    int b = triangles[e1];
+    int c = triangles[e2];
+    int d = triangles[f2];
+
+    int adjBC = halfEdges[e1];
+    int adjCA = halfEdges[e2];
+    int adjAD = halfEdges[f1];
+    int adjDB = halfEdges[f2];
+    boolean isConsBC = isConstrained[e1];
+    boolean isConsCA = isConstrained[e2];
+    boolean isConsAD = isConstrained[f1];
+    boolean isConsDB = isConstrained[f2];
+
+    triangles[e] = d;
+    triangles[e1] = c;
+    triangles[e2] = a;
+    triangles[f] = c;
+    triangles[f1] = d;
+    triangles[f2] = b;
+
+    link(e1, adjCA, isConsCA);
+    link(e2, adjAD, isConsAD);
+    link(f1, adjDB, isConsDB);
+    link(f2, adjBC, isConsBC);
+
+    vertexEdge[a] = e2;
+    vertexEdge[b] = f2;
+    vertexEdge[c] = e1;
+    vertexEdge[d] = e;
+  }
+
+  private void link(int e, int adj, boolean isCons) {
+    halfEdges[e] = adj;
+    if (adj >= 0) halfEdges[adj] = e;
+    isConstrained[e] = isCons;
+  }
+
+  /**
+   * Finds the half-edge between two vertices.
+   * The edge may be in either direction,
+   * since an edge on the hull has only a single half-edge.
+   *
+   * @return the half-edge, or -1 if the vertices are not connected
+   */
+  private int findEdge(int a, int b) {
+    int start = vertexEdge[a];
+    int e = start;
+    do {
+      if (triangles[next(e)] == b) return e;
+      if (triangles[prev(e)] == b) return prev(e);
+      e = halfEdges[prev(e)];
+    } while (e >= 0 && e != start);
+    if (e < 0) {
+      //-- reached the hull, so scan the other way
+      e = halfEdges[start];
+      while (e >= 0) {
+        e = next(e);
+        if (triangles[next(e)] == b) return e;
+        if (triangles[prev(e)] == b) return prev(e);
+        e = halfEdges[e];
+      }
+    }
+    return -1;
+  }
+
+  private void setConstrained(int e) {
+    isConstrained[e] = true;
+    int adj = halfEdges[e];
+    if (adj >= 0) isConstrained[adj] = true;
+  }
+
+  //-------------  interior extraction  -------------------
+
+  /**
+   * Finds the triangles in the polygon interior
+   * by flood-filling from the hull,
+   * toggling the location at each constrained edge.
+   *
+   * @return a flag for each triangle indicating whether it is in the interior
+   */
+  private boolean[] findInterior() {
+    int numTri = triangles.length / 3;
+    boolean[] isInterior = new boolean[numTri];
+    boolean[] isVisited = new boolean[numTri];
+    Deque<Integer> stack = new ArrayDeque<Integer>();
+    for (int e = 0; e < triangles.length; e++) {
+      if (halfEdges[e] >= 0) continue;
+      int t = e / 3;
+      if (isVisited[t]) continue;
+      isVisited[t] = true;
+      isInterior[t] = isConstrained[e];
+      stack.push(t);
+    }
+    while (! stack.isEmpty()) {
+      int t = stack.pop();
+      for (int e = 3 * t; e < 3 * t + 3; e++) {
+        int adj = halfEdges[e];
+        if (adj < 0) continue;
+        int adjTri = adj / 3;
+        if (isVisited[adjTri]) continue;
+        isVisited[adjTri] = true;
+        isInterior[adjTri] = isInterior[t] ^ isConstrained[e];
+        stack.push(adjTri);
+      }
+    }
+    return isInterior;
+  }
+
+  private List<Tri> createTris(boolean[] isInterior) {
+    int numTri = triangles.length / 3;
+    Tri[] tris = new Tri[numTri];
+    List<Tri> triList = new ArrayList<Tri>();
+    for (int t = 0; t < numTri; t++) {
+      if (! isInterior[t]) continue;
+      tris[t] = Tri.create(vertexPt[triangles[3 * t]],
+          vertexPt[triangles[3 * t + 1]], vertexPt[triangles[3 * t + 2]]);
+      triList.add(tris[t]);
+    }
+    for (int t = 0; t < numTri; t++) {
+      if (tris[t] == null) continue;
+      tris[t].setAdjacent(adjacentTri(tris, 3 * t),
+          adjacentTri(tris, 3 * t + 1), adjacentTri(tris, 3 * t + 2));
+    }
+    return triList;
+  }
+
+  private Tri adjacentTri(Tri[] tris, int e) {
+    int adj = halfEdges[e];
+    if (adj < 0) return null;
+    return tris[adj / 3];
+  }
+
+  private int orientation(int a, int b, int c) {
+    return Orientation.index(vertexPt[a], vertexPt[b], vertexPt[c]);
+  }
+
+  private static int next(int e) {
+    return CompactTriangulation.next(e);
+  }
+
+  private static int prev(int e) {
+    return CompactTriangulation.prev(e);
+  }
+}
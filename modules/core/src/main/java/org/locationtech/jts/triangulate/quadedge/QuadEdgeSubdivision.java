@@ -158,6 +158,47 @@ public class QuadEdgeSubdivision {
 		return ea;
 	}
 	
+	/**
+	 * Gets the vertices of the frame triangle.
+	 * The vertices are in counter-clockwise order.
+	 *
+	 * @return the three frame vertices
+	 */
+	public Vertex[] getFrameVertices() {
+		return new Vertex[] { frameVertex[0], frameVertex[1], frameVertex[2] };
+	}
+
+	/**
+	 * Replaces the edges of this subdivision with a triangulation
+	 * which has been constructed externally
+	 * (for instance by a divide-and-conquer algorithm).
+	 * The subdivision must not contain any sites.
+	 * The triangulation must contain the frame vertices,
+	 * and its boundary must be the frame triangle.
+	 *
+	 * @param frameEdge the triangulation edge from frame vertex 0 to frame vertex 1
+	 * @param edges the edges of the triangulation
+	 *
+	 * @throws IllegalStateException if the subdivision already contains sites
+	 * @see #getFrameVertices()
+	 */
+	public void setTriangulation(QuadEdge frameEdge, Collection<QuadEdge> edges) {
+		if (quadEdges.size() != 3)
+			throw new IllegalStateException("Subdivision already contains sites");
+		for (Iterator i = quadEdges.iterator(); i.hasNext(); ) {
+			QuadEdge e = (QuadEdge) i.next();
+			QuadEdge eSym = e.sym();
+			QuadEdge eRot = e.rot();
+			QuadEdge eRotSym = e.rot().sym();
+			e.delete();
+			eSym.delete();
+			eRot.delete();
+			eRotSym.delete();
+		}
+		quadEdges = new ArrayList<QuadEdge>(edges);
+		startingEdge = frameEdge;
+	}
+
 	/**
 	 * Gets the vertex-equality tolerance value
 	 * used in this subdivision
@@ -917,6 +958,24 @@ public class QuadEdgeSubdivision {
     return geomFact.createGeometryCollection(GeometryFactory.toGeometryArray(vorCells));   
   }
   
+  /**
+   * Computes the circumcentres of the triangles of this triangulation,
+   * which are the vertices of the Voronoi diagram,
+   * and stores them as the origins of the dual edges.
+   * This must be called before using 
+   * {@link #getVoronoiCellPolygon(QuadEdge, GeometryFactory)}.
+   */
+  public void computeVoronoiVertices()
+  {
+  	/*
+  	 * Compute circumcentres of triangles as vertices for dual edges.
+  	 * Precomputing the circumcentres is more efficient, 
+  	 * and more importantly ensures that the computed centres
+  	 * are consistent across the Voronoi cells.
+  	 */ 
+  	visitTriangles(new TriangleCircumcentreVisitor(), true);
+  }
+  
 	/**
 	 * Gets a List of {@link Polygon}s for the Voronoi cells 
 	 * of this triangulation.
@@ -930,13 +989,7 @@ public class QuadEdgeSubdivision {
 	 */
   public List getVoronoiCellPolygons(GeometryFactory geomFact)
   {
-  	/*
-  	 * Compute circumcentres of triangles as vertices for dual edges.
-  	 * Precomputing the circumcentres is more efficient, 
-  	 * and more importantly ensures that the computed centres
-  	 * are consistent across the Voronoi cells.
-  	 */ 
-  	visitTriangles(new TriangleCircumcentreVisitor(), true);
+  	computeVoronoiVertices();
   	
     List cells = new ArrayList();
     Collection edges = getVertexUniqueEdges(false);
@@ -954,6 +1007,8 @@ public class QuadEdgeSubdivision {
    * The userData of the polygon is set to be the {@link Coordinate}
    * of the site.  This allows attaching external 
    * data associated with the site to this cell polygon.
+   * The Voronoi vertices must have been computed
+   * by {@link #computeVoronoiVertices()}.
    * 
    * @param qe a quadedge originating at the cell site
    * @param geomFact a factory for building the polygon
@@ -0,0 +1,715 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate.tri;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.Triangle;
+import org.locationtech.jts.triangulate.polygon.ConstrainedDelaunayTriangulator;
+import org.locationtech.jts.triangulate.quadedge.QuadEdge;
+import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
+import org.locationtech.jts.triangulate.quadedge.TriangleVisitor;
+import org.locationtech.jts.triangulate.quadedge.Vertex;
+
+/**
+ * A memory-efficient representation of a triangulation,
+ * stored in primitive arrays.
+ * The vertex ordinates are held in a <code>double</code> array,
+ * and the triangles and their adjacency in <code>int</code> arrays.
+ * This uses a small fraction of the memory required by
+ * a {@link QuadEdgeSubdivision} or a list of linked {@link Tri}s,
+ * so it is suitable for triangulations of very large numbers of vertices.
+ * <p>
+ * Triangle <code>t</code> has vertices
+ * <code>triangles[3t]</code>, <code>triangles[3t+1]</code> and <code>triangles[3t+2]</code>,
+ * oriented clockwise as for {@link Tri}.
+ * Half-edge <code>3t+i</code> is the edge of triangle <code>t</code>
+ * from vertex <code>i</code> to vertex <code>i+1</code> (mod 3).
+ * <code>halfEdges[h]</code> is the matching half-edge in the adjacent triangle,
+ * or -1 if the edge is on the boundary of the triangulation.
+ * <p>
+ * Triangulations can be converted to and from
+ * {@link QuadEdgeSubdivision}s and lists of {@link Tri}s.
+ *
+ * @author Martin Davis
+ *
+ */
+public class CompactTriangulation {
+
+  /**
+   * Creates {@link Tri}s (or subclasses of Tri) from vertices.
+   *
+   * @param <T> the type of Tri created
+   */
+  public interface TriFactory<T extends Tri> {
+    /**
+     * Creates a triangle with the given vertices,
+     * which are oriented clockwise.
+     *
+     * @param p0 the first triangle vertex
+     * @param p1 the second triangle vertex
+     * @param p2 the third triangle vertex
+     * @return the new triangle
+     */
+    T create(Coordinate p0, Coordinate p1, Coordinate p2);
+  }
+
+  private static final TriFactory<Tri> TRI_FACTORY = new TriFactory<Tri>() {
+    public Tri create(Coordinate p0, Coordinate p1, Coordinate p2) {
+      return new Tri(p0, p1, p2);
+    }
+  };
+
+  /**
+   * Creates a compact triangulation from the triangles of a {@link QuadEdgeSubdivision}.
+   * Triangles containing frame vertices are not included.
+   *
+   * @param subdiv the subdivision
+   * @return the compact triangulation
+   */
+  public static CompactTriangulation fromSubdivision(QuadEdgeSubdivision subdiv) {
+    final List<Coordinate[]> triPts = new ArrayList<Coordinate[]>();
+    subdiv.visitTriangles(new TriangleVisitor() {
+      public void visit(QuadEdge[] triEdges) {
+        triPts.add(new Coordinate[] {
+            triEdges[0].orig().getCoordinate(),
+            triEdges[1].orig().getCoordinate(),
+            triEdges[2].orig().getCoordinate() });
+      }
+    }, false);
+    Builder builder = new Builder(triPts.size());
+    for (Coordinate[] pts : triPts) {
+      builder.addTriangle(pts[0], pts[1], pts[2]);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates a compact triangulation from a list of {@link Tri}s.
+   * The triangle adjacency is taken from the links between the Tris,
+   * so they should have been linked (e.g. by {@link TriangulationBuilder}).
+   *
+   * @param triList the triangles
+   * @return the compact triangulation
+   */
+  public static CompactTriangulation fromTris(List<? extends Tri> triList) {
+    Builder builder = new Builder(triList.size());
+    Map<Tri, Integer> triIndex = new IdentityHashMap<Tri, Integer>();
+    for (Tri tri : triList) {
+      triIndex.put(tri, triIndex.size());
+      builder.addTri(tri.getCoordinate(0), tri.getCoordinate(1), tri.getCoordinate(2));
+    }
+    int[] halfEdges = builder.halfEdges;
+    for (Tri tri : triList) {
+      int t = triIndex.get(tri);
+      for (int i = 0; i < 3; i++) {
+        Tri adj = tri.getAdjacent(i);
+        Integer adjIndex = adj == null ? null : triIndex.get(adj);
+        if (adjIndex != null) {
+          halfEdges[3 * t + i] = 3 * adjIndex + adj.getIndex(tri);
+        }
+      }
+    }
+    return builder.build(false);
+  }
+
+  private final double[] xy;
+  private final double[] z;
+  private final int[] triangles;
+  private final int[] halfEdges;
+  private double[] circumcentres = null;
+  private int[] vertexEdge = null;
+
+  /**
+   * Creates a compact triangulation from its arrays.
+   * The arrays are not copied.
+   *
+   * @param xy the vertex ordinates, in the order X, Y
+   * @param z the vertex Z ordinates (may be null)
+   * @param triangles the vertex indexes of the triangles, oriented clockwise
+   * @param halfEdges the adjacent half-edges, or -1 for boundary edges
+   */
+  public CompactTriangulation(double[] xy, double[] z, int[] triangles, int[] halfEdges) {
+    this.xy = xy;
+    this.z = z;
+    this.triangles = triangles;
+    this.halfEdges = halfEdges;
+  }
+
+  /**
+   * Gets the number of vertices in the triangulation.
+   *
+   * @return the number of vertices
+   */
+  public int getNumVertices() {
+    return xy.length / 2;
+  }
+
+  /**
+   * Gets the number of triangles in the triangulation.
+   *
+   * @return the number of triangles
+   */
+  public int getNumTriangles() {
+    return triangles.length / 3;
+  }
+
+  /**
+   * Gets the X ordinate of a vertex.
+   *
+   * @param v the vertex index
+   * @return the X ordinate
+   */
+  public double getX(int v) {
+    return xy[2 * v];
+  }
+
+  /**
+   * Gets the Y ordinate of a vertex.
+   *
+   * @param v the vertex index
+   * @return the Y ordinate
+   */
+  public double getY(int v) {
+    return xy[2 * v + 1];
+  }
+
+  /**
+   * Creates a coordinate for a vertex.
+   *
+   * @param v the vertex index
+   * @return a new coordinate for the vertex
+   */
+  public Coordinate getCoordinate(int v) {
+    return new Coordinate(xy[2 * v], xy[2 * v + 1], z == null ? Coordinate.NULL_ORDINATE : z[v]);
+  }
+
+  /**
+   * Gets the index of a vertex of a triangle.
+   *
+   * @param tri the triangle index
+   * @param index the vertex index in the triangle (0, 1 or 2)
+   * @return the index of the vertex
+   */
+  public int getVertex(int tri, int index) {
+    return triangles[3 * tri + index];
+  }
+
+  /**
+   * Gets the half-edge adjacent to a half-edge.
+   *
+   * @param halfEdge the half-edge index
+   * @return the adjacent half-edge, or -1 if the edge is on the boundary
+   */
+  public int getAdjacent(int halfEdge) {
+    return halfEdges[halfEdge];
+  }
+
+  /**
+   * Gets the array of triangle vertex indexes.
+   * The array is not copied.
+   *
+   * @return the triangles array
+   */
+  public int[] getTriangleIndexes() {
+    return triangles;
+  }
+
+  /**
+   * Gets the array of adjacent half-edges.
+   * The array is not copied.
+   *
+   * @return the half-edges array
+   */
+  public int[] getHalfEdges() {
+    return halfEdges;
+  }
+
+  /**
+   * Gets the next half-edge in the same triangle.
+   *
+   * @param halfEdge a half-edge index
+   * @return the next half-edge index
+   */
+  public static int next(int halfEdge) {
+    return halfEdge % 3 == 2 ? halfEdge - 2 : halfEdge + 1;
+  }
+
+  /**
+   * Gets the previous half-edge in the same triangle.
+   *
+   * @param halfEdge a half-edge index
+   * @return the previous half-edge index
+   */
+  public static int prev(int halfEdge) {
+    return halfEdge % 3 == 0 ? halfEdge + 2 : halfEdge - 1;
+  }
+
+  /**
+   * Creates a {@link Geometry} containing the triangles as {@link Polygon}s.
+   *
+   * @param geomFact the geometry factory to use
+   * @return a GeometryCollection of the triangle polygons
+   */
+  public Geometry getTriangles(GeometryFactory geomFact) {
+    int numTri = getNumTriangles();
+    Geometry[] polys = new Geometry[numTri];
+    for (int t = 0; t < numTri; t++) {
+      Coordinate p0 = getCoordinate(triangles[3 * t]);
+      polys[t] = geomFact.createPolygon(new Coordinate[] {
+          p0,
+          getCoordinate(triangles[3 * t + 1]),
+          getCoordinate(triangles[3 * t + 2]),
+          p0.copy() });
+    }
+    return geomFact.createGeometryCollection(polys);
+  }
+
+  /**
+   * Creates a {@link Geometry} containing the edges of the triangulation
+   * as {@link LineString}s.
+   *
+   * @param geomFact the geometry factory to use
+   * @return a MultiLineString of the edges
+   */
+  public Geometry getEdges(GeometryFactory geomFact) {
+    List<LineString> edges = new ArrayList<LineString>();
+    for (int h = 0; h < halfEdges.length; h++) {
+      if (halfEdges[h] > h) continue;
+      edges.add(geomFact.createLineString(new Coordinate[] {
+          getCoordinate(triangles[h]),
+          getCoordinate(triangles[next(h)]) }));
+    }
+    return geomFact.createMultiLineString(GeometryFactory.toLineStringArray(edges));
+  }
+
+  /**
+   * Creates a list of linked {@link Tri}s for the triangulation.
+   *
+   * @return the list of Tris
+   */
+  public List<Tri> toTris() {
+    return toTris(TRI_FACTORY);
+  }
+
+  /**
+   * Creates a list of linked {@link Tri}s for the triangulation,
+   * using a factory to create them.
+   * The adjacency links are set directly from the half-edges,
+   * so {@link TriangulationBuilder} is not needed.
+   *
+   * @param triFactory the factory for the Tris
+   * @return the list of Tris
+   */
+  public <T extends Tri> List<T> toTris(TriFactory<T> triFactory) {
+    Coordinate[] pts = new Coordinate[getNumVertices()];
+    for (int v = 0; v < pts.length; v++) {
+      pts[v] = getCoordinate(v);
+    }
+    int numTri = getNumTriangles();
+    List<T> triList = new ArrayList<T>(numTri);
+    for (int t = 0; t < numTri; t++) {
+      triList.add(triFactory.create(pts[triangles[3 * t]],
+          pts[triangles[3 * t + 1]], pts[triangles[3 * t + 2]]));
+    }
+    for (int t = 0; t < numTri; t++) {
+      triList.get(t).setAdjacent(adjacentTri(triList, 3 * t),
+          adjacentTri(triList, 3 * t + 1), adjacentTri(triList, 3 * t + 2));
+    }
+    return triList;
+  }
+
+  private <T extends Tri> T adjacentTri(List<T> triList, int halfEdge) {
+    int adj = halfEdges[halfEdge];
+    if (adj < 0) return null;
+    return triList.get(adj / 3);
+  }
+
+  /**
+   * Creates a {@link QuadEdgeSubdivision} containing the triangulation.
+   * The region between the triangulation boundary and the subdivision frame
+   * is filled by a constrained triangulation,
+   * so the triangulation need not have a convex boundary
+   * (but concavities in the boundary will then contain subdivision triangles).
+   * The triangulation must be connected, with no holes,
+   * and each vertex must have at most one outgoing boundary edge.
+   * Vertices which are not in any triangle are not included.
+   *
+   * @return a new subdivision containing the triangulation
+   *
+   * @throws IllegalArgumentException if the triangulation boundary is not a single ring
+   */
+  public QuadEdgeSubdivision toSubdivision() {
+    Envelope env = new Envelope();
+    for (int i = 0; i < triangles.length; i++) {
+      env.expandToInclude(getX(triangles[i]), getY(triangles[i]));
+    }
+    QuadEdgeSubdivision subdiv = new QuadEdgeSubdivision(env, 0.0);
+    if (triangles.length == 0) return subdiv;
+
+    int numVert = getNumVertices();
+    Vertex[] frameVertex = subdiv.getFrameVertices();
+    Vertex[] vertex = new Vertex[numVert + 3];
+    for (int v = 0; v < numVert; v++) {
+      vertex[v] = new Vertex(getCoordinate(v));
+    }
+    for (int i = 0; i < 3; i++) {
+      vertex[numVert + i] = frameVertex[i];
+    }
+
+    //-- faces are recorded as vertex triples in CCW order
+    List<int[]> faces = new ArrayList<int[]>();
+    for (int t = 0; t < triangles.length; t += 3) {
+      faces.add(new int[] { triangles[t], triangles[t + 2], triangles[t + 1] });
+    }
+    addFrameTriangles(subdiv, numVert, faces);
+    //-- the face outside the frame is CW
+    faces.add(new int[] { numVert, numVert + 2, numVert + 1 });
+
+    /**
+     * Create a quadedge for each edge, and link the edges so that
+     * each face is the left face of its edges.
+     * onext(e) = sym(lprev(e)), and the dual rings satisfy
+     * invRot(e).onext = invRot(lnext(e))
+     */
+    Map<Long, QuadEdge> edgeMap = new HashMap<Long, QuadEdge>();
+    List<QuadEdge> edges = new ArrayList<QuadEdge>();
+    for (int[] face : faces) {
+      for (int i = 0; i < 3; i++) {
+        int v0 = face[i];
+        int v1 = face[(i + 1) % 3];
+        if (edgeMap.containsKey(edgeKey(v0, v1))) continue;
+        QuadEdge e = QuadEdge.makeEdge(vertex[v0], vertex[v1]);
+        edgeMap.put(edgeKey(v0, v1), e);
+        edgeMap.put(edgeKey(v1, v0), e.sym());
+        edges.add(e);
+      }
+    }
+    for (int[] face : faces) {
+      for (int i = 0; i < 3; i++) {
+        int v0 = face[i];
+        int v1 = face[(i + 1) % 3];
+        int v2 = face[(i + 2) % 3];
+        QuadEdge e = edgeMap.get(edgeKey(v0, v1));
+        QuadEdge lnext = edgeMap.get(edgeKey(v1, v2));
+        e.setNext(edgeMap.get(edgeKey(v0, v2)));
+        e.invRot().setNext(lnext.invRot());
+      }
+    }
+    QuadEdge frameEdge = edgeMap.get(edgeKey(numVert, numVert + 1));
+    subdiv.setTriangulation(frameEdge, edges);
+    return subdiv;
+  }
+
+  private static long edgeKey(int v0, int v1) {
+    return ((long) v0 << 32) | v1;
+  }
+
+  /**
+   * Triangulates the region between the triangulation boundary and the frame,
+   * as a polygon with the boundary as a hole.
+   */
+  private void addFrameTriangles(QuadEdgeSubdivision subdiv, int numVert, List<int[]> faces) {
+    Map<Coordinate, Integer> vertexIndex = new HashMap<Coordinate, Integer>();
+    Vertex[] frameVertex = subdiv.getFrameVertices();
+    Coordinate[] framePts = new Coordinate[4];
+    for (int i = 0; i < 3; i++) {
+      framePts[i] = frameVertex[i].getCoordinate();
+      vertexIndex.put(framePts[i], numVert + i);
+    }
+    framePts[3] = framePts[0];
+    int[] boundary = boundaryRing();
+    Coordinate[] boundaryPts = new Coordinate[boundary.length + 1];
+    for (int i = 0; i < boundary.length; i++) {
+      boundaryPts[i] = getCoordinate(boundary[i]);
+      vertexIndex.put(boundaryPts[i], boundary[i]);
+    }
+    boundaryPts[boundary.length] = boundaryPts[0];
+
+    GeometryFactory geomFact = new GeometryFactory();
+    Polygon framePoly = geomFact.createPolygon(geomFact.createLinearRing(framePts),
+        new LinearRing[] { geomFact.createLinearRing(boundaryPts) });
+    List<Tri> frameTris = new ConstrainedDelaunayTriangulator(framePoly).getTriangles();
+    for (Tri tri : frameTris) {
+      //-- Tris are CW
+      faces.add(new int[] {
+          vertexIndex.get(tri.getCoordinate(0)),
+          vertexIndex.get(tri.getCoordinate(2)),
+          vertexIndex.get(tri.getCoordinate(1)) });
+    }
+  }
+
+  /**
+   * Traces the boundary of the triangulation.
+   *
+   * @return the vertex indexes of the boundary ring, in clockwise order
+   *
+   * @throws IllegalArgumentException if the boundary is not a single ring
+   */
+  private int[] boundaryRing() {
+    int[] boundaryOut = new int[getNumVertices()];
+    Arrays.fill(boundaryOut, -1);
+    int numBoundary = 0;
+    int start = -1;
+    for (int h = 0; h < halfEdges.length; h++) {
+      if (halfEdges[h] >= 0) continue;
+      int v = triangles[h];
+      if (boundaryOut[v] >= 0)
+        throw new IllegalArgumentException("Triangulation boundary is not a single ring");
+      boundaryOut[v] = h;
+      numBoundary++;
+      start = h;
+    }
+    int[] ring = new int[numBoundary];
+    int n = 0;
+    int h = start;
+    do {
+      ring[n++] = triangles[h];
+      h = boundaryOut[triangles[next(h)]];
+    } while (h != start && n < numBoundary);
+    if (h != start || n != numBoundary)
+      throw new IllegalArgumentException("Triangulation boundary is not a single ring");
+    return ring;
+  }
+
+  /**
+   * Creates the Voronoi cell polygons for the vertices of the triangulation,
+   * which must be a Delaunay triangulation with a convex boundary.
+   * The cells of vertices on the boundary are unbounded,
+   * so they are closed beyond the given extent.
+   * The <code>userData</code> of each polygon is set to be
+   * the {@link Coordinate} of the cell vertex.
+   *
+   * @param extent the region the cells are required to cover
+   * @param geomFact the geometry factory to use
+   * @return a list of the cell polygons, in vertex order
+   * 
+   * @see #getVoronoiCellPolygon(int, Envelope, GeometryFactory)
+   */
+  public List<Polygon> getVoronoiCellPolygons(Envelope extent, GeometryFactory geomFact) {
+    List<Polygon> cells = new ArrayList<Polygon>();
+    for (int v = 0; v < getNumVertices(); v++) {
+      Polygon cell = getVoronoiCellPolygon(v, extent, geomFact);
+      if (cell != null) {
+        cells.add(cell);
+      }
+    }
+    return cells;
+  }
+
+  /**
+   * Creates the Voronoi cell polygon for a vertex of the triangulation,
+   * which must be a Delaunay triangulation with a convex boundary.
+   * If the vertex is on the boundary its cell is unbounded,
+   * so it is closed beyond the given extent.
+   * The triangle circumcentres are computed once and cached,
+   * so that the cells can be created one at a time
+   * and adjacent cells have identical vertices.
+   * The <code>userData</code> of the polygon is set to be
+   * the {@link Coordinate} of the vertex.
+   *
+   * @param v the vertex index
+   * @param extent the region the cell is required to cover
+   * @param geomFact the geometry factory to use
+   * @return the cell polygon, or null if the vertex is not in any triangle
+   */
+  public Polygon getVoronoiCellPolygon(int v, Envelope extent, GeometryFactory geomFact) {
+    computeVoronoiVertices();
+    if (vertexEdge[v] < 0) return null;
+    Polygon cell = geomFact.createPolygon(voronoiCell(v, vertexEdge[v], extent));
+    cell.setUserData(getCoordinate(v));
+    return cell;
+  }
+
+  private void computeVoronoiVertices() {
+    if (circumcentres != null) return;
+    int numTri = getNumTriangles();
+    circumcentres = new double[2 * numTri];
+    for (int t = 0; t < numTri; t++) {
+      Coordinate cc = Triangle.circumcentreDD(getCoordinate(triangles[3 * t]),
+          getCoordinate(triangles[3 * t + 1]), getCoordinate(triangles[3 * t + 2]));
+      circumcentres[2 * t] = cc.x;
+      circumcentres[2 * t + 1] = cc.y;
+    }
+    /**
+     * Find an outgoing half-edge for each vertex.
+     * For boundary vertices this is the first one CW around the vertex.
+     */
+    vertexEdge = new int[getNumVertices()];
+    Arrays.fill(vertexEdge, -1);
+    for (int h = 0; h < triangles.length; h++) {
+      int v = triangles[h];
+      if (vertexEdge[v] < 0 || halfEdges[prev(h)] < 0) {
+        vertexEdge[v] = h;
+      }
+    }
+  }
+
+  private Coordinate circumcentre(int tri) {
+    return new Coordinate(circumcentres[2 * tri], circumcentres[2 * tri + 1]);
+  }
+
+  private Coordinate[] voronoiCell(int v, int start, Envelope extent) {
+    CoordinateList cellPts = new CoordinateList();
+    //-- move CW around the vertex
+    int h = start;
+    int end;
+    while (true) {
+      cellPts.add(circumcentre(h / 3), false);
+      end = h;
+      if (halfEdges[h] < 0) break;
+      h = next(halfEdges[h]);
+      if (h == start) break;
+    }
+    if (halfEdges[prev(start)] < 0) {
+      addUnboundedCellPoints(v, start, end, extent, cellPts);
+    }
+    cellPts.closeRing();
+    return cellPts.toCoordinateArray();
+  }
+
+  /**
+   * Closes the cell of a boundary vertex with points along the rays
+   * perpendicular to the two boundary edges at the vertex,
+   * and a point between them, all far enough away
+   * that the closing segments lie outside the extent.
+   */
+  private void addUnboundedCellPoints(int v, int start, int end,
+      Envelope extent, CoordinateList cellPts) {
+    double vx = getX(v);
+    double vy = getY(v);
+    Coordinate ccStart = circumcentre(start / 3);
+    Coordinate ccEnd = circumcentre(end / 3);
+    Envelope env = new Envelope(extent);
+    env.expandToInclude(vx, vy);
+    double far = env.getDiameter()
+        + Math.max(ccStart.distance(new Coordinate(vx, vy)), ccEnd.distance(new Coordinate(vx, vy)));
+    double dist = 4 * far;
+
+    double[] nIn = outwardNormal(prev(start));
+    double[] nOut = outwardNormal(end);
+    double mx = nIn[0] + nOut[0];
+    double my = nIn[1] + nOut[1];
+    double mLen = Math.hypot(mx, my);
+    cellPts.add(new Coordinate(ccEnd.x + dist * nOut[0], ccEnd.y + dist * nOut[1]), false);
+    cellPts.add(new Coordinate(vx + dist * mx / mLen, vy + dist * my / mLen), false);
+    cellPts.add(new Coordinate(ccStart.x + dist * nIn[0], ccStart.y + dist * nIn[1]), false);
+  }
+
+  /**
+   * Computes the unit normal of a boundary half-edge
+   * pointing out of the triangulation.
+   */
+  private double[] outwardNormal(int halfEdge) {
+    int v0 = triangles[halfEdge];
+    int v1 = triangles[next(halfEdge)];
+    double dx = getX(v1) - getX(v0);
+    double dy = getY(v1) - getY(v0);
+    double len = Math.hypot(dx, dy);
+    //-- triangles are CW, so the exterior is on the left
+    return new double[] { -dy / len, dx / len };
+  }
+
+  /**
+   * Builds a compact triangulation from triangle coordinates,
+   * assigning vertex indexes by coordinate value.
+   */
+  private static class Builder {
+    private Map<Coordinate, Integer> vertexIndex = new HashMap<Coordinate, Integer>();
+    private CoordinateList vertices = new CoordinateList();
+    private int[] triangles;
+    private int[] halfEdges;
+    private int numTri = 0;
+    private boolean hasZ = false;
+
+    Builder(int numTri) {
+      triangles = new int[3 * numTri];
+      halfEdges = new int[3 * numTri];
+      Arrays.fill(halfEdges, -1);
+    }
+
+    void addTriangle(Coordinate p0, Coordinate p1, Coordinate p2) {
+      if (Triangle.isCCW(p0, p1, p2)) {
+        addTri(p0, p2, p1);
+      }
+      else {
+        addTri(p0, p1, p2);
+      }
+    }
+
+    void addTri(Coordinate p0, Coordinate p1, Coordinate p2) {
+      int t = 3 * numTri++;
+      triangles[t] = index(p0);
+      triangles[t + 1] = index(p1);
+      triangles[t + 2] = index(p2);
+    }
+
+    private int index(Coordinate p) {
+      Integer index = vertexIndex.get(p);
+      if (index == null) {
+        index = vertices.size();
+        vertexIndex.put(p, index);
+        vertices.add(p, true);
+        if (! Double.isNaN(p.getZ())) hasZ = true;
+      }
+      return index;
+    }
+
+    CompactTriangulation build() {
+      return build(true);
+    }
+
+    CompactTriangulation build(boolean isComputeAdjacency) {
+      if (isComputeAdjacency) {
+        computeAdjacency();
+      }
+      double[] xy = new double[2 * vertices.size()];
+      double[] z = hasZ ? new double[vertices.size()] : null;
+      for (int i = 0; i < vertices.size(); i++) {
+        Coordinate p = vertices.getCoordinate(i);
+        xy[2 * i] = p.x;
+        xy[2 * i + 1] = p.y;
+        if (z != null) z[i] = p.getZ();
+      }
+      return new CompactTriangulation(xy, z, triangles, halfEdges);
+    }
+
+    private void computeAdjacency() {
+      Map<Long, Integer> edgeIndex = new HashMap<Long, Integer>();
+      for (int h = 0; h < triangles.length; h++) {
+        int v0 = triangles[h];
+        int v1 = triangles[next(h)];
+        Integer twin = edgeIndex.remove(edgeKey(v1, v0));
+        if (twin != null) {
+          halfEdges[h] = twin;
+          halfEdges[twin] = h;
+        }
+        else {
+          edgeIndex.put(edgeKey(v0, v1), h);
+        }
+      }
+    }
+  }
+}
@@ -13,7 +13,10 @@ package org.locationtech.jts.algorithm;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
 import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.impl.CoordinateArraySequenceFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 
 import junit.textui.TestRunner;
 import test.jts.GeometryTestCase;
@@ -37,6 +40,29 @@ public class AreaTest extends GeometryTestCase {
     checkAreaOfRingSigned("LINEARRING (100 200, 100 100, 200 100, 200 200, 100 200)", -10000.0);
   }
   
+  public void testAreaLargeRing() {
+    Coordinate[] ringPts = createCircle(1001);
+    double expected = Area.ofRingSigned(ringPts);
+    checkAreaOfRingSigned(CoordinateArraySequenceFactory.instance(), ringPts, expected);
+    checkAreaOfRingSigned(PackedCoordinateSequenceFactory.DOUBLE_FACTORY, ringPts, expected);
+    checkAreaOfRingSigned(PackedCoordinateSequenceFactory.FLOAT_FACTORY, ringPts, expected);
+  }
+  
+  private void checkAreaOfRingSigned(CoordinateSequenceFactory csFact, Coordinate[] ringPts, double expectedArea) {
+    CoordinateSequence seq = csFact.create(ringPts);
+    assertEquals(expectedArea, Area.ofRingSigned(seq), 1e-4);
+  }
+  
+  static Coordinate[] createCircle(int n) {
+    Coordinate[] pts = new Coordinate[n + 1];
+    for (int i = 0; i < n; i++) {
+      double ang = -2 * Math.PI * i / n;
+      pts[i] = new Coordinate(100 + 50 * Math.cos(ang), 100 + 50 * Math.sin(ang), i);
+    }
+    pts[n] = pts[0].copy();
+    return pts;
+  }
+  
   void checkAreaOfRing(String wkt, double expectedArea) {
     LinearRing ring = (LinearRing) read(wkt);
     
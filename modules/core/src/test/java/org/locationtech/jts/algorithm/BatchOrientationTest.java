@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm;
+
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests that {@link BatchOrientation} gives the same results as
+ * {@link Orientation#index(Coordinate, Coordinate, Coordinate)}
+ * and {@link RobustLineIntersector}.
+ */
+public class BatchOrientationTest
+    extends TestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(BatchOrientationTest.class);
+  }
+
+  public BatchOrientationTest(String name) { super(name); }
+
+  public void testIndexRandom() {
+    checkIndex(randomOrdinates(1000, 100, 1), 1000);
+  }
+
+  /**
+   * Points which are nearly collinear,
+   * so that most lanes require the robust computation.
+   */
+  public void testIndexNearlyCollinear() {
+    Random rnd = new Random(13);
+    int n = 500;
+    double[] ord = new double[6 * n];
+    for (int i = 0; i < n; i++) {
+      double t = rnd.nextDouble();
+      ord[6 * i] = 1.0e6 + rnd.nextDouble();
+      ord[6 * i + 1] = 1.0e6 + rnd.nextDouble();
+      ord[6 * i + 2] = ord[6 * i] + 10;
+      ord[6 * i + 3] = ord[6 * i + 1] + 7;
+      ord[6 * i + 4] = ord[6 * i] + 10 * t;
+      ord[6 * i + 5] = ord[6 * i + 1] + 7 * t;
+    }
+    checkIndex(ord, n);
+  }
+
+  public void testIndexKnownRobustCase() {
+    double[] ord = new double[] {
+        219.3649559090992, 140.84159161824724,
+        168.9018919682399, -5.713787599646864,
+        186.80814046338352, 46.28973405831556 };
+    checkIndex(ord, 1);
+  }
+
+  public void testIndexSegment() {
+    double[] xy = new double[] { 0, 0,  5, 5,  10, 10,  5, 0,  0, 10,  -1, -1.000000000000001 };
+    int n = xy.length / 2;
+    int[] result = new int[n];
+    BatchOrientation.index(0, 0, 10, 10, xy, 0, n, result);
+    for (int i = 0; i < n; i++) {
+      assertEquals(Orientation.index(new Coordinate(0, 0), new Coordinate(10, 10),
+          new Coordinate(xy[2 * i], xy[2 * i + 1])), result[i]);
+    }
+  }
+
+  public void testIntersectsRandom() {
+    Random rnd = new Random(17);
+    int n = 1000;
+    double[] xy = new double[2 * (n + 1)];
+    for (int i = 0; i < xy.length; i++) {
+      xy[i] = 100 * rnd.nextDouble();
+    }
+    checkIntersects(20, 20, 80, 70, xy, n);
+  }
+
+  public void testIntersectsSpecialCases() {
+    double[] xy = new double[] {
+        0, 10,  10, 10, // touching endpoint
+        20, 20,  30, 30, // collinear overlapping
+        40, 40,  50, 50, // collinear disjoint
+        50, 0,  60, 10, // disjoint envelope
+        5, 5.000000000000001,  10, 0, // nearly touching
+    };
+    checkIntersects(10, 10, 30, 30, xy, xy.length / 2 - 1);
+  }
+
+  /**
+   * Tests a batch where only one lane cannot be determined by the filter.
+   * The results of the other lanes are the same as when they are
+   * tested individually.
+   */
+  public void testIntersectsOneUncertain() {
+    Random rnd = new Random(23);
+    int n = 100;
+    double[] xy = new double[2 * (n + 1)];
+    for (int i = 0; i < xy.length; i++) {
+      xy[i] = 100 * rnd.nextDouble();
+    }
+    //-- segment 50 passes through P1, so only its orientation is uncertain
+    xy[100] = -10;
+    xy[101] = 10;
+    xy[102] = 10;
+    xy[103] = -10;
+    checkIntersects(0, 0, 100, 100, xy, n);
+
+    boolean[] result = new boolean[n];
+    BatchOrientation.intersects(0, 0, 100, 100, xy, 0, n, result);
+    assertTrue(result[50]);
+    boolean[] laneResult = new boolean[1];
+    for (int i = 0; i < n; i++) {
+      BatchOrientation.intersects(0, 0, 100, 100, xy, 2 * i, 1, laneResult);
+      assertEquals("segment " + i, laneResult[0], result[i]);
+    }
+  }
+
+  private static void checkIndex(double[] ord, int n) {
+    double[] ax = new double[n];
+    double[] ay = new double[n];
+    double[] bx = new double[n];
+    double[] by = new double[n];
+    double[] cx = new double[n];
+    double[] cy = new double[n];
+    for (int i = 0; i < n; i++) {
+      ax[i] = ord[6 * i];
+      ay[i] = ord[6 * i + 1];
+      bx[i] = ord[6 * i + 2];
+      by[i] = ord[6 * i + 3];
+      cx[i] = ord[6 * i + 4];
+      cy[i] = ord[6 * i + 5];
+    }
+    int[] result = new int[n];
+    BatchOrientation.index(ax, ay, bx, by, cx, cy, n, result);
+    for (int i = 0; i < n; i++) {
+      int expected = Orientation.index(new Coordinate(ax[i], ay[i]),
+          new Coordinate(bx[i], by[i]), new Coordinate(cx[i], cy[i]));
+      assertEquals("lane " + i, expected, result[i]);
+    }
+  }
+
+  private static void checkIntersects(double p1x, double p1y, double p2x, double p2y,
+      double[] xy, int numSegs) {
+    boolean[] result = new boolean[numSegs];
+    int count = BatchOrientation.intersects(p1x, p1y, p2x, p2y, xy, 0, numSegs, result);
+
+    LineIntersector li = new RobustLineIntersector();
+    Coordinate p1 = new Coordinate(p1x, p1y);
+    Coordinate p2 = new Coordinate(p2x, p2y);
+    int expectedCount = 0;
+    for (int i = 0; i < numSegs; i++) {
+      li.computeIntersection(p1, p2,
+          new Coordinate(xy[2 * i], xy[2 * i + 1]),
+          new Coordinate(xy[2 * i + 2], xy[2 * i + 3]));
+      assertEquals("segment " + i, li.hasIntersection(), result[i]);
+      if (li.hasIntersection()) expectedCount++;
+    }
+    assertEquals(expectedCount, count);
+  }
+
+  private static double[] randomOrdinates(int n, double scale, long seed) {
+    Random rnd = new Random(seed);
+    double[] ord = new double[6 * n];
+    for (int i = 0; i < ord.length; i++) {
+      ord[i] = scale * rnd.nextDouble();
+    }
+    return ord;
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.io.WKTReader;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class GeometryMetricsTest extends GeometryTestCase {
+
+  private static final double TOLERANCE = 1e-9;
+
+  public static void main(String args[]) {
+    TestRunner.run(GeometryMetricsTest.class);
+  }
+
+  public GeometryMetricsTest(String name) { super(name); }
+
+  public void testPoint() {
+    checkMetrics("POINT (1 2)");
+  }
+
+  public void testMultiPoint() {
+    checkMetrics("MULTIPOINT ((1 2), (3 4), (5 0))");
+  }
+
+  public void testLine() {
+    checkMetrics("LINESTRING (0 0, 10 0, 10 10, 30 15)");
+  }
+
+  public void testZeroLengthLine() {
+    checkMetrics("LINESTRING (5 5, 5 5)");
+  }
+
+  public void testPolygon() {
+    checkMetrics("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))");
+  }
+
+  public void testPolygonCCW() {
+    checkMetrics("POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0))");
+  }
+
+  public void testPolygonWithHoles() {
+    checkMetrics("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (10 10, 20 10, 20 20, 10 20, 10 10), (50 50, 50 80, 80 80, 50 50))");
+  }
+
+  public void testMultiPolygon() {
+    checkMetrics("MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0)), ((20 20, 20 40, 50 40, 20 20)))");
+  }
+
+  public void testFlatPolygon() {
+    checkMetrics("POLYGON ((0 0, 10 10, 20 20, 0 0))");
+  }
+
+  public void testCollection() {
+    checkMetrics("GEOMETRYCOLLECTION (POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0)), LINESTRING (20 20, 30 30), POINT (50 50))");
+  }
+
+  public void testEmpty() {
+    double[] values = new GeometryMetrics().compute(read("POLYGON EMPTY"));
+    assertTrue(Double.isNaN(values[GeometryMetrics.MIN_X]));
+    assertTrue(Double.isNaN(values[GeometryMetrics.MAX_Y]));
+    assertTrue(Double.isNaN(values[GeometryMetrics.CENTROID_X]));
+    assertEquals(0.0, values[GeometryMetrics.AREA]);
+    assertEquals(0.0, values[GeometryMetrics.LENGTH]);
+    assertEquals(0.0, values[GeometryMetrics.NUM_POINTS]);
+  }
+
+  public void testPackedSequence() {
+    WKTReader packedReader = new WKTReader(new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY));
+    Geometry geom = read(packedReader, "POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (10 10, 20 10, 20 20, 10 20, 10 10))");
+    checkMetrics(geom);
+  }
+
+  /**
+   * Tests that the centroid of a polygon far from the origin is exact.
+   */
+  public void testLargeOrdinates() {
+    Geometry geom = read("POLYGON ((10000000 10000000, 10000000 10000001, 10000001 10000001, 10000001 10000000, 10000000 10000000))");
+    double[] values = new GeometryMetrics().compute(geom);
+    assertEquals(10000000.5, values[GeometryMetrics.CENTROID_X]);
+    assertEquals(10000000.5, values[GeometryMetrics.CENTROID_Y]);
+    assertEquals(1.0, values[GeometryMetrics.AREA]);
+  }
+
+  public void testArray() {
+    checkArray(false);
+  }
+
+  public void testArrayParallel() {
+    checkArray(true);
+  }
+
+  private void checkArray(boolean isParallel) {
+    GeometryFactory fact = new GeometryFactory();
+    int n = 1000;
+    Geometry[] geoms = new Geometry[n];
+    for (int i = 0; i < n; i++) {
+      geoms[i] = fact.toGeometry(new Envelope(i, i + 1 + i % 7, 0, 1 + i % 3)).buffer(i % 5);
+    }
+    GeometryMetrics metrics = new GeometryMetrics();
+    metrics.setParallel(isParallel);
+    double[] values = new double[n * GeometryMetrics.NUM_METRICS];
+    metrics.compute(geoms, values);
+
+    GeometryMetrics single = new GeometryMetrics();
+    double[] expected = new double[GeometryMetrics.NUM_METRICS];
+    for (int i = 0; i < n; i++) {
+      single.compute(geoms[i], expected, 0);
+      for (int k = 0; k < GeometryMetrics.NUM_METRICS; k++) {
+        assertEquals(expected[k], values[i * GeometryMetrics.NUM_METRICS + k]);
+      }
+    }
+  }
+
+  private void checkMetrics(String wkt) {
+    checkMetrics(read(wkt));
+  }
+
+  private void checkMetrics(Geometry geom) {
+    double[] values = new GeometryMetrics().compute(geom);
+    Envelope env = geom.getEnvelopeInternal();
+    assertEquals(env.getMinX(), values[GeometryMetrics.MIN_X]);
+    assertEquals(env.getMinY(), values[GeometryMetrics.MIN_Y]);
+    assertEquals(env.getMaxX(), values[GeometryMetrics.MAX_X]);
+    assertEquals(env.getMaxY(), values[GeometryMetrics.MAX_Y]);
+    assertEquals(geom.getArea(), values[GeometryMetrics.AREA], TOLERANCE);
+    assertEquals(geom.getLength(), values[GeometryMetrics.LENGTH], TOLERANCE);
+    Coordinate cent = Centroid.getCentroid(geom);
+    assertEquals(cent.x, values[GeometryMetrics.CENTROID_X], TOLERANCE);
+    assertEquals(cent.y, values[GeometryMetrics.CENTROID_Y], TOLERANCE);
+    assertEquals((double) geom.getNumPoints(), values[GeometryMetrics.NUM_POINTS]);
+  }
+}
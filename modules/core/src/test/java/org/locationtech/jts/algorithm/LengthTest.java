@@ -11,8 +11,12 @@
  */
 package org.locationtech.jts.algorithm;
 
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
 import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.impl.CoordinateArraySequenceFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 
 import junit.textui.TestRunner;
 import test.jts.GeometryTestCase;
@@ -28,6 +32,22 @@ public class LengthTest extends GeometryTestCase {
     checkLengthOfLine("LINESTRING (100 200, 200 200, 200 100, 100 100, 100 200)", 400.0);
   }
   
+  public void testLengthLargeLine() {
+    Coordinate[] pts = AreaTest.createCircle(1001);
+    double expected = 0.0;
+    for (int i = 1; i < pts.length; i++) {
+      expected += pts[i - 1].distance(pts[i]);
+    }
+    checkLengthOfLine(CoordinateArraySequenceFactory.instance(), pts, expected);
+    checkLengthOfLine(PackedCoordinateSequenceFactory.DOUBLE_FACTORY, pts, expected);
+    checkLengthOfLine(PackedCoordinateSequenceFactory.FLOAT_FACTORY, pts, expected);
+  }
+  
+  private void checkLengthOfLine(CoordinateSequenceFactory csFact, Coordinate[] pts, double expectedLen) {
+    CoordinateSequence seq = csFact.create(pts);
+    assertEquals(expectedLen, Length.ofLine(seq), 1e-4);
+  }
+  
   void checkLengthOfLine(String wkt, double expectedLen) {
     LineString ring = (LineString) read(wkt);
 
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests the parallel computations of centroid, interior point and area,
+ * which use {@link ParallelComponents}.
+ */
+public class ParallelComponentsTest extends GeometryTestCase {
+
+  private static final double TOLERANCE = 1e-6;
+
+  private static final GeometryFactory FACTORY = new GeometryFactory();
+
+  public static void main(String args[]) {
+    TestRunner.run(ParallelComponentsTest.class);
+  }
+
+  public ParallelComponentsTest(String name) { super(name); }
+
+  public void testRangeSize() {
+    assertEquals(ParallelComponents.MIN_RANGE_SIZE, ParallelComponents.rangeSize(10));
+    assertEquals(ParallelComponents.MIN_RANGE_SIZE, ParallelComponents.rangeSize(10000));
+    assertEquals(3907, ParallelComponents.rangeSize(1000000));
+  }
+
+  public void testSmall() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      checkSerial(read("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0), (2 2, 8 2, 8 8, 2 8, 2 2))"), executor);
+      checkSerial(read("MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0)), ((20 20, 20 30, 30 30, 20 20)))"), executor);
+      checkSerial(read("LINESTRING (0 0, 10 0, 10 10)"), executor);
+      checkSerial(read("MULTIPOINT ((0 0), (10 0), (10 10))"), executor);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  public void testEmpty() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      assertNull(Centroid.getCentroid(read("MULTIPOLYGON EMPTY"), executor));
+      assertNull(InteriorPoint.getInteriorPoint(read("MULTIPOLYGON EMPTY"), executor));
+      assertEquals(0.0, Area.of(read("MULTIPOLYGON EMPTY"), executor));
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  public void testLargeMultiPolygon() {
+    Geometry geom = createSquares(5000);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      checkSerial(geom, executor);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Tests that the results do not depend on the number of threads.
+   */
+  public void testDeterministic() {
+    Geometry geom = createSquares(5000);
+    ExecutorService executor1 = Executors.newFixedThreadPool(1);
+    ExecutorService executor8 = Executors.newFixedThreadPool(8);
+    try {
+      Coordinate cent1 = Centroid.getCentroid(geom, executor1);
+      Coordinate cent8 = Centroid.getCentroid(geom, executor8);
+      assertEquals(cent1.x, cent8.x);
+      assertEquals(cent1.y, cent8.y);
+      assertEquals(Area.of(geom, executor1), Area.of(geom, executor8));
+    }
+    finally {
+      executor1.shutdown();
+      executor8.shutdown();
+    }
+  }
+
+  private static void checkSerial(Geometry geom, ExecutorService executor) {
+    Coordinate cent = Centroid.getCentroid(geom);
+    Coordinate centPar = Centroid.getCentroid(geom, executor);
+    assertEquals(cent.x, centPar.x, TOLERANCE);
+    assertEquals(cent.y, centPar.y, TOLERANCE);
+
+    //-- the interior point is identical
+    assertEquals(InteriorPoint.getInteriorPoint(geom), InteriorPoint.getInteriorPoint(geom, executor));
+
+    assertEquals(geom.getArea(), Area.of(geom, executor), TOLERANCE);
+  }
+
+  /**
+   * Creates a MultiPolygon of squares of varying size.
+   * Several squares have the largest size, to check that
+   * the first one is chosen for the interior point.
+   */
+  private static Geometry createSquares(int n) {
+    Polygon[] polys = new Polygon[n];
+    for (int i = 0; i < n; i++) {
+      double x = 10 * (i % 100);
+      double y = 10 * (i / 100);
+      double size = 1 + (i * 7919) % 9;
+      polys[i] = (Polygon) FACTORY.toGeometry(new Envelope(x, x + size, y, y + size));
+    }
+    return FACTORY.createMultiPolygon(polys);
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm;
+
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests that {@link PrimitiveLineIntersector} gives the same results
+ * as {@link RobustLineIntersector}.
+ */
+public class PrimitiveLineIntersectorTest
+    extends TestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(PrimitiveLineIntersectorTest.class);
+  }
+
+  public PrimitiveLineIntersectorTest(String name) { super(name); }
+
+  public void testProper() {
+    checkIntersection(0, 0, 10, 10, 0, 10, 10, 0);
+  }
+
+  public void testEndpointTouch() {
+    checkIntersection(0, 0, 10, 10, 10, 10, 20, 0);
+  }
+
+  public void testInteriorTouch() {
+    checkIntersection(0, 0, 10, 10, 5, 5, 20, 0);
+  }
+
+  public void testDisjoint() {
+    checkIntersection(0, 0, 10, 10, 0, 1, 10, 11);
+  }
+
+  public void testCollinearOverlap() {
+    checkIntersection(0, 0, 10, 10, 5, 5, 20, 20);
+  }
+
+  public void testCollinearContained() {
+    checkIntersection(0, 0, 10, 10, 2, 2, 4, 4);
+  }
+
+  public void testCollinearEndpoint() {
+    checkIntersection(0, 0, 10, 10, 10, 10, 20, 20);
+  }
+
+  /**
+   * A case where the DD intersection computation is required.
+   */
+  public void testNearlyParallel() {
+    checkIntersection(
+        35613471.6165017, 4257145.3061322933,
+        35613477.7705378, 4257160.5282227108,
+        35613477.775057241, 4257160.5396535359,
+        35613479.856073894, 4257165.9236917039);
+  }
+
+  public void testRobustOrientation() {
+    checkIntersection(
+        219.3649559090992, 140.84159161824724,
+        168.9018919682399, -5.713787599646864,
+        186.80814046338352, 46.28973405831556,
+        100, 100);
+  }
+
+  public void testPrecisionModel() {
+    PrecisionModel pm = new PrecisionModel(10);
+    checkIntersection(0, 0, 10, 3, 0, 3, 10, 0, pm);
+  }
+
+  public void testRandom() {
+    Random rnd = new Random(23);
+    for (int i = 0; i < 2000; i++) {
+      double[] v = new double[8];
+      for (int j = 0; j < 8; j++) {
+        //-- use a coarse grid so that touching and collinear cases occur
+        v[j] = rnd.nextInt(10);
+      }
+      checkIntersection(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7]);
+    }
+  }
+
+  /**
+   * Checks that the allocation-free DD computation
+   * matches {@link CGAlgorithmsDD#intersection(Coordinate, Coordinate, Coordinate, Coordinate)}.
+   */
+  public void testLineIntersectionDD() {
+    Random rnd = new Random(29);
+    PrimitiveLineIntersector pli = new PrimitiveLineIntersector();
+    for (int i = 0; i < 1000; i++) {
+      double[] v = new double[8];
+      for (int j = 0; j < 8; j++) {
+        v[j] = 1.0e6 * rnd.nextDouble();
+      }
+      Coordinate expected = CGAlgorithmsDD.intersection(new Coordinate(v[0], v[1]), new Coordinate(v[2], v[3]),
+          new Coordinate(v[4], v[5]), new Coordinate(v[6], v[7]));
+      boolean isFound = pli.computeLineIntersection(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7]);
+      assertEquals(expected != null, isFound);
+      if (isFound) {
+        assertEquals(expected.x, pli.getIntersectionX(0));
+        assertEquals(expected.y, pli.getIntersectionY(0));
+      }
+    }
+  }
+
+  private static void checkIntersection(double p1x, double p1y, double p2x, double p2y,
+      double q1x, double q1y, double q2x, double q2y) {
+    checkIntersection(p1x, p1y, p2x, p2y, q1x, q1y, q2x, q2y, null);
+  }
+
+  private static void checkIntersection(double p1x, double p1y, double p2x, double p2y,
+      double q1x, double q1y, double q2x, double q2y, PrecisionModel pm) {
+    RobustLineIntersector li = new RobustLineIntersector();
+    li.setPrecisionModel(pm);
+    li.computeIntersection(new Coordinate(p1x, p1y), new Coordinate(p2x, p2y),
+        new Coordinate(q1x, q1y), new Coordinate(q2x, q2y));
+
+    PrimitiveLineIntersector pli = new PrimitiveLineIntersector();
+    pli.setPrecisionModel(pm);
+    int num = pli.computeIntersection(p1x, p1y, p2x, p2y, q1x, q1y, q2x, q2y);
+
+    assertEquals(li.getIntersectionNum(), num);
+    assertEquals(li.hasIntersection(), pli.hasIntersection());
+    assertEquals(li.isProper(), pli.isProper());
+    if (! li.hasIntersection())
+      return;
+    assertEquals(li.isInteriorIntersection(), pli.isInteriorIntersection());
+    assertEquals(li.isInteriorIntersection(0), pli.isInteriorIntersection(0));
+    assertEquals(li.isInteriorIntersection(1), pli.isInteriorIntersection(1));
+    for (int i = 0; i < num; i++) {
+      assertEquals(li.getIntersection(i).x, pli.getIntersectionX(i));
+      assertEquals(li.getIntersection(i).y, pli.getIntersectionY(i));
+    }
+  }
+}
@@ -15,6 +15,7 @@ import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.geom.impl.CoordinateArraySequence;
 import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 import org.locationtech.jts.io.WKTReader;
 
@@ -55,4 +56,19 @@ public class RayCrossingCounterTest extends AbstractPointInRingTest {
     assertEquals(Location.INTERIOR, RayCrossingCounter.locatePointInRing(new Coordinate(5.0, 2.0), cs));
   }
 
+  public void testLargeRingSequence()
+  {
+    Coordinate[] pts = AreaTest.createCircle(1001);
+    CoordinateSequence[] seqs = new CoordinateSequence[] {
+        new CoordinateArraySequence(pts),
+        PackedCoordinateSequenceFactory.DOUBLE_FACTORY.create(pts)
+    };
+    for (CoordinateSequence seq : seqs) {
+      assertEquals(Location.INTERIOR, RayCrossingCounter.locatePointInRing(new Coordinate(100, 100), seq));
+      assertEquals(Location.EXTERIOR, RayCrossingCounter.locatePointInRing(new Coordinate(200, 100), seq));
+      //-- a vertex beyond the first chunk
+      assertEquals(Location.BOUNDARY, RayCrossingCounter.locatePointInRing(pts[700], seq));
+    }
+  }
+
 }
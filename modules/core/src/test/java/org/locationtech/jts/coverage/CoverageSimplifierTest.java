@@ -11,6 +11,8 @@
  */
 package org.locationtech.jts.coverage;
 
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
 import org.locationtech.jts.geom.Geometry;
 
 import junit.textui.TestRunner;
@@ -383,7 +385,77 @@ public class CoverageSimplifierTest extends GeometryTestCase {
   
   //=================================
 
+  public void testParallelGrid() {
+    Geometry[] coverage = createJaggedGrid(20);
+    for (double tol : new double[] { 0.1, 0.5, 2 }) {
+      Geometry[] expected = CoverageSimplifier.simplify(coverage, tol);
+      CoverageSimplifier simplifier = new CoverageSimplifier(coverage);
+      simplifier.setParallel(true);
+      checkEqualExact(expected, simplifier.simplify(tol));
+    }
+  }
+  
+  //=================================
+
+  /**
+   * Creates a grid coverage whose edges have 
+   * pseudo-random vertex offsets, to provide many simplifiable corners.
+   */
+  private Geometry[] createJaggedGrid(int nSide) {
+    Geometry[] grid = new Geometry[nSide * nSide];
+    for (int i = 0; i < nSide; i++) {
+      for (int j = 0; j < nSide; j++) {
+        CoordinateList pts = new CoordinateList();
+        addJaggedEdge(pts, i, j, i + 1, j);
+        addJaggedEdge(pts, i + 1, j, i + 1, j + 1);
+        addJaggedEdge(pts, i + 1, j + 1, i, j + 1);
+        addJaggedEdge(pts, i, j + 1, i, j);
+        pts.closeRing();
+        grid[i * nSide + j] = getGeometryFactory().createPolygon(pts.toCoordinateArray());
+      }
+    }
+    return grid;
+  }
+  
+  private static void addJaggedEdge(CoordinateList pts, int i0, int j0, int i1, int j1) {
+    int nPts = 20;
+    boolean isReversed = i1 < i0 || j1 < j0;
+    int ia = isReversed ? i1 : i0;
+    int ja = isReversed ? j1 : j0;
+    int ib = isReversed ? i0 : i1;
+    int jb = isReversed ? j0 : j1;
+    Coordinate[] edge = new Coordinate[nPts + 1];
+    for (int k = 0; k <= nPts; k++) {
+      double frac = k / (double) nPts;
+      double x = 10 * (ia + frac * (ib - ia));
+      double y = 10 * (ja + frac * (jb - ja));
+      //-- deterministic pseudo-random offset perpendicular to the edge
+      double offset = (k == 0 || k == nPts) ? 0 
+          : 0.5 * Math.sin(1000.0 * (ia * 31 + ja * 17 + ib * 7 + jb * 3 + k));
+      if (ia == ib)
+        x += offset;
+      else
+        y += offset;
+      edge[k] = new Coordinate(x, y);
+    }
+    for (int k = 0; k <= nPts; k++) {
+      pts.add(edge[isReversed ? nPts - k : k], false);
+    }
+  }
 
+  private void checkEqualExact(Geometry[] expected, Geometry[] actual) {
+    assertEquals(expected.length, actual.length);
+    for (int i = 0; i < expected.length; i++) {
+      assertTrue("element " + i, expected[i].equalsExact(actual[i]));
+    }
+  }
+  
+  private static Geometry[] simplifyParallel(Geometry[] input, double tolerance) {
+    CoverageSimplifier simplifier = new CoverageSimplifier(input);
+    simplifier.setParallel(true);
+    return simplifier.simplify(tolerance);
+  }
+  
   private void checkNoop(Geometry[] input) {
     Geometry[] actual = CoverageSimplifier.simplify(input, 0);
     checkEqual(input, actual);
@@ -397,6 +469,7 @@ public class CoverageSimplifierTest extends GeometryTestCase {
   private void checkResult(Geometry[] input, double tolerance, Geometry[] expected) {
     Geometry[] actual = CoverageSimplifier.simplify(input, tolerance);
     checkEqual(expected, actual);
+    checkEqual(expected, simplifyParallel(input, tolerance));
   }
   
   private void checkResultRemovalSize(Geometry[] input, double tolerance, double removalFactor, Geometry[] expected) {
@@ -11,7 +11,12 @@
  */
 package org.locationtech.jts.coverage;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
 
 import junit.textui.TestRunner;
 import test.jts.GeometryTestCase;
@@ -40,6 +45,24 @@ public class CoverageUnionTest extends GeometryTestCase
             );
   }
 
+  public void testParallelGridWithHoles() {
+    //-- a grid with some cells omitted, producing holes
+    int nSide = 60;
+    List<Geometry> cells = new ArrayList<Geometry>();
+    for (int i = 0; i < nSide; i++) {
+      for (int j = 0; j < nSide; j++) {
+        if (i % 7 == 3 && j % 5 == 2)
+          continue;
+        cells.add(getGeometryFactory().toGeometry(new Envelope(i, i + 1, j, j + 1)));
+      }
+    }
+    Geometry[] coverage = GeometryFactory.toGeometryArray(cells);
+    Geometry expected = CoverageUnion.union(coverage);
+    Geometry actual = CoverageUnion.union(coverage, true);
+    checkEqual(expected, actual);
+    assertEquals(expected.getArea(), actual.getArea(), 1e-10);
+  }
+
   private void checkUnion(String wktCoverage, String wktExpected) {
     Geometry covGeom = read(wktCoverage);
     Geometry[] coverage = toArray(covGeom);
@@ -50,6 +73,7 @@ public class CoverageUnionTest extends GeometryTestCase
     }
     Geometry expected = read(wktExpected);
     checkEqual(expected, actual);
+    checkEqual(expected, CoverageUnion.union(coverage, true));
   }
 
   private static Geometry[] toArray(Geometry geom) {
@@ -11,6 +11,7 @@
  */
 package org.locationtech.jts.coverage;
 
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 
 import junit.textui.TestRunner;
@@ -150,19 +151,62 @@ public class CoverageValidatorTest extends GeometryTestCase
         "MULTIPOLYGON (((9 9, 9 1, 1 1, 2 4, 7 7, 9 9)), EMPTY)" ));
   }
   
+  //========  Parallel mode  =============================
+
+  public void testParallelLargeGrid() {
+    Geometry[] coverage = createGrid(40);
+    //-- perturb a vertex to create overlaps with neighbours
+    coverage[500] = read("POLYGON ((12.5 10, 12.5 11, 13 11, 13 10, 12.5 10))");
+    
+    CoverageValidator seq = new CoverageValidator(coverage);
+    Geometry[] expected = seq.validate();
+    assertTrue(CoverageValidator.hasInvalidResult(expected));
+    
+    CoverageValidator par = new CoverageValidator(coverage);
+    par.setParallel(true);
+    checkEqual(expected, par.validate());
+  }
+  
+  public void testParallelLargeGridValid() {
+    Geometry[] coverage = createGrid(40);
+    CoverageValidator par = new CoverageValidator(coverage);
+    par.setParallel(true);
+    assertFalse(CoverageValidator.hasInvalidResult(par.validate()));
+  }
+  
   //------------------------------------------------------------
   
+  private Geometry[] createGrid(int nSide) {
+    Geometry[] grid = new Geometry[nSide * nSide];
+    for (int i = 0; i < nSide; i++) {
+      for (int j = 0; j < nSide; j++) {
+        grid[i * nSide + j] = getGeometryFactory().toGeometry(new Envelope(i, i + 1, j, j + 1));
+      }
+    }
+    return grid;
+  }
+  
   private void checkValid(Geometry[] coverage) {
     assertTrue(CoverageValidator.isValid(coverage));
+    assertFalse(CoverageValidator.hasInvalidResult(validateParallel(coverage, 0)));
   }
 
   private void checkInvalid(Geometry[] coverage, Geometry[] expected) {
     Geometry[] actual = CoverageValidator.validate(coverage);
     checkEqual(expected, actual);
+    checkEqual(expected, validateParallel(coverage, 0));
   }
   
   private void checkInvalidWithGaps(Geometry[] coverage, double gapWidth, Geometry[] expected) {
     Geometry[] actual = CoverageValidator.validate(coverage, gapWidth);
     checkEqual(expected, actual);
+    checkEqual(expected, validateParallel(coverage, gapWidth));
+  }
+  
+  private static Geometry[] validateParallel(Geometry[] coverage, double gapWidth) {
+    CoverageValidator v = new CoverageValidator(coverage);
+    v.setGapWidth(gapWidth);
+    v.setParallel(true);
+    return v.validate();
   }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.coverage;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.TopologyException;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class IncrementalCoverageUnionTest extends GeometryTestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(IncrementalCoverageUnionTest.class);
+  }
+
+  public IncrementalCoverageUnionTest(String name) {
+    super(name);
+  }
+
+  private static final String[] CHESSBOARD = new String[] {
+      "POLYGON ((1 9, 5 9, 5 5, 1 5, 1 9))",
+      "POLYGON ((5 9, 9 9, 9 5, 5 5, 5 9))",
+      "POLYGON ((1 5, 5 5, 5 1, 1 1, 1 5))",
+      "POLYGON ((5 5, 9 5, 9 1, 5 1, 5 5))" };
+
+  public void testAdd() {
+    IncrementalCoverageUnion union = new IncrementalCoverageUnion(getGeometryFactory());
+    union.add(readArray(CHESSBOARD));
+    checkEqual(read("POLYGON ((5 9, 9 9, 9 5, 9 1, 5 1, 1 1, 1 5, 1 9, 5 9))"),
+        union.getResult());
+  }
+
+  public void testRemove() {
+    IncrementalCoverageUnion union = new IncrementalCoverageUnion(getGeometryFactory());
+    Geometry[] coverage = readArray(CHESSBOARD);
+    union.add(coverage);
+    union.remove(coverage[1]);
+    checkEqual(read("POLYGON ((1 1, 1 5, 1 9, 5 9, 5 5, 9 5, 9 1, 5 1, 1 1))"),
+        union.getResult());
+  }
+
+  public void testRemoveAll() {
+    IncrementalCoverageUnion union = new IncrementalCoverageUnion(getGeometryFactory());
+    Geometry[] coverage = readArray(CHESSBOARD);
+    union.add(coverage);
+    for (Geometry geom : coverage) {
+      union.remove(geom);
+    }
+    assertTrue(union.isEmpty());
+    assertTrue(union.getResult().isEmpty());
+  }
+
+  public void testRemoveCreatesHole() {
+    IncrementalCoverageUnion union = new IncrementalCoverageUnion(getGeometryFactory());
+    union.add(readArray(
+        "POLYGON ((1 9, 9 9, 9 1, 1 1, 1 9), (3 7, 7 7, 7 3, 3 3, 3 7))",
+        "POLYGON ((3 7, 7 7, 7 3, 3 3, 3 7))"));
+    union.remove(read("POLYGON ((3 7, 7 7, 7 3, 3 3, 3 7))"));
+    checkEqual(read("POLYGON ((1 9, 9 9, 9 1, 1 1, 1 9), (3 7, 7 7, 7 3, 3 3, 3 7))"),
+        union.getResult());
+  }
+
+  public void testFromPreviousUnion() {
+    Geometry[] coverage = readArray(CHESSBOARD);
+    Geometry prevUnion = CoverageUnion.union(coverage);
+    IncrementalCoverageUnion union = new IncrementalCoverageUnion(prevUnion);
+    union.remove(coverage[0]);
+    union.remove(coverage[3]);
+    checkEqual(read("MULTIPOLYGON (((5 9, 9 9, 9 5, 5 5, 5 9)), ((1 5, 5 5, 5 1, 1 1, 1 5)))"),
+        union.getResult());
+  }
+
+  public void testDisjoint() {
+    IncrementalCoverageUnion union = new IncrementalCoverageUnion(getGeometryFactory());
+    union.add(readArray(
+        "POLYGON ((1 9, 5 9, 5 5, 1 5, 1 9))",
+        "POLYGON ((6 9, 9 9, 9 5, 6 5, 6 9))"));
+    checkEqual(read("MULTIPOLYGON (((1 9, 5 9, 5 5, 1 5, 1 9)), ((6 9, 9 9, 9 5, 6 5, 6 9)))"),
+        union.getResult());
+  }
+
+  public void testMatchesCoverageUnion() {
+    Geometry[] coverage = readArray(
+        "POLYGON ((1 9, 5 9, 6 6, 1 5, 1 9), (2 6, 4 8, 4 6, 2 6))",
+        "POLYGON ((2 6, 4 8, 4 6, 2 6))",
+        "POLYGON ((5 9, 9 9, 9 5, 6 6, 5 9))",
+        "POLYGON ((9 1, 1 1, 1 5, 6 6, 9 5, 9 1))");
+    IncrementalCoverageUnion union = new IncrementalCoverageUnion(getGeometryFactory());
+    union.add(coverage);
+    checkEqual(CoverageUnion.union(coverage), union.getResult());
+  }
+
+  public void testAddOverlapping() {
+    IncrementalCoverageUnion union = new IncrementalCoverageUnion(getGeometryFactory());
+    Geometry poly = read(CHESSBOARD[0]);
+    union.add(poly);
+    try {
+      union.add(poly);
+      fail();
+    }
+    catch (TopologyException expected) {
+    }
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.coverage;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.Geometry;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class TiledCoverageSimplifierTest extends GeometryTestCase {
+  public static void main(String args[]) {
+    TestRunner.run(TiledCoverageSimplifierTest.class);
+  }
+
+  public TiledCoverageSimplifierTest(String name) {
+    super(name);
+  }
+
+  public void testSingleTileSimple2() {
+    checkSingleTile(readArray(
+        "POLYGON ((100 100, 200 200, 300 100, 200 101, 100 100))",
+        "POLYGON ((150 0, 100 100, 200 101, 300 100, 250 0, 150 0))" ),
+        10);
+  }
+
+  public void testSingleTileHole() {
+    checkSingleTile(readArray(
+        "POLYGON ((10 90, 90 90, 90 10, 10 10, 10 90), (20 80, 80 80, 80 20, 20 20, 20 80))",
+        "POLYGON ((80 20, 20 20, 20 80, 80 80, 80 20))" ),
+        10);
+  }
+
+  public void testSingleTileWavyGrid() {
+    checkSingleTile(createWavyGrid(4), 0.5);
+  }
+
+  public void testTiledWavyGrid() {
+    Geometry[] coverage = createWavyGrid(8);
+    Geometry[] result = TiledCoverageSimplifier.simplify(coverage, 25, 0.5);
+    assertEquals(coverage.length, result.length);
+    assertTrue(CoverageValidator.isValid(result));
+    assertTrue(numPoints(result) < numPoints(coverage));
+  }
+
+  public void testTileBoundaryEdgesPinned() {
+    //-- 2 cells, one in each tile
+    Geometry[] coverage = readArray(
+        "POLYGON ((0 0, 0 10, 5 10, 4.9 5, 5 0, 0 0))",
+        "POLYGON ((5 0, 4.9 5, 5 10, 10 10, 10 0, 5 0))");
+    Geometry[] result = TiledCoverageSimplifier.simplify(coverage, 5, 1);
+    checkEqual(coverage, result);
+  }
+
+  public void testInnerEdgesSimplified() {
+    //-- 2 cells in a single tile, plus a cell in another tile
+    Geometry[] coverage = readArray(
+        "POLYGON ((0 0, 0 10, 5 10, 4.9 5, 5 0, 0 0))",
+        "POLYGON ((5 0, 4.9 5, 5 10, 9 10, 9 0, 5 0))",
+        "POLYGON ((9 0, 9 10, 20 10, 20 0, 9 0))");
+    Geometry[] result = TiledCoverageSimplifier.simplify(coverage, 10, 1);
+    checkEqual(readArray(
+        "POLYGON ((0 0, 0 10, 5 10, 5 0, 0 0))",
+        "POLYGON ((5 0, 5 10, 9 10, 9 0, 5 0))",
+        "POLYGON ((9 0, 9 10, 20 10, 20 0, 9 0))"),
+        result);
+  }
+
+  public void testEmptyElement() {
+    Geometry[] coverage = readArray(
+        "POLYGON ((0 0, 0 10, 5 10, 4.9 5, 5 0, 0 0))",
+        "POLYGON EMPTY");
+    Geometry[] result = TiledCoverageSimplifier.simplify(coverage, 10, 1);
+    checkEqual(readArray(
+        "POLYGON ((0 0, 0 10, 5 10, 5 0, 0 0))",
+        "POLYGON EMPTY"),
+        result);
+  }
+
+  //=================================
+
+  private void checkSingleTile(Geometry[] input, double tolerance) {
+    Geometry[] expected = CoverageSimplifier.simplify(input, tolerance);
+    Geometry[] actual = TiledCoverageSimplifier.simplify(input, 1e6, tolerance);
+    checkEqual(expected, actual);
+  }
+
+  private static int numPoints(Geometry[] geoms) {
+    int n = 0;
+    for (Geometry geom : geoms) {
+      n += geom.getNumPoints();
+    }
+    return n;
+  }
+
+  /**
+   * Creates a grid coverage of nSide x nSide cells
+   * with edges perturbed by small zigzags.
+   */
+  private Geometry[] createWavyGrid(int nSide) {
+    Geometry[] grid = new Geometry[nSide * nSide];
+    for (int i = 0; i < nSide; i++) {
+      for (int j = 0; j < nSide; j++) {
+        CoordinateList pts = new CoordinateList();
+        addWavyEdge(pts, i, j, i + 1, j);
+        addWavyEdge(pts, i + 1, j, i + 1, j + 1);
+        addWavyEdge(pts, i + 1, j + 1, i, j + 1);
+        addWavyEdge(pts, i, j + 1, i, j);
+        pts.closeRing();
+        grid[i * nSide + j] = getGeometryFactory().createPolygon(pts.toCoordinateArray());
+      }
+    }
+    return grid;
+  }
+
+  private static final int WAVE_PTS = 10;
+  private static final double CELL_SIZE = 10;
+
+  private static void addWavyEdge(CoordinateList pts, int i0, int j0, int i1, int j1) {
+    //-- compute the zigzag in a canonical direction so shared edges match
+    boolean isReversed = i1 < i0 || j1 < j0;
+    int ia = isReversed ? i1 : i0;
+    int ja = isReversed ? j1 : j0;
+    int ib = isReversed ? i0 : i1;
+    int jb = isReversed ? j0 : j1;
+    Coordinate[] edge = new Coordinate[WAVE_PTS + 1];
+    for (int k = 0; k <= WAVE_PTS; k++) {
+      double frac = k / (double) WAVE_PTS;
+      double x = CELL_SIZE * (ia + frac * (ib - ia));
+      double y = CELL_SIZE * (ja + frac * (jb - ja));
+      double offset = (k == 0 || k == WAVE_PTS) ? 0 : ((k % 2 == 0) ? 0.1 : -0.1);
+      //-- offset perpendicular to the edge
+      if (ia == ib)
+        x += offset;
+      else
+        y += offset;
+      edge[k] = new Coordinate(x, y);
+    }
+    if (isReversed) {
+      for (int k = WAVE_PTS; k >= 0; k--)
+        pts.add(edge[k], false);
+    }
+    else {
+      for (int k = 0; k <= WAVE_PTS; k++)
+        pts.add(edge[k], false);
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.locationtech.jts.geom.impl.CoordinateArraySequenceFactory;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.util.AffineTransformation;
+import org.locationtech.jts.io.WKTReader;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests geometries created by an immutable {@link GeometryFactory}.
+ */
+public class ImmutableGeometryTest extends GeometryTestCase {
+
+  private static final GeometryFactory IMMUTABLE_FACTORY = new GeometryFactory(
+      new PrecisionModel(), 0, CoordinateArraySequenceFactory.instance(), true);
+
+  private WKTReader immutableReader = new WKTReader(IMMUTABLE_FACTORY);
+
+  public static void main(String args[]) {
+    TestRunner.run(ImmutableGeometryTest.class);
+  }
+
+  public ImmutableGeometryTest(String name) { super(name); }
+
+  public void testFactory() {
+    assertTrue(IMMUTABLE_FACTORY.isImmutable());
+    assertFalse(new GeometryFactory().isImmutable());
+  }
+
+  public void testDerivedValues() {
+    checkDerivedValues("POINT (1 2)");
+    checkDerivedValues("LINESTRING (0 0, 10 0, 10 10)");
+    checkDerivedValues("LINEARRING (0 0, 10 0, 10 10, 0 0)");
+    checkDerivedValues("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0), (2 2, 8 2, 8 8, 2 8, 2 2))");
+    checkDerivedValues("MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0)), ((20 20, 20 30, 30 30, 20 20)))");
+    checkDerivedValues("GEOMETRYCOLLECTION (POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0)), LINESTRING (20 20, 30 30))");
+    checkDerivedValues("POLYGON ((0 0, 10 10, 0 10, 10 0, 0 0))");
+    checkDerivedValues("LINESTRING (0 0, 10 10, 0 10, 10 0)");
+    checkDerivedValues("POLYGON EMPTY");
+  }
+
+  public void testPreparedCached() {
+    Geometry geom = read(immutableReader, "POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))");
+    PreparedGeometry prep = geom.getPrepared();
+    assertSame(prep, geom.getPrepared());
+    assertSame(geom, prep.getGeometry());
+    assertTrue(prep.contains(read("POINT (5 5)")));
+
+    Geometry mutable = read("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))");
+    assertNotSame(mutable.getPrepared(), mutable.getPrepared());
+  }
+
+  public void testEnvelopeNotAliased() {
+    Geometry geom = read(immutableReader, "LINESTRING (0 0, 10 10)");
+    geom.getEnvelopeInternal().expandToInclude(100, 100);
+    assertEquals(new Envelope(0, 10, 0, 10), geom.getEnvelopeInternal());
+  }
+
+  public void testGeometryChanged() {
+    Geometry geom = read(immutableReader, "POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))");
+    assertEquals(100.0, geom.getArea());
+    assertEquals(new Envelope(0, 10, 0, 10), geom.getEnvelopeInternal());
+    PreparedGeometry prep = geom.getPrepared();
+
+    geom.apply(AffineTransformation.scaleInstance(2, 2));
+    assertEquals(400.0, geom.getArea());
+    assertEquals(80.0, geom.getLength());
+    assertEquals(new Envelope(0, 20, 0, 20), geom.getEnvelopeInternal());
+    assertNotSame(prep, geom.getPrepared());
+  }
+
+  public void testClone() {
+    Geometry geom = read(immutableReader, "POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0))");
+    PreparedGeometry prep = geom.getPrepared();
+    Geometry clone = (Geometry) geom.clone();
+    assertNotSame(prep, clone.getPrepared());
+    assertSame(clone, clone.getPrepared().getGeometry());
+  }
+
+  public void testConcurrentAccess() throws Exception {
+    final Geometry geom = read(immutableReader, "POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (10 10, 20 10, 20 20, 10 20, 10 10))");
+    final Geometry pt = read("POINT (50 50)");
+    ExecutorService exec = Executors.newFixedThreadPool(4);
+    try {
+      Future<?>[] results = new Future<?>[16];
+      for (int i = 0; i < results.length; i++) {
+        results[i] = exec.submit(new Callable<Boolean>() {
+          public Boolean call() {
+            for (int k = 0; k < 100; k++) {
+              assertEquals(9900.0, geom.getArea());
+              assertEquals(440.0, geom.getLength());
+              assertTrue(geom.isValid());
+              assertTrue(geom.getPrepared().contains(pt));
+            }
+            return true;
+          }
+        });
+      }
+      for (Future<?> result : results) {
+        assertEquals(Boolean.TRUE, result.get());
+      }
+    }
+    finally {
+      exec.shutdown();
+    }
+  }
+
+  private void checkDerivedValues(String wkt) {
+    Geometry expected = read(wkt);
+    Geometry geom = read(immutableReader, wkt);
+    //-- check twice, to check computed and cached values
+    for (int i = 0; i < 2; i++) {
+      assertEquals(expected.getEnvelopeInternal(), geom.getEnvelopeInternal());
+      assertEquals(expected.getArea(), geom.getArea());
+      assertEquals(expected.getLength(), geom.getLength());
+      assertEquals(expected.isValid(), geom.isValid());
+      assertEquals(expected.isSimple(), geom.isSimple());
+    }
+  }
+}
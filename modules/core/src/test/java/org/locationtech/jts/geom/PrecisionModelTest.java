@@ -52,7 +52,29 @@ public class PrecisionModelTest extends TestCase
   	preciseCoordinateTester(pm_10, 1200.4, 1240.4, 1200, 1240);
   	preciseCoordinateTester(pm_10, 1209.4, 1240.4, 1210, 1240);
   }
-  
+
+  public void testGridIndex()
+  {
+    PrecisionModel pm_10 = new PrecisionModel(0.1);
+    assertEquals(121, pm_10.gridIndex(1209.4));
+    assertEquals(1210.0, pm_10.gridValue(121));
+
+    PrecisionModel pmGrid = new PrecisionModel(-0.25);
+    assertEquals(-5, pmGrid.gridIndex(-1.3));
+    assertEquals(pmGrid.makePrecise(-1.3), pmGrid.gridValue(-5));
+  }
+
+  public void testGridIndexFloating()
+  {
+    try {
+      new PrecisionModel().gridIndex(1.0);
+      fail();
+    }
+    catch (IllegalStateException ex) {
+      //-- expected
+    }
+  }
+
   private void preciseCoordinateTester(PrecisionModel pm, 
   		double x1, double y1, 
   		double x2, double y2)
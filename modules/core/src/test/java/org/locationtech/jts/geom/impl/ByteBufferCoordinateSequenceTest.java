@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.CoordinateXYM;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.io.WKTReader;
+
+import junit.textui.TestRunner;
+
+/**
+ * Test {@link ByteBufferCoordinateSequence}
+ * using the {@link CoordinateSequenceTestBase}
+ */
+public class ByteBufferCoordinateSequenceTest
+    extends CoordinateSequenceTestBase
+{
+  public static void main(String args[]) {
+    TestRunner.run(ByteBufferCoordinateSequenceTest.class);
+  }
+
+  public ByteBufferCoordinateSequenceTest(String name)
+  {
+    super(name);
+  }
+
+  @Override
+  CoordinateSequenceFactory getCSFactory() {
+    return new ByteBufferCoordinateSequenceFactory(1000);
+  }
+
+  public void testSharedArena() {
+    ByteBufferCoordinateSequenceFactory csFact = new ByteBufferCoordinateSequenceFactory(100);
+    ByteBufferCoordinateSequence seq1 = csFact.create(10, 2);
+    ByteBufferCoordinateSequence seq2 = csFact.create(5, 3);
+    assertSame(seq1.getBuffer(), seq2.getBuffer());
+    assertEquals(0, seq1.getOffset());
+    assertEquals(20, seq2.getOffset());
+
+    seq1.setOrdinate(9, 1, 99);
+    seq2.setOrdinate(0, 0, 42);
+    assertEquals(99.0, seq1.getY(9));
+    assertEquals(42.0, seq2.getX(0));
+
+    //-- the arena is full, so a new buffer is used
+    ByteBufferCoordinateSequence seq3 = csFact.create(40, 2);
+    assertNotSame(seq1.getBuffer(), seq3.getBuffer());
+    assertEquals(0, seq3.getOffset());
+  }
+
+  public void testMeasures() {
+    ByteBufferCoordinateSequenceFactory csFact = new ByteBufferCoordinateSequenceFactory();
+    CoordinateSequence seq = csFact.create(new Coordinate[] {
+        new CoordinateXYM(1, 2, 3), new CoordinateXYM(4, 5, 6) });
+    assertEquals(3, seq.getDimension());
+    assertEquals(1, seq.getMeasures());
+    assertTrue(Double.isNaN(seq.getZ(1)));
+    assertEquals(6.0, seq.getM(1));
+    assertEquals(6.0, seq.getCoordinate(1).getM());
+  }
+
+  public void testView() {
+    ByteBuffer buf = ByteBuffer.allocate(8 * 100).order(ByteOrder.LITTLE_ENDIAN);
+    ByteBufferCoordinateSequenceFactory csFact = new ByteBufferCoordinateSequenceFactory(buf);
+    ByteBufferCoordinateSequence seq = csFact.create(new Coordinate[] {
+        new Coordinate(1, 2), new Coordinate(3, 4), new Coordinate(5, 6) });
+    assertEquals(0, buf.position());
+    assertEquals(5.0, buf.getDouble(8 * (seq.getOffset() + 6)));
+
+    //-- a view created by another factory reads the same data
+    ByteBufferCoordinateSequenceFactory readFact = new ByteBufferCoordinateSequenceFactory(buf.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN));
+    ByteBufferCoordinateSequence view = readFact.createView(seq.getOffset(),
+        seq.size(), seq.getDimension(), seq.getMeasures());
+    assertTrue(isEqual(view, seq.toCoordinateArray()));
+
+    //-- new sequences are not allocated in a read-only buffer
+    ByteBufferCoordinateSequence seq2 = readFact.create(2, 2);
+    assertNotSame(view.getBuffer(), seq2.getBuffer());
+  }
+
+  public void testViewOutOfBounds() {
+    ByteBufferCoordinateSequenceFactory csFact = new ByteBufferCoordinateSequenceFactory(ByteBuffer.allocate(8 * 10));
+    try {
+      csFact.createView(4, 4, 2, 0);
+      fail();
+    }
+    catch (IndexOutOfBoundsException ex) {
+      //-- expected
+    }
+  }
+
+  public void testGeometry() throws Exception {
+    GeometryFactory geomFact = new GeometryFactory(new ByteBufferCoordinateSequenceFactory());
+    WKTReader reader = new WKTReader(geomFact);
+    Polygon poly = (Polygon) reader.read("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0), (2 2, 8 2, 8 8, 2 8, 2 2))");
+    assertTrue(poly.getExteriorRing().getCoordinateSequence() instanceof ByteBufferCoordinateSequence);
+    assertEquals(64.0, poly.getArea());
+    assertEquals(64.0, poly.copy().getArea());
+    assertEquals(100.0, poly.getEnvelope().getArea());
+
+    Geometry result = deserialize(serialize(poly));
+    assertTrue(poly.equalsExact(result));
+  }
+
+  private static byte[] serialize(Object obj) throws Exception {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    ObjectOutputStream oos = new ObjectOutputStream(bos);
+    oos.writeObject(obj);
+    oos.close();
+    return bos.toByteArray();
+  }
+
+  private static Geometry deserialize(byte[] data) throws Exception {
+    ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(data));
+    return (Geometry) ois.readObject();
+  }
+}
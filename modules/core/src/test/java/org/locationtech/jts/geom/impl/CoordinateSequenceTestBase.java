@@ -109,6 +109,31 @@ public abstract class CoordinateSequenceTestBase
     assertTrue(isEqual(seq2, coords));
   }
   
+  public void testCopyXY()
+  {
+    Coordinate[] coords = new Coordinate[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      coords[i] = new Coordinate(i, 2 * i, 3 * i);
+    }
+    CoordinateSequence seq = getCSFactory().create(coords);
+    double[] xy = new double[42];
+    seq.copyXY(10, xy, 2, 20);
+    for (int i = 0; i < 20; i++) {
+      assertEquals(seq.getX(10 + i), xy[2 + 2 * i]);
+      assertEquals(seq.getY(10 + i), xy[3 + 2 * i]);
+    }
+
+    double[] ords = seq.getOrdinateArray();
+    if (ords != null) {
+      int dim = seq.getDimension();
+      for (int i = 0; i < SIZE; i++) {
+        for (int j = 0; j < dim; j++) {
+          assertEquals(seq.getOrdinate(i, j), ords[i * dim + j]);
+        }
+      }
+    }
+  }
+
   private static byte[] serialize(CoordinateSequence seq) throws IOException {
     ByteArrayOutputStream bos = new ByteArrayOutputStream();
     ObjectOutputStream oos = new ObjectOutputStream(bos);
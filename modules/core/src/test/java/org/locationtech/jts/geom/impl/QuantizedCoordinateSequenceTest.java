@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.impl;
+
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.CoordinateXYM;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.io.WKTReader;
+
+import junit.textui.TestRunner;
+
+/**
+ * Test {@link QuantizedCoordinateSequence}
+ * using the {@link CoordinateSequenceTestBase}
+ */
+public class QuantizedCoordinateSequenceTest
+    extends CoordinateSequenceTestBase
+{
+  public static void main(String args[]) {
+    TestRunner.run(QuantizedCoordinateSequenceTest.class);
+  }
+
+  public QuantizedCoordinateSequenceTest(String name)
+  {
+    super(name);
+  }
+
+  @Override
+  CoordinateSequenceFactory getCSFactory() {
+    return new QuantizedCoordinateSequenceFactory(new PrecisionModel(1000));
+  }
+
+  public void testFloatingPrecisionModel() {
+    try {
+      new QuantizedCoordinateSequenceFactory(new PrecisionModel());
+      fail();
+    }
+    catch (IllegalArgumentException ex) {
+      //-- expected
+    }
+  }
+
+  public void testMakePrecise() {
+    checkMakePrecise(new PrecisionModel(1000), 100000);
+    checkMakePrecise(new PrecisionModel(0.1), 1.0e7);
+    //-- a negative scale specifies the grid size
+    checkMakePrecise(new PrecisionModel(-0.25), 1000);
+    checkMakePrecise(new PrecisionModel(1.0e6), 1.0e8);
+  }
+
+  public void testRandomAccess() {
+    PrecisionModel pm = new PrecisionModel(100);
+    Coordinate[] pts = createRandom(pm, 1000, 1000);
+    QuantizedCoordinateSequence seq = new QuantizedCoordinateSequenceFactory(pm).create(pts);
+    Random rnd = new Random(17);
+    Coordinate p = new Coordinate();
+    for (int k = 0; k < 1000; k++) {
+      int i = rnd.nextInt(pts.length);
+      assertEquals(pts[i].x, seq.getX(i));
+      assertEquals(pts[i].y, seq.getY(i));
+      seq.getCoordinate(i, p);
+      assertEquals(pts[i].x, p.x);
+      assertEquals(pts[i].y, p.y);
+    }
+    double[] xy = new double[2 * 50];
+    seq.copyXY(37, xy, 0, 50);
+    for (int i = 0; i < 50; i++) {
+      assertEquals(pts[37 + i].x, xy[2 * i]);
+      assertEquals(pts[37 + i].y, xy[2 * i + 1]);
+    }
+  }
+
+  public void testStorageSize() {
+    PrecisionModel pm = new PrecisionModel(100);
+    Coordinate[] pts = new Coordinate[1000];
+    Random rnd = new Random(13);
+    double x = 500000;
+    double y = 4000000;
+    for (int i = 0; i < pts.length; i++) {
+      //-- a line with vertices about 10 units apart
+      x += 10 * rnd.nextDouble();
+      y += 10 * rnd.nextDouble();
+      pts[i] = new Coordinate(pm.makePrecise(x), pm.makePrecise(y));
+    }
+    QuantizedCoordinateSequence seq = new QuantizedCoordinateSequenceFactory(pm).create(pts);
+    assertTrue(seq.isCompressed());
+    //-- at least 3 times smaller than a packed sequence
+    assertTrue(seq.getStorageSize() * 3 <= 16 * pts.length);
+    assertTrue(isEqual(seq, pts));
+  }
+
+  public void testSetOrdinate() {
+    PrecisionModel pm = new PrecisionModel(10);
+    QuantizedCoordinateSequence seq = new QuantizedCoordinateSequenceFactory(pm).create(
+        new Coordinate[] { new Coordinate(1, 2), new Coordinate(3, 4) });
+    assertTrue(seq.isCompressed());
+    seq.setOrdinate(1, CoordinateSequence.X, 5.123);
+    assertFalse(seq.isCompressed());
+    assertEquals(5.1, seq.getX(1));
+    assertEquals(4.0, seq.getY(1));
+
+    QuantizedCoordinateSequence copy = seq.copy();
+    assertTrue(copy.isCompressed());
+    assertEquals(5.1, copy.getX(1));
+  }
+
+  public void testNaN() {
+    PrecisionModel pm = new PrecisionModel(10);
+    QuantizedCoordinateSequence seq = new QuantizedCoordinateSequenceFactory(pm).create(
+        new Coordinate[] { new Coordinate(1, 2), new Coordinate(Double.NaN, Double.NaN), new Coordinate(3, 4) });
+    assertTrue(Double.isNaN(seq.getX(1)));
+    assertTrue(Double.isNaN(seq.getY(1)));
+    assertEquals(3.0, seq.getX(2));
+    assertEquals(new Envelope(1, 3, 2, 4), seq.expandEnvelope(new Envelope()));
+  }
+
+  public void testMeasures() {
+    QuantizedCoordinateSequenceFactory csFact = new QuantizedCoordinateSequenceFactory(new PrecisionModel(1));
+    CoordinateSequence seq = csFact.create(new Coordinate[] {
+        new CoordinateXYM(1, 2, 3.5), new CoordinateXYM(4, 5, 6.5) });
+    assertEquals(3, seq.getDimension());
+    assertEquals(1, seq.getMeasures());
+    assertTrue(Double.isNaN(seq.getZ(1)));
+    //-- measures are not rounded
+    assertEquals(6.5, seq.getM(1));
+    assertEquals(6.5, seq.getCoordinate(1).getM());
+  }
+
+  public void testGeometry() throws Exception {
+    PrecisionModel pm = new PrecisionModel(10);
+    GeometryFactory geomFact = new GeometryFactory(pm, 0, new QuantizedCoordinateSequenceFactory(pm));
+    WKTReader reader = new WKTReader(geomFact);
+    Polygon poly = (Polygon) reader.read("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0), (2 2, 8 2, 8 8, 2 8, 2 2))");
+    assertTrue(poly.getExteriorRing().getCoordinateSequence() instanceof QuantizedCoordinateSequence);
+    assertEquals(64.0, poly.getArea());
+    assertEquals(64.0, poly.copy().getArea());
+    assertEquals(100.0, poly.getEnvelope().getArea());
+    assertEquals(16.0, poly.intersection(reader.read("POLYGON ((5 5, 5 15, 15 15, 15 5, 5 5))")).getArea(), 1e-9);
+  }
+
+  private void checkMakePrecise(PrecisionModel pm, double range) {
+    Random rnd = new Random(11);
+    int n = 100;
+    Coordinate[] pts = new Coordinate[n];
+    for (int i = 0; i < n; i++) {
+      pts[i] = new Coordinate(range * (rnd.nextDouble() - 0.5), range * (rnd.nextDouble() - 0.5));
+    }
+    QuantizedCoordinateSequence seq = new QuantizedCoordinateSequenceFactory(pm).create(pts);
+    double[] xy = new double[2 * n];
+    seq.copyXY(0, xy, 0, n);
+    Envelope env = new Envelope();
+    for (int i = 0; i < n; i++) {
+      double x = pm.makePrecise(pts[i].x);
+      double y = pm.makePrecise(pts[i].y);
+      assertEquals(x, seq.getX(i));
+      assertEquals(y, seq.getY(i));
+      assertEquals(x, xy[2 * i]);
+      assertEquals(y, xy[2 * i + 1]);
+      env.expandToInclude(x, y);
+    }
+    assertEquals(env, seq.expandEnvelope(new Envelope()));
+  }
+
+  private static Coordinate[] createRandom(PrecisionModel pm, int n, double range) {
+    Random rnd = new Random(7);
+    Coordinate[] pts = new Coordinate[n];
+    for (int i = 0; i < n; i++) {
+      pts[i] = new Coordinate(pm.makePrecise(range * rnd.nextDouble()), pm.makePrecise(range * rnd.nextDouble()));
+    }
+    return pts;
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.prep;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Location;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class PreparedGeometryCacheTest extends GeometryTestCase {
+  public static void main(String args[]) {
+    TestRunner.run(PreparedGeometryCacheTest.class);
+  }
+
+  public PreparedGeometryCacheTest(String name) {
+    super(name);
+  }
+
+  private static final String POLY_A = "POLYGON ((1 9, 9 9, 9 1, 1 1, 1 9))";
+  private static final String POLY_B = "POLYGON ((10 19, 19 19, 19 10, 10 10, 10 19))";
+  private static final String POLY_C = "POLYGON ((20 29, 29 29, 29 20, 20 20, 20 29))";
+
+  public void testSharedArtifacts() {
+    PreparedGeometryCache cache = new PreparedGeometryCache();
+    Geometry geom = read(POLY_A);
+    PreparedGeometry prep = cache.getPrepared(geom);
+    assertSame(prep, cache.getPrepared(geom));
+    assertSame(cache.getFacetDistance(geom), cache.getFacetDistance(geom));
+    assertSame(cache.getPointInAreaLocator(geom), cache.getPointInAreaLocator(geom));
+    assertSame(cache.getRelate(geom), cache.getRelate(geom));
+    assertEquals(1, cache.size());
+    assertEquals(4, cache.getHitCount());
+    assertEquals(4, cache.getMissCount());
+  }
+
+  public void testArtifactsAreCorrect() {
+    PreparedGeometryCache cache = new PreparedGeometryCache();
+    Geometry geom = read(POLY_A);
+    assertTrue(cache.getPrepared(geom).contains(read("POINT (5 5)")));
+    assertEquals(Location.INTERIOR, cache.getPointInAreaLocator(geom).locate(read("POINT (5 5)").getCoordinate()));
+    assertEquals(1.0, cache.getFacetDistance(geom).distance(read("POINT (10 5)")), 1e-10);
+    assertTrue(cache.getRelate(geom).evaluate(read("POINT (5 5)"), "T********"));
+  }
+
+  public void testIdentityKeys() {
+    PreparedGeometryCache cache = new PreparedGeometryCache();
+    Geometry geom1 = read(POLY_A);
+    Geometry geom2 = read(POLY_A);
+    assertNotSame(cache.getPrepared(geom1), cache.getPrepared(geom2));
+    assertEquals(2, cache.size());
+  }
+
+  public void testSizeEviction() {
+    PreparedGeometryCache cache = new PreparedGeometryCache(2);
+    Geometry geomA = read(POLY_A);
+    Geometry geomB = read(POLY_B);
+    Geometry geomC = read(POLY_C);
+    PreparedGeometry prepA = cache.getPrepared(geomA);
+    cache.getPrepared(geomB);
+    // access A to make B the least-recently used
+    cache.getPrepared(geomA);
+    cache.getPrepared(geomC);
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.getEvictionCount());
+    assertSame(prepA, cache.getPrepared(geomA));
+  }
+
+  public void testWeightEviction() {
+    PreparedGeometryCache cache = new PreparedGeometryCache(100, 10, false);
+    cache.getPrepared(read(POLY_A));
+    assertEquals(5, cache.getWeight());
+    cache.getPrepared(read(POLY_B));
+    assertEquals(10, cache.getWeight());
+    cache.getPrepared(read(POLY_C));
+    assertEquals(10, cache.getWeight());
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.getEvictionCount());
+  }
+
+  public void testOverweightNotRetained() {
+    PreparedGeometryCache cache = new PreparedGeometryCache(100, 4, false);
+    Geometry geom = read(POLY_A);
+    assertNotNull(cache.getPrepared(geom));
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getWeight());
+
+    //-- existing entries are not evicted
+    cache = new PreparedGeometryCache(100, 10, false);
+    Geometry geomB = read(POLY_B);
+    Geometry geomC = read(POLY_C);
+    PreparedGeometry prepB = cache.getPrepared(geomB);
+    PreparedGeometry prepC = cache.getPrepared(geomC);
+    assertNotNull(cache.getPrepared(read("POLYGON ((1 9, 3 9, 5 9, 7 9, 9 9, 9 5, 9 1, 7 1, 5 1, 3 1, 1 1, 1 5, 1 9))")));
+    assertEquals(2, cache.size());
+    assertEquals(10, cache.getWeight());
+    assertEquals(0, cache.getEvictionCount());
+    assertSame(prepB, cache.getPrepared(geomB));
+    assertSame(prepC, cache.getPrepared(geomC));
+  }
+
+  public void testRemove() {
+    PreparedGeometryCache cache = new PreparedGeometryCache();
+    Geometry geom = read(POLY_A);
+    PreparedGeometry prep = cache.getPrepared(geom);
+    assertTrue(cache.remove(geom));
+    assertFalse(cache.remove(geom));
+    assertEquals(0, cache.getWeight());
+    assertNotSame(prep, cache.getPrepared(geom));
+    assertEquals(0, cache.getEvictionCount());
+  }
+
+  public void testWeakKeys() {
+    PreparedGeometryCache cache = new PreparedGeometryCache(100, 1000, true);
+    Geometry geom = read(POLY_A);
+    PreparedGeometry prep = cache.getPrepared(geom);
+    assertSame(prep, cache.getPrepared(geom));
+    assertEquals(1, cache.size());
+    assertEquals(1, cache.getHitCount());
+  }
+}
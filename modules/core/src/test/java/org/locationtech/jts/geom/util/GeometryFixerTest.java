@@ -11,10 +11,14 @@
  */
 package org.locationtech.jts.geom.util;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateArrays;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
 
 import junit.textui.TestRunner;
 import org.locationtech.jts.io.WKTReader;
@@ -365,8 +369,71 @@ public class GeometryFixerTest extends GeometryTestCase {
     assertEquals(3, CoordinateArrays.dimension(fix3d.getCoordinates()));
   }
 
+  public void testParallelMultiPolygonManyParts() {
+    //-- overlapping bow-ties
+    Polygon[] polys = new Polygon[400];
+    for (int i = 0; i < 20; i++) {
+      for (int j = 0; j < 20; j++) {
+        double x = i * 10;
+        double y = j * 10;
+        polys[i * 20 + j] = (Polygon) read("POLYGON ((" + x + " " + y + ", " + (x + 12) + " " + (y + 12) + ", " 
+            + (x + 12) + " " + y + ", " + x + " " + (y + 12) + ", " + x + " " + y + "))");
+      }
+    }
+    Geometry geom = getGeometryFactory().createMultiPolygon(polys);
+    checkFixParallel(geom);
+  }
+
+  public void testParallelPolygonManyHoles() {
+    StringBuilder wkt = new StringBuilder("POLYGON ((0 0, 0 200, 200 200, 200 0, 0 0)");
+    for (int i = 0; i < 20; i++) {
+      for (int j = 0; j < 20; j++) {
+        double x = i * 10 + 1;
+        double y = j * 10 + 1;
+        //-- bow-tie holes, some of which overlap the shell
+        wkt.append(", (" + x + " " + y + ", " + (x + 8) + " " + (y + 8) + ", " 
+            + (x + 8) + " " + y + ", " + x + " " + (y + 8) + ", " + x + " " + y + ")");
+      }
+    }
+    wkt.append(", (190 190, 210 210, 210 190, 190 210, 190 190))");
+    checkFixParallel(read(wkt.toString()));
+  }
+
+  public void testParallelCollection() {
+    checkFixParallel(read("GEOMETRYCOLLECTION (POLYGON ((10 90, 90 10, 90 90, 10 10, 10 90)), LINESTRING (0 0, 0 0, 1 1), POINT (1 1), MULTIPOLYGON (((10 10, 10 50, 50 50, 50 10, 10 10)), ((30 30, 30 70, 70 70, 70 30, 30 30)), ((60 60, 60 90, 90 90, 90 60, 60 60)), ((0 0, 0 5, 5 5, 5 0, 0 0)), ((80 0, 90 0, 80 0, 80 0)), ((5 0, 5 5, 9 5, 9 0, 5 0))))"));
+  }
+
+  public void testFixStream() {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (int i = 0; i < 100; i++) {
+      geoms.add(read("POLYGON ((" + i + " 0, " + (i + 10) + " 10, " + (i + 10) + " 0, " + i + " 10, " + i + " 0))"));
+      geoms.add(read("LINESTRING (" + i + " 0, " + i + " 0)"));
+      geoms.add(read("POLYGON ((" + i + " 0, " + i + " 10, " + (i + 10) + " 10, " + (i + 10) + " 0, " + i + " 0))"));
+    }
+    final List<Geometry> results = new ArrayList<Geometry>();
+    GeometryFixer.fix(geoms.iterator(), false, 3, new GeometryFixer.ResultHandler() {
+      public void fixed(long index, Geometry geom, Geometry fix) {
+        assertEquals(results.size(), index);
+        results.add(fix);
+      }
+    });
+    assertEquals(geoms.size(), results.size());
+    for (int i = 0; i < geoms.size(); i++) {
+      checkEqual(GeometryFixer.fix(geoms.get(i), false), results.get(i));
+    }
+  }
+
   //================================================
 
+  private void checkFixParallel(Geometry input) {
+    Geometry expected = GeometryFixer.fix(input);
+    GeometryFixer fixer = new GeometryFixer(input);
+    fixer.setParallel(true);
+    Geometry actual = fixer.getResult();
+    assertTrue("Result is invalid", actual.isValid());
+    assertTrue("Parallel result differs from sequential", expected.equalsExact(actual));
+  }
+
   private void checkFix(String wkt) {
     Geometry geom = read(wkt);
     Geometry fix = GeometryFixer.fix(geom);
@@ -414,6 +481,12 @@ public class GeometryFixerTest extends GeometryTestCase {
 
     Geometry expected = read(wktExpected);
     checkEqual(expected, actual);
+    
+    GeometryFixer fixerPar = new GeometryFixer(input);
+    fixerPar.setKeepCollapsed(keepCollapse);
+    fixerPar.setKeepMulti(keepMulti);
+    fixerPar.setParallel(true);
+    checkEqual(expected, fixerPar.getResult());
   }
 
   private boolean checkDeepCopy(Geometry geom1, Geometry geom2) {
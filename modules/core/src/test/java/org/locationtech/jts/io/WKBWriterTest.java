@@ -78,6 +78,20 @@ public class WKBWriterTest extends GeometryTestCase {
       assertEquals(1234, p2.getSRID());
   }
     
+  public void testLongLineString() throws ParseException {
+    Coordinate[] pts = new Coordinate[1000];
+    for (int i = 0; i < pts.length; i++) {
+      pts[i] = new Coordinate(i * 1.5, Math.sin(i), i);
+    }
+    LineString line = getGeometryFactory().createLineString(pts);
+    WKBReader reader = new WKBReader();
+    for (int byteOrder : new int[] { ByteOrderValues.BIG_ENDIAN, ByteOrderValues.LITTLE_ENDIAN }) {
+      byte[] wkb = new WKBWriter(2, byteOrder).write(line);
+      assertEquals(9 + 16 * pts.length, wkb.length);
+      assertTrue(line.equalsExact(reader.read(wkb)));
+    }
+  }
+
   public void testPointEmpty2D() {
     checkWKB("POINT EMPTY", 2, "0101000000000000000000F87F000000000000F87F" );    
   }
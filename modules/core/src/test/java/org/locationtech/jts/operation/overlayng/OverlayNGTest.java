@@ -12,6 +12,12 @@
 package org.locationtech.jts.operation.overlayng;
 
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.io.WKTReader;
 
 import junit.textui.TestRunner;
 
@@ -491,4 +497,44 @@ public class OverlayNGTest extends OverlayNGTestCase {
   }
  
   
+  public void testPackedPolygonIntersection() {
+    checkPacked("POLYGON ((1 1, 1 9, 9 9, 9 9, 9 1, 1 1))",
+        "POLYGON ((5 5, 5 15, 15 15, 15 5, 5 5))",
+        OverlayNG.INTERSECTION);
+  }
+  
+  public void testPackedPolygonUnion() {
+    checkPacked("POLYGON ((1 1, 1 9, 9 9, 9 1, 1 1), (2 2, 4 2, 4 4, 2 4, 2 2))",
+        "POLYGON ((5 5, 5 15, 15 15, 15 5, 5 5))",
+        OverlayNG.UNION);
+  }
+  
+  public void testPackedLineIntersection() {
+    checkPacked("LINESTRING (0 5, 1 5, 2 5, 3 5, 3 5, 4 5, 5 5, 6 5, 7 5, 8 5, 9 5, 10 5, 11 5, 12 5, 13 5, 14 5, 15 5, 16 5, 17 5, 18 5, 19 5, 20 5, 21 5)",
+        "POLYGON ((1 1, 1 9, 9 9, 9 1, 1 1))",
+        OverlayNG.INTERSECTION);
+  }
+
+  /**
+   * Checks that overlay of geometries with packed coordinate sequences
+   * gives the same result as with coordinate arrays, 
+   * and that the result uses the packed sequence factory.
+   */
+  private void checkPacked(String wktA, String wktB, int opCode) {
+    Geometry a = read(wktA);
+    Geometry b = read(wktB);
+    Geometry expected = OverlayNG.overlay(a, b, opCode);
+    
+    WKTReader packedReader = new WKTReader(new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY));
+    Geometry aPacked = read(packedReader, wktA);
+    Geometry bPacked = read(packedReader, wktB);
+    Geometry actual = OverlayNG.overlay(aPacked, bPacked, opCode);
+    checkEqual(expected, actual);
+    
+    Geometry comp = actual.getGeometryN(0);
+    if (comp instanceof Polygon)
+      comp = ((Polygon) comp).getExteriorRing();
+    assertTrue(((LineString) comp).getCoordinateSequence() 
+        instanceof PackedCoordinateSequence);
+  }
 }
@@ -78,6 +78,14 @@ public class CascadedPolygonUnionTest extends TestCase
   }
 
   
+  public void testDiscsParallel()
+  {
+    Collection geoms = createDiscs(20, 0.7);
+    Geometry expected = CascadedPolygonUnion.union(geoms);
+    Geometry actual = CascadedPolygonUnion.union(geoms, CascadedPolygonUnion.CLASSIC_UNION, true);
+    assertTrue(expected.equalsExact(actual));
+  }
+
   // TODO: add some synthetic tests
   
   private static CascadedPolygonUnionTester tester = new CascadedPolygonUnionTester();
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.valid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Geometry;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class BatchValidatorTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(BatchValidatorTest.class);
+  }
+
+  public BatchValidatorTest(String name) { super(name); }
+
+  private static final String[] GEOMS = new String[] {
+      "POLYGON ((10 90, 90 90, 90 10, 10 10, 10 90))",
+      "POLYGON ((10 90, 90 10, 90 90, 10 10, 10 90))",
+      "LINESTRING (10 10, 20 20)",
+      "POLYGON ((10 90, 90 90, 90 10, 10 10, 10 90), (20 80, 30 80, 30 70, 20 70, 20 80), (20 80, 30 70, 20 70, 20 80))",
+      "MULTIPOLYGON (((10 10, 10 20, 20 20, 20 10, 10 10)), ((15 15, 15 30, 30 30, 30 15, 15 15)))",
+      "POLYGON ((10 90, 90 90, 90 10, 10 10, 10 90), (20 80, 80 80, 80 20, 20 20, 20 80), (30 70, 70 70, 70 30, 30 30, 30 70))",
+      "POLYGON EMPTY",
+      "POLYGON ((10 90, 50 90, 50 50, 10 50, 10 90), (20 80, 50 70, 20 60, 20 80))",
+      "POLYGON ((10 90, 50 90, 50 50, 10 50, 10 90), (20 80, 40 80, 40 60, 20 60, 20 80), (40 80, 45 70, 40 60, 35 70, 40 80))",
+      "GEOMETRYCOLLECTION (POINT (1 1), POLYGON ((10 90, 90 10, 90 90, 10 10, 10 90)))"
+  };
+
+  public void testValidate() {
+    BatchValidator validator = new BatchValidator();
+    for (String wkt : GEOMS) {
+      Geometry geom = read(wkt);
+      checkSameError(new IsValidOp(geom).getValidationError(), validator.validate(geom));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  public void testSequential() {
+    checkBatch(new BatchValidator(), readList(GEOMS));
+  }
+
+  @SuppressWarnings("unchecked")
+  public void testParallel() {
+    BatchValidator validator = new BatchValidator();
+    validator.setParallel(true);
+    checkBatch(validator, readList(GEOMS));
+  }
+
+  @SuppressWarnings("unchecked")
+  public void testParallelMultipleBatches() {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (int i = 0; i < 300; i++) {
+      geoms.addAll(readList(GEOMS));
+    }
+    BatchValidator validator = new BatchValidator();
+    validator.setParallel(true);
+    validator.setBatchSize(700);
+    checkBatch(validator, geoms);
+  }
+
+  public void testSelfTouchingRingFormingHoleValid() {
+    Geometry geom = read("POLYGON ((10 90, 50 90, 50 50, 10 50, 10 90), (20 80, 40 80, 40 60, 20 60, 20 80), (40 80, 45 70, 40 60, 35 70, 40 80))");
+    Geometry inverted = read("POLYGON ((0 0, 0 340, 320 340, 320 0, 120 0, 180 100, 60 100, 120 0, 0 0))");
+    BatchValidator validator = new BatchValidator();
+    validator.setSelfTouchingRingFormingHoleValid(true);
+    assertNotNull(validator.validate(geom));
+    assertNull(validator.validate(inverted));
+    validator.setSelfTouchingRingFormingHoleValid(false);
+    assertNotNull(validator.validate(inverted));
+  }
+
+  //=============================================
+
+  private void checkBatch(BatchValidator validator, List<Geometry> geoms) {
+    final List<Long> indexes = new ArrayList<Long>();
+    final List<TopologyValidationError> errs = new ArrayList<TopologyValidationError>();
+    long numInvalid = validator.validate(geoms.iterator(), new BatchValidator.ErrorHandler() {
+      public void invalid(long index, Geometry geom, TopologyValidationError err) {
+        indexes.add(index);
+        errs.add(err);
+      }
+    });
+    int n = 0;
+    for (int i = 0; i < geoms.size(); i++) {
+      TopologyValidationError expected = new IsValidOp(geoms.get(i)).getValidationError();
+      if (expected == null)
+        continue;
+      assertEquals((long) i, (long) indexes.get(n));
+      checkSameError(expected, errs.get(n));
+      n++;
+    }
+    assertEquals(n, indexes.size());
+    assertEquals(n, numInvalid);
+  }
+
+  private void checkSameError(TopologyValidationError expected, TopologyValidationError actual) {
+    if (expected == null) {
+      assertNull(actual);
+      return;
+    }
+    assertNotNull(actual);
+    assertEquals(expected.getErrorType(), actual.getErrorType());
+  }
+}
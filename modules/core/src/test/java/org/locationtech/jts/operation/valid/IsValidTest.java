@@ -11,9 +11,13 @@
  */
 package org.locationtech.jts.operation.valid;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.PrecisionModel;
 import org.locationtech.jts.io.WKTReader;
 
@@ -177,6 +181,30 @@ public class IsValidTest extends GeometryTestCase {
     checkValid( "POLYGON ((50 90, 10 10, 90 10, 50 90), (50 90, 50 90, 60 40, 60 40, 40 40, 50 90))");
   }
   
+  public void testParallelGridValid() {
+    checkParallelValid(true, createGrid(40, null));
+  }
+
+  public void testParallelGridCrossing() {
+    Geometry grid = createGrid(40, "POLYGON ((305 305, 305 325, 325 325, 325 305, 305 305))");
+    checkParallelInvalid(TopologyValidationError.SELF_INTERSECTION, grid);
+  }
+
+  public void testParallelGridNested() {
+    Geometry grid = createGrid(40, "POLYGON ((302 302, 302 308, 308 308, 308 302, 302 302))");
+    checkParallelInvalid(TopologyValidationError.NESTED_SHELLS, grid);
+  }
+
+  public void testParallelGridElementInvalid() {
+    Geometry grid = createGrid(40, "POLYGON ((-10 -10, -5 -10, -10 -5, -5 -5, -10 -10))");
+    checkParallelInvalid(TopologyValidationError.SELF_INTERSECTION, grid);
+  }
+
+  public void testParallelGridTouching() {
+    Geometry grid = createGrid(40, "POLYGON ((309 300, 309.5 305, 310 300, 309.5 295, 309 300))");
+    checkParallelValid(true, grid);
+  }
+
   //=============================================
   
   private void checkValid(String wkt) {
@@ -188,6 +216,42 @@ public class IsValidTest extends GeometryTestCase {
     Geometry geom = read(wkt);
     boolean isValid = geom.isValid();
     assertEquals( isExpectedValid, isValid );
+    checkParallelValid(isExpectedValid, geom);
+  }
+  
+  private void checkParallelValid(boolean isExpectedValid, Geometry geom) {
+    IsValidOp validOp = new IsValidOp(geom);
+    validOp.setParallel(true);
+    assertEquals( isExpectedValid, validOp.isValid() );
+  }
+  
+  private void checkParallelInvalid(int expectedErrType, Geometry geom) {
+    IsValidOp validOp = new IsValidOp(geom);
+    validOp.setParallel(true);
+    TopologyValidationError err = validOp.getValidationError();
+    assertEquals( expectedErrType, err.getErrorType() );
+    assertFalse( geom.isValid() );
+  }
+  
+  /**
+   * Creates a MultiPolygon grid of disjoint square cells,
+   * each with a hole, plus an optional extra polygon.
+   */
+  private Geometry createGrid(int nSide, String extraWKT) {
+    List<Polygon> polys = new ArrayList<Polygon>();
+    for (int i = 0; i < nSide; i++) {
+      for (int j = 0; j < nSide; j++) {
+        double x = i * 10;
+        double y = j * 10;
+        polys.add( (Polygon) read("POLYGON ((" 
+            + x + " " + y + ", " + x + " " + (y + 9) + ", " + (x + 9) + " " + (y + 9) + ", " + (x + 9) + " " + y + ", " + x + " " + y + "), (" 
+            + (x + 1) + " " + (y + 1) + ", " + (x + 2) + " " + (y + 1) + ", " + (x + 2) + " " + (y + 2) + ", " + (x + 1) + " " + (y + 1) + "))"));
+      }
+    }
+    if (extraWKT != null) {
+      polys.add( (Polygon) read(extraWKT) );
+    }
+    return geometryFactory.createMultiPolygon(GeometryFactory.toPolygonArray(polys));
   }
 
   private void checkInvalid(String wkt) {
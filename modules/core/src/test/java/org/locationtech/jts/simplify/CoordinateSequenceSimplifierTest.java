@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.simplify;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class CoordinateSequenceSimplifierTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(CoordinateSequenceSimplifierTest.class);
+  }
+
+  public CoordinateSequenceSimplifierTest(String name) { super(name); }
+
+  private static final String LINE_WIGGLE = "LINESTRING (0 0, 5 1, 10 0, 15 1, 20 0, 25 15, 30 0, 35 1, 40 0)";
+
+  public void testDouglasPeucker() {
+    checkDouglasPeucker(LINE_WIGGLE, 2,
+        "LINESTRING (0 0, 20 0, 25 15, 30 0, 40 0)");
+  }
+
+  public void testDouglasPeuckerNoReduction() {
+    checkDouglasPeucker(LINE_WIGGLE, 0.5, LINE_WIGGLE);
+  }
+
+  public void testDouglasPeuckerShort() {
+    checkDouglasPeucker("LINESTRING (0 0, 10 0)", 2,
+        "LINESTRING (0 0, 10 0)");
+  }
+
+  public void testVisvalingamWhyatt() {
+    checkVisvalingamWhyatt(LINE_WIGGLE, 4,
+        "LINESTRING (0 0, 20 0, 25 15, 30 0, 40 0)");
+  }
+
+  public void testVisvalingamWhyattNoReduction() {
+    checkVisvalingamWhyatt(LINE_WIGGLE, 0.5, LINE_WIGGLE);
+  }
+
+  /**
+   * Tests that vertices with an undefined triangle area are never removed.
+   */
+  public void testVisvalingamWhyattNaN() {
+    LineString line = createWiggle(100);
+    CoordinateSequence seq = line.getCoordinateSequence().copy();
+    seq.setOrdinate(50, CoordinateSequence.Y, Double.NaN);
+    CoordinateSequence simp = CoordinateSequenceSimplifier.visvalingamWhyatt(
+        seq, 100, PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+    assertEquals(5, simp.size());
+    double[] expectedX = new double[] { 0, 49, 50, 51, 99 };
+    for (int i = 0; i < expectedX.length; i++) {
+      assertEquals(expectedX[i], simp.getX(i));
+    }
+  }
+
+  public void testSameAsDouglasPeuckerSimplifier() {
+    LineString line = createWiggle(5000);
+    for (double tol : new double[] { 0.1, 1, 5 }) {
+      CoordinateSequence simp = CoordinateSequenceSimplifier.douglasPeucker(
+          line.getCoordinateSequence(), tol, PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+      Geometry expected = DouglasPeuckerSimplifier.simplify(line, tol);
+      checkEqual(expected, line.getFactory().createLineString(simp));
+    }
+  }
+
+  public void testSameAsVWSimplifier() {
+    LineString line = createWiggle(5000);
+    for (double tol : new double[] { 0.1, 1, 5 }) {
+      CoordinateSequence simp = CoordinateSequenceSimplifier.visvalingamWhyatt(
+          line.getCoordinateSequence(), tol, PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+      Geometry expected = VWSimplifier.simplify(line, tol);
+      checkEqual(expected, line.getFactory().createLineString(simp));
+    }
+  }
+
+  public void testStreamingLargeWindow() {
+    LineString line = createWiggle(1000);
+    LineString stream = simplifyStreaming(line, 1, 2000);
+    Geometry expected = DouglasPeuckerSimplifier.simplify(line, 1);
+    checkEqual(expected, stream);
+  }
+
+  public void testStreamingSmallWindow() {
+    LineString line = createWiggle(1000);
+    double tol = 1;
+    LineString stream = simplifyStreaming(line, tol, 50);
+    assertTrue(stream.getNumPoints() < line.getNumPoints());
+    assertTrue(stream.getStartPoint().equalsExact(line.getStartPoint()));
+    assertTrue(stream.getEndPoint().equalsExact(line.getEndPoint()));
+    for (Coordinate p : line.getCoordinates()) {
+      assertTrue(stream.isWithinDistance(line.getFactory().createPoint(p), tol));
+    }
+  }
+
+  public void testStreamingWindowBoundary() {
+    //-- number of points a multiple of the window step
+    LineString line = createWiggle(99);
+    LineString stream = simplifyStreaming(line, 0, 50);
+    checkEqual(line, stream);
+  }
+
+  //=============================================
+
+  private void checkDouglasPeucker(String wkt, double tolerance, String wktExpected) {
+    LineString line = (LineString) read(wkt);
+    CoordinateSequence simp = CoordinateSequenceSimplifier.douglasPeucker(
+        line.getCoordinateSequence(), tolerance, PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+    checkEqual(read(wktExpected), line.getFactory().createLineString(simp));
+  }
+
+  private void checkVisvalingamWhyatt(String wkt, double tolerance, String wktExpected) {
+    LineString line = (LineString) read(wkt);
+    CoordinateSequence simp = CoordinateSequenceSimplifier.visvalingamWhyatt(
+        line.getCoordinateSequence(), tolerance, PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+    checkEqual(read(wktExpected), line.getFactory().createLineString(simp));
+  }
+
+  private LineString simplifyStreaming(LineString line, double tolerance, int windowSize) {
+    final List<Coordinate> pts = new ArrayList<Coordinate>();
+    StreamingLineSimplifier simp = new StreamingLineSimplifier(tolerance, windowSize,
+        new StreamingLineSimplifier.PointHandler() {
+          public void point(CoordinateSequence seq, int index) {
+            pts.add(seq.getCoordinateCopy(index));
+          }
+        });
+    CoordinateSequence seq = line.getCoordinateSequence();
+    for (int i = 0; i < seq.size(); i++) {
+      simp.add(seq.getX(i), seq.getY(i));
+    }
+    simp.finish();
+    return line.getFactory().createLineString(pts.toArray(new Coordinate[0]));
+  }
+
+  private LineString createWiggle(int n) {
+    Coordinate[] pts = new Coordinate[n];
+    for (int i = 0; i < n; i++) {
+      double x = i;
+      double y = 10 * Math.sin(i / 10.0) + 3 * Math.sin(i * 1.7) + (i % 7);
+      pts[i] = new Coordinate(x, y);
+    }
+    return getGeometryFactory().createLineString(pts);
+  }
+}
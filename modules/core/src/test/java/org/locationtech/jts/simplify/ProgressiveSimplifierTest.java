@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.simplify;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+import test.jts.geom.TestShapeFactory;
+
+public class ProgressiveSimplifierTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(ProgressiveSimplifierTest.class);
+  }
+
+  public ProgressiveSimplifierTest(String name) { super(name); }
+
+  private static final double[] TOLERANCES = new double[] { 0, 0.5, 1, 2, 5, 10, 20, 50, 100 };
+
+  public void testLine() {
+    checkSimplify("LINESTRING (0 0, 5 1, 10 0, 15 1, 20 0, 25 15, 30 0, 35 1, 40 0)");
+  }
+
+  public void testLineRepeatedPoints() {
+    checkSimplify("LINESTRING (0 0, 5 1, 5 1, 10 0, 10 0, 20 10, 30 0)");
+  }
+
+  public void testPolygonWithHole() {
+    checkSimplify("POLYGON ((10 90, 50 95, 90 90, 95 50, 90 10, 50 5, 10 10, 5 50, 10 90), (30 70, 50 72, 70 70, 70 30, 50 28, 30 30, 30 70))");
+  }
+
+  public void testPolygonFlatEndpoint() {
+    checkSimplify("POLYGON ((5 50, 10 90, 50 95, 90 90, 95 50, 90 10, 50 5, 10 10, 5 50))");
+  }
+
+  public void testMultiPolygon() {
+    checkSimplify("MULTIPOLYGON (((10 90, 50 95, 90 90, 95 50, 90 10, 50 5, 10 10, 5 50, 10 90)), ((110 90, 150 95, 190 90, 195 50, 190 10, 150 5, 110 10, 105 50, 110 90)))");
+  }
+
+  public void testCollection() {
+    checkSimplify("GEOMETRYCOLLECTION (LINESTRING (0 0, 5 1, 10 0, 15 1, 20 0), POLYGON ((10 90, 50 95, 90 90, 95 50, 90 10, 50 5, 10 10, 5 50, 10 90)))");
+  }
+
+  public void testEmpty() {
+    checkSimplify("POLYGON EMPTY");
+  }
+
+  public void testSineStar() {
+    Geometry geom = TestShapeFactory.createSineStar(new Coordinate(0, 0), 100, 500);
+    checkSimplify(geom);
+  }
+
+  public void testSignificance() {
+    LineString line = (LineString) read("LINESTRING (0 0, 5 1, 10 0, 20 10, 30 0)");
+    double[] sigDP = ProgressiveSimplifier.douglasPeucker(line).getSignificance(line);
+    assertEquals(Double.POSITIVE_INFINITY, sigDP[0]);
+    assertEquals(Double.POSITIVE_INFINITY, sigDP[4]);
+    assertEquals(10.0, sigDP[3], 0.0);
+    double[] sigVW = ProgressiveSimplifier.visvalingamWhyatt(line).getSignificance(line);
+    assertEquals(Double.POSITIVE_INFINITY, sigVW[0]);
+    assertEquals(5.0, sigVW[1], 0.0);
+    assertNull(ProgressiveSimplifier.visvalingamWhyatt(line).getSignificance(read("POINT (0 0)")));
+  }
+
+  //=============================================
+
+  private void checkSimplify(String wkt) {
+    checkSimplify(read(wkt));
+  }
+
+  private void checkSimplify(Geometry geom) {
+    ProgressiveSimplifier dp = ProgressiveSimplifier.douglasPeucker(geom);
+    ProgressiveSimplifier vw = ProgressiveSimplifier.visvalingamWhyatt(geom);
+    for (double tol : TOLERANCES) {
+      assertTrue(DouglasPeuckerSimplifier.simplify(geom, tol).equalsExact(dp.getResultGeometry(tol)));
+      assertTrue(VWSimplifier.simplify(geom, tol).equalsExact(vw.getResultGeometry(tol)));
+    }
+  }
+}
@@ -12,9 +12,12 @@
 
 package org.locationtech.jts.simplify;
 
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygon;
 
 import test.jts.GeometryTestCase;
+import test.jts.geom.TestShapeFactory;
 
 
 /**
@@ -252,12 +255,44 @@ public class TopologyPreservingSimplifierTest
         "MULTIPOLYGON (((689.300102 5733.615673, 689.46186 5733.617409, 689.458981 5733.646089, 689.300102 5733.615673)), ((689.488158 5733.746304, 689.23796 5733.680098, 689.253227 5733.613915, 689.467162 5733.67151, 689.679568 5733.588383, 689.488158 5733.746304)))");
   }
   
+  public void testParallelSeparateStars() {
+    checkParallel(createStarGrid(20, 11), 1);
+  }
+
+  public void testParallelOverlappingStars() {
+    //-- star envelopes overlap, forming a single cluster
+    checkParallel(createStarGrid(10, 9), 1);
+  }
+
+  public void testParallelLargeTolerance() {
+    checkParallel(createStarGrid(20, 11), 5);
+  }
+
   private void checkTPS(String wkt, double tolerance, String wktExpected) {
     Geometry geom = read(wkt);
     Geometry actual = TopologyPreservingSimplifier.simplify(geom, tolerance);
     Geometry expected = read(wktExpected);
     checkValid(actual);
     checkEqual(expected, actual);
+    checkEqual(expected, TopologyPreservingSimplifier.simplify(geom, tolerance, true));
+  }
+
+  private void checkParallel(Geometry geom, double tolerance) {
+    Geometry expected = TopologyPreservingSimplifier.simplify(geom, tolerance);
+    Geometry actual = TopologyPreservingSimplifier.simplify(geom, tolerance, true);
+    assertTrue(expected.equalsExact(actual));
+  }
+
+  private Geometry createStarGrid(int nSide, double spacing) {
+    Polygon[] polys = new Polygon[nSide * nSide];
+    int n = 0;
+    for (int i = 0; i < nSide; i++) {
+      for (int j = 0; j < nSide; j++) {
+        Coordinate centre = new Coordinate(i * spacing, j * spacing);
+        polys[n++] = (Polygon) TestShapeFactory.createSineStar(centre, 10, 50);
+      }
+    }
+    return getGeometryFactory().createMultiPolygon(polys);
   }
   
   private void checkTPSNoChange(String wkt, double tolerance) {
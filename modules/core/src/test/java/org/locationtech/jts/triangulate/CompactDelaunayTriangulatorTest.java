@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.triangulate.tri.CompactTriangulation;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class CompactDelaunayTriangulatorTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(CompactDelaunayTriangulatorTest.class);
+  }
+
+  public CompactDelaunayTriangulatorTest(String name) { super(name); }
+
+  public void testRandom() {
+    checkSameAsSubdivision(createRandom(500, 1));
+  }
+
+  public void testRandomSmall() {
+    for (int seed = 0; seed < 50; seed++) {
+      checkSameAsSubdivision(createRandom(3 + seed % 10, seed));
+    }
+  }
+
+  public void testNarrow() {
+    checkSameAsSubdivision("MULTIPOINT ((1139294.6389832513 8201313.534695469), (1139360.8549531854 8201271.189805277), (1139497.5995843115 8201199.995542546), (1139567.7837303514 8201163.348533507), (1139635.3942210067 8201119.902527407))");
+  }
+
+  public void testCollinear() {
+    CompactTriangulation tri = triangulate("MULTIPOINT ((0 0), (1 1), (2 2), (3 3))");
+    assertEquals(4, tri.getNumVertices());
+    assertEquals(0, tri.getNumTriangles());
+  }
+
+  public void testDuplicates() {
+    CompactTriangulation tri = triangulate("MULTIPOINT ((0 0), (10 0), (10 0), (0 10), (0 0))");
+    checkEqual(read("GEOMETRYCOLLECTION (POLYGON ((0 0, 10 0, 0 10, 0 0)))"),
+        tri.getTriangles(getGeometryFactory()));
+  }
+
+  public void testGrid() {
+    CompactTriangulation tri = triangulate("MULTIPOINT ((0 0), (0 10), (0 20), (10 0), (10 10), (10 20), (20 0), (20 10), (20 20))");
+    assertEquals(8, tri.getNumTriangles());
+    assertEquals(400.0, tri.getTriangles(getGeometryFactory()).getArea(), 1e-10);
+  }
+
+  public void testZ() {
+    CompactTriangulation tri = triangulate("MULTIPOINT Z((0 0 1), (10 0 2), (0 10 3))");
+    Geometry tris = tri.getTriangles(getGeometryFactory());
+    for (Coordinate p : tris.getCoordinates()) {
+      assertEquals(1 + p.x / 10 + 2 * p.y / 10, p.getZ(), 0.0);
+    }
+  }
+
+  public void testBuilderLarge() {
+    List<Coordinate> pts = createRandom(DelaunayTriangulationBuilder.COMPACT_MIN_SITES + 1, 2);
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(pts);
+    Geometry tris = builder.getTriangles(getGeometryFactory());
+    DelaunayTriangulationBuilder subdivBuilder = new DelaunayTriangulationBuilder();
+    subdivBuilder.setSites(pts);
+    Geometry expected = subdivBuilder.getSubdivision().getTriangles(getGeometryFactory());
+    checkEqual(expected, tris);
+    assertEquals(subdivBuilder.getEdges(getGeometryFactory()).getLength(),
+        builder.getEdges(getGeometryFactory()).getLength(), 1e-6);
+  }
+
+  public void testVoronoiLarge() {
+    List<Coordinate> pts = createRandom(DelaunayTriangulationBuilder.COMPACT_MIN_SITES + 1, 3);
+    VoronoiDiagramBuilder builder = new VoronoiDiagramBuilder();
+    builder.setSites(pts);
+    Geometry cells = builder.getDiagram(getGeometryFactory());
+    VoronoiDiagramBuilder subdivBuilder = new VoronoiDiagramBuilder();
+    subdivBuilder.setSites(pts);
+    subdivBuilder.getSubdivision();
+    Geometry expected = subdivBuilder.getDiagram(getGeometryFactory());
+
+    assertEquals(expected.getNumGeometries(), cells.getNumGeometries());
+    Map<Coordinate, Geometry> expectedCell = new HashMap<Coordinate, Geometry>();
+    for (int i = 0; i < expected.getNumGeometries(); i++) {
+      Geometry cell = expected.getGeometryN(i);
+      expectedCell.put((Coordinate) cell.getUserData(), cell);
+    }
+    for (int i = 0; i < cells.getNumGeometries(); i++) {
+      Geometry cell = cells.getGeometryN(i);
+      Geometry exp = expectedCell.get((Coordinate) cell.getUserData());
+      assertEquals(exp.getArea(), cell.getArea(), 1e-6 * exp.getArea());
+    }
+  }
+
+  //=============================================
+
+  private void checkSameAsSubdivision(String wkt) {
+    Geometry sites = read(wkt);
+    checkSameAsSubdivision(DelaunayTriangulationBuilder.extractUniqueCoordinates(sites));
+  }
+
+  private void checkSameAsSubdivision(List<Coordinate> coords) {
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(coords);
+    Geometry expected = builder.getSubdivision().getTriangles(getGeometryFactory());
+    Geometry actual = CompactDelaunayTriangulator.triangulate(coords).getTriangles(getGeometryFactory());
+    checkEqual(expected, actual);
+  }
+
+  private CompactTriangulation triangulate(String wkt) {
+    return CompactDelaunayTriangulator.triangulate(read(wkt).getCoordinates());
+  }
+
+  private static List<Coordinate> createRandom(int n, long seed) {
+    Random random = new Random(seed);
+    CoordinateList pts = new CoordinateList();
+    for (int i = 0; i < n; i++) {
+      pts.add(new Coordinate(100 * random.nextDouble(), 100 * random.nextDouble()));
+    }
+    return pts;
+  }
+}
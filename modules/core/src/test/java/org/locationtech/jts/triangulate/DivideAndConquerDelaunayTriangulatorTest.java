@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate;
+
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class DivideAndConquerDelaunayTriangulatorTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(DivideAndConquerDelaunayTriangulatorTest.class);
+  }
+
+  public DivideAndConquerDelaunayTriangulatorTest(String name) { super(name); }
+
+  public void testRandom() {
+    checkSameAsIncremental(createRandom(500, 1));
+  }
+
+  public void testRandomSmall() {
+    for (int seed = 0; seed < 50; seed++) {
+      checkSameAsIncremental(createRandom(2 + seed % 10, seed));
+    }
+  }
+
+  public void testNarrow() {
+    checkSameAsIncremental("MULTIPOINT ((1139294.6389832513 8201313.534695469), (1139360.8549531854 8201271.189805277), (1139497.5995843115 8201199.995542546), (1139567.7837303514 8201163.348533507), (1139635.3942210067 8201119.902527407))");
+  }
+
+  public void testNearlyFlat() {
+    checkSameAsIncremental("MULTIPOINT ((0 0), (10 0.0001), (20 0.00005), (30 0.0002), (40 0), (25 -0.001), (35 0.01))");
+  }
+
+  public void testCollinear() {
+    Geometry tris = triangles("MULTIPOINT ((0 0), (1 1), (2 2), (3 3))", false);
+    assertTrue(tris.isEmpty());
+  }
+
+  public void testDuplicates() {
+    Geometry tris = triangles("MULTIPOINT ((0 0), (10 0), (10 0), (0 10), (0 0))", false);
+    checkEqual(read("GEOMETRYCOLLECTION (POLYGON ((0 0, 10 0, 0 10, 0 0)))"), tris);
+  }
+
+  public void testGrid() {
+    Geometry tris = triangles("MULTIPOINT ((0 0), (0 10), (0 20), (10 0), (10 10), (10 20), (20 0), (20 10), (20 20))", false);
+    assertEquals(8, tris.getNumGeometries());
+    assertEquals(400.0, tris.getArea(), 1e-10);
+  }
+
+  public void testParallel() {
+    List<Coordinate> pts = createRandom(50000, 2);
+    Geometry serial = triangles(pts, false);
+    Geometry parallel = triangles(pts, true);
+    assertTrue(serial.equalsExact(parallel));
+  }
+
+  public void testVoronoi() {
+    List<Coordinate> pts = createRandom(200, 3);
+    VoronoiDiagramBuilder builder = new VoronoiDiagramBuilder();
+    builder.setSites(pts);
+    Geometry cells = builder.getDiagram(getGeometryFactory());
+    assertEquals(200, cells.getNumGeometries());
+  }
+
+  //=============================================
+
+  private void checkSameAsIncremental(String wkt) {
+    Geometry sites = read(wkt);
+    checkSameAsIncremental(DelaunayTriangulationBuilder.extractUniqueCoordinates(sites));
+  }
+
+  private void checkSameAsIncremental(List<Coordinate> coords) {
+    CoordinateList siteCoords = DelaunayTriangulationBuilder.unique(
+        coords.toArray(new Coordinate[0]));
+    QuadEdgeSubdivision subdiv = new QuadEdgeSubdivision(
+        DelaunayTriangulationBuilder.envelope(siteCoords), 0.0);
+    new IncrementalDelaunayTriangulator(subdiv).insertSites(
+        DelaunayTriangulationBuilder.toVertices(siteCoords));
+    Geometry expected = subdiv.getTriangles(getGeometryFactory());
+    Geometry actual = triangles(siteCoords, false);
+    checkEqual(expected, actual);
+  }
+
+  private Geometry triangles(String wkt, boolean isParallel) {
+    Geometry sites = read(wkt);
+    return triangles(DelaunayTriangulationBuilder.extractUniqueCoordinates(sites), isParallel);
+  }
+
+  private Geometry triangles(List<Coordinate> coords, boolean isParallel) {
+    CoordinateList siteCoords = DelaunayTriangulationBuilder.unique(
+        coords.toArray(new Coordinate[0]));
+    QuadEdgeSubdivision subdiv = new QuadEdgeSubdivision(
+        DelaunayTriangulationBuilder.envelope(siteCoords), 0.0);
+    DivideAndConquerDelaunayTriangulator triangulator = new DivideAndConquerDelaunayTriangulator(subdiv);
+    triangulator.setParallel(isParallel);
+    triangulator.insertSites(DelaunayTriangulationBuilder.toVertices(siteCoords));
+    return subdiv.getTriangles(getGeometryFactory());
+  }
+
+  private static List<Coordinate> createRandom(int n, long seed) {
+    Random random = new Random(seed);
+    CoordinateList pts = new CoordinateList();
+    for (int i = 0; i < n; i++) {
+      pts.add(new Coordinate(100 * random.nextDouble(), 100 * random.nextDouble()));
+    }
+    return pts;
+  }
+}
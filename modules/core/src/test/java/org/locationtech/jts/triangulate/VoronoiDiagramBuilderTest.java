@@ -1,5 +1,10 @@
 package org.locationtech.jts.triangulate;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 
 import junit.textui.TestRunner;
@@ -26,6 +31,60 @@ public class VoronoiDiagramBuilderTest extends GeometryTestCase {
     assertTrue(voronoi.getEnvelopeInternal().equals(clip.getEnvelopeInternal()));
   }
   
+  public void testVisitCells() {
+    Geometry sites = read("MULTIPOINT ((50 100), (50 50), (100 50), (100 100), (75 70))");
+    VoronoiDiagramBuilder builder = new VoronoiDiagramBuilder();
+    builder.setSites(sites);
+    final List<Geometry> cells = new ArrayList<Geometry>();
+    builder.visitCells(getGeometryFactory(), new VoronoiCellVisitor() {
+      public void visit(Coordinate site, Geometry cell) {
+        assertTrue(site == cell.getUserData());
+        cells.add(cell);
+      }
+    });
+    Geometry diagram = builder.getDiagram(getGeometryFactory());
+    assertEquals(diagram.getNumGeometries(), cells.size());
+    for (int i = 0; i < cells.size(); i++) {
+      assertTrue(diagram.getGeometryN(i).equalsExact(cells.get(i)));
+    }
+  }
+  
+  public void testClipPolygon() {
+    Geometry sites = read("MULTIPOINT ((50 100), (50 50), (100 50), (100 100), (75 70))");
+    Geometry clip = read("POLYGON ((0 0, 60 150, 150 0, 80 40, 0 0))");
+    checkClipPolygon(sites, clip, 5);
+    Geometry clipCorner = read("POLYGON ((0 0, 0 80, 80 0, 0 0))");
+    checkClipPolygon(sites, clipCorner, 3);
+  }
+  
+  public void testClipPolygonLarge() {
+    Random random = new Random(1);
+    List<Coordinate> pts = new ArrayList<Coordinate>();
+    for (int i = 0; i < DelaunayTriangulationBuilder.COMPACT_MIN_SITES + 1; i++) {
+      pts.add(new Coordinate(100 * random.nextDouble(), 100 * random.nextDouble()));
+    }
+    Geometry sites = getGeometryFactory().createMultiPointFromCoords(pts.toArray(new Coordinate[0]));
+    Geometry clip = read("POLYGON ((-10 -10, 50 150, 110 -10, 50 40, -10 -10))");
+    checkClipPolygon(sites, clip, -1);
+  }
+  
+  private void checkClipPolygon(Geometry sites, Geometry clip, int numCells) {
+    VoronoiDiagramBuilder builder = new VoronoiDiagramBuilder();
+    builder.setSites(sites);
+    builder.setClipPolygon(clip);
+    Geometry diagram = builder.getDiagram(getGeometryFactory());
+    if (numCells >= 0) {
+      assertEquals(numCells, diagram.getNumGeometries());
+    }
+    double area = 0;
+    for (int i = 0; i < diagram.getNumGeometries(); i++) {
+      Geometry cell = diagram.getGeometryN(i);
+      assertTrue(cell.getUserData() instanceof Coordinate);
+      area += cell.getArea();
+    }
+    assertEquals(clip.getArea(), area, 1e-6);
+  }
+  
   private static final double TRIANGULATION_TOLERANCE = 0.0;
 
   public static Geometry voronoiDiagram(Geometry sitesGeom, Geometry clipGeom)
@@ -11,7 +11,13 @@
  */
 package org.locationtech.jts.triangulate.polygon;
 
+import java.util.List;
+
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.triangulate.tri.Tri;
 
 import junit.textui.TestRunner;
 import test.jts.GeometryTestCase;
@@ -57,6 +63,54 @@ public class ConstrainedDelaunayTriangulatorTest extends GeometryTestCase {
         );
   }
   
+  public void testEdgeInsertionTouchingHoles() {
+    checkEdgeInsertion("POLYGON ((10 90, 90 90, 90 10, 10 10, 10 90), (20 80, 50 70, 30 30, 20 80), (70 20, 50 70, 80 80, 70 20))");
+  }
+  
+  public void testEdgeInsertionHoleTouchingShellEdge() {
+    checkEdgeInsertion("POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (50 0, 60 20, 40 20, 50 0), (60 20, 70 40, 50 40, 60 20))");
+  }
+  
+  public void testEdgeInsertionCollinear() {
+    checkEdgeInsertion("POLYGON ((0 0, 0 10, 0 20, 0 30, 10 30, 20 30, 30 30, 30 20, 30 10, 30 0, 20 0, 10 0, 0 0), (10 10, 20 10, 20 20, 10 20, 10 10))");
+  }
+  
+  public void testManyHoles() {
+    Polygon poly = createPolygonWithHoles(ConstrainedDelaunayTriangulator.EDGE_INSERTION_MIN_HOLES + 5);
+    Geometry actual = ConstrainedDelaunayTriangulator.triangulate(poly);
+    ConstrainedDelaunayTriangulator cdt = new ConstrainedDelaunayTriangulator(poly);
+    cdt.setHoleJoining(true);
+    checkEqual(cdt.getResult(), actual);
+  }
+  
+  private void checkEdgeInsertion(String wkt) {
+    Polygon poly = (Polygon) read(wkt);
+    List<Tri> triList = EdgeInsertionTriangulator.triangulate(poly);
+    Tri.validate(triList);
+    assertEquals(poly.getArea(), Tri.area(triList), 1e-10);
+    assertTrue(poly.equalsTopo(Tri.toGeometry(triList, getGeometryFactory()).union()));
+  }
+  
+  private Polygon createPolygonWithHoles(int numHoles) {
+    int side = (int) Math.ceil(Math.sqrt(numHoles));
+    double cellSize = 100.0 / side;
+    LinearRing[] holes = new LinearRing[numHoles];
+    for (int i = 0; i < numHoles; i++) {
+      double x = cellSize * (i % side) + cellSize / 2;
+      double y = cellSize * (i / side) + cellSize / 2;
+      Coordinate[] pts = new Coordinate[7];
+      for (int j = 0; j < 6; j++) {
+        double r = cellSize / 3 * (1 - 0.1 * Math.sin(i + 7 * j));
+        double ang = 2 * Math.PI * j / 6;
+        pts[j] = new Coordinate(x + r * Math.cos(ang), y + r * Math.sin(ang));
+      }
+      pts[6] = pts[0].copy();
+      holes[i] = getGeometryFactory().createLinearRing(pts);
+    }
+    LinearRing shell = (LinearRing) read("LINEARRING (0 0, 0 100, 100 100, 100 0, 0 0)");
+    return getGeometryFactory().createPolygon(shell, holes);
+  }
+  
   private void checkTri(String wkt, String wktExpected) {
     Geometry geom = read(wkt);
     Geometry actual = ConstrainedDelaunayTriangulator.triangulate(geom);
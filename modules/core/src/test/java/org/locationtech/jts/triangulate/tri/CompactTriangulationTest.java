@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate.tri;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.triangulate.CompactDelaunayTriangulator;
+import org.locationtech.jts.triangulate.polygon.ConstrainedDelaunayTriangulator;
+import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class CompactTriangulationTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(CompactTriangulationTest.class);
+  }
+
+  public CompactTriangulationTest(String name) { super(name); }
+
+  private static final String SITES = "MULTIPOINT ((10 10), (30 12), (50 8), (20 30), (40 35), (12 50), (35 55), (55 45), (28 25))";
+
+  public void testTris() {
+    CompactTriangulation tri = delaunay(SITES);
+    List<Tri> triList = tri.toTris();
+    Tri.validate(triList);
+    checkEqual(tri.getTriangles(getGeometryFactory()),
+        Tri.toGeometry(triList, getGeometryFactory()));
+
+    CompactTriangulation tri2 = CompactTriangulation.fromTris(triList);
+    checkEqual(tri.getTriangles(getGeometryFactory()), tri2.getTriangles(getGeometryFactory()));
+    assertTrue(Arrays.equals(tri.getHalfEdges(), tri2.getHalfEdges()));
+  }
+
+  public void testHalfEdges() {
+    CompactTriangulation tri = delaunay(SITES);
+    int[] halfEdges = tri.getHalfEdges();
+    int numBoundary = 0;
+    for (int h = 0; h < halfEdges.length; h++) {
+      int adj = tri.getAdjacent(h);
+      if (adj < 0) {
+        numBoundary++;
+        continue;
+      }
+      assertEquals(h, tri.getAdjacent(adj));
+      assertEquals(tri.getVertex(h / 3, h % 3), tri.getVertex(adj / 3, CompactTriangulation.next(adj) % 3));
+    }
+    //-- the convex hull of the sites has 5 vertices
+    assertEquals(5, numBoundary);
+  }
+
+  public void testSubdivision() {
+    CompactTriangulation tri = delaunay(SITES);
+    QuadEdgeSubdivision subdiv = tri.toSubdivision();
+    checkEqual(tri.getTriangles(getGeometryFactory()), subdiv.getTriangles(getGeometryFactory()));
+    assertEquals(tri.getEdges(getGeometryFactory()).getLength(),
+        subdiv.getEdges(getGeometryFactory()).getLength(), 1e-10);
+
+    CompactTriangulation tri2 = CompactTriangulation.fromSubdivision(subdiv);
+    checkEqual(tri.getTriangles(getGeometryFactory()), tri2.getTriangles(getGeometryFactory()));
+  }
+
+  public void testSubdivisionNonConvex() {
+    Geometry poly = read("POLYGON ((10 10, 10 90, 50 50, 90 90, 90 10, 50 30, 10 10), (30 30, 30 40, 40 40, 40 30, 30 30))");
+    List<Tri> triList = new ConstrainedDelaunayTriangulator(poly).getTriangles();
+    CompactTriangulation tri = CompactTriangulation.fromTris(triList);
+    assertEquals(triList.size(), tri.getNumTriangles());
+    try {
+      tri.toSubdivision();
+      fail("triangulation with a hole is not supported");
+    }
+    catch (IllegalArgumentException ex) {
+      //-- expected
+    }
+    Geometry shell = read("POLYGON ((10 10, 10 90, 50 50, 90 90, 90 10, 50 30, 10 10))");
+    CompactTriangulation shellTri = CompactTriangulation.fromTris(
+        new ConstrainedDelaunayTriangulator(shell).getTriangles());
+    QuadEdgeSubdivision subdiv = shellTri.toSubdivision();
+    //-- the subdivision also contains triangles filling the concavities
+    Geometry subdivTris = subdiv.getTriangles(getGeometryFactory());
+    assertEquals(shell.convexHull().getArea(), subdivTris.getArea(), 1e-10);
+    Geometry shellTris = shellTri.getTriangles(getGeometryFactory());
+    shellTris.normalize();
+    subdivTris.normalize();
+    for (int i = 0; i < shellTris.getNumGeometries(); i++) {
+      assertTrue(containsExact(subdivTris, shellTris.getGeometryN(i)));
+    }
+  }
+
+  public void testVoronoi() {
+    CompactTriangulation tri = delaunay(SITES);
+    Envelope extent = new Envelope(-100, 200, -100, 200);
+    List<Polygon> cells = tri.getVoronoiCellPolygons(extent, getGeometryFactory());
+    assertEquals(tri.getNumVertices(), cells.size());
+    Geometry extentPoly = getGeometryFactory().toGeometry(extent);
+    double area = 0;
+    for (Polygon cell : cells) {
+      assertTrue(cell.isValid());
+      area += cell.intersection(extentPoly).getArea();
+    }
+    assertEquals(extent.getArea(), area, 1e-6);
+  }
+
+  //=============================================
+
+  private static boolean containsExact(Geometry geoms, Geometry geom) {
+    for (int i = 0; i < geoms.getNumGeometries(); i++) {
+      if (geoms.getGeometryN(i).equalsExact(geom)) return true;
+    }
+    return false;
+  }
+
+  private CompactTriangulation delaunay(String wkt) {
+    return CompactDelaunayTriangulator.triangulate(read(wkt).getCoordinates());
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package test.jts.perf.algorithm;
+
+import java.util.Random;
+
+import org.locationtech.jts.algorithm.BatchOrientation;
+import org.locationtech.jts.algorithm.CGAlgorithmsDD;
+import org.locationtech.jts.algorithm.LineIntersector;
+import org.locationtech.jts.algorithm.RobustLineIntersector;
+import org.locationtech.jts.geom.Coordinate;
+
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+/**
+ * Compares the performance of computing orientation indexes
+ * and segment intersection tests one at a time
+ * and with {@link BatchOrientation}.
+ *
+ * @author Martin Davis
+ *
+ */
+public class BatchOrientationPerfTest extends PerformanceTestCase {
+
+  private static final int N_ITER = 100;
+
+  public static void main(String args[]) {
+    PerformanceTestRunner.run(BatchOrientationPerfTest.class);
+  }
+
+  private double[] xy;
+  private Coordinate[] pts;
+  private int[] orient;
+  private boolean[] isInt;
+  private int numPts;
+
+  public BatchOrientationPerfTest(String name)
+  {
+    super(name);
+    setRunSize(new int[] { 1000, 100000 });
+    setRunIterations(1);
+  }
+
+  public void startRun(int size)
+  {
+    System.out.println("\n-------  Running with # pts = " + size);
+    numPts = size;
+    Random rnd = new Random(13);
+    xy = new double[2 * size];
+    pts = new Coordinate[size];
+    for (int i = 0; i < size; i++) {
+      xy[2 * i] = 100 * rnd.nextDouble();
+      xy[2 * i + 1] = 100 * rnd.nextDouble();
+      pts[i] = new Coordinate(xy[2 * i], xy[2 * i + 1]);
+    }
+    orient = new int[size];
+    isInt = new boolean[size];
+  }
+
+  public void runIndexScalar()
+  {
+    for (int iter = 0; iter < N_ITER; iter++) {
+      for (int i = 0; i < numPts; i++) {
+        orient[i] = CGAlgorithmsDD.orientationIndex(10, 20, 90, 70, xy[2 * i], xy[2 * i + 1]);
+      }
+    }
+  }
+
+  public void runIndexBatch()
+  {
+    for (int iter = 0; iter < N_ITER; iter++) {
+      BatchOrientation.index(10, 20, 90, 70, xy, 0, numPts, orient);
+    }
+  }
+
+  public void runIntersectsScalar()
+  {
+    LineIntersector li = new RobustLineIntersector();
+    Coordinate p1 = new Coordinate(10, 20);
+    Coordinate p2 = new Coordinate(90, 70);
+    for (int iter = 0; iter < N_ITER; iter++) {
+      for (int i = 0; i < numPts - 1; i++) {
+        li.computeIntersection(p1, p2, pts[i], pts[i + 1]);
+        isInt[i] = li.hasIntersection();
+      }
+    }
+  }
+
+  public void runIntersectsBatch()
+  {
+    for (int iter = 0; iter < N_ITER; iter++) {
+      BatchOrientation.intersects(10, 20, 90, 70, xy, 0, numPts - 1, isInt);
+    }
+  }
+}
@@ -77,4 +77,12 @@ public class CoverageUnionPerfTest  extends PerformanceTestCase
   public void runUnion() {
     CoverageUnion.union(grid);
   }
+  
+  public void runUnionParallel() {
+    Geometry[] cells = new Geometry[grid.getNumGeometries()];
+    for (int i = 0; i < cells.length; i++) {
+      cells[i] = grid.getGeometryN(i);
+    }
+    org.locationtech.jts.coverage.CoverageUnion.union(cells, true);
+  }
 }
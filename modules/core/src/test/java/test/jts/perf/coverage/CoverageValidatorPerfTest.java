@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package test.jts.perf.coverage;
+
+import org.locationtech.jts.coverage.CoverageValidator;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+/**
+ * Compares the performance of sequential and parallel
+ * {@link CoverageValidator} on grid coverages of increasing size.
+ *
+ * @author mdavis
+ *
+ */
+public class CoverageValidatorPerfTest  extends PerformanceTestCase
+{
+  public static void main(String[] args) {
+    PerformanceTestRunner.run(CoverageValidatorPerfTest.class);
+  }
+
+  private Geometry[] grid;
+
+  public CoverageValidatorPerfTest(String name) {
+    super(name);
+    setRunSize(new int[] { 10_000, 40_000, 100_000, 400_000, 1_000_000 });
+  }
+
+  public void startRun(int nCells)
+  {
+    grid = createGrid(100.0, nCells, new GeometryFactory());
+    System.out.println("\n-------  Running with cells = " + nCells);
+  }
+
+  private static Geometry[] createGrid(double size, int nCells, GeometryFactory geomFact) {
+    int nCellsOnSideY = (int) Math.sqrt(nCells);
+    int nCellsOnSideX = nCells / nCellsOnSideY;
+
+    double cellSizeX = size / nCellsOnSideX;
+    double cellSizeY = size / nCellsOnSideY;
+
+    Geometry[] geoms = new Geometry[nCellsOnSideX * nCellsOnSideY];
+    int n = 0;
+    for (int i = 0; i < nCellsOnSideX; i++) {
+      for (int j = 0; j < nCellsOnSideY; j++) {
+        double x = 0 + i * cellSizeX;
+        double y = 0 + j * cellSizeY;
+        double x2 = 0 + (i + 1) * cellSizeX;
+        double y2 = 0 + (j + 1) * cellSizeY;
+
+        Envelope cellEnv = new Envelope(x, x2, y, y2);
+        geoms[n++] = geomFact.toGeometry(cellEnv);
+      }
+    }
+    return geoms;
+  }
+
+  public void runValidate() {
+    CoverageValidator v = new CoverageValidator(grid);
+    v.validate();
+  }
+
+  public void runValidateParallel() {
+    CoverageValidator v = new CoverageValidator(grid);
+    v.setParallel(true);
+    v.validate();
+  }
+}
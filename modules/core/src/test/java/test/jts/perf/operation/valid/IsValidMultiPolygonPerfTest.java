@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package test.jts.perf.operation.valid;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.operation.valid.IsValidOp;
+
+import test.jts.geom.TestShapeFactory;
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+/**
+ * Compares the performance of sequential and parallel
+ * {@link IsValidOp} on MultiPolygons with many elements.
+ *
+ * @author mdavis
+ *
+ */
+public class IsValidMultiPolygonPerfTest extends PerformanceTestCase {
+
+  static final int N_ITER = 10;
+  static final int N_PTS = 100;
+
+  public static void main(String args[]) {
+    PerformanceTestRunner.run(IsValidMultiPolygonPerfTest.class);
+  }
+
+  public IsValidMultiPolygonPerfTest(String name)
+  {
+    super(name);
+    setRunSize(new int[] { 1000, 10_000, 100_000 });
+    setRunIterations(N_ITER);
+  }
+
+  Geometry geom;
+
+  public void startRun(int nPolys)
+  {
+    geom = createSineStarGrid(nPolys);
+    System.out.println("\nRunning with # polygons " + geom.getNumGeometries()
+      + "  # pts " + geom.getNumPoints() );
+  }
+
+  private Geometry createSineStarGrid(int nPolys) {
+    int nSide = (int) Math.sqrt(nPolys);
+    Polygon[] polys = new Polygon[nSide * nSide];
+    int n = 0;
+    for (int i = 0; i < nSide; i++) {
+      for (int j = 0; j < nSide; j++) {
+        Coordinate centre = new Coordinate(i * 10, j * 10);
+        polys[n++] = (Polygon) TestShapeFactory.createSineStar(centre, 9, N_PTS);
+      }
+    }
+    return new GeometryFactory().createMultiPolygon(polys);
+  }
+
+  public void runValidate()
+  {
+    IsValidOp op = new IsValidOp(geom);
+    op.isValid();
+  }
+
+  public void runValidateParallel()
+  {
+    IsValidOp op = new IsValidOp(geom);
+    op.setParallel(true);
+    op.isValid();
+  }
+}
@@ -11,7 +11,11 @@
  */
 package test.jts.perf.simplify;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.util.AffineTransformation;
 import org.locationtech.jts.io.WKTReader;
 import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
 
@@ -26,6 +30,10 @@ import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
  * It appears JTS is stable as it stands.
  * Although this is 
  * suspicious, since the order of HashMap would seem to be unstable?
+ * <p>
+ * Also checks that the parallel mode produces the same result
+ * as the serial mode, for a set of copies of the geometry
+ * which are both disjoint and overlapping.
  * 
  * @author mdavis
  *
@@ -201,7 +209,28 @@ public class TopologyPreservingSimplifierStabilityTest {
       }
       prevLen = len;
     }
-    
+    runParallel();
+  }
+
+  private void runParallel() {
+    Geometry geom = read(wkt);
+    List<Geometry> copies = new ArrayList<Geometry>();
+    for (int i = 0; i < 10; i++) {
+      for (int j = 0; j < 10; j++) {
+        //-- copies in adjacent columns overlap, rows are disjoint
+        AffineTransformation trans = AffineTransformation.translationInstance(i * 20000, j * 200000);
+        copies.add(trans.transform(geom));
+      }
+    }
+    Geometry coll = geom.getFactory().buildGeometry(copies);
+    for (int i = 0; i < 10; i++) {
+      Geometry simp = TopologyPreservingSimplifier.simplify(coll, 1222);
+      Geometry simpPar = TopologyPreservingSimplifier.simplify(coll, 1222, true);
+      System.out.println("parallel len: " + simpPar.getLength());
+      if (! simp.equalsExact(simpPar)) {
+        throw new IllegalStateException("Found diff in parallel result");
+      }
+    }
   }
 
   private double simplify() {
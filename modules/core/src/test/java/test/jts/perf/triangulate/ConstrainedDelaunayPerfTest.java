@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package test.jts.perf.triangulate;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.triangulate.polygon.ConstrainedDelaunayTriangulator;
+
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+/**
+ * Compares the performance of triangulating polygons with many holes
+ * via hole joining and via edge insertion.
+ *
+ * @author Martin Davis
+ *
+ */
+public class ConstrainedDelaunayPerfTest extends PerformanceTestCase {
+
+  private static final int HOLE_PTS = 16;
+
+  public static void main(String args[]) {
+    PerformanceTestRunner.run(ConstrainedDelaunayPerfTest.class);
+  }
+
+  private static GeometryFactory geomFact = new GeometryFactory();
+
+  private Geometry geom;
+
+  public ConstrainedDelaunayPerfTest(String name)
+  {
+    super(name);
+    setRunSize(new int[] { 10, 100, 1000, 2000, 4000 });
+    setRunIterations(1);
+  }
+
+  public void startRun(int numHoles)
+  {
+    geom = createPolygonWithHoles(numHoles);
+    System.out.println("\nRunning with # holes " + numHoles
+        + "  # pts " + geom.getNumPoints());
+  }
+
+  public void runHoleJoining()
+  {
+    ConstrainedDelaunayTriangulator cdt = new ConstrainedDelaunayTriangulator(geom);
+    cdt.setHoleJoining(true);
+    cdt.getTriangles();
+  }
+
+  public void runEdgeInsertion()
+  {
+    ConstrainedDelaunayTriangulator.triangulate(geom);
+  }
+
+  /**
+   * Creates a square polygon with a grid of
+   * slightly irregular circular holes.
+   */
+  private static Polygon createPolygonWithHoles(int numHoles) {
+    int side = (int) Math.ceil(Math.sqrt(numHoles));
+    double cellSize = 100.0 / side;
+    LinearRing[] holes = new LinearRing[numHoles];
+    for (int i = 0; i < numHoles; i++) {
+      double x = cellSize * (i % side) + cellSize / 2;
+      double y = cellSize * (i / side) + cellSize / 2;
+      holes[i] = createRing(x, y, cellSize / 3, i);
+    }
+    LinearRing shell = geomFact.createLinearRing(new Coordinate[] {
+        new Coordinate(0, 0), new Coordinate(0, 100),
+        new Coordinate(100, 100), new Coordinate(100, 0),
+        new Coordinate(0, 0) });
+    return geomFact.createPolygon(shell, holes);
+  }
+
+  private static LinearRing createRing(double x, double y, double radius, int index) {
+    Coordinate[] pts = new Coordinate[HOLE_PTS + 1];
+    for (int i = 0; i < HOLE_PTS; i++) {
+      //-- perturb the radius to avoid cocircular vertices
+      double r = radius * (1 - 0.1 * Math.sin(index + 7 * i));
+      double ang = 2 * Math.PI * i / HOLE_PTS;
+      pts[i] = new Coordinate(x + r * Math.cos(ang), y + r * Math.sin(ang));
+    }
+    pts[HOLE_PTS] = pts[0].copy();
+    return geomFact.createLinearRing(pts);
+  }
+}
@@ -53,15 +53,35 @@ public class DelaunayPerfTest
 	{
 		List pts = randomPoints(nPts);
 		System.out.println("# pts: " + pts.size());
+		run(pts, false);
+		run(pts, true);
+		runCompact(pts);
+	}
+	
+	private void runCompact(List pts)
+	{
+		Stopwatch sw = new Stopwatch();
+		DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+		builder.setSites(pts);
+		builder.getCompactTriangulation();
+		
+		System.out.println("  --  Compact Time: " + sw.getTimeString()
+				+ "  Mem: " + Memory.usedTotalString());
+	}
+	
+	private void run(List pts, boolean isParallel)
+	{
 		Stopwatch sw = new Stopwatch();
 		DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
 		builder.setSites(pts);
+		builder.setParallel(isParallel);
 		
 //		Geometry g = builder.getEdges(geomFact);
 		// don't actually form output geometry, to save time and memory
 		builder.getSubdivision();
 		
-		System.out.println("  --  Time: " + sw.getTimeString()
+		System.out.println("  --  " + (isParallel ? "Parallel" : "Serial")
+		    + " Time: " + sw.getTimeString()
 				+ "  Mem: " + Memory.usedTotalString());
 //		System.out.println(g);
 	}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.twkb;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.twkb.TWKBHeader.GeometryType;
+
+/**
+ * A compact in-memory representation of a {@link Geometry},
+ * stored as a single TWKB-encoded byte array.
+ * TWKB encodes coordinates as delta-encoded variable-length integers,
+ * so a geometry typically uses 5 to 10 times less memory than
+ * the equivalent {@link Geometry} object.
+ * This is useful for caching large numbers of geometries which are rarely accessed.
+ * <p>
+ * The geometry type and envelope are stored uncompressed,
+ * so that {@link #getEnvelopeInternal()} and the envelope predicates
+ * can be evaluated without decoding the geometry.
+ * The full geometry is decoded on demand by {@link #getGeometry()},
+ * and is not retained.
+ * <p>
+ * Coordinates are rounded to the precision of the {@link TWKBWriter} used,
+ * and repeated points are removed.
+ * The envelope is that of the decoded geometry.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @author Martin Davis
+ *
+ * @see TWKBWriter
+ */
+public class CompressedGeometry {
+
+    private final byte[] data;
+    private final GeometryType geometryType;
+    private final double minX;
+    private final double maxX;
+    private final double minY;
+    private final double maxY;
+
+    /**
+     * Creates a compressed geometry,
+     * with X and Y coordinates rounded to a given number of decimal places.
+     * Z and M values are rounded to integers.
+     *
+     * @param geom the geometry to compress
+     * @param xyPrecision the number of decimal places of X and Y to retain (between -7 and 7)
+     */
+    public CompressedGeometry(Geometry geom, int xyPrecision) {
+        this(geom, new TWKBWriter().setXYPrecision(xyPrecision));
+    }
+
+    /**
+     * Creates a compressed geometry using a given {@link TWKBWriter},
+     * which determines the precision of the stored ordinates.
+     *
+     * @param geom the geometry to compress
+     * @param writer the writer to encode the geometry with
+     */
+    public CompressedGeometry(Geometry geom, TWKBWriter writer) {
+        data = writer.write(geom);
+        geometryType = GeometryType.valueOf(geom.getClass());
+        Envelope env = geom.getEnvelopeInternal();
+        if (env.isNull()) {
+            minX = 0;
+            maxX = -1;
+            minY = 0;
+            maxY = -1;
+        }
+        else {
+            //-- rounding is monotonic, so the rounded envelope is the envelope of the decoded geometry
+            double scale = Math.pow(10, xyPrecision(data));
+            minX = makePrecise(env.getMinX(), scale);
+            maxX = makePrecise(env.getMaxX(), scale);
+            minY = makePrecise(env.getMinY(), scale);
+            maxY = makePrecise(env.getMaxY(), scale);
+        }
+    }
+
+    /**
+     * Gets the TWKB encoding of the geometry.
+     * The array is not copied, and must not be modified.
+     *
+     * @return the TWKB bytes
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * Gets the number of bytes used to store the encoded geometry.
+     *
+     * @return the size of the encoded geometry
+     */
+    public int getDataSize() {
+        return data.length;
+    }
+
+    /**
+     * Gets the name of the geometry type,
+     * as returned by {@link Geometry#getGeometryType()}.
+     *
+     * @return the geometry type name
+     */
+    public String getGeometryType() {
+        switch (geometryType) {
+            case POINT:
+                return Geometry.TYPENAME_POINT;
+            case LINESTRING:
+                return Geometry.TYPENAME_LINESTRING;
+            case POLYGON:
+                return Geometry.TYPENAME_POLYGON;
+            case MULTIPOINT:
+                return Geometry.TYPENAME_MULTIPOINT;
+            case MULTILINESTRING:
+                return Geometry.TYPENAME_MULTILINESTRING;
+            case MULTIPOLYGON:
+                return Geometry.TYPENAME_MULTIPOLYGON;
+            default:
+                return Geometry.TYPENAME_GEOMETRYCOLLECTION;
+        }
+    }
+
+    /**
+     * Tests whether the geometry is empty.
+     *
+     * @return true if the geometry is empty
+     */
+    public boolean isEmpty() {
+        return maxX < minX;
+    }
+
+    /**
+     * Gets the envelope of the geometry.
+     * This does not decode the geometry.
+     *
+     * @return a new envelope
+     */
+    public Envelope getEnvelopeInternal() {
+        if (isEmpty())
+            return new Envelope();
+        return new Envelope(minX, maxX, minY, maxY);
+    }
+
+    /**
+     * Tests whether the envelope of the geometry intersects an envelope.
+     *
+     * @param env the envelope to test
+     * @return true if the envelopes intersect
+     */
+    public boolean intersectsEnvelope(Envelope env) {
+        if (isEmpty() || env.isNull())
+            return false;
+        return env.getMinX() <= maxX && env.getMaxX() >= minX
+            && env.getMinY() <= maxY && env.getMaxY() >= minY;
+    }
+
+    /**
+     * Tests whether the envelopes of two compressed geometries intersect.
+     *
+     * @param other the compressed geometry to test
+     * @return true if the envelopes intersect
+     */
+    public boolean intersectsEnvelope(CompressedGeometry other) {
+        if (isEmpty() || other.isEmpty())
+            return false;
+        return other.minX <= maxX && other.maxX >= minX
+            && other.minY <= maxY && other.maxY >= minY;
+    }
+
+    /**
+     * Tests whether the envelope of the geometry contains a point.
+     *
+     * @param x the X ordinate of the point
+     * @param y the Y ordinate of the point
+     * @return true if the point lies in the envelope
+     */
+    public boolean intersectsEnvelope(double x, double y) {
+        if (isEmpty())
+            return false;
+        return x >= minX && x <= maxX && y >= minY && y <= maxY;
+    }
+
+    /**
+     * Tests whether the envelope of the geometry lies within an envelope.
+     * This is the envelope filter for the <code>within</code> and <code>coveredBy</code> predicates.
+     *
+     * @param env the envelope to test
+     * @return true if the envelope of the geometry is covered by the envelope
+     */
+    public boolean isEnvelopeCoveredBy(Envelope env) {
+        if (isEmpty() || env.isNull())
+            return false;
+        return minX >= env.getMinX() && maxX <= env.getMaxX()
+            && minY >= env.getMinY() && maxY <= env.getMaxY();
+    }
+
+    /**
+     * Tests whether the envelope of the geometry covers an envelope.
+     * This is the envelope filter for the <code>contains</code> and <code>covers</code> predicates.
+     *
+     * @param env the envelope to test
+     * @return true if the envelope of the geometry covers the envelope
+     */
+    public boolean isEnvelopeCovering(Envelope env) {
+        if (isEmpty() || env.isNull())
+            return false;
+        return env.getMinX() >= minX && env.getMaxX() <= maxX
+            && env.getMinY() >= minY && env.getMaxY() <= maxY;
+    }
+
+    /**
+     * Decodes the geometry,
+     * using a {@link GeometryFactory} with a packed coordinate sequence factory.
+     *
+     * @return the decoded geometry
+     */
+    public Geometry getGeometry() {
+        return decode(new TWKBReader());
+    }
+
+    /**
+     * Decodes the geometry using a given {@link GeometryFactory}.
+     *
+     * @param factory the factory to create the geometry with
+     * @return the decoded geometry
+     */
+    public Geometry getGeometry(GeometryFactory factory) {
+        return decode(new TWKBReader(factory));
+    }
+
+    private Geometry decode(TWKBReader reader) {
+        try {
+            return reader.read(data);
+        } catch (ParseException ex) {
+            throw new RuntimeException("Unexpected ParseException caught: " + ex.getMessage(), ex);
+        }
+    }
+
+    public String toString() {
+        return getGeometryType() + " " + getEnvelopeInternal() + " (" + data.length + " bytes)";
+    }
+
+    private static int xyPrecision(byte[] data) {
+        return Varint.zigzagDecode((data[0] & 0b11110000) >> 4);
+    }
+
+    /**
+     * Rounds a value in the same way as {@link TWKBWriter} and {@link TWKBReader}.
+     */
+    private static double makePrecise(double value, double scale) {
+        return Math.round(value * scale) / scale;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.twkb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+
+public class CompressedGeometryTest {
+
+    private WKTReader reader = new WKTReader();
+
+    public @Test void testPolygon() throws ParseException {
+        checkRoundTrip("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0), (2 2, 8 2, 8 8, 2 8, 2 2))", 0);
+    }
+
+    public @Test void testTypes() throws ParseException {
+        checkRoundTrip("POINT (1.25 2.5)", 2);
+        checkRoundTrip("LINESTRING (1.25 2.5, 3 4, 5.75 6)", 2);
+        checkRoundTrip("MULTIPOINT ((1 2), (3 4))", 0);
+        checkRoundTrip("MULTILINESTRING ((1 2, 3 4), (5 6, 7 8))", 0);
+        checkRoundTrip("MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0)), ((20 20, 20 30, 30 30, 20 20)))", 0);
+        checkRoundTrip("GEOMETRYCOLLECTION (POINT (1 2), LINESTRING (3 4, 5 6))", 0);
+    }
+
+    public @Test void testZ() throws ParseException {
+        CompressedGeometry cg = new CompressedGeometry(reader.read("LINESTRING Z (1 2 3, 4 5 6)"), 0);
+        assertEquals(6.0, cg.getGeometry().getCoordinates()[1].getZ(), 0.0);
+    }
+
+    public @Test void testEmpty() throws ParseException {
+        CompressedGeometry cg = new CompressedGeometry(reader.read("POLYGON EMPTY"), 0);
+        assertTrue(cg.isEmpty());
+        assertTrue(cg.getEnvelopeInternal().isNull());
+        assertFalse(cg.intersectsEnvelope(new Envelope(0, 10, 0, 10)));
+        assertTrue(cg.getGeometry().isEmpty());
+        assertEquals(Geometry.TYPENAME_POLYGON, cg.getGeometryType());
+    }
+
+    /**
+     * Tests that the envelope is that of the decoded geometry.
+     */
+    public @Test void testEnvelopeRounded() throws ParseException {
+        CompressedGeometry cg = new CompressedGeometry(reader.read("LINESTRING (0.123 0.456, 10.789 20.001)"), 1);
+        assertEquals(new Envelope(0.1, 10.8, 0.5, 20.0), cg.getEnvelopeInternal());
+        assertEquals(cg.getGeometry().getEnvelopeInternal(), cg.getEnvelopeInternal());
+    }
+
+    public @Test void testEnvelopePredicates() throws ParseException {
+        CompressedGeometry cg = new CompressedGeometry(reader.read("LINESTRING (10 10, 20 20)"), 0);
+        assertTrue(cg.intersectsEnvelope(new Envelope(0, 10, 0, 10)));
+        assertFalse(cg.intersectsEnvelope(new Envelope(0, 9, 0, 9)));
+        assertTrue(cg.intersectsEnvelope(15, 20));
+        assertFalse(cg.intersectsEnvelope(25, 20));
+        assertTrue(cg.isEnvelopeCoveredBy(new Envelope(0, 30, 0, 30)));
+        assertFalse(cg.isEnvelopeCoveredBy(new Envelope(0, 15, 0, 30)));
+        assertTrue(cg.isEnvelopeCovering(new Envelope(12, 18, 12, 18)));
+        assertFalse(cg.isEnvelopeCovering(new Envelope(12, 28, 12, 18)));
+
+        CompressedGeometry other = new CompressedGeometry(reader.read("POINT (20 20)"), 0);
+        assertTrue(cg.intersectsEnvelope(other));
+        assertFalse(cg.intersectsEnvelope(new CompressedGeometry(reader.read("POINT (21 20)"), 0)));
+    }
+
+    public @Test void testGeometryFactory() throws ParseException {
+        GeometryFactory factory = new GeometryFactory();
+        CompressedGeometry cg = new CompressedGeometry(reader.read("LINESTRING (1 2, 3 4)"), 0);
+        assertTrue(cg.getGeometry(factory).getFactory() == factory);
+    }
+
+    public @Test void testSize() {
+        GeometryFactory factory = new GeometryFactory();
+        int n = 1000;
+        Coordinate[] pts = new Coordinate[n + 1];
+        for (int i = 0; i < n; i++) {
+            double angle = 2 * Math.PI * i / n;
+            pts[i] = new Coordinate(500000 + 1000 * Math.cos(angle), 4000000 + 1000 * Math.sin(angle));
+        }
+        pts[n] = pts[0].copy();
+        Geometry poly = factory.createPolygon(pts);
+        CompressedGeometry cg = new CompressedGeometry(poly, 2);
+        //-- a Coordinate uses at least 40 bytes
+        assertTrue(cg.getDataSize() * 5 < 40 * pts.length);
+        assertEquals(poly.getArea(), cg.getGeometry().getArea(), 1);
+    }
+
+    private void checkRoundTrip(String wkt, int xyPrecision) throws ParseException {
+        Geometry geom = reader.read(wkt);
+        CompressedGeometry cg = new CompressedGeometry(geom, xyPrecision);
+        assertEquals(geom.getGeometryType(), cg.getGeometryType());
+        assertEquals(geom.getEnvelopeInternal(), cg.getEnvelopeInternal());
+        Geometry decoded = cg.getGeometry();
+        assertTrue(geom.equalsExact(decoded));
+    }
+}